@@ -58,6 +58,16 @@ public class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_POLICY_ENV_VAR = "BALLERINA_SCHEDULER_POLICY";
+    public static final String SCHEDULER_POLICY_GLOBAL = "global";
+    public static final String SCHEDULER_POLICY_WORK_STEALING = "work-stealing";
+    public static final String BALLERINA_STRAND_CARRIER_ENV_VAR = "BALLERINA_STRAND_CARRIER";
+    public static final String STRAND_CARRIER_PLATFORM = "platform";
+    public static final String STRAND_CARRIER_VIRTUAL = "virtual";
+    public static final String BALLERINA_SCHEDULER_TELEMETRY_ENV_VAR = "BALLERINA_SCHEDULER_TELEMETRY";
+    public static final String BALLERINA_WORKER_CHANNEL_CAPACITY_ENV_VAR = "BALLERINA_WORKER_CHANNEL_CAPACITY";
+    public static final String BALLERINA_PROFILER_INTERVAL_ENV_VAR = "BALLERINA_PROFILER_INTERVAL";
+    public static final String BALLERINA_PROFILER_OUTPUT_ENV_VAR = "BALLERINA_PROFILER_OUTPUT";
 
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
                                                                         "lang.error", "0");
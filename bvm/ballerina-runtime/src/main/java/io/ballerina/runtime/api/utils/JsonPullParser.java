@@ -0,0 +1,102 @@
+/*
+ *   Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.api.utils;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * A pull parser which reads a JSON document one event at a time, without building the values of the document
+ * unless asked to. Instances are created with {@code JsonUtils.createPullParser}.
+ * <p>
+ * Typical usage, processing the members of a large top level array one at a time:
+ * <pre>
+ *     JsonPullParser parser = JsonUtils.createPullParser(in, NonStringValueProcessingMode.FROM_JSON_STRING);
+ *     parser.next(); // START_ARRAY
+ *     while (parser.next() != JsonPullParser.Event.END_ARRAY) {
+ *         Object member = parser.readValue();
+ *         ...
+ *     }
+ * </pre>
+ *
+ * @since 2.0.0
+ */
+public interface JsonPullParser {
+
+    /**
+     * Events produced while reading a JSON document.
+     */
+    enum Event {
+        START_OBJECT,
+        END_OBJECT,
+        START_ARRAY,
+        END_ARRAY,
+        FIELD_NAME,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    /**
+     * Reads the next event of the document.
+     *
+     * @return the next event, {@link Event#END_DOCUMENT} once the document has been read completely
+     * @throws BError if the document is not valid JSON or cannot be read
+     */
+    Event next() throws BError;
+
+    /**
+     * Returns the event the parser is currently at.
+     *
+     * @return the current event, or null if {@link #next()} has not been called yet
+     */
+    Event currentEvent();
+
+    /**
+     * Returns the name of the field the current event belongs to.
+     *
+     * @return the name read by the last {@link Event#FIELD_NAME} event
+     */
+    BString getFieldName();
+
+    /**
+     * Returns the value of the current {@link Event#STRING}, {@link Event#NUMBER}, {@link Event#BOOLEAN} or
+     * {@link Event#NULL} event. Numbers are converted according to the processing mode of the parser.
+     *
+     * @return value of the current event
+     */
+    Object getValue();
+
+    /**
+     * Builds the value which starts at the current event. For {@link Event#START_OBJECT} and
+     * {@link Event#START_ARRAY} the whole object or array is read, and the parser is left at its end event.
+     *
+     * @return the JSON value
+     * @throws BError if the document is not valid JSON or cannot be read
+     */
+    Object readValue() throws BError;
+
+    /**
+     * Skips the value which starts at the current event without building it.
+     *
+     * @throws BError if the document is not valid JSON or cannot be read
+     */
+    void skipValue() throws BError;
+}
@@ -17,6 +17,7 @@
  */
 package io.ballerina.runtime.api.utils;
 
+import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.types.JsonType;
 import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.StructureType;
@@ -24,17 +25,24 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BStreamingJson;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.JsonArrayDataSource;
 import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.Utf8Buffer;
+import io.ballerina.runtime.internal.Utf8JsonPullParser;
+import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.internal.values.StreamingJsonValue;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
 /**
@@ -125,6 +133,94 @@ public class JsonUtils {
         return JsonParser.parse(reader, mode);
     }
 
+    /**
+     * Parses the UTF-8 encoded JSON content in the given bytes and returns a json. The content is parsed without
+     * decoding it to characters first.
+     *
+     * @param bytes UTF-8 encoded JSON content
+     * @param mode  the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return new Utf8JsonPullParser(bytes, mode).parse();
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content between the position and the limit of the given buffer and returns a json.
+     *
+     * @param buffer buffer which contains UTF-8 encoded JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return new Utf8JsonPullParser(buffer, mode).parse();
+    }
+
+    /**
+     * Parses a JSON array from the UTF-8 encoded content of the given {@link InputStream}. The members of the array
+     * are only read from the stream when they are accessed. Members which are first reached by iterating the array
+     * are not kept, so an iteration only holds one member at a time, and the array cannot be accessed as a whole
+     * after that.
+     *
+     * @param in   input stream which contains a UTF-8 encoded JSON array
+     * @param mode the mode to use when processing numeric values
+     * @return JSON array backed by the stream
+     * @throws BError if the content is not a JSON array
+     */
+    public static BStreamingJson parseStreaming(InputStream in, JsonUtils.NonStringValueProcessingMode mode)
+            throws BError {
+        BArrayType arrayType = new BArrayType(getJsonType(mode));
+        return new StreamingJsonValue(new JsonArrayDataSource(new Utf8JsonPullParser(in, mode), arrayType),
+                                      arrayType, false);
+    }
+
+    /**
+     * Creates a {@link JsonPullParser} which reads UTF-8 encoded JSON from the given {@link InputStream}.
+     *
+     * @param in   input stream which contains UTF-8 encoded JSON content
+     * @param mode the mode to use when processing numeric values
+     * @return pull parser for the content
+     */
+    public static JsonPullParser createPullParser(InputStream in, JsonUtils.NonStringValueProcessingMode mode) {
+        return new Utf8JsonPullParser(in, mode);
+    }
+
+    /**
+     * Creates a {@link JsonPullParser} which reads UTF-8 encoded JSON from the given bytes.
+     *
+     * @param bytes UTF-8 encoded JSON content
+     * @param mode  the mode to use when processing numeric values
+     * @return pull parser for the content
+     */
+    public static JsonPullParser createPullParser(byte[] bytes, JsonUtils.NonStringValueProcessingMode mode) {
+        return new Utf8JsonPullParser(bytes, mode);
+    }
+
+    /**
+     * Creates a {@link JsonPullParser} which reads UTF-8 encoded JSON between the position and the limit of the given
+     * buffer.
+     *
+     * @param buffer buffer which contains UTF-8 encoded JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return pull parser for the content
+     */
+    public static JsonPullParser createPullParser(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) {
+        return new Utf8JsonPullParser(buffer, mode);
+    }
+
+    private static Type getJsonType(JsonUtils.NonStringValueProcessingMode mode) {
+        switch (mode) {
+            case FROM_JSON_DECIMAL_STRING:
+                return PredefinedTypes.TYPE_JSON_DECIMAL;
+            case FROM_JSON_FLOAT_STRING:
+                return PredefinedTypes.TYPE_JSON_FLOAT;
+            default:
+                return PredefinedTypes.TYPE_JSON;
+        }
+    }
+
     /**
      * Parses {@link BTable} to JSON.
      *
@@ -258,6 +354,25 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Serializes the JSON constructs as UTF-8 directly into a byte buffer. The returned buffer wraps the array the
+     * content was written to, so it can be handed to a writer without copying it.
+     *
+     * @param json JSON construct
+     * @return buffer with the UTF-8 encoded JSON content between its position and its limit
+     * @throws BError If error occur while serialize json construct.
+     */
+    public static ByteBuffer serializeToUtf8(Object json) throws BError {
+        Utf8Buffer out = new Utf8Buffer();
+        try {
+            JsonGenerator gen = new JsonGenerator(out);
+            gen.serialize(json);
+        } catch (IOException e) {
+            throw new ErrorValue(StringUtils.fromString(e.getMessage()), e);
+        }
+        return out.toByteBuffer();
+    }
+
     /**
      * Represents the modes which process numeric values while converting a string to JSON.
      */
@@ -31,6 +31,7 @@ import io.ballerina.runtime.internal.BalStringUtils;
 import io.ballerina.runtime.internal.CycleUtils;
 import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.Utf8Buffer;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
@@ -51,8 +52,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_LANG_LIB;
@@ -117,27 +117,52 @@ public class StringUtils {
         if (s == null) {
             return null;
         }
-        List<Integer> highSurrogates = null;
-        for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                if (highSurrogates == null) {
-                    highSurrogates = new ArrayList<>();
-                }
-                highSurrogates.add(i - highSurrogates.size());
-            }
+        int length = s.length();
+        int first = 0;
+        while (first < length && !Character.isHighSurrogate(s.charAt(first))) {
+            first++;
         }
-        if (highSurrogates == null) {
+        if (first == length) {
             return new BmpStringValue(s);
         }
 
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
+        // Count the surrogate pairs first, so that their positions can be written straight into an exact sized array.
+        int count = 1;
+        for (int i = first + 1; i < length; i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                count++;
+            }
+        }
+        int[] highSurrogates = new int[count];
+        int index = 0;
+        for (int i = first; i < length; i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                highSurrogates[index] = i - index;
+                index++;
+            }
+        }
+        return new NonBmpStringValue(s, highSurrogates);
+    }
 
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
+    /**
+     * Create a ballerina string from UTF-8 encoded bytes. Malformed input is replaced the same way
+     * {@link String#String(byte[], int, int, Charset)} does.
+     * <p>
+     * A supplementary character takes four bytes but only two chars, so when the decoded string has as many chars as
+     * the input has bytes it can not contain one, and the surrogate scan of {@link #fromString(String)} is skipped.
+     * This is always the case for ASCII input.
+     *
+     * @param bytes  UTF-8 encoded bytes
+     * @param offset index of the first byte to decode
+     * @param length number of bytes to decode
+     * @return decoded string
+     */
+    public static BString fromUtf8Bytes(byte[] bytes, int offset, int length) {
+        String s = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        if (s.length() == length) {
+            return new BmpStringValue(s);
         }
-        return new NonBmpStringValue(s, highSurrogatesArr);
+        return fromString(s);
     }
 
     public static BArray fromStringArray(String[] s) {
@@ -377,15 +402,16 @@ public class StringUtils {
     }
 
     private static String stringToJson(BString value) {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JsonGenerator gen = new JsonGenerator(byteOut);
+        Utf8Buffer out = Utf8Buffer.acquire();
+        JsonGenerator gen = new JsonGenerator(out);
         try {
             gen.writeString(value.getValue());
-            gen.flush();
+            return out.toString();
         } catch (IOException e) {
             throw new BallerinaException("Error in converting string value to a json string: " + e.getMessage(), e);
+        } finally {
+            out.release();
         }
-        return byteOut.toString();
     }
 
     private StringUtils() {
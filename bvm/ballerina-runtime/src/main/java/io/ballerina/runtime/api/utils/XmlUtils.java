@@ -22,13 +22,24 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlQName;
+import io.ballerina.runtime.internal.Utf8Buffer;
 import io.ballerina.runtime.internal.XmlFactory;
+import io.ballerina.runtime.internal.XmlStreamingParser;
 import io.ballerina.runtime.internal.XmlValidator;
 import io.ballerina.runtime.internal.values.TableValueImpl;
 import io.ballerina.runtime.internal.values.XmlQName;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Class @{@link XmlUtils} provides APIs to handle xml values.
@@ -88,6 +99,68 @@ public class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Create a stream of the elements at the given path of a XML document. The document is parsed as the stream is
+     * consumed and only the element being returned is built, so documents of any size can be processed. Closing the
+     * stream closes the reader.
+     *
+     * @param reader XML reader
+     * @param path   expanded names of the elements from the document element down to the elements to return, in
+     *               the form {@code {namespace-uri}local-name} or {@code local-name} for elements without a
+     *               namespace, where {@code *} matches any element
+     * @return stream of elements, which throws a {@link BError} when the document is not well-formed
+     */
+    public static Stream<BXml> parseAsStream(Reader reader, String... path) {
+        return toStream(new XmlStreamingParser(reader, path));
+    }
+
+    /**
+     * Create a stream of the elements at the given path of a string in XML format, which is parsed using the content
+     * production the same way as {@link #parse(String)}. The content is read from the reader as the stream is
+     * consumed, without being copied. Closing the stream closes the reader.
+     *
+     * @param reader reader of the XML content
+     * @param path   expanded names of the elements from a top-level element down to the elements to return, in
+     *               the form {@code {namespace-uri}local-name} or {@code local-name} for elements without a
+     *               namespace, where {@code *} matches any element
+     * @return stream of elements, which throws a {@link BError} when the content is not well-formed
+     */
+    public static Stream<BXml> parseContentAsStream(Reader reader, String... path) {
+        return toStream(XmlStreamingParser.forContent(reader, path));
+    }
+
+    private static Stream<BXml> toStream(XmlStreamingParser parser) {
+        Iterator<BXml> iterator = new Iterator<>() {
+            private BXml next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = parser.next();
+                }
+                return next != null;
+            }
+
+            @Override
+            public BXml next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                BXml element = next;
+                next = null;
+                return element;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED |
+                Spliterator.NONNULL), false).onClose(() -> {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     /**
      * Converts a {@link io.ballerina.runtime.internal.values.TableValue} to {@link BXml}.
      *
@@ -98,6 +171,19 @@ public class XmlUtils {
         return XmlFactory.tableToXML((TableValueImpl) table);
     }
 
+    /**
+     * Serializes a XML value as UTF-8 directly into a byte buffer. The returned buffer wraps the array the content was
+     * written to, so it can be handed to a writer without copying it.
+     *
+     * @param xml XML value to serialize
+     * @return buffer with the UTF-8 encoded XML content between its position and its limit
+     */
+    public static ByteBuffer serializeToUtf8(BXml xml) {
+        Utf8Buffer out = new Utf8Buffer();
+        xml.serialize(out);
+        return out.toByteBuffer();
+    }
+
     /**
      * <p>
      * Validate a {@link XmlQName} against the XSD definition.
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts the members of lists in the order of lang.array:sort, which is stable and places NaN and then () last in
+ * both directions.
+ * <p>
+ * Arrays of ints, floats and strings are sorted in their primitive storage. Arrays with at least
+ * {@link #PARALLEL_SORT_THRESHOLD} members are sorted in parallel.
+ *
+ * @since 2.0.0
+ */
+public final class ArraySortUtils {
+
+    /**
+     * Minimum number of members for which a sort is split across the common fork-join pool, smaller arrays are not
+     * worth the coordination. This is the same as the granularity of {@link Arrays#parallelSort(long[])}.
+     */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private static final Comparator<BString> ASCENDING_STRINGS =
+            (str1, str2) -> ValueComparisonUtils.codePointCompare(str1.getValue(), str2.getValue());
+    private static final Comparator<BString> DESCENDING_STRINGS = ASCENDING_STRINGS.reversed();
+
+    private ArraySortUtils() {
+    }
+
+    /**
+     * Sorts the members of an int, float or string array in place, in their primitive storage.
+     *
+     * @param array     array to sort
+     * @param ascending whether to sort in the ascending order
+     * @return true if the members were sorted, false if the array does not store its members as primitives
+     */
+    public static boolean sortPrimitiveValues(BArray array, boolean ascending) {
+        return array instanceof ArrayValueImpl && ((ArrayValueImpl) array).sortPrimitiveValues(ascending);
+    }
+
+    /**
+     * Sorts the first {@code size} ints of the given array. Equal ints can not be told apart, so the sort does not
+     * need to be stable.
+     *
+     * @param values    int members
+     * @param size      number of members
+     * @param ascending whether to sort in the ascending order
+     */
+    public static void sort(long[] values, int size, boolean ascending) {
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+        if (!ascending) {
+            reverse(values, 0, size);
+        }
+    }
+
+    /**
+     * Sorts the first {@code size} floats of the given array, with NaN last in both directions. -0.0 and +0.0 are
+     * equal in this order but can be told apart, so they are kept in their original order.
+     *
+     * @param values    float members
+     * @param size      number of members
+     * @param ascending whether to sort in the ascending order
+     */
+    public static void sort(double[] values, int size, boolean ascending) {
+        boolean[] zeroSigns = getZeroSigns(values, size);
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+
+        // NaN is placed after every other value by the Java sort
+        int numbers = size;
+        while (numbers > 0 && Double.isNaN(values[numbers - 1])) {
+            numbers--;
+        }
+        if (!ascending) {
+            reverse(values, 0, numbers);
+        }
+        if (zeroSigns != null) {
+            int zero = 0;
+            while (values[zero] != 0) {
+                zero++;
+            }
+            for (boolean negative : zeroSigns) {
+                values[zero++] = negative ? -0.0 : 0.0;
+            }
+        }
+    }
+
+    // Returns the signs of the zeros in their order, if both -0.0 and +0.0 are present
+    private static boolean[] getZeroSigns(double[] values, int size) {
+        int negativeZeros = 0;
+        int positiveZeros = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] == 0) {
+                if (Double.doubleToRawLongBits(values[i]) == 0) {
+                    positiveZeros++;
+                } else {
+                    negativeZeros++;
+                }
+            }
+        }
+        if (negativeZeros == 0 || positiveZeros == 0) {
+            return null;
+        }
+
+        boolean[] zeroSigns = new boolean[negativeZeros + positiveZeros];
+        int zero = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] == 0) {
+                zeroSigns[zero++] = Double.doubleToRawLongBits(values[i]) != 0;
+            }
+        }
+        return zeroSigns;
+    }
+
+    /**
+     * Sorts the first {@code size} strings of the given array in the order of their code points.
+     *
+     * @param values    string members
+     * @param size      number of members
+     * @param ascending whether to sort in the ascending order
+     */
+    public static void sort(BString[] values, int size, boolean ascending) {
+        sort(values, size, ascending ? ASCENDING_STRINGS : DESCENDING_STRINGS);
+    }
+
+    /**
+     * Stable sort of the first {@code size} members of the given array. The comparator may be called from the
+     * threads of the common fork-join pool, and any exception it throws is rethrown to the caller.
+     *
+     * @param values     members
+     * @param size       number of members
+     * @param comparator order of the members
+     * @param <T>        type of the members
+     */
+    public static <T> void sort(T[] values, int size, Comparator<? super T> comparator) {
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, size, comparator);
+        } else {
+            Arrays.sort(values, 0, size, comparator);
+        }
+    }
+
+    private static void reverse(long[] values, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            long value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private static void reverse(double[] values, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            double value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+}
@@ -21,30 +21,133 @@ import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock can be held exclusively by a single strand ({@link #lock(Strand)}) or shared by any number of strands
+ * executing read-only lock bodies ({@link #lockRead(Strand)}). Uncontended acquisition is a single CAS on the lock
+ * state. Contended strands are queued in arrival order and the lock is handed over to the head of the queue on
+ * release, so a steady stream of readers cannot starve a waiting writer.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private static final int FREE = 0;
+    private static final int WRITE_LOCKED = -1;
 
-    private ArrayDeque<Strand> waitingForLock;
+    /**
+     * {@code FREE}, {@code WRITE_LOCKED} or the number of strands holding the lock in read mode.
+     */
+    private final AtomicInteger state = new AtomicInteger(FREE);
 
-    public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+    /**
+     * Number of strands that are waiting for the lock or that have been handed the lock but not yet resumed. New
+     * strands take the fast path only when this is zero.
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final ArrayDeque<Waiter> waitingForLock = new ArrayDeque<>();
+
+    private final Set<Strand> grantedReaders = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private volatile Strand owner;
+
+    // Only accessed by the owner, or under the monitor before the owner is published.
+    private int holdCount;
+    private boolean handedOver;
+
+    public boolean lock(Strand strand) {
+        if (owner == strand) {
+            if (handedOver) {
+                handedOver = false;
+                queued.decrementAndGet();
+            } else {
+                holdCount++;
+            }
+            return true;
+        }
+
+        if (queued.get() == 0 && state.compareAndSet(FREE, WRITE_LOCKED)) {
+            acquired(strand);
+            return true;
+        }
+        return lockSlow(strand, false);
+    }
+
+    public boolean lockRead(Strand strand) {
+        if (owner == strand) {
+            // Read-only lock body nested in a lock body of the same strand that holds the lock exclusively.
+            holdCount++;
+            return true;
+        }
+
+        if (queued.get() == 0) {
+            int current;
+            while ((current = state.get()) >= FREE) {
+                if (state.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+        return lockSlow(strand, true);
+    }
+
+    public void unlock() {
+        //current cannot be empty as unlock cannot be called without lock being called first.
+        if (--holdCount > 0) {
+            return;
+        }
+        owner = null;
+        state.set(FREE);
+        if (queued.get() != 0) {
+            synchronized (this) {
+                grantWaiters(null);
+            }
+        }
+    }
+
+    public void unlockRead() {
+        if (owner != null) {
+            // A writer excludes all readers, so this can only be a read-only body nested in the owner's lock body.
+            unlock();
+            return;
+        }
+        if (state.decrementAndGet() == FREE && queued.get() != 0) {
+            synchronized (this) {
+                grantWaiters(null);
+            }
+        }
+    }
+
+    public boolean isLockFree() {
+        return this.state.get() == FREE;
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+    public boolean lockedBySameContext(Strand ctx) {
+        return this.owner == ctx;
+    }
+
+    private synchronized boolean lockSlow(Strand strand, boolean reader) {
+        if (reader && grantedReaders.remove(strand)) {
+            queued.decrementAndGet();
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        this.waitingForLock.offerLast(new Waiter(strand, reader));
+        queued.incrementAndGet();
+        // The lock may have been released after the fast path failed, so try to hand it over before yielding.
+        grantWaiters(strand);
+        if (reader ? grantedReaders.remove(strand) : owner == strand) {
+            handedOver = false;
+            queued.decrementAndGet();
+            return true;
+        }
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
@@ -52,20 +155,60 @@ public class BLock {
         return false;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+    /**
+     * Hands the lock over to the waiters at the head of the queue: either a single writer or a run of consecutive
+     * readers. Granted strands other than {@code current} are unblocked and complete their acquisition when they
+     * retry the lock on resumption. Must be called while holding the monitor.
+     */
+    private void grantWaiters(Strand current) {
+        Waiter head;
+        while ((head = this.waitingForLock.peekFirst()) != null) {
+            if (head.reader) {
+                if (!tryAcquireShared()) {
+                    return;
+                }
+                grantedReaders.add(head.strand);
+            } else {
+                if (!state.compareAndSet(FREE, WRITE_LOCKED)) {
+                    return;
+                }
+                handedOver = true;
+                acquired(head.strand);
+            }
+
+            this.waitingForLock.removeFirst();
+            if (head.strand != current) {
+                head.strand.scheduler.unblockStrand(head.strand);
+            }
+            if (!head.reader) {
+                return;
+            }
         }
     }
 
-    public boolean isLockFree() {
-        return this.current.isEmpty();
+    private boolean tryAcquireShared() {
+        int current;
+        while ((current = state.get()) >= FREE) {
+            if (state.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+    private void acquired(Strand strand) {
+        holdCount = 1;
+        owner = strand;
+    }
+
+    private static class Waiter {
+
+        private final Strand strand;
+        private final boolean reader;
+
+        private Waiter(Strand strand, boolean reader) {
+            this.strand = strand;
+            this.reader = reader;
+        }
     }
 }
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.JsonPullParser;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+
+import java.io.IOException;
+
+/**
+ * {@link JsonDataSource} implementation which reads the members of a top level JSON array from a
+ * {@link JsonPullParser} one at a time, as they are asked for.
+ *
+ * @since 2.0.0
+ */
+public class JsonArrayDataSource implements JsonDataSource {
+
+    private final JsonPullParser parser;
+    private final ArrayType arrayType;
+    private boolean memberReady;
+    private boolean ended;
+
+    public JsonArrayDataSource(JsonPullParser parser, ArrayType arrayType) {
+        this.parser = parser;
+        this.arrayType = arrayType;
+        if (parser.next() != JsonPullParser.Event.START_ARRAY) {
+            throw ErrorCreator.createError(StringUtils.fromString("expected a JSON array"));
+        }
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen) throws IOException {
+        gen.writeStartArray();
+        while (this.hasNext()) {
+            gen.serialize(this.next());
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (memberReady) {
+            return true;
+        }
+        if (ended) {
+            return false;
+        }
+        if (parser.next() == JsonPullParser.Event.END_ARRAY) {
+            // Reports anything but whitespace after the array.
+            parser.next();
+            ended = true;
+            return false;
+        }
+        memberReady = true;
+        return true;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            return null;
+        }
+        memberReady = false;
+        return parser.readValue();
+    }
+
+    @Override
+    public Object build() {
+        ArrayValue values = new ArrayValueImpl(arrayType);
+        while (hasNext()) {
+            values.append(next());
+        }
+        return values;
+    }
+}
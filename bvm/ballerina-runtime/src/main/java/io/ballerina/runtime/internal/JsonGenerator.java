@@ -18,7 +18,11 @@
 package io.ballerina.runtime.internal;
 
 import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
@@ -32,6 +36,7 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.util.Map;
 import java.util.Map.Entry;
 
 /**
@@ -46,6 +51,8 @@ public class JsonGenerator {
 
     private Writer writer;
 
+    private Utf8Buffer utf8Out;
+
     private boolean[] levelInit = new boolean[DEFAULT_DEPTH];
 
     private int currentLevel;
@@ -75,6 +82,16 @@ public class JsonGenerator {
         this.writer = writer;
     }
 
+    /**
+     * Creates a generator which writes UTF-8 directly into the given buffer.
+     *
+     * @param out buffer to write to
+     */
+    public JsonGenerator(Utf8Buffer out) {
+        this(out.asWriter());
+        this.utf8Out = out;
+    }
+
     private void setLevelInit(int index, boolean init) {
         this.checkAndResizeLevels(index);
         this.levelInit[index] = init;
@@ -149,23 +166,51 @@ public class JsonGenerator {
         this.writer.write(":");
     }
 
+    private void writeFieldName(BField field) throws IOException {
+        if (this.utf8Out == null) {
+            this.writeFieldName(field.getFieldName());
+            return;
+        }
+        this.processFieldInit();
+        byte[] fieldNameBytes = field.getJsonNameBytes();
+        this.utf8Out.write(fieldNameBytes, 0, fieldNameBytes.length);
+    }
+
+    /**
+     * Returns the field name as written by the generator, i.e. the escaped and quoted name followed by a colon,
+     * encoded as UTF-8.
+     *
+     * @param fieldName field name
+     * @return UTF-8 bytes of the field name
+     */
+    public static byte[] getFieldNameBytes(String fieldName) {
+        Utf8Buffer out = new Utf8Buffer(fieldName.length() + 3);
+        try {
+            JsonGenerator gen = new JsonGenerator(out.asWriter());
+            gen.writeStringValue(fieldName);
+            gen.writer.write(':');
+        } catch (IOException e) {
+            throw new BallerinaException("Error in converting field name to a json string: " + e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+
     private void writeStringValue(String value) throws IOException {
         this.writer.write("\"");
         int count = value.length();
         char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            ch = value.charAt(i);
             if (ch < escChars.length && escChars[ch]) {
                 escaped = true;
                 break;
             }
         }
         if (escaped) {
-            this.writeStringEsc(chs);
+            this.writeStringEsc(value);
         } else {
-            this.writer.write(chs);
+            this.writer.write(value);
         }
         this.writer.write("\"");
     }
@@ -176,61 +221,47 @@ public class JsonGenerator {
     }
 
     public void writeStringEsc(char[] chs) throws IOException {
-        int count = chs.length;
+        this.writeStringEsc(String.valueOf(chs));
+    }
+
+    private void writeStringEsc(String value) throws IOException {
+        int count = value.length();
         int index = 0;
-        char ch;
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
-            switch (ch) {
-                case '"':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\"");
-                    index = i + 1;
-                    break;
-                case '\\':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\\");
-                    index = i + 1;
-                    break;
-                case '/':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\/");
-                    index = i + 1;
-                    break;
-                case '\b':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\b");
-                    index = i + 1;
-                    break;
-                case '\n':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\n");
-                    index = i + 1;
-                    break;
-                case '\r':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\r");
-                    index = i + 1;
-                    break;
-                case '\f':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\f");
-                    index = i + 1;
-                    break;
-                case '\t':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\t");
-                    index = i + 1;
-                    break;
-                default:
-                    break;
+            String escaped = getEscapeSequence(value.charAt(i));
+            if (escaped != null) {
+                this.writer.write(value, index, i - index);
+                this.writer.write(escaped);
+                index = i + 1;
             }
         }
 
         if (count - index > 0) {
-            this.writer.write(chs, index, count - index);
+            this.writer.write(value, index, count - index);
         }
+    }
 
+    private static String getEscapeSequence(char ch) {
+        switch (ch) {
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+            case '/':
+                return "\\/";
+            case '\b':
+                return "\\b";
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '\f':
+                return "\\f";
+            case '\t':
+                return "\\t";
+            default:
+                return null;
+        }
     }
 
     public void writeNumber(long value) throws IOException {
@@ -316,6 +347,9 @@ public class JsonGenerator {
                 }
                 this.endObject();
                 break;
+            case TypeTags.RECORD_TYPE_TAG:
+                this.serializeRecord((MapValueImpl<BString, Object>) json);
+                break;
             case TypeTags.STRING_TAG:
                 this.writeString(json.toString());
                 break;
@@ -323,4 +357,22 @@ public class JsonGenerator {
                 break;
         }
     }
+
+    private void serializeRecord(MapValueImpl<BString, Object> record) throws IOException {
+        Map<String, Field> fields = ((BRecordType) record.getType()).getFields();
+        this.startObject();
+        for (Entry<BString, Object> entry : record.entrySet()) {
+            String fieldName = entry.getKey().getValue();
+            Field field = fields.get(fieldName);
+            if (field instanceof BField) {
+                // The encoded name is kept on the field of the record type
+                this.writeFieldName((BField) field);
+            } else {
+                // Rest field
+                this.writeFieldName(fieldName);
+            }
+            this.serialize(entry.getValue());
+        }
+        this.endObject();
+    }
 }
@@ -20,15 +20,23 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.RefValue;
+import io.ballerina.runtime.internal.values.StructuralHashHolder;
 import io.ballerina.runtime.internal.values.TableValue;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.values.XmlPi;
+import io.ballerina.runtime.internal.values.XmlSequence;
+import io.ballerina.runtime.internal.values.XmlValue;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static io.ballerina.runtime.internal.CycleUtils.Node;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR;
@@ -42,62 +50,120 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
 public class TableUtils {
 
     /**
-     * Generates a hash value which is same for the same shape.
+     * Generates a hash value which is same for the same shape. The hash of a frozen structured value is computed
+     * once and held by the value.
      *
      * @param obj Ballerina value which the hash is generated from
      * @param parent Node linking to the parent object of 'obj'
      * @return The hash value
      */
     public static Long hash(Object obj, Node parent) {
-        long result = 0;
+        return hashValue(obj, parent);
+    }
 
+    private static long hashValue(Object obj, Node parent) {
         if (obj == null) {
             return 0L;
         }
 
-        if (obj instanceof RefValue) {
+        if (!(obj instanceof RefValue)) {
+            return obj.hashCode();
+        }
 
-            Node node = new Node(obj, parent);
+        RefValue refValue = (RefValue) obj;
+        if (!(refValue instanceof StructuralHashHolder)) {
+            return obj.hashCode();
+        }
 
-            if (node.hasCyclesSoFar()) {
-                throw ErrorCreator.createError(TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR, BLangExceptionHelper
-                        .getErrorDetails(RuntimeErrors.CYCLIC_VALUE_REFERENCE, TypeChecker.getType(obj)));
+        StructuralHashHolder hashHolder = (StructuralHashHolder) refValue;
+        boolean frozen = refValue.isFrozen();
+        if (frozen) {
+            Long hash = hashHolder.getStructuralHash();
+            if (hash != null) {
+                return hash;
             }
+        }
 
-            RefValue refValue = (RefValue) obj;
-            Type refType = refValue.getType();
-            if (refType.getTag() == TypeTags.MAP_TAG || refType.getTag() == TypeTags.RECORD_TYPE_TAG) {
-                MapValue mapValue = (MapValue) refValue;
-                for (Object entry : mapValue.entrySet()) {
-                    result = 31 * result + hash(((Map.Entry) entry).getKey(), node) +
-                            (((Map.Entry) entry).getValue() == null ? 0 : hash(((Map.Entry) entry).getValue(),
-                                    node));
-                }
-                return result;
-            } else if (refType.getTag() == TypeTags.ARRAY_TAG || refType.getTag() == TypeTags.TUPLE_TAG) {
-                ArrayValue arrayValue = (ArrayValue) refValue;
-                IteratorValue arrayIterator = arrayValue.getIterator();
-                while (arrayIterator.hasNext()) {
-                    result = 31 * result + hash(arrayIterator.next(), node);
-                }
-                return result;
-            } else if (refType.getTag() == TypeTags.XML_TAG || refType.getTag() == TypeTags.XML_ELEMENT_TAG ||
-                    refType.getTag() == TypeTags.XML_TEXT_TAG || refType.getTag() == TypeTags.XML_ATTRIBUTES_TAG ||
-                    refType.getTag() == TypeTags.XML_COMMENT_TAG || refType.getTag() == TypeTags.XML_PI_TAG ||
-                    refType.getTag() == TypeTags.XMLNS_TAG) {
-                return (long) refValue.toString().hashCode();
-            } else if (refType.getTag() == TypeTags.TABLE_TAG) {
-                TableValue tableValue = (TableValue) refValue;
-                IteratorValue tableIterator = tableValue.getIterator();
-                while (tableIterator.hasNext()) {
-                    result = 31 * result + hash(tableIterator.next(), node);
-                }
-                return result;
-            } else {
-                return (long) obj.hashCode();
+        long result = hashStructure(refValue, parent);
+        if (frozen) {
+            hashHolder.setStructuralHash(result);
+        }
+        return result;
+    }
+
+    private static long hashStructure(RefValue refValue, Node parent) {
+        if (refValue instanceof XmlValue) {
+            // xml values can not be cyclic
+            return hashXml((XmlValue) refValue);
+        }
+
+        Node node = new Node(refValue, parent);
+        if (node.hasCyclesSoFar()) {
+            throw ErrorCreator.createError(TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR, BLangExceptionHelper
+                    .getErrorDetails(RuntimeErrors.CYCLIC_VALUE_REFERENCE, TypeChecker.getType(refValue)));
+        }
+
+        long result = 0;
+        Type refType = refValue.getType();
+        if (refType.getTag() == TypeTags.MAP_TAG || refType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            MapValue mapValue = (MapValue) refValue;
+            for (Object entry : mapValue.entrySet()) {
+                result = 31 * result + hashValue(((Map.Entry) entry).getKey(), node) +
+                        (((Map.Entry) entry).getValue() == null ? 0 : hashValue(((Map.Entry) entry).getValue(),
+                                node));
+            }
+            return result;
+        } else if (refType.getTag() == TypeTags.ARRAY_TAG || refType.getTag() == TypeTags.TUPLE_TAG) {
+            ArrayValue arrayValue = (ArrayValue) refValue;
+            IteratorValue arrayIterator = arrayValue.getIterator();
+            while (arrayIterator.hasNext()) {
+                result = 31 * result + hashValue(arrayIterator.next(), node);
+            }
+            return result;
+        } else if (refType.getTag() == TypeTags.TABLE_TAG) {
+            TableValue tableValue = (TableValue) refValue;
+            IteratorValue tableIterator = tableValue.getIterator();
+            while (tableIterator.hasNext()) {
+                result = 31 * result + hashValue(tableIterator.next(), node);
             }
+            return result;
         } else {
-            return (long) obj.hashCode();
+            return refValue.hashCode();
+        }
+    }
+
+    /**
+     * Generates the hash of an xml value from its structure, consistent with the deep equality of xml values. A
+     * sequence of a single item has the hash of the item, and an empty sequence has the hash of an empty text.
+     *
+     * @param xml xml value
+     * @return The hash value
+     */
+    private static long hashXml(XmlValue xml) {
+        switch (xml.getNodeType()) {
+            case ELEMENT:
+                XmlItem element = (XmlItem) xml;
+                long result = element.getQName().hashCode();
+                result = 31 * result + element.getAttributesMap().entrySet().hashCode();
+                return 31 * result + hashXml((XmlValue) element.getChildrenSeq());
+            case SEQUENCE:
+                List<BXml> children = ((XmlSequence) xml).getChildrenList();
+                if (children.size() == 1) {
+                    return hashXml((XmlValue) children.get(0));
+                }
+                long sequenceResult = 0;
+                for (BXml child : children) {
+                    sequenceResult = 31 * sequenceResult + hashXml((XmlValue) child);
+                }
+                return sequenceResult;
+            case TEXT:
+            case COMMENT:
+                return xml.getTextValue().hashCode();
+            case PI:
+                XmlPi pi = (XmlPi) xml;
+                return 31 * Objects.hashCode(pi.getTarget()) + Objects.hashCode(pi.getData());
+            default:
+                return xml.toString().hashCode();
         }
     }
 
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.types.BType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded cache of the results of type-only `is` checks, keyed on the identities of the source and the target types.
+ * <p>
+ * The cache is a fixed size table in which an entry for a type pair overwrites any older entry which maps to the same
+ * slot, so it never grows and needs no locking. Entries are immutable and tagged with the generation of the type
+ * structures they were computed for. Every type visited by a type check is marked, and a change to the structure of a
+ * marked type starts a new generation through {@link #invalidate(Type)}, which makes every existing entry stale. Types
+ * which are still being created have not been visited by any check, so creating them leaves the cache intact.
+ *
+ * @since 2.0.0
+ */
+public final class TypeCheckCache {
+
+    private static final int SIZE = 4096;
+    private static final int MASK = SIZE - 1;
+
+    private static final Entry[] ENTRIES = new Entry[SIZE];
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Invalidates all the cached results if the given type has been visited by a type check. Called whenever the
+     * structure of a type changes.
+     *
+     * @param mutatedType the type of which the structure changed
+     */
+    public static void invalidate(Type mutatedType) {
+        if (!(mutatedType instanceof BType) || ((BType) mutatedType).isTypeChecked()) {
+            GENERATION.incrementAndGet();
+        }
+    }
+
+    static void markChecked(Type sourceType, Type targetType) {
+        if (sourceType instanceof BType) {
+            ((BType) sourceType).setTypeChecked();
+        }
+        if (targetType instanceof BType) {
+            ((BType) targetType).setTypeChecked();
+        }
+    }
+
+    static boolean isCacheable(Type sourceType, Type targetType) {
+        // Parameterized types are resolved against the arguments of each call.
+        return sourceType.getTag() != TypeTags.PARAMETERIZED_TYPE_TAG &&
+                targetType.getTag() != TypeTags.PARAMETERIZED_TYPE_TAG;
+    }
+
+    static int getGeneration() {
+        return GENERATION.get();
+    }
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @return {@link Boolean#TRUE} or {@link Boolean#FALSE} if there is a result for the current generation, null
+     * otherwise
+     */
+    static Boolean get(Type sourceType, Type targetType) {
+        Entry entry = ENTRIES[index(sourceType, targetType)];
+        if (entry != null && entry.sourceType == sourceType && entry.targetType == targetType &&
+                entry.generation == GENERATION.get()) {
+            return entry.result;
+        }
+        return null;
+    }
+
+    /**
+     * Caches the result of a check which was started in the given generation.
+     */
+    static void put(Type sourceType, Type targetType, boolean result, int generation) {
+        ENTRIES[index(sourceType, targetType)] = new Entry(sourceType, targetType, result, generation);
+    }
+
+    private static int index(Type sourceType, Type targetType) {
+        int hash = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+
+    private static final class Entry {
+
+        private final Type sourceType;
+        private final Type targetType;
+        private final Boolean result;
+        private final int generation;
+
+        private Entry(Type sourceType, Type targetType, boolean result, int generation) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+            this.generation = generation;
+        }
+    }
+}
@@ -329,6 +329,7 @@ public class TypeChecker {
      * @return true if the two types are same; false otherwise
      */
     public static boolean isSameType(Type sourceType, Type targetType) {
+        TypeCheckCache.markChecked(sourceType, targetType);
 
         int sourceTypeTag = sourceType.getTag();
         int targetTypeTag = targetType.getTag();
@@ -590,11 +591,27 @@ public class TypeChecker {
      * @return flag indicating the the equivalence of the two types
      */
     public static boolean checkIsType(Type sourceType, Type targetType) {
-        return checkIsType(sourceType, targetType, (List<TypePair>) null);
+        if (sourceType == targetType) {
+            return true;
+        }
+        if (!TypeCheckCache.isCacheable(sourceType, targetType)) {
+            return checkIsType(sourceType, targetType, (List<TypePair>) null);
+        }
+
+        Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        int generation = TypeCheckCache.getGeneration();
+        boolean result = checkIsType(sourceType, targetType, (List<TypePair>) null);
+        TypeCheckCache.put(sourceType, targetType, result, generation);
+        return result;
     }
 
     @Deprecated
     public static boolean checkIsType(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
+        TypeCheckCache.markChecked(sourceType, targetType);
+
         // First check whether both types are the same.
         if (sourceType == targetType || (sourceType.getTag() == targetType.getTag() && sourceType.equals(targetType))) {
             return true;
@@ -726,6 +743,11 @@ public class TypeChecker {
             return checkIsType(sourceType, targetType);
         }
 
+        // Every value belongs to the target type if its type does, and that is answered from the cache.
+        if (unresolvedTypes == null && checkIsType(sourceType, targetType)) {
+            return true;
+        }
+
         if (targetTypeTag == TypeTags.INTERSECTION_TAG) {
             targetType = ((BIntersectionType) targetType).getEffectiveType();
             targetTypeTag = targetType.getTag();
@@ -2068,7 +2090,8 @@ public class TypeChecker {
                                            List<TypeValuePair> unresolvedValues,
                                            boolean allowNumericConversion, String varName) {
         Type sourceType = getType(sourceValue);
-        if (checkIsType(sourceType, targetType, new ArrayList<>())) {
+        // A value has the shape of every type its own type belongs to, which is answered from the cache.
+        if (checkIsType(sourceType, targetType)) {
             return true;
         }
 
@@ -0,0 +1,266 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer which encodes characters written to it as UTF-8 directly into its backing array, without
+ * going through a {@code String}, a {@code char[]} and a charset encoder first. The content can be handed out as a
+ * {@link ByteBuffer} which wraps the backing array, so that callers such as HTTP writers need not copy it.
+ *
+ * @since 2.0.0
+ */
+public class Utf8Buffer extends OutputStream {
+
+    private static final int DEFAULT_CAPACITY = 256;
+    // Buffers which grew beyond this are not kept for reuse, so that a single large value does not pin the memory.
+    private static final int MAX_REUSED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<Utf8Buffer> REUSABLE_BUFFER = new ThreadLocal<>();
+    private static final byte REPLACEMENT = '?';
+
+    private byte[] bytes;
+    private int count;
+    private Utf8BufferWriter writer;
+
+    public Utf8Buffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public Utf8Buffer(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    /**
+     * Returns an empty buffer for the calling thread. Buffers acquired this way should be given back with
+     * {@link #release()} once their content has been consumed, and the content must not be handed out as a
+     * {@link ByteBuffer}.
+     *
+     * @return an empty buffer
+     */
+    public static Utf8Buffer acquire() {
+        Utf8Buffer buffer = REUSABLE_BUFFER.get();
+        if (buffer == null) {
+            return new Utf8Buffer();
+        }
+        REUSABLE_BUFFER.set(null);
+        return buffer;
+    }
+
+    /**
+     * Makes this buffer available for reuse by {@link #acquire()} on the calling thread.
+     */
+    public void release() {
+        if (bytes.length > MAX_REUSED_CAPACITY) {
+            return;
+        }
+        reset();
+        REUSABLE_BUFFER.set(this);
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(1);
+        bytes[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] src, int off, int len) {
+        ensureCapacity(len);
+        System.arraycopy(src, off, bytes, count, len);
+        count += len;
+    }
+
+    /**
+     * Encodes the given characters as UTF-8 into this buffer. Unpaired surrogates are written as '?', as the
+     * charset encoders do.
+     *
+     * @param chars characters to write
+     * @param start index of the first character to write
+     * @param end   index after the last character to write
+     */
+    public void writeChars(CharSequence chars, int start, int end) {
+        // Every character takes at most three bytes, surrogate pairs take four bytes for two characters.
+        ensureCapacity((end - start) * 3);
+        byte[] bytes = this.bytes;
+        int count = this.count;
+        int i = start;
+        // ASCII fast path
+        while (i < end) {
+            char ch = chars.charAt(i);
+            if (ch >= 0x80) {
+                break;
+            }
+            bytes[count++] = (byte) ch;
+            i++;
+        }
+        while (i < end) {
+            char ch = chars.charAt(i++);
+            if (ch < 0x80) {
+                bytes[count++] = (byte) ch;
+            } else if (ch < 0x800) {
+                bytes[count++] = (byte) (0xC0 | (ch >> 6));
+                bytes[count++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isSurrogate(ch)) {
+                if (Character.isHighSurrogate(ch) && i < end && Character.isLowSurrogate(chars.charAt(i))) {
+                    int codePoint = Character.toCodePoint(ch, chars.charAt(i++));
+                    bytes[count++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    bytes[count++] = REPLACEMENT;
+                }
+            } else {
+                bytes[count++] = (byte) (0xE0 | (ch >> 12));
+                bytes[count++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                bytes[count++] = (byte) (0x80 | (ch & 0x3F));
+            }
+        }
+        this.count = count;
+    }
+
+    /**
+     * Returns a {@link Writer} which encodes the characters written to it into this buffer. The writer does not
+     * buffer, so it need not be flushed, except for a high surrogate ending a write, which is encoded with the low
+     * surrogate starting the next write, or as '?' by the next write or {@code close()} if there is none.
+     *
+     * @return writer of this buffer
+     */
+    public Writer asWriter() {
+        if (writer == null) {
+            writer = new Utf8BufferWriter();
+        }
+        return writer;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public void reset() {
+        count = 0;
+        if (writer != null) {
+            // A high surrogate left by the previous content must not be paired with the next content
+            writer.highSurrogate = 0;
+        }
+    }
+
+    /**
+     * Returns the content as a {@link ByteBuffer} which wraps the backing array of this buffer, without copying it.
+     * The buffer must not be written to or reused afterwards.
+     *
+     * @return the content of this buffer
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(bytes, 0, count);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, count);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, count);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, count, StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int length) {
+        int required = count + length;
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length << 1));
+        }
+    }
+
+    /**
+     * {@link Writer} view of the enclosing buffer.
+     */
+    private class Utf8BufferWriter extends Writer {
+
+        // High surrogate which ended the last write, encoded with the low surrogate that starts the next one
+        private char highSurrogate;
+
+        @Override
+        public void write(int c) {
+            if (c < 0x80 && highSurrogate == 0) {
+                Utf8Buffer.this.write(c);
+            } else {
+                write(String.valueOf((char) c), 0, 1);
+            }
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) {
+            writeSequence(CharBuffer.wrap(chars), off, off + len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            writeSequence(str, off, off + len);
+        }
+
+        @Override
+        public Writer append(CharSequence chars) {
+            writeSequence(chars, 0, chars.length());
+            return this;
+        }
+
+        private void writeSequence(CharSequence chars, int start, int end) {
+            if (start == end) {
+                return;
+            }
+            if (highSurrogate != 0) {
+                char ch = chars.charAt(start);
+                if (Character.isLowSurrogate(ch)) {
+                    writeChars(CharBuffer.wrap(new char[]{highSurrogate, ch}), 0, 2);
+                    start++;
+                } else {
+                    Utf8Buffer.this.write(REPLACEMENT);
+                }
+                highSurrogate = 0;
+            }
+            if (start < end && Character.isHighSurrogate(chars.charAt(end - 1))) {
+                highSurrogate = chars.charAt(--end);
+            }
+            writeChars(chars, start, end);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            if (highSurrogate != 0) {
+                Utf8Buffer.this.write(REPLACEMENT);
+                highSurrogate = 0;
+            }
+        }
+    }
+}
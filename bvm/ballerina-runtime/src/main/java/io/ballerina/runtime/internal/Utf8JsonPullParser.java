@@ -0,0 +1,617 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonPullParser;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
+
+/**
+ * {@link JsonPullParser} implementation which reads UTF-8 encoded JSON directly from bytes. Unlike
+ * {@link JsonParser} the content is not decoded to characters up front, and values are only built when
+ * {@link #readValue()} is called, so a large document can be processed one member at a time.
+ * <p>
+ * The values built by this parser, and the way numbers are converted, are the same as those of {@link JsonParser}.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class Utf8JsonPullParser implements JsonPullParser {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+    private static final byte OBJECT = 1;
+    private static final byte ARRAY = 2;
+    // Longest run of digits which always fits in a long.
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    private final InputStream in;
+    private byte[] buff;
+    private int pos;
+    private int limit;
+
+    // Number of bytes of the input before the start of the buffer, and the input offset of the current line.
+    private long consumed;
+    private long lineStart;
+    private int line = 1;
+    // Number of bytes of the current line in the previous buffers which are not counted as characters, so that
+    // error columns count characters as JsonParser does.
+    private long lineExtraBytes;
+
+    private byte[] containers = new byte[16];
+    private int depth;
+    private boolean rootRead;
+
+    private Event event;
+    private BString fieldName;
+    private Object value;
+    private char[] charBuff = new char[64];
+    private int charBuffIndex;
+
+    private final JsonUtils.NonStringValueProcessingMode mode;
+    private final Type definedJsonType;
+
+    public Utf8JsonPullParser(byte[] bytes, JsonUtils.NonStringValueProcessingMode mode) {
+        this(bytes, 0, bytes.length, null, mode);
+    }
+
+    public Utf8JsonPullParser(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) {
+        this(buffer.hasArray() ? buffer.array() : new byte[0],
+             buffer.hasArray() ? buffer.arrayOffset() + buffer.position() : 0,
+             buffer.hasArray() ? buffer.arrayOffset() + buffer.limit() : 0,
+             buffer.hasArray() ? null : new ByteBufferInputStream(buffer), mode);
+    }
+
+    public Utf8JsonPullParser(InputStream in, JsonUtils.NonStringValueProcessingMode mode) {
+        this(new byte[BUFFER_SIZE], 0, 0, in, mode);
+    }
+
+    private Utf8JsonPullParser(byte[] buff, int pos, int limit, InputStream in,
+                               JsonUtils.NonStringValueProcessingMode mode) {
+        this.buff = buff;
+        this.pos = pos;
+        this.limit = limit;
+        this.consumed = -pos;
+        this.lineStart = 0;
+        this.in = in;
+        this.mode = mode;
+        if (mode == FROM_JSON_DECIMAL_STRING) {
+            definedJsonType = PredefinedTypes.TYPE_JSON_DECIMAL;
+        } else if (mode == FROM_JSON_FLOAT_STRING) {
+            definedJsonType = PredefinedTypes.TYPE_JSON_FLOAT;
+        } else {
+            definedJsonType = PredefinedTypes.TYPE_JSON;
+        }
+    }
+
+    /**
+     * Parses the whole document and returns its value.
+     *
+     * @return JSON value of the document
+     * @throws BError for any parsing error
+     */
+    public Object parse() throws BError {
+        next();
+        Object result = readValue();
+        next();
+        return result;
+    }
+
+    @Override
+    public Event next() throws BError {
+        if (event == Event.END_DOCUMENT) {
+            return event;
+        }
+        value = null;
+        if (depth == 0) {
+            int ch = skipWhitespace();
+            if (rootRead) {
+                if (ch != EOF) {
+                    throw error("JSON document has already ended");
+                }
+                return event = Event.END_DOCUMENT;
+            }
+            if (ch == EOF) {
+                throw error("empty JSON document");
+            }
+            return readValueStart(ch);
+        }
+
+        boolean first = event == Event.START_OBJECT || event == Event.START_ARRAY;
+        if (containers[depth - 1] == OBJECT) {
+            if (event == Event.FIELD_NAME) {
+                return readValueStart(skipWhitespace());
+            }
+            int ch = skipWhitespace();
+            if (ch == EOF) {
+                throw error("unexpected end of JSON document");
+            } else if (ch == '}') {
+                return endContainer(Event.END_OBJECT);
+            }
+            if (!first) {
+                if (ch != ',') {
+                    throw expected(",", "}");
+                }
+                ch = skipWhitespace();
+            }
+            if (ch != '"') {
+                throw first ? expected("\"", "}") : expected("\"");
+            }
+            fieldName = StringUtils.fromString(readString());
+            if (skipWhitespace() != ':') {
+                throw expected(":");
+            }
+            return event = Event.FIELD_NAME;
+        }
+
+        int ch = skipWhitespace();
+        if (ch == EOF) {
+            throw error("unexpected end of JSON document");
+        } else if (ch == ']') {
+            return endContainer(Event.END_ARRAY);
+        }
+        if (!first) {
+            if (ch != ',') {
+                throw expected(",", "]");
+            }
+            ch = skipWhitespace();
+        }
+        return readValueStart(ch);
+    }
+
+    @Override
+    public Event currentEvent() {
+        return event;
+    }
+
+    @Override
+    public BString getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public Object readValue() throws BError {
+        if (event != Event.START_OBJECT && event != Event.START_ARRAY) {
+            return value;
+        }
+
+        // Built iteratively, so deeply nested documents do not overflow the stack.
+        Object root = newContainer(event);
+        Object current = root;
+        Deque<Object> parents = new ArrayDeque<>();
+        while (true) {
+            switch (next()) {
+                case FIELD_NAME:
+                    break;
+                case START_OBJECT:
+                case START_ARRAY:
+                    Object child = newContainer(event);
+                    addMember(current, child);
+                    parents.push(current);
+                    current = child;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    if (parents.isEmpty()) {
+                        return root;
+                    }
+                    current = parents.pop();
+                    break;
+                default:
+                    addMember(current, value);
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public void skipValue() throws BError {
+        if (event != Event.START_OBJECT && event != Event.START_ARRAY) {
+            return;
+        }
+        int startDepth = depth;
+        while (depth >= startDepth) {
+            next();
+        }
+    }
+
+    private Object newContainer(Event event) {
+        if (event == Event.START_OBJECT) {
+            return new MapValueImpl<>(new BMapType(definedJsonType));
+        }
+        return new ArrayValueImpl(new BArrayType(definedJsonType));
+    }
+
+    private void addMember(Object container, Object member) {
+        if (container instanceof ArrayValue) {
+            ((ArrayValue) container).append(member);
+        } else {
+            ((MapValueImpl<BString, Object>) container).put(fieldName, member);
+        }
+    }
+
+    private Event readValueStart(int ch) throws BError {
+        switch (ch) {
+            case '{':
+                pushContainer(OBJECT);
+                return event = Event.START_OBJECT;
+            case '[':
+                pushContainer(ARRAY);
+                return event = Event.START_ARRAY;
+            case '"':
+                value = StringUtils.fromString(readString());
+                return valueRead(Event.STRING);
+            case EOF:
+                throw error("unexpected end of JSON document");
+            default:
+                return valueRead(readNonStringValue(ch));
+        }
+    }
+
+    private Event valueRead(Event valueEvent) {
+        if (depth == 0) {
+            rootRead = true;
+        }
+        return event = valueEvent;
+    }
+
+    private void pushContainer(byte container) {
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth << 1);
+        }
+        containers[depth++] = container;
+    }
+
+    private Event endContainer(Event endEvent) {
+        depth--;
+        return valueRead(endEvent);
+    }
+
+    private int read() throws BError {
+        if (pos == limit && !fill()) {
+            return EOF;
+        }
+        return buff[pos++] & 0xFF;
+    }
+
+    private boolean fill() throws BError {
+        if (in == null) {
+            return false;
+        }
+        try {
+            lineExtraBytes += extraBytes(lineOffsetInBuffer(), limit, true);
+            consumed += limit;
+            pos = 0;
+            limit = 0;
+            int count = in.read(buff, 0, buff.length);
+            if (count <= 0) {
+                return false;
+            }
+            limit = count;
+            return true;
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        }
+    }
+
+    private int skipWhitespace() throws BError {
+        while (true) {
+            int ch = read();
+            switch (ch) {
+                case '\n':
+                    line++;
+                    lineStart = consumed + pos;
+                    lineExtraBytes = 0;
+                    break;
+                case ' ':
+                case '\t':
+                case '\r':
+                    break;
+                default:
+                    return ch;
+            }
+        }
+    }
+
+    private String readString() throws BError {
+        // Fast path, an ASCII string without escapes within the buffer is created straight from the bytes.
+        int start = pos;
+        while (pos < limit) {
+            byte b = buff[pos];
+            if (b == '"') {
+                pos++;
+                return new String(buff, start, pos - start - 1, StandardCharsets.ISO_8859_1);
+            }
+            if (b == '\\' || b < 0) {
+                break;
+            }
+            pos++;
+        }
+
+        charBuffIndex = 0;
+        for (int i = start; i < pos; i++) {
+            append((char) buff[i]);
+        }
+        while (true) {
+            int ch = read();
+            if (ch == '"') {
+                return new String(charBuff, 0, charBuffIndex);
+            } else if (ch == '\\') {
+                readEscapedCharacter();
+            } else if (ch == EOF) {
+                throw error("unexpected end of JSON document");
+            } else if (ch < 0x80) {
+                append((char) ch);
+            } else {
+                readMultiByteCharacter(ch);
+            }
+        }
+    }
+
+    private void readEscapedCharacter() throws BError {
+        int ch = read();
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                append((char) ch);
+                break;
+            case 'b':
+                append('\b');
+                break;
+            case 'f':
+                append('\f');
+                break;
+            case 'n':
+                append('\n');
+                break;
+            case 'r':
+                append('\r');
+                break;
+            case 't':
+                append('\t');
+                break;
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw expected("hexadecimal value of an unicode character");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                append((char) codeUnit);
+                break;
+            default:
+                throw expected("escaped characters");
+        }
+    }
+
+    private void readMultiByteCharacter(int lead) throws BError {
+        int codePoint;
+        int continuationBytes;
+        if ((lead & 0xE0) == 0xC0) {
+            codePoint = lead & 0x1F;
+            continuationBytes = 1;
+        } else if ((lead & 0xF0) == 0xE0) {
+            codePoint = lead & 0x0F;
+            continuationBytes = 2;
+        } else if ((lead & 0xF8) == 0xF0) {
+            codePoint = lead & 0x07;
+            continuationBytes = 3;
+        } else {
+            // Malformed input is replaced the same way a decoding reader would.
+            append(REPLACEMENT_CHAR);
+            return;
+        }
+        for (int i = 0; i < continuationBytes; i++) {
+            if (pos == limit && !fill()) {
+                throw error("unexpected end of JSON document");
+            }
+            if ((buff[pos] & 0xC0) != 0x80) {
+                append(REPLACEMENT_CHAR);
+                return;
+            }
+            codePoint = (codePoint << 6) | (buff[pos++] & 0x3F);
+        }
+        if (Character.isBmpCodePoint(codePoint)) {
+            append((char) codePoint);
+        } else {
+            append(Character.highSurrogate(codePoint));
+            append(Character.lowSurrogate(codePoint));
+        }
+    }
+
+    private void append(char ch) {
+        if (charBuffIndex == charBuff.length) {
+            charBuff = Arrays.copyOf(charBuff, charBuffIndex << 1);
+        }
+        charBuff[charBuffIndex++] = ch;
+    }
+
+    private Event readNonStringValue(int first) throws BError {
+        charBuffIndex = 0;
+        int ch = first;
+        while (true) {
+            append((char) ch);
+            if (pos == limit && !fill()) {
+                break;
+            }
+            ch = buff[pos] & 0xFF;
+            if (ch == ',' || ch == ']' || ch == '}' || ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r') {
+                break;
+            }
+            pos++;
+        }
+
+        if (parseLong()) {
+            return Event.NUMBER;
+        }
+        String str = new String(charBuff, 0, charBuffIndex);
+        switch (str) {
+            case "true":
+                value = Boolean.TRUE;
+                return Event.BOOLEAN;
+            case "false":
+                value = Boolean.FALSE;
+                return Event.BOOLEAN;
+            case "null":
+                value = null;
+                return Event.NULL;
+            default:
+                value = toNumber(str);
+                return Event.NUMBER;
+        }
+    }
+
+    // Integers are the common case, so they are converted without creating a string when they surely fit in a long.
+    private boolean parseLong() {
+        if (mode != JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING) {
+            return false;
+        }
+        boolean negative = charBuff[0] == '-';
+        int start = negative ? 1 : 0;
+        int length = charBuffIndex - start;
+        if (length == 0 || length > MAX_LONG_DIGITS) {
+            return false;
+        }
+        long result = 0;
+        for (int i = start; i < charBuffIndex; i++) {
+            char ch = charBuff[i];
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+            result = result * 10 + (ch - '0');
+        }
+        if (negative && result == 0) {
+            value = -0.0;
+        } else {
+            value = negative ? -result : result;
+        }
+        return true;
+    }
+
+    private Object toNumber(String str) throws BError {
+        try {
+            switch (mode) {
+                case FROM_JSON_FLOAT_STRING:
+                    return Double.parseDouble(str);
+                case FROM_JSON_DECIMAL_STRING:
+                    return new DecimalValue(str);
+                default:
+                    if ('-' == str.charAt(0) && 0 == Double.parseDouble(str)) {
+                        return Double.parseDouble(str);
+                    }
+                    if (str.indexOf('.') >= 0) {
+                        return new DecimalValue(str);
+                    }
+                    return Long.parseLong(str);
+            }
+        } catch (NumberFormatException ignore) {
+            throw error("unrecognized token '" + str + "'");
+        }
+    }
+
+    private BError expected(String... chars) {
+        return error("expected '" + String.join("' or '", chars) + "'");
+    }
+
+    private BError error(String message) {
+        long column = consumed + pos - lineStart - lineExtraBytes - extraBytes(lineOffsetInBuffer(), pos, false);
+        return ErrorCreator.createError(StringUtils.fromString(message + " at line: " + line + " column: " + column));
+    }
+
+    private int lineOffsetInBuffer() {
+        return (int) Math.max(0, lineStart - consumed);
+    }
+
+    /**
+     * Returns the number of bytes in the given range of the buffer which do not start a UTF-16 character: the
+     * continuation bytes of UTF-8 sequences, less one for each four byte sequence, which is a surrogate pair.
+     *
+     * @param complete whether a four byte sequence which starts in the range but ends after it is complete, as it
+     *                 is when the range is the end of a buffer which is being replaced
+     */
+    private int extraBytes(int from, int to, boolean complete) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int b = buff[i] & 0xFF;
+            if ((b & 0xC0) == 0x80) {
+                count++;
+            } else if ((b & 0xF8) == 0xF0 && (complete || i + 3 < to)) {
+                count--;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads a buffer without an accessible backing array in chunks.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, count);
+            return count;
+        }
+    }
+}
@@ -24,8 +24,6 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
-import java.util.PrimitiveIterator;
-
 import static io.ballerina.runtime.api.PredefinedTypes.TYPE_NULL;
 
 /**
@@ -243,25 +241,32 @@ public class ValueComparisonUtils {
                 TypeChecker.getType(rhsValue));
     }
 
-    private static int codePointCompare(String str1, String str2) {
-        PrimitiveIterator.OfInt iterator1 = str1.codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
-                return 1;
-            }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
-
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
+    /**
+     * Compares two strings in the order of their code points, without decoding them. In UTF-16, surrogates have to
+     * be ordered after the other BMP chars, which are the ones at or above 0xE000, when both differing chars are in
+     * that range.
+     *
+     * @param str1 The string on the left hand side
+     * @param str2 The string on the right hand side
+     * @return 1 if str1 > str2, -1 if str1 < str2, 0 if they are equal
+     */
+    public static int codePointCompare(String str1, String str2) {
+        int length = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = str1.charAt(i);
+            char c2 = str2.charAt(i);
+            if (c1 != c2) {
+                if (c1 >= Character.MIN_SURROGATE && c2 >= Character.MIN_SURROGATE) {
+                    return Integer.compare(toCodePointOrder(c1), toCodePointOrder(c2));
+                }
+                return c1 < c2 ? -1 : 1;
             }
         }
-        if (iterator2.hasNext()) {
-            return -1;
-        }
-        return 0;
+        return Integer.compare(str1.length(), str2.length());
+    }
+
+    private static int toCodePointOrder(char c) {
+        return Character.isSurrogate(c) ? c + 0x2000 : c - 0x800;
     }
 
     private static int compareFloatValues(double lhsValue, double rhsValue, boolean inRelationalExpr,
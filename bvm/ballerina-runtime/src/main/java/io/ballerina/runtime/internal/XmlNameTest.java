@@ -0,0 +1,235 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.api.values.BXmlItem;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.values.XmlValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled name test of an xml navigation step such as {@code x/<a|ns:*>}.
+ * <p>
+ * The expanded names of a step are destructured once, when the step is first evaluated, and the resulting test is
+ * cached against those names. Exact names are interned, as are the names of {@link XmlItem} elements, so matching an
+ * element against an exact name is an identity check.
+ *
+ * @since 2.0.0
+ */
+public final class XmlNameTest {
+
+    private static final String EMPTY = "";
+    private static final String STAR = "*";
+    private static final int MAX_CACHED_TESTS = 1024;
+    private static final String[] NO_NAMES = new String[0];
+
+    private static final Map<NameKey, XmlNameTest> ELEMENT_TESTS = new ConcurrentHashMap<>();
+    private static final Map<NameKey, XmlNameTest> DESCENDANT_TESTS = new ConcurrentHashMap<>();
+
+    private final String[] names;
+    private final String[] namespaces;
+    private final boolean matchesAnyElement;
+
+    private XmlNameTest(String[] names, String[] namespaces, boolean matchesAnyElement) {
+        this.names = names;
+        this.namespaces = namespaces;
+        this.matchesAnyElement = matchesAnyElement;
+    }
+
+    /**
+     * Returns the test of an element filter step. Expected element name format is
+     * {@code {nsUrl}elemName | elemName | {nsUrl}* | *}.
+     *
+     * @param elemNames element names of the step
+     * @return test matching elements with at least one of the given names
+     */
+    public static XmlNameTest forElements(BString[] elemNames) {
+        NameKey key = new NameKey(elemNames);
+        XmlNameTest nameTest = ELEMENT_TESTS.get(key);
+        if (nameTest == null) {
+            nameTest = compileElementTest(elemNames);
+            cache(ELEMENT_TESTS, key, nameTest);
+        }
+        return nameTest;
+    }
+
+    /**
+     * Returns the test of a descendant selection step. Names are matched exactly, with an empty namespace in expanded
+     * form, i.e `{}local`, being the same as `local`.
+     *
+     * @param qnames expanded names of the descendants to select
+     * @return test matching elements with at least one of the given names
+     */
+    public static XmlNameTest forDescendants(BString[] qnames) {
+        NameKey key = new NameKey(qnames);
+        XmlNameTest nameTest = DESCENDANT_TESTS.get(key);
+        if (nameTest == null) {
+            String[] names = new String[qnames.length];
+            for (int i = 0; i < qnames.length; i++) {
+                String qname = qnames[i].getValue();
+                // remove empty namespace in expanded form i.e `{}local => local`
+                if (qname.lastIndexOf('}') == 1) {
+                    qname = qname.substring(2);
+                }
+                names[i] = qname.intern();
+            }
+            nameTest = new XmlNameTest(names, NO_NAMES, false);
+            cache(DESCENDANT_TESTS, key, nameTest);
+        }
+        return nameTest;
+    }
+
+    /**
+     * Returns an uncached test which matches elements with exactly one of the given names.
+     *
+     * @param qnames expanded names of the elements
+     * @return test matching elements with at least one of the given names
+     */
+    public static XmlNameTest forNames(List<String> qnames) {
+        String[] names = new String[qnames.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = qnames.get(i).intern();
+        }
+        return new XmlNameTest(names, NO_NAMES, false);
+    }
+
+    private static XmlNameTest compileElementTest(BString[] elemNames) {
+        List<String> names = new ArrayList<>(elemNames.length);
+        List<String> namespaces = new ArrayList<>(0);
+        for (BString elemName : elemNames) {
+            String fullName = elemName.getValue();
+            int lastIndexOf = fullName.lastIndexOf('}');
+            String ns = lastIndexOf < 0 ? EMPTY : fullName.substring(1, lastIndexOf);
+            String localName = fullName.substring(lastIndexOf + 1);
+            if (localName.equals(STAR)) {
+                // .<*>
+                if (ns.equals(EMPTY)) {
+                    return new XmlNameTest(NO_NAMES, NO_NAMES, true);
+                }
+                // .<ns:*>
+                namespaces.add(ns);
+                continue;
+            }
+            // .<ns:foo> or .<foo>
+            names.add(fullName.intern());
+        }
+        return new XmlNameTest(names.toArray(new String[0]), namespaces.toArray(NO_NAMES), false);
+    }
+
+    private static void cache(Map<NameKey, XmlNameTest> tests, NameKey key, XmlNameTest nameTest) {
+        if (tests.size() < MAX_CACHED_TESTS) {
+            tests.putIfAbsent(key.copy(), nameTest);
+        }
+    }
+
+    /**
+     * Returns the exact names of this test, interned.
+     *
+     * @return exact names
+     */
+    public String[] getNames() {
+        return names;
+    }
+
+    /**
+     * Checks whether this test matches elements only by their exact names, i.e. it has no {@code *} or
+     * {@code ns:*} name.
+     *
+     * @return true if only the names returned by {@link #getNames()} are matched
+     */
+    public boolean isExact() {
+        return !matchesAnyElement && namespaces.length == 0;
+    }
+
+    /**
+     * Checks whether the given element matches this test.
+     *
+     * @param element xml element
+     * @return true if the element has one of the names of this test
+     */
+    public boolean matches(BXml element) {
+        if (matchesAnyElement) {
+            return true;
+        }
+        String elementName = element.getElementName();
+        boolean interned = element instanceof XmlItem;
+        for (String name : names) {
+            if (name == elementName || (!interned && name.equals(elementName))) {
+                return true;
+            }
+        }
+        if (namespaces.length > 0) {
+            String elementNamespace = ((BXmlItem) element).getQName().getNamespaceURI();
+            for (String namespace : namespaces) {
+                if (namespace.equals(elementNamespace)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Selects all the descendants of the given xml matching this test, in document order.
+     *
+     * @param xml xml value
+     * @return sequence of the matching descendants
+     */
+    public BXml selectDescendants(BXml xml) {
+        if (xml instanceof XmlValue) {
+            return ((XmlValue) xml).descendants(this);
+        }
+        return xml.descendants(Arrays.asList(names));
+    }
+
+    /**
+     * Key of a cached test, compared by the values of the names of a step.
+     */
+    private static final class NameKey {
+
+        private final BString[] names;
+        private final int hash;
+
+        NameKey(BString[] names) {
+            this.names = names;
+            this.hash = Arrays.hashCode(names);
+        }
+
+        NameKey copy() {
+            return new NameKey(names.clone());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof NameKey && Arrays.equals(names, ((NameKey) o).names);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
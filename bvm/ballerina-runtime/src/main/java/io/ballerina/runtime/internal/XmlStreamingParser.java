@@ -0,0 +1,243 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Reads the elements at a given path of an XML document one at a time.
+ * <p>
+ * Only the element being returned is built as an xml value. The rest of the document is skipped at the
+ * {@code XMLStreamReader} level, so the memory used does not depend on the size of the document. The namespace
+ * declarations of the ancestors of a returned element are declared on it, so that it has the same names as in the
+ * document.
+ *
+ * @since 2.0.0
+ */
+public class XmlStreamingParser implements Closeable {
+
+    /**
+     * Path step that matches an element of any name.
+     */
+    public static final String ANY_NAME = "*";
+
+    // The content production is parsed inside a wrapping root element, as XmlTreeBuilder does not parse fragments.
+    private static final String ROOT = "root";
+
+    private final Reader reader;
+    // Expanded names of the path steps, where null matches any element
+    private final QName[] path;
+    private XMLStreamReader xmlStreamReader;
+    // Depth of the current element, and the number of its outermost ancestors that match the leading path steps
+    private int depth = 0;
+    private int matchedDepth = 0;
+    // Namespace declarations in scope of each open element, by prefix, which are shared until an element declares one
+    private final Deque<Map<String, String>> namespaceScopes = new ArrayDeque<>();
+
+    /**
+     * Creates a parser for the elements at the given path.
+     *
+     * @param reader reader of the XML document
+     * @param path   expanded names of the elements from the document element down to the elements to return, in
+     *               the form {@code {namespace-uri}local-name} or {@code local-name} for elements without a
+     *               namespace, where {@link #ANY_NAME} matches any element
+     */
+    public XmlStreamingParser(Reader reader, String[] path) {
+        if (path.length == 0) {
+            throw ErrorCreator.createError(StringUtils.fromString("failed to parse xml: element path is empty"));
+        }
+        this.reader = reader;
+        this.path = new QName[path.length];
+        for (int i = 0; i < path.length; i++) {
+            this.path[i] = ANY_NAME.equals(path[i]) ? null : QName.valueOf(path[i]);
+        }
+        this.namespaceScopes.push(Collections.emptyMap());
+    }
+
+    /**
+     * Creates a parser for the elements at the given path of a string in XML format, which is parsed using the
+     * content production. The content is read through a reader that adds the wrapping root element around it.
+     *
+     * @param content reader of the XML content
+     * @param path    expanded names of the elements from a top-level element down to the elements to return, in
+     *                the form {@code {namespace-uri}local-name} or {@code local-name} for elements without a
+     *                namespace, where {@link #ANY_NAME} matches any element
+     * @return the parser
+     */
+    public static XmlStreamingParser forContent(Reader content, String[] path) {
+        if (path.length == 0) {
+            throw ErrorCreator.createError(StringUtils.fromString("failed to parse xml: element path is empty"));
+        }
+        String[] rootedPath = new String[path.length + 1];
+        rootedPath[0] = ROOT;
+        System.arraycopy(path, 0, rootedPath, 1, path.length);
+        return new XmlStreamingParser(new RootedContentReader(content), rootedPath);
+    }
+
+    /**
+     * Returns the next element at the path.
+     *
+     * @return the next element, or null if the end of the document is reached
+     * @throws BError if the document is not well-formed
+     */
+    public BXml next() throws BError {
+        try {
+            if (xmlStreamReader == null) {
+                xmlStreamReader = XmlTreeBuilder.createXMLStreamReader(reader);
+            }
+            while (xmlStreamReader.hasNext()) {
+                int next = xmlStreamReader.next();
+                if (next == START_ELEMENT) {
+                    if (matchedDepth == depth && matches(path[depth], xmlStreamReader.getName())) {
+                        if (depth == path.length - 1) {
+                            // Consumes the events up to the matching end element, so the depth does not change.
+                            return new XmlTreeBuilder(xmlStreamReader, namespaceScopes.peek()).parseElement();
+                        }
+                        matchedDepth++;
+                    }
+                    depth++;
+                    namespaceScopes.push(declareNamespaces(namespaceScopes.peek()));
+                } else if (next == END_ELEMENT) {
+                    depth--;
+                    namespaceScopes.pop();
+                    if (matchedDepth > depth) {
+                        matchedDepth = depth;
+                    }
+                }
+            }
+            return null;
+        } catch (BError e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ErrorCreator.createError(StringUtils.fromString("failed to parse xml: " + e.getMessage()));
+        }
+    }
+
+    private static boolean matches(QName step, QName name) {
+        // QName equality compares the namespace URI and the local name, but not the prefix.
+        return step == null || step.equals(name);
+    }
+
+    private Map<String, String> declareNamespaces(Map<String, String> parentScope) {
+        int namespaceCount = xmlStreamReader.getNamespaceCount();
+        if (namespaceCount == 0) {
+            return parentScope;
+        }
+        Map<String, String> scope = new HashMap<>(parentScope);
+        for (int i = 0; i < namespaceCount; i++) {
+            String prefix = xmlStreamReader.getNamespacePrefix(i);
+            if (prefix == null) {
+                prefix = XMLConstants.DEFAULT_NS_PREFIX;
+            }
+            String uri = xmlStreamReader.getNamespaceURI(i);
+            if (uri == null || uri.isEmpty()) {
+                // Undeclares the default namespace.
+                scope.remove(prefix);
+            } else {
+                scope.put(prefix, uri);
+            }
+        }
+        return scope;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (xmlStreamReader != null) {
+                xmlStreamReader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the start tag of the root element, then the content and then the end tag of the root element.
+     */
+    private static class RootedContentReader extends Reader {
+
+        private static final String START_TAG = "<" + ROOT + ">";
+        private static final String END_TAG = "</" + ROOT + ">";
+
+        private final Reader content;
+        // Position in the start tag, in the content (equal to START_TAG.length()) or in the end tag
+        private int position = 0;
+        private boolean contentRead = false;
+
+        RootedContentReader(Reader content) {
+            this.content = content;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position < START_TAG.length()) {
+                return readTag(START_TAG, cbuf, off, len, 0);
+            }
+            if (!contentRead) {
+                int read = content.read(cbuf, off, len);
+                if (read != -1) {
+                    return read;
+                }
+                contentRead = true;
+            }
+            int tagPosition = position - START_TAG.length();
+            if (tagPosition == END_TAG.length()) {
+                return -1;
+            }
+            return readTag(END_TAG, cbuf, off, len, START_TAG.length());
+        }
+
+        private int readTag(String tag, char[] cbuf, int off, int len, int tagStart) {
+            int tagPosition = position - tagStart;
+            int read = Math.min(len, tag.length() - tagPosition);
+            tag.getChars(tagPosition, tagPosition + read, cbuf, off);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            content.close();
+        }
+    }
+}
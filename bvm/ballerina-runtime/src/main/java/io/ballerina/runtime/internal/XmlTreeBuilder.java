@@ -73,12 +73,36 @@ public class XmlTreeBuilder {
     private Map<String, String> namespaces; // xml ns declarations from Bal source [xmlns "http://ns.com" as ns]
     private Deque<BXmlSequence> seqDeque;
     private Deque<List<BXml>> siblingDeque;
+    // Namespace declarations of the ancestors of the element being built, which are declared on it
+    private Map<String, String> inheritedNamespaces;
 
     public XmlTreeBuilder(String str) {
         this(new StringReader(str));
     }
 
     public XmlTreeBuilder(Reader stringReader) {
+        this();
+        try {
+            xmlStreamReader = xmlInputFactory.createXMLStreamReader(stringReader);
+        } catch (XMLStreamException e) {
+            handleXMLStreamException(e);
+        }
+    }
+
+    /**
+     * Creates a builder for the element at which the given reader is positioned. See {@link #parseElement()}.
+     *
+     * @param xmlStreamReader     reader positioned at a {@code START_ELEMENT} event
+     * @param inheritedNamespaces namespace declarations in scope of the parent of the element, by prefix
+     */
+    XmlTreeBuilder(XMLStreamReader xmlStreamReader, Map<String, String> inheritedNamespaces) {
+        this();
+        this.xmlStreamReader = xmlStreamReader;
+        this.namespaces = inheritedNamespaces;
+        this.inheritedNamespaces = inheritedNamespaces;
+    }
+
+    private XmlTreeBuilder() {
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
@@ -86,12 +110,10 @@ public class XmlTreeBuilder {
         ArrayList<BXml> siblings = new ArrayList<>();
         siblingDeque.push(siblings);
         seqDeque.push(new XmlSequence(siblings));
+    }
 
-        try {
-            xmlStreamReader = xmlInputFactory.createXMLStreamReader(stringReader);
-        } catch (XMLStreamException e) {
-            handleXMLStreamException(e);
-        }
+    static XMLStreamReader createXMLStreamReader(Reader reader) throws XMLStreamException {
+        return xmlInputFactory.createXMLStreamReader(reader);
     }
 
     private void handleXMLStreamException(Exception e) {
@@ -103,31 +125,10 @@ public class XmlTreeBuilder {
         try {
             while (xmlStreamReader.hasNext()) {
                 int next = xmlStreamReader.next();
-                switch (next) {
-                    case START_ELEMENT:
-                        readElement(xmlStreamReader);
-                        break;
-                    case END_ELEMENT:
-                        endElement();
-                        break;
-                    case PROCESSING_INSTRUCTION:
-                        readPI(xmlStreamReader);
-                        break;
-                    case COMMENT:
-                        readComment(xmlStreamReader);
-                        break;
-                    case CDATA:
-                    case CHARACTERS:
-                        readText(xmlStreamReader);
-                        break;
-                    case END_DOCUMENT:
-                        return buildDocument();
-                    case DTD:
-                        handleDTD(xmlStreamReader);
-                        break;
-                    default:
-                        assert false;
+                if (next == END_DOCUMENT) {
+                    return buildDocument();
                 }
+                readEvent(next);
             }
         } catch (Exception e) {
             handleXMLStreamException(e);
@@ -136,6 +137,58 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Builds the element at which the reader is positioned, reading events up to and including the matching
+     * {@code END_ELEMENT}. The reader can be used to read the rest of the document afterwards.
+     *
+     * @return the element
+     */
+    BXml parseElement() {
+        try {
+            int depth = 0;
+            int next = xmlStreamReader.getEventType();
+            while (true) {
+                readEvent(next);
+                if (next == START_ELEMENT) {
+                    depth++;
+                } else if (next == END_ELEMENT && --depth == 0) {
+                    break;
+                }
+                next = xmlStreamReader.next();
+            }
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        }
+
+        return this.siblingDeque.pop().get(0);
+    }
+
+    private void readEvent(int next) {
+        switch (next) {
+            case START_ELEMENT:
+                readElement(xmlStreamReader);
+                break;
+            case END_ELEMENT:
+                endElement();
+                break;
+            case PROCESSING_INSTRUCTION:
+                readPI(xmlStreamReader);
+                break;
+            case COMMENT:
+                readComment(xmlStreamReader);
+                break;
+            case CDATA:
+            case CHARACTERS:
+                readText(xmlStreamReader);
+                break;
+            case DTD:
+                handleDTD(xmlStreamReader);
+                break;
+            default:
+                assert false;
+        }
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -208,6 +261,16 @@ public class XmlTreeBuilder {
             attributesMap.put(xmlnsPrefix, StringUtils.fromString(namespaceURI));
         }
 
+        if (inheritedNamespaces != null) {
+            // Declared before the namespaces of the element itself, which override them.
+            for (Map.Entry<String, String> namespace : inheritedNamespaces.entrySet()) {
+                String prefix = namespace.getKey().isEmpty() ? "xmlns" : namespace.getKey();
+                attributesMap.put(StringUtils.fromString(XmlItem.XMLNS_NS_URI_PREFIX + prefix),
+                                  StringUtils.fromString(namespace.getValue()));
+            }
+            inheritedNamespaces = null;
+        }
+
         int namespaceCount = xmlStreamReader.getNamespaceCount();
         for (int i = 0; i < namespaceCount; i++) {
             String uri = xmlStreamReader.getNamespaceURI(i);
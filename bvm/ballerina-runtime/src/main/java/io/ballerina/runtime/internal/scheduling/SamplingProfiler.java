@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.internal.values.ErrorValue;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Samples the stacks of the threads executing strands and attributes the samples to Ballerina functions and source
+ * lines. Created only when the BALLERINA_PROFILER_INTERVAL system variable is set to a sampling interval in
+ * milliseconds, otherwise the {@link Scheduler} skips all the profiling.
+ * <p>
+ * A single daemon thread takes the stacks of all the threads running strand groups once per interval, in a single
+ * VM operation and up to a bounded depth, so the overhead is bounded by the interval rather than by the work done by
+ * strands. Deeper stacks lose their outermost frames. The JVM frames are filtered the same way as the
+ * stack trace of an error, so generated classes and methods do not appear in the profile. The samples are available
+ * in the collapsed stack format used by flame graph tools through JMX, and are written to the file given in the
+ * BALLERINA_PROFILER_OUTPUT system variable when the program exits.
+ *
+ * @since 2.0.0
+ */
+public class SamplingProfiler implements SamplingProfilerMXBean {
+
+    public static final String OBJECT_NAME = "io.ballerina.runtime:type=Profiler";
+    private static final String SAMPLER_THREAD_NAME = "ballerina-profiler";
+    static final String TRUNCATED_STACKS = "[truncated]";
+    static final int MAX_STACKS = 16384;
+    // Innermost JVM frames taken per sample
+    static final int MAX_STACK_DEPTH = 512;
+    private static final PrintStream err = System.err;
+
+    private static final long INTERVAL_MILLIS = getInterval();
+    private static volatile SamplingProfiler instance;
+
+    private final long intervalMillis;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final Set<Thread> runningThreads = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicLong> stacks = new ConcurrentHashMap<>();
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicLong unattributedSamples = new AtomicLong();
+
+    SamplingProfiler(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Returns the profiler shared by all the schedulers, starting it on first use.
+     *
+     * @return the profiler or null if profiling is not enabled
+     */
+    static SamplingProfiler getInstance() {
+        if (INTERVAL_MILLIS <= 0) {
+            return null;
+        }
+        SamplingProfiler profiler = instance;
+        if (profiler == null) {
+            synchronized (SamplingProfiler.class) {
+                profiler = instance;
+                if (profiler == null) {
+                    profiler = new SamplingProfiler(INTERVAL_MILLIS);
+                    profiler.start();
+                    instance = profiler;
+                }
+            }
+        }
+        return profiler;
+    }
+
+    private void start() {
+        Thread sampler = new Thread(this::sample, SAMPLER_THREAD_NAME);
+        sampler.setDaemon(true);
+        sampler.start();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (Exception e) {
+            // Log and continue without JMX
+            err.println("ballerina: error occurred while registering profiler MBean: " + e.getMessage());
+        }
+        String output = System.getenv(RuntimeConstants.BALLERINA_PROFILER_OUTPUT_ENV_VAR);
+        if (output != null && !output.isEmpty()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> writeOutput(output)));
+        }
+    }
+
+    void threadStarted(Thread thread) {
+        runningThreads.add(thread);
+    }
+
+    void threadStopped(Thread thread) {
+        runningThreads.remove(thread);
+    }
+
+    private void sample() {
+        while (true) {
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            sampleThreads();
+        }
+    }
+
+    void sampleThreads() {
+        List<Thread> threads = new ArrayList<>(runningThreads);
+        if (threads.isEmpty()) {
+            return;
+        }
+        long[] threadIds = new long[threads.size()];
+        for (int i = 0; i < threadIds.length; i++) {
+            threadIds[i] = threads.get(i).getId();
+        }
+        for (ThreadInfo threadInfo : threadMXBean.getThreadInfo(threadIds, MAX_STACK_DEPTH)) {
+            // Null if the thread has terminated
+            if (threadInfo != null) {
+                recordSample(threadInfo.getStackTrace());
+            }
+        }
+    }
+
+    void recordSample(StackTraceElement[] stackTrace) {
+        StackTraceElement[] frames = ErrorValue.filterStackTrace(stackTrace);
+        samples.incrementAndGet();
+        if (frames.length == 0) {
+            // Runtime or Java code that was not called from a Ballerina function
+            unattributedSamples.incrementAndGet();
+            return;
+        }
+        String stack = collapse(frames);
+        AtomicLong count = stacks.get(stack);
+        if (count == null) {
+            count = stacks.computeIfAbsent(stacks.size() < MAX_STACKS ? stack : TRUNCATED_STACKS,
+                    key -> new AtomicLong());
+        }
+        count.incrementAndGet();
+    }
+
+    /**
+     * Joins Ballerina stack frames, outermost first, with the separator of the collapsed stack format.
+     */
+    static String collapse(StackTraceElement[] frames) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = frames.length - 1; i >= 0; i--) {
+            if (i != frames.length - 1) {
+                sb.append(';');
+            }
+            sb.append(ErrorValue.getPrintableStackElement(frames[i]).replace(';', '_').replace(' ', '_'));
+        }
+        return sb.toString();
+    }
+
+    private void writeOutput(String output) {
+        try {
+            dumpCollapsedStacks(output);
+        } catch (IOException e) {
+            err.println("ballerina: error occurred while writing profile to '" + output + "': " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    @Override
+    public long getSampleCount() {
+        return samples.get();
+    }
+
+    @Override
+    public long getUnattributedSampleCount() {
+        return unattributedSamples.get();
+    }
+
+    @Override
+    public int getStackCount() {
+        return stacks.size();
+    }
+
+    @Override
+    public List<String> getCollapsedStacks() {
+        List<String> lines = new ArrayList<>(stacks.size());
+        for (Map.Entry<String, AtomicLong> entry : stacks.entrySet()) {
+            lines.add(entry.getKey() + " " + entry.getValue().get());
+        }
+        return lines;
+    }
+
+    @Override
+    public void dumpCollapsedStacks(String filePath) throws IOException {
+        Path path = Paths.get(filePath);
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (String line : getCollapsedStacks()) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        stacks.clear();
+        samples.set(0);
+        unattributedSamples.set(0);
+    }
+
+    private static long getInterval() {
+        String intervalConf = System.getenv(RuntimeConstants.BALLERINA_PROFILER_INTERVAL_ENV_VAR);
+        if (intervalConf == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(intervalConf.trim());
+        } catch (NumberFormatException e) {
+            // Log and continue without profiling
+            err.println("ballerina: invalid value '" + intervalConf + "' for system variable:" +
+                    RuntimeConstants.BALLERINA_PROFILER_INTERVAL_ENV_VAR + ", expected the sampling interval in " +
+                    "milliseconds");
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * JMX view of the strand {@link SamplingProfiler}, registered as {@value SamplingProfiler#OBJECT_NAME}.
+ *
+ * @since 2.0.0
+ */
+public interface SamplingProfilerMXBean {
+
+    long getIntervalMillis();
+
+    long getSampleCount();
+
+    /**
+     * Returns the number of samples taken while no Ballerina function was on the stack.
+     *
+     * @return number of samples without Ballerina frames
+     */
+    long getUnattributedSampleCount();
+
+    int getStackCount();
+
+    /**
+     * Lists the sampled stacks in the collapsed stack format, one line per distinct stack with the Ballerina frames,
+     * outermost first, separated by ';' followed by the number of samples.
+     *
+     * @return collapsed stacks
+     */
+    List<String> getCollapsedStacks();
+
+    /**
+     * Writes the sampled stacks in the collapsed stack format to the given file, to be rendered as a flame graph.
+     *
+     * @param filePath path of the file to write
+     * @throws IOException if the file could not be written
+     */
+    void dumpCollapsedStacks(String filePath) throws IOException;
+
+    /**
+     * Discards the samples taken so far.
+     */
+    void reset();
+}
@@ -35,13 +35,12 @@ import java.io.PrintStream;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -64,21 +63,56 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
     private final Strand previousStrand;
 
     private AtomicInteger totalStrands = new AtomicInteger();
 
+    /**
+     * Number of times a strand group was added back to the runnable list after its first run.
+     */
+    private final LongAdder reEnqueuedGroups = new LongAdder();
+
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_POLICY system variable to either `global` or
+     * `work-stealing`. Default is `global`.
+     */
+    private static String schedulerPolicyConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR);
+
+    /**
+     * This can be changed by setting the BALLERINA_STRAND_CARRIER system variable to either `platform` or `virtual`.
+     * Default is `platform`. The `virtual` carrier requires JDK 21 or later.
+     */
+    private static String strandCarrierConf = System.getenv(RuntimeConstants.BALLERINA_STRAND_CARRIER_ENV_VAR);
+
+    private static ThreadFactory virtualThreadFactory = getVirtualThreadFactory();
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
      */
     private final int numThreads;
 
+    /**
+     * Creates a thread per strand group run when strands are carried by virtual threads. Null when strands are
+     * executed by a fixed pool of platform threads.
+     */
+    private final ThreadFactory carrierFactory;
+
+    /**
+     * Null unless scheduler telemetry is enabled.
+     */
+    private final SchedulerTelemetry telemetry;
+
+    /**
+     * Null unless the sampling profiler is enabled.
+     */
+    private final SamplingProfiler profiler;
+
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
     private Semaphore mainBlockSem;
@@ -90,10 +124,28 @@ public class Scheduler {
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        // Single threaded schedulers run strands on the calling thread, hence always use platform threads.
+        this(numThreads, immortal, numThreads > 1 ? virtualThreadFactory : null);
+    }
+
+    /**
+     * Creates a scheduler that runs each runnable strand group on a new thread of the given factory, or on a fixed
+     * pool of platform threads if it is null.
+     */
+    Scheduler(int numThreads, boolean immortal, ThreadFactory carrierFactory) {
         this.numThreads = numThreads;
         this.immortal = immortal;
         this.listenerRegistry = new ListenerRegistry();
         this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
+        this.runnableList = createRunQueue(numThreads);
+        this.carrierFactory = carrierFactory;
+        if (SchedulerTelemetry.ENABLED) {
+            this.telemetry = new SchedulerTelemetry(this, carrierFactory != null);
+            SchedulerTelemetry.activate(telemetry);
+        } else {
+            this.telemetry = null;
+        }
+        this.profiler = SamplingProfiler.getInstance();
     }
 
     public static Strand getStrand() {
@@ -155,7 +207,7 @@ public class Scheduler {
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+            addToRunnableList(parent.strandGroup);
         }
         return future;
     }
@@ -177,7 +229,7 @@ public class Scheduler {
         }
         future.strand.strandGroup = group;
         if (group.scheduled.compareAndSet(false, true)) {
-            runnableList.add(group);
+            addToRunnableList(group);
         }
         return future;
     }
@@ -240,7 +292,7 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunnableList(group);
         return future;
     }
 
@@ -266,11 +318,16 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunnableList(group);
         return future;
     }
 
     public void start() {
+        if (carrierFactory != null) {
+            // The calling thread dispatches each runnable group to a new virtual thread.
+            this.dispatchSafely();
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
             new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
@@ -299,7 +356,6 @@ public class Scheduler {
      */
     private void run() {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -312,34 +368,107 @@ public class Scheduler {
                 break;
             }
 
-            while (!group.items.empty()) {
-                Object result = null;
-                Throwable panic = null;
+            runProfiledGroup(group);
+        }
+    }
 
-                item = group.get();
+    /**
+     * Defensive programming to prevent unforeseen errors.
+     */
+    private void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+    /**
+     * Hands over tasks that are submitted to the Scheduler to virtual threads. A group is in the runnable list at
+     * most once, hence items of the same group are never executed in parallel.
+     */
+    private void dispatch() {
+        while (true) {
+            ItemGroup group;
+            try {
+                group = runnableList.take();
+            } catch (InterruptedException ignored) {
+                continue;
+            }
 
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = previousStrand;
+            if (group == POISON_PILL) {
+                break;
+            }
+
+            carrierFactory.newThread(() -> runGroupSafely(group)).start();
+        }
+    }
+
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runProfiledGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
+
+    /**
+     * Executes the items of the given group, making the current thread visible to the profiler meanwhile.
+     */
+    private void runProfiledGroup(ItemGroup group) {
+        if (profiler == null) {
+            runGroup(group);
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        profiler.threadStarted(thread);
+        try {
+            runGroup(group);
+        } finally {
+            profiler.threadStopped(thread);
+        }
+    }
+
+    /**
+     * Executes the items of the given group until it has no runnable items left.
+     */
+    private void runGroup(ItemGroup group) {
+        while (true) {
+            SchedulerItem item = group.get();
+            if (item == null) {
+                group.scheduled.set(false);
+                // An item added before the flag was cleared would not have re-added the group to the runnable list.
+                // Continue with it unless another thread has already scheduled the group.
+                if (group.isEmpty() || !group.scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+
+            Object result = null;
+            Throwable panic = null;
+            long startTime = telemetry != null ? System.nanoTime() : 0;
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                if (group.items.empty()) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
+            } finally {
+                strandHolder.get().strand = previousStrand;
+            }
+            postProcess(item, result, panic);
+            if (telemetry != null) {
+                telemetry.recordBusyTime(System.nanoTime() - startTime);
             }
         }
     }
@@ -358,6 +487,9 @@ public class Scheduler {
                     break;
                 }
                 item.parked = true;
+                if (telemetry != null) {
+                    telemetry.strandParked(item);
+                }
                 item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
@@ -394,19 +526,21 @@ public class Scheduler {
 
                 justCompleted.setState(State.DONE);
 
-                for (WaitContext ctx : justCompleted.waitingContexts) {
-                    ctx.lock();
-                    if (!ctx.completed) {
-                        if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
-                            if (ctx.intermediate) {
-                                ctx.runnable = true;
-                            } else {
-                                ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
+                if (justCompleted.waitingContexts != null) {
+                    for (WaitContext ctx : justCompleted.waitingContexts) {
+                        ctx.lock();
+                        if (!ctx.completed) {
+                            if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
+                                if (ctx.intermediate) {
+                                    ctx.runnable = true;
+                                } else {
+                                    ctx.completed = true;
+                                    reschedule(ctx.schedulerItem);
+                                }
                             }
                         }
+                        ctx.unLock();
                     }
-                    ctx.unLock();
                 }
 
                 cleanUp(justCompleted);
@@ -448,6 +582,9 @@ public class Scheduler {
         strand.lock();
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
+            if (telemetry != null) {
+                telemetry.strandUnparked(strand.schedulerItem);
+            }
             reschedule(strand.schedulerItem);
         } else {
             // item not returned to scheduler, yet.
@@ -458,6 +595,9 @@ public class Scheduler {
     }
 
     private void cleanUp(Strand justCompleted) {
+        if (telemetry != null) {
+            telemetry.strandCompleted(justCompleted);
+        }
         justCompleted.scheduler = null;
         justCompleted.frames = null;
         justCompleted.waitingContexts = null;
@@ -466,6 +606,9 @@ public class Scheduler {
 
     private void notifyChannels(SchedulerItem item, Throwable panic) {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
+        if (channels == null) {
+            return;
+        }
 
         for (ChannelDetails details : channels) {
             WorkerDataChannel wdChannel;
@@ -495,7 +638,7 @@ public class Scheduler {
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
             if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+                addToRunnableList(group);
             }
         }
     }
@@ -514,13 +657,42 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        if (telemetry != null) {
+            telemetry.strandCreated(newStrand);
+        }
+        // Frames are allocated by the strand when it first yields.
+        return new FutureValue(newStrand, callback, constraint);
+    }
+
+    private void addToRunnableList(ItemGroup group) {
+        // Only the thread that set the scheduled flag gets here, hence the count is not updated concurrently.
+        if (group.enqueueCount++ > 0) {
+            reEnqueuedGroups.increment();
+        }
+        runnableList.add(group);
+    }
+
+    /**
+     * Returns the number of times strand groups were added back to the runnable list after they had already been
+     * scheduled once, i.e. after all of their strands were blocked or completed.
+     *
+     * @return re-enqueue count of all the strand groups of this scheduler
+     */
+    public long getReEnqueuedGroupCount() {
+        return reEnqueuedGroups.sum();
+    }
+
+    public int getTotalStrands() {
+        return totalStrands.get();
+    }
+
+    public int getRunQueueDepth() {
+        return runnableList.size();
     }
 
     public void poison() {
-        for (int i = 0; i < numThreads; i++) {
+        int consumers = carrierFactory != null ? 1 : numThreads;
+        for (int i = 0; i < consumers; i++) {
             runnableList.add(POISON_PILL);
         }
     }
@@ -553,6 +725,52 @@ public class Scheduler {
         return poolSize;
     }
 
+    private static RunQueue createRunQueue(int numThreads) {
+        if (schedulerPolicyConf == null ||
+                RuntimeConstants.SCHEDULER_POLICY_GLOBAL.equalsIgnoreCase(schedulerPolicyConf)) {
+            return new GlobalRunQueue();
+        }
+        if (RuntimeConstants.SCHEDULER_POLICY_WORK_STEALING.equalsIgnoreCase(schedulerPolicyConf)) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        // Log and continue with default
+        err.println("ballerina: invalid value '" + schedulerPolicyConf + "' for system variable:" +
+                RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR + ", expected '" +
+                RuntimeConstants.SCHEDULER_POLICY_GLOBAL + "' or '" +
+                RuntimeConstants.SCHEDULER_POLICY_WORK_STEALING + "'");
+        schedulerPolicyConf = null;
+        return new GlobalRunQueue();
+    }
+
+    private static ThreadFactory getVirtualThreadFactory() {
+        if (strandCarrierConf == null ||
+                RuntimeConstants.STRAND_CARRIER_PLATFORM.equalsIgnoreCase(strandCarrierConf)) {
+            return null;
+        }
+        if (!RuntimeConstants.STRAND_CARRIER_VIRTUAL.equalsIgnoreCase(strandCarrierConf)) {
+            // Log and continue with default
+            err.println("ballerina: invalid value '" + strandCarrierConf + "' for system variable:" +
+                    RuntimeConstants.BALLERINA_STRAND_CARRIER_ENV_VAR + ", expected '" +
+                    RuntimeConstants.STRAND_CARRIER_PLATFORM + "' or '" +
+                    RuntimeConstants.STRAND_CARRIER_VIRTUAL + "'");
+            return null;
+        }
+        try {
+            // Thread.ofVirtual().name("jbal-strand-vexec-", 0).factory(), looked up reflectively since the runtime
+            // is compiled against an older JDK.
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class)
+                    .invoke(builder, "jbal-strand-vexec-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (Throwable t) {
+            // Log and continue with default
+            err.println("ballerina: virtual thread strand carriers are not supported by the Java runtime " +
+                    System.getProperty("java.version") + ", continuing with platform threads");
+            return null;
+        }
+    }
+
     /**
      * The registry for runtime dynamic listeners.
      */
@@ -590,6 +808,17 @@ class SchedulerItem {
     final FutureValue future;
     boolean parked;
 
+    /**
+     * Next item in the {@link ItemGroup} this item is added to.
+     */
+    SchedulerItem nextInGroup;
+
+    /**
+     * Parking details, only recorded when scheduler telemetry is enabled.
+     */
+    long parkedAt;
+    boolean parkedOnExtern;
+
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
         this.function = function;
@@ -630,35 +859,68 @@ class SchedulerItem {
 
 /**
  * Represents a group of {@link SchedulerItem} that should run on same thread.
+ * <p>
+ * Items are kept in a lock-free stack linked through {@link SchedulerItem#nextInGroup}. Any thread may add items, but
+ * only the thread that owns the {@link #scheduled} flag takes them.
  */
 class ItemGroup {
 
     /**
-     * Keep the list of items that should run on same thread.
+     * Top of the stack of items that should run on same thread.
      * Using a stack to get advantage of the locality.
      */
-    Stack<SchedulerItem> items = new Stack<>();
+    private final AtomicReference<SchedulerItem> head = new AtomicReference<>();
 
     /**
      * Indicates this item is already in runnable list/executing or not.
      */
     AtomicBoolean scheduled = new AtomicBoolean(false);
 
+    /**
+     * Number of times this group was added to the runnable list. Updated only by the thread that set the
+     * {@link #scheduled} flag.
+     */
+    int enqueueCount;
+
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
-        items.push(item);
+        add(item);
     }
 
     private ItemGroup() {
-        items = null;
     }
 
     public void add(SchedulerItem item) {
-        items.push(item);
+        SchedulerItem top;
+        do {
+            top = head.get();
+            item.nextInGroup = top;
+        } while (!head.compareAndSet(top, item));
     }
 
+    /**
+     * Removes the most recently added item. Should only be called by the thread that owns the group.
+     *
+     * @return the most recently added item or null if the group is empty
+     */
     public SchedulerItem get() {
-        return items.pop();
+        SchedulerItem top;
+        do {
+            top = head.get();
+            if (top == null) {
+                return null;
+            }
+        } while (!head.compareAndSet(top, top.nextInGroup));
+        top.nextInGroup = null;
+        return top;
+    }
+
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    public int getReEnqueueCount() {
+        return Math.max(0, enqueueCount - 1);
     }
 }
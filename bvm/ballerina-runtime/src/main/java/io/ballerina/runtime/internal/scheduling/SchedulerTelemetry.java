@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Collects strand and scheduler measurements. Created only when the BALLERINA_SCHEDULER_TELEMETRY system variable is
+ * set to `true`, otherwise the {@link Scheduler} skips all the measurements.
+ * <p>
+ * The measurements are exposed through JMX and, once metrics are enabled, through the default
+ * {@link MetricRegistry}.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerTelemetry implements SchedulerTelemetryMXBean {
+
+    public static final String OBJECT_NAME = "io.ballerina.runtime:type=Scheduler";
+    private static final String VIRTUAL_CARRIERS = "virtual-carriers";
+    private static final PrintStream err = System.err;
+
+    static final boolean ENABLED =
+            Boolean.parseBoolean(System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_TELEMETRY_ENV_VAR));
+
+    /**
+     * Telemetry of the most recently created scheduler, which is the one exported through JMX and metrics.
+     */
+    private static volatile SchedulerTelemetry active;
+
+    private final Scheduler scheduler;
+    private final boolean virtualCarriers;
+    private final Map<Integer, Strand> liveStrands = new ConcurrentHashMap<>();
+    private final AtomicInteger parkedStrands = new AtomicInteger();
+    private final AtomicInteger blockedExterns = new AtomicInteger();
+    private final LongAdder parkCount = new LongAdder();
+    private final LongAdder totalParkTime = new LongAdder();
+    private final AtomicLong maxParkTime = new AtomicLong();
+    private final Queue<ThreadBusyTime> threadBusyTimes = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<ThreadBusyTime> currentThreadBusyTime = ThreadLocal.withInitial(this::newBusyTime);
+    private final ThreadBusyTime virtualCarrierBusyTime = new ThreadBusyTime(VIRTUAL_CARRIERS);
+    private volatile Gauge parkTimeGauge;
+
+    SchedulerTelemetry(Scheduler scheduler, boolean virtualCarriers) {
+        this.scheduler = scheduler;
+        this.virtualCarriers = virtualCarriers;
+        if (virtualCarriers) {
+            threadBusyTimes.add(virtualCarrierBusyTime);
+        }
+    }
+
+    /**
+     * Makes the given telemetry the one exported through JMX.
+     */
+    static void activate(SchedulerTelemetry telemetry) {
+        active = telemetry;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(telemetry, name);
+        } catch (Exception e) {
+            // Log and continue without JMX
+            err.println("ballerina: error occurred while registering scheduler telemetry MBean: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Registers the scheduler measurements in the given registry, if scheduler telemetry is enabled.
+     *
+     * @param registry the metric registry to publish measurements to
+     */
+    public static void registerMetrics(MetricRegistry registry) {
+        SchedulerTelemetry telemetry = active;
+        if (telemetry == null) {
+            return;
+        }
+        telemetry.registerPolledGauge(registry, "scheduler_strands", "Number of strands that are not completed",
+                SchedulerTelemetry::getTotalStrands);
+        telemetry.registerPolledGauge(registry, "scheduler_run_queue_depth",
+                "Number of strand groups waiting for a thread", SchedulerTelemetry::getRunQueueDepth);
+        telemetry.registerPolledGauge(registry, "scheduler_parked_strands",
+                "Number of strands parked after blocking", SchedulerTelemetry::getParkedStrands);
+        telemetry.registerPolledGauge(registry, "scheduler_blocked_externs",
+                "Number of strands parked on an external function", SchedulerTelemetry::getBlockedExterns);
+        telemetry.registerPolledGauge(registry, "scheduler_reenqueued_groups_total",
+                "Number of times strand groups were scheduled again", SchedulerTelemetry::getReEnqueuedGroups);
+        telemetry.registerPolledGauge(registry, "scheduler_busy_time_nanoseconds_total",
+                "Time scheduler threads spent executing strands", SchedulerTelemetry::getBusyTimeNanos);
+        telemetry.parkTimeGauge = registry.gauge(new MetricId("scheduler_strand_park_time_seconds",
+                "Time strands stayed parked after blocking", Collections.emptySet()), StatisticConfig.DEFAULT);
+    }
+
+    private void registerPolledGauge(MetricRegistry registry, String name, String description,
+                                     ToDoubleFunction<SchedulerTelemetry> valueFunction) {
+        registry.polledGauge(new MetricId(name, description, Collections.emptySet()), this, valueFunction);
+    }
+
+    void strandCreated(Strand strand) {
+        liveStrands.put(strand.getId(), strand);
+    }
+
+    void strandCompleted(Strand strand) {
+        liveStrands.remove(strand.getId());
+    }
+
+    void strandParked(SchedulerItem item) {
+        item.parkedAt = System.nanoTime();
+        item.parkedOnExtern = item.future.strand.blockedOnExtern;
+        parkedStrands.incrementAndGet();
+        if (item.parkedOnExtern) {
+            blockedExterns.incrementAndGet();
+        }
+    }
+
+    void strandUnparked(SchedulerItem item) {
+        long parkTime = System.nanoTime() - item.parkedAt;
+        parkedStrands.decrementAndGet();
+        if (item.parkedOnExtern) {
+            blockedExterns.decrementAndGet();
+        }
+        parkCount.increment();
+        totalParkTime.add(parkTime);
+        maxParkTime.accumulateAndGet(parkTime, Math::max);
+        Gauge gauge = parkTimeGauge;
+        if (gauge != null) {
+            gauge.setValue(parkTime / 1E9);
+        }
+    }
+
+    void recordBusyTime(long nanos) {
+        ThreadBusyTime busyTime = virtualCarriers ? virtualCarrierBusyTime : currentThreadBusyTime.get();
+        busyTime.add(nanos);
+    }
+
+    private ThreadBusyTime newBusyTime() {
+        ThreadBusyTime busyTime = new ThreadBusyTime(Thread.currentThread().getName());
+        threadBusyTimes.add(busyTime);
+        return busyTime;
+    }
+
+    @Override
+    public int getTotalStrands() {
+        return scheduler.getTotalStrands();
+    }
+
+    @Override
+    public int getRunQueueDepth() {
+        return scheduler.getRunQueueDepth();
+    }
+
+    @Override
+    public int getParkedStrands() {
+        return parkedStrands.get();
+    }
+
+    @Override
+    public int getBlockedExterns() {
+        return blockedExterns.get();
+    }
+
+    @Override
+    public long getReEnqueuedGroups() {
+        return scheduler.getReEnqueuedGroupCount();
+    }
+
+    @Override
+    public long getBusyTimeNanos() {
+        long total = 0;
+        for (ThreadBusyTime busyTime : threadBusyTimes) {
+            total += busyTime.get();
+        }
+        return total;
+    }
+
+    @Override
+    public Map<String, Long> getBusyTimeNanosPerThread() {
+        Map<String, Long> busyTimes = new HashMap<>();
+        for (ThreadBusyTime busyTime : threadBusyTimes) {
+            busyTimes.merge(busyTime.threadName, busyTime.get(), Long::sum);
+        }
+        return busyTimes;
+    }
+
+    @Override
+    public long getParkCount() {
+        return parkCount.sum();
+    }
+
+    @Override
+    public long getTotalParkTimeNanos() {
+        return totalParkTime.sum();
+    }
+
+    @Override
+    public long getMaxParkTimeNanos() {
+        return maxParkTime.get();
+    }
+
+    @Override
+    public List<String> dumpStrands(int maxStrands) {
+        List<String> dump = new ArrayList<>(Math.min(maxStrands, liveStrands.size()));
+        for (Strand strand : liveStrands.values()) {
+            if (dump.size() >= maxStrands) {
+                break;
+            }
+            dump.add(describe(strand));
+        }
+        return dump;
+    }
+
+    private static String describe(Strand strand) {
+        StringBuilder sb = new StringBuilder("strand ").append(strand.getId());
+        strand.getName().ifPresent(name -> sb.append(" [").append(name).append(']'));
+        StrandMetadata metadata = strand.getMetadata();
+        if (metadata != null) {
+            sb.append(' ').append(metadata.getModuleOrg()).append('/').append(metadata.getModuleName())
+                    .append(':').append(metadata.getModuleVersion()).append(':');
+            if (metadata.getTypeName() != null) {
+                sb.append(metadata.getTypeName()).append('.');
+            }
+            sb.append(metadata.getParentFunctionName());
+        }
+        sb.append(" state=").append(strand.getState());
+        if (strand.isBlockedOnExtern()) {
+            sb.append(" blocked-on-extern");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Busy time of a single scheduler thread, or of all the virtual threads carrying strands.
+     */
+    private static class ThreadBusyTime {
+        final String threadName;
+        private final AtomicLong nanos = new AtomicLong();
+
+        ThreadBusyTime(String threadName) {
+            this.threadName = threadName;
+        }
+
+        void add(long value) {
+            nanos.addAndGet(value);
+        }
+
+        long get() {
+            return nanos.get();
+        }
+    }
+}
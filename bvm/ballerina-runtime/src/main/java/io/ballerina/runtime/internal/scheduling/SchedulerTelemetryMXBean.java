@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMX view of the strand {@link Scheduler} activity, registered as {@value SchedulerTelemetry#OBJECT_NAME}.
+ *
+ * @since 2.0.0
+ */
+public interface SchedulerTelemetryMXBean {
+
+    int getTotalStrands();
+
+    int getRunQueueDepth();
+
+    int getParkedStrands();
+
+    int getBlockedExterns();
+
+    long getReEnqueuedGroups();
+
+    long getBusyTimeNanos();
+
+    Map<String, Long> getBusyTimeNanosPerThread();
+
+    long getParkCount();
+
+    long getTotalParkTimeNanos();
+
+    long getMaxParkTimeNanos();
+
+    /**
+     * Lists up to the given number of live strands with their metadata and state.
+     *
+     * @param maxStrands maximum number of strands to include
+     * @return one line per strand
+     */
+    List<String> dumpStrands(int maxStrands);
+}
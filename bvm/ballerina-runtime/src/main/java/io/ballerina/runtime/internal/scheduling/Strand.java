@@ -31,6 +31,7 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -59,6 +60,8 @@ public class Strand {
 
     private static AtomicInteger nextStrandId = new AtomicInteger(0);
 
+    private static final int INITIAL_FRAME_COUNT = 8;
+
     private int id;
     private String name;
     private StrandMetadata metadata;
@@ -72,6 +75,9 @@ public class Strand {
     public WDChannels wdChannels;
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
+    /**
+     * Created on first use, hence null for strands without worker channels.
+     */
     public Set<ChannelDetails> channelDetails;
     public Set<SchedulerItem> dependants;
     public boolean cancel;
@@ -82,7 +88,15 @@ public class Strand {
     ItemGroup strandGroup;
 
     private Map<String, Object> globalProps;
+    /**
+     * Whether {@link #globalProps} can be modified in place. Properties inherited from the parent strand are shared
+     * until either of the strands modifies them.
+     */
+    private boolean ownsGlobalProps;
     public TransactionLocalContext currentTrxContext;
+    /**
+     * Created on first use, hence null for strands that never enter a transaction.
+     */
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
     private final ReentrantLock strandLock;
@@ -92,19 +106,15 @@ public class Strand {
         this.id = nextStrandId.incrementAndGet();
         this.scheduler = scheduler;
         this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
         this.name = name;
         this.metadata = metadata;
-        this.trxContexts = new Stack<>();
         this.parent = parent;
 
-        //TODO: improve by using a copy on write map #26710
         if (properties != null) {
             this.globalProps = properties;
+            this.ownsGlobalProps = true;
             Object currentContext = globalProps.get(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
             if (currentContext != null) {
                 TransactionLocalContext branchedContext =
@@ -112,9 +122,11 @@ public class Strand {
                 setCurrentTransactionContext(branchedContext);
             }
         } else if (parent != null) {
-            this.globalProps = new HashMap<>(parent.globalProps);
+            // Copied on the first write by either strand.
+            this.globalProps = parent.globalProps;
+            parent.ownsGlobalProps = false;
         } else {
-            this.globalProps = new HashMap<>();
+            this.globalProps = Collections.emptyMap();
         }
     }
 
@@ -122,7 +134,7 @@ public class Strand {
                   Map<String, Object> properties, TransactionLocalContext currentTrxContext) {
         this(name, metadata, scheduler, parent, properties);
         if (currentTrxContext != null) {
-            this.trxContexts = parent.trxContexts;
+            this.trxContexts = parent.getTrxContexts();
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = createTrxContextBranch(currentTrxContext, name);
         }
@@ -165,7 +177,36 @@ public class Strand {
      */
     @Deprecated
     public void setProperty(String key, Object value) {
-        this.globalProps.put(key, value);
+        getWritableGlobalProps().put(key, value);
+    }
+
+    private Map<String, Object> getWritableGlobalProps() {
+        if (!ownsGlobalProps) {
+            this.globalProps = new HashMap<>(globalProps);
+            this.ownsGlobalProps = true;
+        }
+        return globalProps;
+    }
+
+    private Stack<TransactionLocalContext> getTrxContexts() {
+        if (trxContexts == null) {
+            trxContexts = new Stack<>();
+        }
+        return trxContexts;
+    }
+
+    /**
+     * Saves the frame of a yielding function. The frames array is created on the first yield and grown as needed.
+     *
+     * @param frame frame of the yielding function
+     */
+    public void addFrame(Object frame) {
+        if (frames == null) {
+            frames = new Object[INITIAL_FRAME_COUNT];
+        } else if (resumeIndex == frames.length) {
+            frames = Arrays.copyOf(frames, frames.length << 1);
+        }
+        frames[resumeIndex++] = frame;
     }
 
     public boolean isInTransaction() {
@@ -178,7 +219,7 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
             return;
         }
@@ -187,10 +228,12 @@ public class Strand {
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
-            this.trxContexts.push(this.currentTrxContext);
+            getTrxContexts().push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
-        globalProps.putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        if (!globalProps.containsKey(CURRENT_TRANSACTION_CONTEXT_PROPERTY)) {
+            getWritableGlobalProps().put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        }
     }
 
     public ErrorValue handleFlush(ChannelDetails[] channels) throws Throwable {
@@ -270,7 +313,7 @@ public class Strand {
                 ctx.waitCount.decrementAndGet();
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -318,7 +361,7 @@ public class Strand {
                     }
                     future.setWaited(true);
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -346,9 +389,19 @@ public class Strand {
     }
 
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == null) {
+            this.channelDetails = new HashSet<>();
+        }
         Collections.addAll(this.channelDetails, channels);
     }
 
+    void addWaitingContext(WaitContext ctx) {
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>();
+        }
+        this.waitingContexts.add(ctx);
+    }
+
     private WorkerDataChannel getWorkerDataChannel(ChannelDetails channel) {
         WorkerDataChannel dataChannel;
         if (channel.channelInSameStrand) {
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunQueue} which keeps a local deque per scheduler thread. Groups scheduled from a scheduler thread (new
+ * strands, rescheduled or unblocked strands) are pushed to that thread's own deque and popped in LIFO order for cache
+ * locality. Groups scheduled from other threads go to a shared injection queue. An idle thread steals from the
+ * opposite end of the other threads' deques.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    private final AtomicReferenceArray<Worker> workers;
+    private final AtomicInteger registeredWorkers = new AtomicInteger();
+    private final Queue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    /**
+     * One permit per group that is in any of the queues and not yet claimed by a thread. A thread holding a permit
+     * is guaranteed to find a group in one of the queues.
+     */
+    private final Semaphore available = new Semaphore(0);
+
+    WorkStealingRunQueue(int numThreads) {
+        this.workers = new AtomicReferenceArray<>(numThreads);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Worker worker = currentWorker.get();
+        if (worker != null && worker.stealable && group != POISON_PILL) {
+            worker.deque.offerFirst(group);
+        } else {
+            injectionQueue.offer(group);
+        }
+        available.release();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        Worker worker = getWorker();
+        available.acquire();
+        while (true) {
+            ItemGroup group = worker.deque.pollFirst();
+            if (group != null) {
+                return group;
+            }
+            group = injectionQueue.poll();
+            if (group != null) {
+                return group;
+            }
+            group = steal(worker);
+            if (group != null) {
+                return group;
+            }
+            // The group this permit belongs to is being published by another thread.
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!injectionQueue.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < workers.length(); i++) {
+            Worker worker = workers.get(i);
+            if (worker != null && !worker.deque.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return available.availablePermits();
+    }
+
+    private ItemGroup steal(Worker thief) {
+        int count = Math.min(registeredWorkers.get(), workers.length());
+        for (int i = 0; i < count; i++) {
+            Worker victim = workers.get((thief.index + i) % count);
+            if (victim == null || victim == thief) {
+                continue;
+            }
+            ItemGroup group = victim.deque.pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private Worker getWorker() {
+        Worker worker = currentWorker.get();
+        if (worker != null) {
+            return worker;
+        }
+        int index = registeredWorkers.getAndIncrement();
+        // Threads beyond the configured pool size only consume from the shared queues, since nobody would steal
+        // from their deques.
+        worker = new Worker(index, index < workers.length());
+        if (worker.stealable) {
+            workers.set(index, worker);
+        }
+        currentWorker.set(worker);
+        return worker;
+    }
+
+    private static class Worker {
+        final int index;
+        final boolean stealable;
+        final Deque<ItemGroup> deque = new ConcurrentLinkedDeque<>();
+
+        Worker(int index, boolean stealable) {
+            this.index = index;
+            this.stealable = stealable;
+        }
+    }
+}
@@ -17,10 +17,10 @@
 */
 package io.ballerina.runtime.internal.scheduling;
 
+import io.ballerina.runtime.api.constants.RuntimeConstants;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.io.PrintStream;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -29,18 +29,32 @@ import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * A channel has a single sending and a single receiving strand, hence the messages are kept in a lock free single
+ * producer single consumer queue. Async sends and receives only take the channel lock to park or resume a strand,
+ * for sync sends, for flushes and to propagate errors.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    private static final PrintStream err = System.err;
+
+    /**
+     * Maximum number of pending async messages in a channel, after which the sender is blocked until the receiver
+     * catches up. This can be changed by setting the BALLERINA_WORKER_CHANNEL_CAPACITY system variable.
+     * Default is 0, which means the channels are unbounded.
+     */
+    private static final int CAPACITY = getCapacity();
+
+    private volatile Strand receiver;
+    private volatile Strand blockedSender;
     private WaitingSender waitingSender;
-    private WaitingSender flushSender;
+    private volatile WaitingSender flushSender;
     private ErrorValue error;
     private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    private volatile int senderCounter;
+    private volatile int receiverCounter;
     private boolean reschedule;
 
     private Lock channelLock;
@@ -48,7 +62,7 @@ public class WorkerDataChannel {
     public String chnlName;
 
     @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final WorkerMessageQueue<WorkerResult> channel = new WorkerMessageQueue<>();
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
@@ -72,16 +86,25 @@ public class WorkerDataChannel {
 
     @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
+        if (isFull() && blockSender(sender)) {
+            // The send is retried when the sender is resumed.
+            return;
+        }
+
+        this.senderCounter++;
+        this.channel.offer(new WorkerResult(data));
+        // The offer is a volatile write of the queue tail and the receiver is volatile. The receiver publishes itself
+        // before reading the tail, so either it sees the message or it is seen here.
+        if (this.receiver != null) {
+            try {
+                acquireChannelLock();
+                if (this.receiver != null) {
+                    this.receiver.scheduler.unblockStrand(this.receiver);
+                    this.receiver = null;
+                }
+            } finally {
+                releaseChannelLock();
             }
-        } finally {
-            releaseChannelLock();
         }
     }
 
@@ -97,9 +120,9 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
                 this.waitingSender = new WaitingSender(strand, -1);
+                this.senderCounter++;
+                this.channel.offer(new WorkerResult(data, true));
 
                 if (this.receiver != null) {
                     // multiple checks are added to make sure this is
@@ -120,10 +143,10 @@ public class WorkerDataChannel {
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
+            if (this.panic != null && !this.channel.isEmpty()) {
                 Throwable e = this.panic;
                 throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
+            } else if (this.error != null && !this.channel.isEmpty()) {
                 ErrorValue ret = this.error;
                 return ret;
             }
@@ -137,40 +160,52 @@ public class WorkerDataChannel {
 
     @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
+        WorkerResult result = this.channel.peek();
+        if (result != null && !result.isSync) {
+            this.channel.poll();
+            this.receiverCounter++;
+            if (this.flushSender != null) {
+                try {
+                    acquireChannelLock();
+                    notifyFlushSender();
+                } finally {
+                    releaseChannelLock();
+                }
+            }
+            resumeBlockedSender();
+            return result.value;
+        }
+
         try {
             acquireChannelLock();
-            WorkerResult result = this.channel.peek();
+            // Publish the receiver before checking the channel so that a concurrent async send cannot be missed.
+            this.receiver = strand;
+            result = this.channel.peek();
             if (result != null) {
+                this.receiver = null;
                 this.receiverCounter++;
-                this.channel.remove();
+                this.channel.poll();
 
                 if (result.isSync) {
                     // sync sender will pick the this.error as result, which is null
                     Strand waiting  = this.waitingSender.waitingStrand;
                     waiting.scheduler.unblockStrand(waiting);
                     this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
+                } else {
+                    notifyFlushSender();
                 }
+                resumeBlockedSender();
                 return result.value;
             } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
+                this.receiver = null;
                 this.receiverCounter++;
                 throw this.panic;
             } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
+                this.receiver = null;
                 this.receiverCounter++;
                 return error;
             } else {
-                this.receiver = strand;
+                resumeBlockedSender();
                 strand.setState(BLOCK_AND_YIELD);
                 return null;
             }
@@ -179,6 +214,77 @@ public class WorkerDataChannel {
         }
     }
 
+    /**
+     * Resumes the flushing sender once all the messages sent before the flush are received. Must be called while
+     * holding the channel lock.
+     */
+    private void notifyFlushSender() {
+        WaitingSender flushSender = this.flushSender;
+        if (flushSender == null || this.receiverCounter < flushSender.flushCount) {
+            return;
+        }
+        Strand flushStrand = flushSender.waitingStrand;
+        flushStrand.flushDetail.flushLock.lock();
+        flushStrand.flushDetail.flushedCount++;
+        if (flushStrand.flushDetail.flushedCount == flushStrand.flushDetail.flushChannels.length &&
+                flushStrand.isBlocked()) {
+            //will continue if this is a sync wait, will try to flush again if blocked on flush
+            flushStrand.scheduler.unblockStrand(flushStrand);
+        }
+        flushStrand.flushDetail.flushLock.unlock();
+        this.flushSender = null;
+    }
+
+    private boolean isFull() {
+        return CAPACITY > 0 && this.channel.size() >= CAPACITY;
+    }
+
+    /**
+     * Parks the sender of a full bounded channel.
+     *
+     * @param sender sending strand
+     * @return true if the sender is parked, false if the receiver made room in the meantime
+     */
+    private boolean blockSender(Strand sender) {
+        try {
+            acquireChannelLock();
+            // Publish the sender before checking the channel so that a concurrent receive cannot miss it.
+            this.blockedSender = sender;
+            if (!isFull() || this.error != null || this.panic != null) {
+                this.blockedSender = null;
+                return false;
+            }
+            sender.setState(BLOCK_AND_YIELD);
+            return true;
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    /**
+     * Resumes a sender blocked on a full channel once the receiver has drained half of the channel, so that the
+     * sender refills the channel in batches rather than being woken up for every received message.
+     */
+    private void resumeBlockedSender() {
+        if (this.blockedSender == null || this.channel.size() > CAPACITY / 2) {
+            return;
+        }
+        try {
+            acquireChannelLock();
+            releaseBlockedSender();
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    private void releaseBlockedSender() {
+        Strand sender = this.blockedSender;
+        if (sender != null) {
+            this.blockedSender = null;
+            sender.scheduler.unblockStrand(sender);
+        }
+    }
+
     /**
      * Set the state as error if the receiving worker is in error state.
      * @param error the BError of the receiving worker
@@ -217,6 +323,7 @@ public class WorkerDataChannel {
             waiting.scheduler.unblockStrand(waiting);
             this.waitingSender = null;
         }
+        releaseBlockedSender();
         releaseChannelLock();
     }
 
@@ -241,6 +348,8 @@ public class WorkerDataChannel {
                 return null;
             }
             this.flushSender = new WaitingSender(strand, this.senderCounter);
+            // The receiver may have taken the remaining messages without the lock before the flush was registered.
+            notifyFlushSender();
             return null;
         } finally {
             releaseChannelLock();
@@ -295,9 +404,28 @@ public class WorkerDataChannel {
             waiting.scheduler.unblockStrand(waiting);
             this.waitingSender = null;
         }
+        releaseBlockedSender();
         releaseChannelLock();
     }
 
+    private static int getCapacity() {
+        String capacityConf = System.getenv(RuntimeConstants.BALLERINA_WORKER_CHANNEL_CAPACITY_ENV_VAR);
+        if (capacityConf == null) {
+            return 0;
+        }
+        try {
+            int capacity = Integer.parseInt(capacityConf);
+            if (capacity >= 0) {
+                return capacity;
+            }
+        } catch (NumberFormatException e) {
+            // Log below and continue with unbounded channels
+        }
+        err.println("ballerina: invalid value '" + capacityConf + "' for system variable:" +
+                RuntimeConstants.BALLERINA_WORKER_CHANNEL_CAPACITY_ENV_VAR + ", expected a non-negative integer");
+        return 0;
+    }
+
     /**
      * This represents a worker result value. This is done as a value to be used in the
      * queues used for worker communication. In this way, the queue can distinguish the
@@ -0,0 +1,115 @@
+/*
+*  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single producer, single consumer queue of worker messages. Messages are stored in linked fixed size chunks, so the
+ * queue grows without copying and without a lock, and chunks are released as the consumer moves past them.
+ * <p>
+ * Only the sending strand may call {@link #offer(Object)} and only the receiving strand may call {@link #peek()} and
+ * {@link #poll()}. {@link #size()} and {@link #isEmpty()} may be called from either side.
+ *
+ * @param <E> message type
+ * @since 2.0.0
+ */
+class WorkerMessageQueue<E> {
+
+    private static final int CHUNK_SIZE = 128;
+
+    // Number of messages ever offered, published after the message is stored. The update is a volatile write (not a
+    // lazy set) since the sender reads the waiting receiver right after offering, and the receiver publishes itself
+    // before checking the queue. Both sides need the store to be ordered before the subsequent load.
+    private final AtomicLong tail = new AtomicLong();
+    // Number of messages ever polled.
+    private final AtomicLong head = new AtomicLong();
+
+    // Producer side
+    private Chunk tailChunk;
+    private long tailChunkStart;
+
+    // Consumer side
+    private Chunk headChunk;
+    private long headChunkStart;
+
+    WorkerMessageQueue() {
+        this.tailChunk = new Chunk();
+        this.headChunk = this.tailChunk;
+    }
+
+    void offer(E message) {
+        long index = tail.get();
+        if (index - tailChunkStart == CHUNK_SIZE) {
+            Chunk chunk = new Chunk();
+            // Published to the consumer by the tail update below.
+            tailChunk.next = chunk;
+            tailChunk = chunk;
+            tailChunkStart = index;
+        }
+        tailChunk.messages[(int) (index - tailChunkStart)] = message;
+        tail.set(index + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    E peek() {
+        long index = head.get();
+        if (index == tail.get()) {
+            return null;
+        }
+        moveToNextChunkIfConsumed(index);
+        return (E) headChunk.messages[(int) (index - headChunkStart)];
+    }
+
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long index = head.get();
+        if (index == tail.get()) {
+            return null;
+        }
+        moveToNextChunkIfConsumed(index);
+        int slot = (int) (index - headChunkStart);
+        E message = (E) headChunk.messages[slot];
+        headChunk.messages[slot] = null;
+        head.lazySet(index + 1);
+        return message;
+    }
+
+    int size() {
+        // Read head first so that a concurrent poll cannot make the size negative.
+        long consumed = head.get();
+        return (int) (tail.get() - consumed);
+    }
+
+    boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    private void moveToNextChunkIfConsumed(long index) {
+        if (index - headChunkStart == CHUNK_SIZE) {
+            headChunk = headChunk.next;
+            headChunkStart = index;
+        }
+    }
+
+    private static class Chunk {
+
+        private final Object[] messages = new Object[CHUNK_SIZE];
+        private Chunk next;
+    }
+}
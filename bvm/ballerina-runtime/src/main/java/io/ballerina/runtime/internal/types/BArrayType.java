@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.flags.TypeFlags;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
@@ -90,6 +91,7 @@ public class BArrayType extends BType implements ArrayType {
                 TypeTags.isXMLTypeTag(elementTypeTag)) {
             this.hasFillerValue = TypeChecker.hasFillerValue(elementType);
         }
+        TypeCheckCache.invalidate(this);
     }
 
     private void setFlagsBasedOnElementType() {
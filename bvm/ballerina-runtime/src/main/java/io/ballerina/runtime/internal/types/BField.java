@@ -19,6 +19,7 @@ package io.ballerina.runtime.internal.types;
 
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.JsonGenerator;
 
 /**
  * {@code BField} represents a field in user defined type in Ballerina.
@@ -31,6 +32,9 @@ public class BField implements Field {
     private final String name;
     private final long flags;
 
+    // Field name as written by the JSON generator, computed on first use.
+    private volatile byte[] jsonNameBytes;
+
     public BField(Type fieldType, String fieldName, long flags) {
         this.type = fieldType;
         this.name = fieldName;
@@ -48,4 +52,19 @@ public class BField implements Field {
     public long getFlags() {
         return flags;
     }
+
+    /**
+     * Returns the escaped and quoted name of this field followed by a colon, encoded as UTF-8, so that values of the
+     * record type are serialized to JSON without encoding the field names again.
+     *
+     * @return UTF-8 bytes of the field name in JSON
+     */
+    public byte[] getJsonNameBytes() {
+        byte[] nameBytes = jsonNameBytes;
+        if (nameBytes == null) {
+            nameBytes = JsonGenerator.getFieldNameBytes(name);
+            jsonNameBytes = nameBytes;
+        }
+        return nameBytes;
+    }
 }
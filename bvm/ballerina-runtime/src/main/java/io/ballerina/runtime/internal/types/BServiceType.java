@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.RemoteMethodType;
 import io.ballerina.runtime.api.types.ResourceMethodType;
 import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.internal.TypeCheckCache;
 
 import java.util.ArrayList;
 
@@ -42,6 +43,7 @@ public class BServiceType extends BObjectType implements ServiceType {
 
     public void setResourceMethods(ResourceMethodType[] resourceMethods) {
         this.resourceMethods = resourceMethods;
+        TypeCheckCache.invalidate(this);
     }
 
     /**
@@ -41,6 +41,9 @@ public abstract class BType implements Type {
     protected Module pkg;
     protected Class<? extends Object> valueClass;
     private int hashCode;
+    // Set once the type is visited by a type check, after which changes to the structure of the type have to
+    // invalidate the cached type check results.
+    private volatile boolean typeChecked;
 
     protected BType(String typeName, Module pkg, Class<? extends Object> valueClass) {
         this.typeName = typeName;
@@ -51,6 +54,16 @@ public abstract class BType implements Type {
         }
     }
 
+    public boolean isTypeChecked() {
+        return typeChecked;
+    }
+
+    public void setTypeChecked() {
+        if (!typeChecked) {
+            typeChecked = true;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public <V extends Object> Class<V> getValueClass() {
         return (Class<V>) valueClass;
@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.SelectivelyImmutableReferenceType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 
 import java.util.ArrayList;
@@ -162,6 +163,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         }
         this.memberTypes = readonly ? getReadOnlyTypes(members) : Arrays.asList(members);
         setFlagsBasedOnMembers();
+        TypeCheckCache.invalidate(this);
     }
 
     public void setOriginalMemberTypes(Type[] originalMemberTypes) {
@@ -190,6 +192,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         setFlagsBasedOnMembers();
 
         setOriginalMemberTypes(originalMembers);
+        TypeCheckCache.invalidate(this);
     }
 
     public void setCyclic(boolean isCyclic) {
@@ -22,12 +22,12 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.internal.IteratorUtils;
 import io.ballerina.runtime.internal.JsonGenerator;
+import io.ballerina.runtime.internal.Utf8Buffer;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
@@ -48,7 +48,7 @@ import static io.ballerina.runtime.internal.util.exceptions.RuntimeErrors.INVALI
  * 
  * @since 1.1.0
  */
-public abstract class AbstractArrayValue implements ArrayValue {
+public abstract class AbstractArrayValue implements ArrayValue, StructuralHashHolder {
 
     static final int SYSTEM_ARRAY_MAX = Integer.MAX_VALUE - 8;
 
@@ -61,6 +61,7 @@ public abstract class AbstractArrayValue implements ArrayValue {
     protected static final int DEFAULT_ARRAY_SIZE = 100;
     protected int size = 0;
     protected Type iteratorNextReturnType;
+    private Long structuralHash;
 
     /**
      * Append value to the existing array.
@@ -122,15 +123,16 @@ public abstract class AbstractArrayValue implements ArrayValue {
 
     @Override
     public String getJSONString() {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JsonGenerator gen = new JsonGenerator(byteOut);
+        Utf8Buffer out = Utf8Buffer.acquire();
+        JsonGenerator gen = new JsonGenerator(out);
         try {
             gen.serialize(this);
-            gen.flush();
+            return out.toString();
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
+        } finally {
+            out.release();
         }
-        return byteOut.toString();
     }
 
     /**
@@ -188,6 +190,16 @@ public abstract class AbstractArrayValue implements ArrayValue {
         return iteratorNextReturnType;
     }
 
+    @Override
+    public Long getStructuralHash() {
+        return structuralHash;
+    }
+
+    @Override
+    public void setStructuralHash(Long hash) {
+        this.structuralHash = hash;
+    }
+
     /*
      * helper methods that are visible to the implementation classes.
      */
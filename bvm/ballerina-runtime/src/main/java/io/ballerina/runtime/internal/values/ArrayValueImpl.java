@@ -30,6 +30,7 @@ import io.ballerina.runtime.api.values.BListInitialValueEntry;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.api.values.BValue;
+import io.ballerina.runtime.internal.ArraySortUtils;
 import io.ballerina.runtime.internal.CycleUtils;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
@@ -922,6 +923,30 @@ public class ArrayValueImpl extends AbstractArrayValue {
         return Arrays.copyOf(floatValues, size);
     }
 
+    /**
+     * Sorts the members of an int, float or string array in place, in their primitive storage.
+     *
+     * @param ascending whether to sort in the ascending order
+     * @return true if the members were sorted, false if the members are not stored as ints, floats or strings
+     */
+    public boolean sortPrimitiveValues(boolean ascending) {
+        if (intValues == null && floatValues == null && bStringValues == null) {
+            return false;
+        }
+        if (size > 0) {
+            handleImmutableArrayValue();
+        }
+
+        if (intValues != null) {
+            ArraySortUtils.sort(intValues, size, ascending);
+        } else if (floatValues != null) {
+            ArraySortUtils.sort(floatValues, size, ascending);
+        } else {
+            ArraySortUtils.sort(bStringValues, size, ascending);
+        }
+        return true;
+    }
+
     @Override
     public void serialize(OutputStream outputStream) {
         if (this.elementType.getTag() == TypeTags.BYTE_TAG) {
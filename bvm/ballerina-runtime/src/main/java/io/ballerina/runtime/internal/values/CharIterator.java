@@ -29,33 +29,25 @@ public class CharIterator implements IteratorValue {
     long cursor = 0;
     long length;
     String stringValue;
+    int charOffset = 0;
 
     CharIterator(StringValue value) {
-        this.value = value;
-        this.length = value.length();
-        this.stringValue = value.getValue();
+        this.value = value instanceof RopeStringValue ? ((RopeStringValue) value).flatten() : value;
+        this.length = this.value.length();
+        this.stringValue = this.value.getValue();
     }
 
     @Override
     public Object next() {
-        long currentIndex = this.cursor++;
-        if (value.isNonBmp) {
-            return getNonBmpCharWithSurrogates(currentIndex);
-        }
-        return String.valueOf(stringValue.charAt((int) currentIndex));
-    }
-
-    private String getNonBmpCharWithSurrogates(long currentIndex) {
-        int offset = (int) currentIndex;
-        for (int surrogate : ((NonBmpStringValue) value).getSurrogates()) {
-            if (surrogate < currentIndex) {
-                offset++;
-            } else if (surrogate > currentIndex) {
-                break;
-            } else {
-                return new String(new char[]{stringValue.charAt(offset), stringValue.charAt(offset + 1)});
-            }
+        this.cursor++;
+        // Chars are visited in order, so a surrogate pair is found at the current char offset without looking up
+        // the surrogate positions of the string.
+        int offset = charOffset;
+        if (value.isNonBmp && Character.isHighSurrogate(stringValue.charAt(offset))) {
+            charOffset += 2;
+            return stringValue.substring(offset, offset + 2);
         }
+        charOffset++;
         return String.valueOf(stringValue.charAt(offset));
     }
 
@@ -37,6 +37,7 @@ import io.ballerina.runtime.internal.types.BTypeIdSet;
 
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -69,6 +70,7 @@ public class ErrorValue extends BError implements RefValue {
     private final BString message;
     private final BError cause;
     private final Object details;
+    private transient volatile StackTraceElement[] filteredStackTrace;
 
     private static final String GENERATE_OBJECT_CLASS_PREFIX = "$value$";
     private static final String GENERATE_PKG_INIT = "___init_";
@@ -278,17 +280,38 @@ public class ErrorValue extends BError implements RefValue {
         outStream.println(ERROR_PRINT_PREFIX + getPrintableStackTrace());
     }
     
+    @Override
+    public void setStackTrace(StackTraceElement[] stackTrace) {
+        super.setStackTrace(stackTrace);
+        this.filteredStackTrace = null;
+    }
+
     @Override
     public StackTraceElement[] getStackTrace() {
-        StackTraceElement[] stackTrace = super.getStackTrace();
-        List<StackTraceElement> filteredStack = new LinkedList<>();
+        // The JVM keeps the trace in its compact native form and expands it here, on the first read.
+        StackTraceElement[] filteredStack = this.filteredStackTrace;
+        if (filteredStack == null) {
+            filteredStack = filterStackTrace(super.getStackTrace());
+            this.filteredStackTrace = filteredStack;
+        }
+        return filteredStack.clone();
+    }
+
+    /**
+     * Filters the given JVM stack frames down to the frames of Ballerina functions, dropping the frames of generated
+     * methods and Java sources, in the same way as the stack trace of an error.
+     *
+     * @param stackTrace JVM stack frames, innermost first
+     * @return the Ballerina stack frames, innermost first
+     */
+    public static StackTraceElement[] filterStackTrace(StackTraceElement[] stackTrace) {
+        List<StackTraceElement> filteredStack = new ArrayList<>(stackTrace.length);
         int index = 0;
         for (StackTraceElement stackFrame : stackTrace) {
             Optional<StackTraceElement> stackTraceElement = filterStackTraceElement(stackFrame, index++);
             stackTraceElement.ifPresent(filteredStack::add);
         }
-        StackTraceElement[] filteredStackArray = new StackTraceElement[filteredStack.size()];
-        return filteredStack.toArray(filteredStackArray);
+        return filteredStack.toArray(new StackTraceElement[0]);
     }
 
     /**
@@ -352,19 +375,38 @@ public class ErrorValue extends BError implements RefValue {
     }
 
     private void printStackElement(StringBuilder sb, StackTraceElement stackTraceElement, String tab) {
+        sb.append(tab);
+        appendStackElement(sb, stackTraceElement);
+    }
+
+    /**
+     * Returns a Ballerina stack frame, as returned by {@link #filterStackTrace}, in the form it is printed in error
+     * stack traces (i.e. {@code module:function(file.bal:line)}).
+     *
+     * @param stackTraceElement Ballerina stack frame
+     * @return printable stack frame
+     */
+    public static String getPrintableStackElement(StackTraceElement stackTraceElement) {
+        StringBuilder sb = new StringBuilder();
+        appendStackElement(sb, stackTraceElement);
+        return sb.toString();
+    }
+
+    private static void appendStackElement(StringBuilder sb, StackTraceElement stackTraceElement) {
         String pkgName = IdentifierUtils.decodeIdentifier(stackTraceElement.getClassName());
         String fileName = stackTraceElement.getFileName();
 
         // clean file name from pkgName since we print the file name after the method name.
-        fileName = fileName.replace(BLANG_SRC_FILE_SUFFIX, "");
-        fileName = fileName.replace("/", "-");
-        int index = pkgName.lastIndexOf("." + fileName);
-        if (index != -1) {
-            pkgName = pkgName.substring(0, index);
+        if (fileName != null) {
+            fileName = fileName.replace(BLANG_SRC_FILE_SUFFIX, "");
+            fileName = fileName.replace("/", "-");
+            int index = pkgName.lastIndexOf("." + fileName);
+            if (index != -1) {
+                pkgName = pkgName.substring(0, index);
+            }
         }
         // todo we need to seperate orgname and module name with '/'
 
-        sb.append(tab);
         if (!pkgName.equals(MODULE_INIT_CLASS_NAME)) {
             sb.append(pkgName).append(":");
         }
@@ -395,7 +437,7 @@ public class ErrorValue extends BError implements RefValue {
         return (details instanceof MapValue) && ((MapValue<?, ?>) details).isEmpty();
     }
 
-    private Optional<StackTraceElement> filterStackTraceElement(StackTraceElement stackFrame, int currentIndex) {
+    private static Optional<StackTraceElement> filterStackTraceElement(StackTraceElement stackFrame, int currentIndex) {
         String fileName = stackFrame.getFileName();
         int lineNo = stackFrame.getLineNumber();
         if (lineNo < 0) {
@@ -434,11 +476,11 @@ public class ErrorValue extends BError implements RefValue {
                 new StackTraceElement(cleanupClassName(className), methodName, fileName, stackFrame.getLineNumber()));
     }
 
-    private String cleanupClassName(String className) {
+    private static String cleanupClassName(String className) {
         return className.replace(GENERATE_OBJECT_CLASS_PREFIX, "");
     }
 
-    private boolean isCompilerAddedName(String name) {
+    private static boolean isCompilerAddedName(String name) {
         return name != null && name.startsWith("$") && name.endsWith("$");
     }
 }
@@ -38,6 +38,7 @@ import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonUtils;
 import io.ballerina.runtime.internal.MapUtils;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.Utf8Buffer;
 import io.ballerina.runtime.internal.types.BField;
 import io.ballerina.runtime.internal.types.BMapType;
 import io.ballerina.runtime.internal.types.BRecordType;
@@ -47,7 +48,6 @@ import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -88,13 +88,14 @@ import static io.ballerina.runtime.internal.values.ReadOnlyUtils.handleInvalidUp
  * @since 0.995.0
  */
 public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue, CollectionValue, MapValue<K, V>,
-        BMap<K, V> {
+        BMap<K, V>, StructuralHashHolder {
 
     private static final long serialVersionUID = 1L;
     private BTypedesc typedesc;
     private Type type;
     private final Map<String, Object> nativeData = new HashMap<>();
     private Type iteratorNextReturnType;
+    private Long structuralHash;
 
     public MapValueImpl(TypedescValue typedesc) {
         this(typedesc.getDescribingType());
@@ -525,15 +526,16 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public String getJSONString() {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JsonGenerator gen = new JsonGenerator(byteOut);
+        Utf8Buffer out = Utf8Buffer.acquire();
+        JsonGenerator gen = new JsonGenerator(out);
         try {
             gen.serialize(this);
-            gen.flush();
+            return out.toString();
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
+        } finally {
+            out.release();
         }
-        return new String(byteOut.toByteArray());
     }
 
     @Override
@@ -637,6 +639,17 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
 
         return iteratorNextReturnType;
     }
+
+    @Override
+    public Long getStructuralHash() {
+        return structuralHash;
+    }
+
+    @Override
+    public void setStructuralHash(Long hash) {
+        this.structuralHash = hash;
+    }
+
     /*
      * Below are a set of convenient methods that handle map related operations.
      * This makes it easier to extend the operations without affecting the
@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent a ballerina string produced by concatenation, kept as a tree of its parts until its content is needed.
+ * <p>
+ * Appending to a rope does not copy either operand, so building a string with repeated {@code s = s + part} is
+ * linear in the final length. The parts are flattened into a single {@link BmpStringValue} or
+ * {@link NonBmpStringValue} the first time the content or a random access operation is requested, and the parts are
+ * released afterwards.
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue extends StringValue {
+
+    /**
+     * Concatenation results shorter than this many chars are copied eagerly, since copying them is cheaper than
+     * keeping the tree.
+     */
+    static final int MIN_ROPE_LENGTH = 128;
+
+    private final int length;
+    private final int charLength;
+    private volatile StringValue left;
+    private volatile StringValue right;
+    private volatile StringValue flat;
+
+    RopeStringValue(StringValue left, StringValue right) {
+        super(null, left.isNonBmp || right.isNonBmp);
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = charLength(left) + charLength(right);
+    }
+
+    /**
+     * Returns whether concatenating the given strings should produce a rope instead of a flat copy.
+     *
+     * @param left  left operand
+     * @param right right operand
+     * @return true if the result should be a rope
+     */
+    static boolean isRopeConcat(StringValue left, StringValue right) {
+        return left instanceof RopeStringValue || right instanceof RopeStringValue ||
+                charLength(left) + charLength(right) >= MIN_ROPE_LENGTH;
+    }
+
+    private static int charLength(StringValue str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).charLength;
+        }
+        return str.value.length();
+    }
+
+    /**
+     * Returns the flat string value with the same content as this rope, building it on first use.
+     *
+     * @return flattened string value
+     */
+    StringValue flatten() {
+        StringValue result = flat;
+        if (result != null) {
+            return result;
+        }
+        synchronized (this) {
+            result = flat;
+            if (result == null) {
+                result = build();
+                flat = result;
+                // Parts are released only after the flat value is published, so a concurrent reader that sees a
+                // released part always sees the flat value as well.
+                left = null;
+                right = null;
+            }
+        }
+        return result;
+    }
+
+    private StringValue build() {
+        StringBuilder sb = new StringBuilder(charLength);
+        int[] surrogates = isNonBmp ? new int[charLength - length] : null;
+        int surrogateCount = 0;
+        int codePointOffset = 0;
+
+        // Walk the tree with an explicit stack; ropes built in a loop are as deep as the number of iterations.
+        Deque<StringValue> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            StringValue part = pending.pop();
+            if (part instanceof RopeStringValue) {
+                RopeStringValue rope = (RopeStringValue) part;
+                StringValue ropeFlat = rope.flat;
+                if (ropeFlat == null) {
+                    StringValue ropeLeft = rope.left;
+                    StringValue ropeRight = rope.right;
+                    if (ropeLeft != null && ropeRight != null) {
+                        pending.push(ropeRight);
+                        pending.push(ropeLeft);
+                        continue;
+                    }
+                    ropeFlat = rope.flat;
+                }
+                part = ropeFlat;
+            }
+            if (part.isNonBmp) {
+                for (int surrogate : ((NonBmpStringValue) part).surrogates) {
+                    surrogates[surrogateCount++] = surrogate + codePointOffset;
+                }
+            }
+            sb.append(part.value);
+            codePointOffset += part.length();
+        }
+
+        String str = sb.toString();
+        return isNonBmp ? new NonBmpStringValue(str, surrogates) : new BmpStringValue(str);
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().value;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return new RopeStringValue(this, (StringValue) str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+}
@@ -18,6 +18,7 @@
 package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BStreamingJson;
 import io.ballerina.runtime.internal.JsonDataSource;
@@ -44,15 +45,29 @@ import java.util.Map;
 public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson {
 
     JsonDataSource datasource;
+    // Whether the members read from the data source by an iteration are kept, so that the array can still be
+    // accessed as a whole after it
+    private final boolean cacheIteratedMembers;
+    // Index of the member the data source reads next. This is ahead of the size once an iteration which does not
+    // cache the members has gone past the cached members.
+    long streamedSize = 0;
 
     @Deprecated
     public StreamingJsonValue(JsonDataSource datasource) {
         super(new BArrayType(new BMapType(PredefinedTypes.TYPE_JSON)));
         this.datasource = datasource;
+        this.cacheIteratedMembers = true;
+    }
+
+    public StreamingJsonValue(JsonDataSource datasource, ArrayType type, boolean cacheIteratedMembers) {
+        super(type);
+        this.datasource = datasource;
+        this.cacheIteratedMembers = cacheIteratedMembers;
     }
 
     @Override
     public void add(long index, Object value) {
+        checkNotStreamed();
         // If the the index is larger than the size, and data-source has more content,
         // then read data from data-source until the index, or until the end of the data-source.
         while (index >= size && datasource.hasNext()) {
@@ -64,6 +79,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
 
     @Override
     public void append(Object value) {
+        checkNotStreamed();
         if (datasource.hasNext()) {
             buildDatasource();
         }
@@ -73,6 +89,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
 
     @Override
     public Object getRefValue(long index) {
+        checkNotStreamed();
         // If the the index is larger than the size, and datasource has more content,
         // then read data from data-source until the index, or until the end of the data-source.
         while (index >= size && datasource.hasNext()) {
@@ -91,6 +108,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
          * Below order is important, where if the value is generated from a streaming data source,
          * it should be able to serialize the data out again using the value
          */
+        checkNotStreamed();
         try {
             gen.writeStartArray();
 
@@ -125,6 +143,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
 
     @Override
     public Object[] getValues() {
+        checkNotStreamed();
         if (datasource.hasNext()) {
             buildDatasource();
         }
@@ -133,6 +152,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
 
     @Override
     public String toString() {
+        checkNotStreamed();
         if (datasource.hasNext()) {
             buildDatasource();
         }
@@ -142,6 +162,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
 
     @Override
     public String stringValue(BLink parent) {
+        checkNotStreamed();
         if (datasource.hasNext()) {
             buildDatasource();
         }
@@ -156,6 +177,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
 
     @Override
     public int size() {
+        checkNotStreamed();
         if (datasource.hasNext()) {
             buildDatasource();
         }
@@ -163,7 +185,16 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
     }
 
     void appendToCache(Object value) {
+        checkNotStreamed();
         super.add(size, value);
+        streamedSize++;
+    }
+
+    private void checkNotStreamed() {
+        if (streamedSize > size) {
+            throw JsonUtils.createJsonConversionError(new IllegalStateException("members read by an iteration are " +
+                    "not kept"), "streaming JSON array has already been iterated");
+        }
     }
 
     @Override
@@ -181,6 +212,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
     }
 
     private void buildDatasource() {
+        checkNotStreamed();
         try {
             while (datasource.hasNext()) {
                 appendToCache(datasource.next());
@@ -192,11 +224,14 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
 
     @Override
     public IteratorValue getIterator() {
-        return new ArrayIterator(this);
+        // Reads the members from the data source as the iteration reaches them, instead of building the whole array
+        return new StreamingJsonIterator(this);
     }
 
     /**
-     * {@code {@link StreamingJsonIterator}} provides iterator implementation for Ballerina array values.
+     * {@code {@link StreamingJsonIterator}} provides iterator implementation for Ballerina array values. Unless the
+     * array caches the iterated members, members which have not been accessed before are read from the data source
+     * without caching them, so that iterating a large array holds one member at a time.
      *
      * @since 0.995.0
      */
@@ -215,9 +250,18 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
             if (cursor < array.size) {
                 value = array.get(cursor);
             } else {
-                // Otherwise read the next value from data-source and cache it in memory
-                value = array.datasource.next();
-                array.appendToCache(value);
+                // Otherwise read the next value from the data source
+                if (array.cacheIteratedMembers) {
+                    value = array.datasource.next();
+                    array.appendToCache(value);
+                } else {
+                    // Only this iteration gets to see the value
+                    if (cursor != array.streamedSize) {
+                        array.checkNotStreamed();
+                    }
+                    value = array.datasource.next();
+                    array.streamedSize++;
+                }
             }
 
             this.cursor++;
@@ -229,6 +273,10 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
             if (cursor < array.size) {
                 return true;
             }
+            if (cursor < array.streamedSize) {
+                // The member was read by another iteration, which next() reports
+                return true;
+            }
 
             return array.datasource.hasNext();
         }
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+/**
+ * A structured value which can hold its structural hash, as generated by
+ * {@link io.ballerina.runtime.internal.TableUtils#hash}.
+ * <p>
+ * The hash of a value is only held once the value is frozen, since its shape can not change afterwards.
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ *
+ * @since 2.0.0
+ */
+public interface StructuralHashHolder {
+
+    /**
+     * Returns the structural hash held by this value.
+     *
+     * @return the hash, or null if it has not been computed
+     */
+    Long getStructuralHash();
+
+    /**
+     * Holds the structural hash of this value.
+     *
+     * @param hash the hash
+     */
+    void setStructuralHash(Long hash);
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.runtime.internal.values;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash index from the primitive {@code long} hash of a table row key to the position of the row in
+ * the table. Rows whose keys have the same hash occupy consecutive probe slots, so collisions do not allocate and
+ * the caller resolves them by comparing the keys of the candidate rows.
+ * <p>
+ * Typical lookup:
+ * <pre>
+ *     int slot = index.findSlot(hash, index.homeSlot(hash));
+ *     while (slot != -1 &amp;&amp; !matches(index.rowAt(slot))) {
+ *         slot = index.findSlot(hash, index.nextSlot(slot));
+ *     }
+ * </pre>
+ *
+ * @since 2.0.0
+ */
+class TableHashIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = -1;
+
+    private long[] hashes;
+    private int[] rows;
+    private int mask;
+    private int size;
+
+    TableHashIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the slot the probe sequence of the given hash starts from.
+     */
+    int homeSlot(long hash) {
+        return spread(hash) & mask;
+    }
+
+    int nextSlot(int slot) {
+        return (slot + 1) & mask;
+    }
+
+    /**
+     * Returns the first slot at or after {@code slot} in the probe sequence that holds a row with the given hash, or
+     * -1 if there is no such slot.
+     */
+    int findSlot(long hash, int slot) {
+        while (rows[slot] != EMPTY) {
+            if (hashes[slot] == hash) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    int rowAt(int slot) {
+        return rows[slot];
+    }
+
+    void insert(long hash, int row) {
+        if (size >= (rows.length >> 1)) {
+            rehash(rows.length << 1, null);
+        }
+        int slot = homeSlot(hash);
+        while (rows[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        hashes[slot] = hash;
+        rows[slot] = row;
+        size++;
+    }
+
+    /**
+     * Removes the row in the given slot. The following entries of the probe sequence are shifted back instead of
+     * leaving a tombstone, so lookups never need to skip deleted slots.
+     */
+    void removeSlot(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (rows[next] != EMPTY) {
+            int home = homeSlot(hashes[next]);
+            // Move the entry back to the hole unless its home slot lies cyclically within (hole, next].
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                hashes[hole] = hashes[next];
+                rows[hole] = rows[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        rows[hole] = EMPTY;
+        size--;
+    }
+
+    void clear() {
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Rebuilds the index after the rows of the table have been moved, and shrinks it to fit the remaining rows.
+     *
+     * @param positions new position of each row, indexed by its old position
+     */
+    void moveRows(int[] positions) {
+        int capacity = INITIAL_CAPACITY;
+        while (size >= (capacity >> 1)) {
+            capacity <<= 1;
+        }
+        rehash(capacity, positions);
+    }
+
+    private void rehash(int capacity, int[] positions) {
+        long[] oldHashes = hashes;
+        int[] oldRows = rows;
+        allocate(capacity);
+        for (int i = 0; i < oldRows.length; i++) {
+            if (oldRows[i] == EMPTY) {
+                continue;
+            }
+            int slot = homeSlot(oldHashes[i]);
+            while (rows[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = oldHashes[i];
+            rows[slot] = positions == null ? oldRows[i] : positions[oldRows[i]];
+        }
+    }
+
+    private void allocate(int capacity) {
+        hashes = new long[capacity];
+        rows = new int[capacity];
+        Arrays.fill(rows, EMPTY);
+        mask = capacity - 1;
+    }
+
+    private static int spread(long hash) {
+        // Key hashes are often sequential integers, so mix all the bits into the low bits that select the slot.
+        long mixed = hash * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
@@ -52,14 +53,11 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.ValueUtils.createSingletonTypedesc;
@@ -72,45 +70,57 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
 
 /**
  * The runtime representation of table.
+ * <p>
+ * Rows are stored in insertion order in a single array. Keyed tables additionally maintain a {@link TableHashIndex}
+ * from the primitive hash of each key to the position of its row. Secondary indexes on fields which are not part of
+ * the key are maintained the same way, see {@link #lookup(BString, Object)}.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
  *
  * @since 1.3.0
  */
-public class TableValueImpl<K, V> implements TableValue<K, V> {
+public class TableValueImpl<K, V> implements TableValue<K, V>, StructuralHashHolder {
+
+    private static final Object[] EMPTY_ROWS = new Object[0];
+    private static final int INITIAL_ROW_CAPACITY = 8;
+    // Number of lookups on a field which are answered by a scan before an index is built for the field.
+    private static final int INDEX_PROBE_THRESHOLD = 2;
 
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
-    private LinkedHashMap<Long, List<V>> values;
-    private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, K> indexToKeyMap;
-    private LinkedHashMap<K, Long> keyToIndexMap;
-    private LinkedHashMap<K, V> keyValues;
-    private long noOfAddedEntries = 0;
+    // Rows in insertion order. A removed row leaves a null value behind so that the positions of the remaining rows,
+    // which the indexes and the iterators refer to, do not change until the rows are compacted. Keys are only stored
+    // for keyed tables, the row itself is the key of a keyless table.
+    private Object[] rowKeys;
+    private Object[] rowValues = EMPTY_ROWS;
+    private int noOfAddedEntries = 0;
+    private int size = 0;
+    // Compaction which the iterators created since the last compaction wait for, created with the first iterator.
+    private Compaction pendingCompaction;
 
     private boolean nextKeySupported;
 
+    // Readonly tables may be shared between strands without a lock, and looking up a field may create its index. So
+    // the probe counts are only updated while holding the table monitor, and an index is fully built before it is
+    // published by replacing this list.
+    private volatile List<FieldIndex> fieldIndexes;
+    private Map<String, Integer> fieldProbeCounts;
+
     private final Map<String, Object> nativeData = new HashMap<>();
     private BTypedesc typedesc;
+    private Long structuralHash;
 
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
-        this.keyValues = new LinkedHashMap<>();
         if (type.getFieldNames() != null) {
+            this.rowKeys = EMPTY_ROWS;
             this.valueHolder = new KeyHashValueHolder();
         } else {
             this.valueHolder = new ValueHolder();
@@ -233,18 +243,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
         LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
+        for (int row = 0; row < noOfAddedEntries; row++) {
+            if (rowValues[row] != null) {
+                entrySet.add(new AbstractMap.SimpleEntry<>((K) keyAt(row), (V) rowValues[row]));
+            }
         }
-        return new LinkedHashSet(entries.values());
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
+        ArrayList<V> newValues = new ArrayList<>(size);
+        for (int row = 0; row < noOfAddedEntries; row++) {
+            if (rowValues[row] != null) {
+                newValues.add((V) rowValues[row]);
+            }
         }
         return newValues;
     }
@@ -252,12 +265,19 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
+        if (rowKeys != null) {
+            rowKeys = EMPTY_ROWS;
+        }
+        rowValues = EMPTY_ROWS;
         noOfAddedEntries = 0;
+        size = 0;
+        valueHolder.clear();
+        List<FieldIndex> indexes = fieldIndexes;
+        if (indexes != null) {
+            for (FieldIndex fieldIndex : indexes) {
+                fieldIndex.index.clear();
+            }
+        }
     }
 
     @Override
@@ -286,13 +306,128 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
         return this.valueHolder.getKeyType();
     }
 
+    /**
+     * Creates a secondary index on the given field, so that {@link #lookup(BString, Object)} does not have to scan the
+     * table. Only fields which cannot change once the row is in the table can be indexed.
+     *
+     * @param fieldName name of the field
+     * @return true if the field is indexed
+     */
+    public synchronized boolean addIndex(BString fieldName) {
+        if (getFieldIndex(fieldName) != null) {
+            return true;
+        }
+        if (!isIndexableField(fieldName.getValue())) {
+            return false;
+        }
+
+        FieldIndex fieldIndex = new FieldIndex(fieldName);
+        for (int row = 0; row < noOfAddedEntries; row++) {
+            if (rowValues[row] != null) {
+                fieldIndex.insert(row);
+            }
+        }
+        List<FieldIndex> indexes = fieldIndexes == null ? new ArrayList<>(1) : new ArrayList<>(fieldIndexes);
+        indexes.add(fieldIndex);
+        fieldIndexes = indexes;
+        return true;
+    }
+
+    /**
+     * Returns the rows whose given field is equal to the given value, in table order. A field is indexed on demand
+     * once it has been looked up a few times, until then the rows are found by scanning the table.
+     *
+     * @param fieldName name of the field
+     * @param value     value of the field
+     * @return matching rows, or null if the field cannot be indexed
+     */
+    public Object[] lookup(BString fieldName, Object value) {
+        FieldIndex fieldIndex = getFieldIndex(fieldName);
+        if (fieldIndex != null) {
+            return fieldIndex.lookup(value);
+        }
+        if (!isIndexableField(fieldName.getValue())) {
+            return null;
+        }
+
+        if (isFrequentlyProbed(fieldName)) {
+            addIndex(fieldName);
+            return getFieldIndex(fieldName).lookup(value);
+        }
+
+        ArrayList<Object> matches = new ArrayList<>();
+        for (int row = 0; row < noOfAddedEntries; row++) {
+            if (rowValues[row] != null && isEqualKey(value, ((MapValue) rowValues[row]).get(fieldName))) {
+                matches.add(rowValues[row]);
+            }
+        }
+        return matches.toArray();
+    }
+
+    private synchronized boolean isFrequentlyProbed(BString fieldName) {
+        if (fieldProbeCounts == null) {
+            fieldProbeCounts = new HashMap<>();
+        }
+        return fieldProbeCounts.merge(fieldName.getValue(), 1, Integer::sum) >= INDEX_PROBE_THRESHOLD;
+    }
+
+    private FieldIndex getFieldIndex(BString fieldName) {
+        List<FieldIndex> indexes = fieldIndexes;
+        if (indexes != null) {
+            for (FieldIndex fieldIndex : indexes) {
+                if (fieldIndex.fieldName.equals(fieldName)) {
+                    return fieldIndex;
+                }
+            }
+        }
+        return null;
+    }
+
+    // An index is only valid as long as the indexed field of a row does not change, which is guaranteed for readonly
+    // fields and immutable rows.
+    private boolean isIndexableField(String fieldName) {
+        if (isFrozen()) {
+            return true;
+        }
+        Type constraintType = type.getConstrainedType();
+        if (constraintType.getTag() == TypeTags.INTERSECTION_TAG) {
+            constraintType = ((BIntersectionType) constraintType).getEffectiveType();
+        }
+        if (constraintType.isReadOnly()) {
+            return true;
+        }
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        Field field = ((BRecordType) constraintType).getFields().get(fieldName);
+        return field != null && SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
+    }
+
+    private void indexRow(int row) {
+        List<FieldIndex> indexes = fieldIndexes;
+        if (indexes != null) {
+            for (FieldIndex fieldIndex : indexes) {
+                fieldIndex.insert(row);
+            }
+        }
+    }
+
+    private void unindexRow(int row) {
+        List<FieldIndex> indexes = fieldIndexes;
+        if (indexes != null) {
+            for (FieldIndex fieldIndex : indexes) {
+                fieldIndex.remove(row);
+            }
+        }
+    }
+
     @Override
     public V fillAndGet(Object key) {
         if (containsKey(key)) {
@@ -314,17 +449,27 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (rowKeys == null) {
+            return (K[]) EMPTY_ROWS;
+        }
+        Object[] keys = new Object[size];
+        int i = 0;
+        for (int row = 0; row < noOfAddedEntries; row++) {
+            if (rowValues[row] != null) {
+                keys[i++] = rowKeys[row];
+            }
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return values().size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -350,7 +495,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createStringValueDataEntry(itr, parent);
     }
 
@@ -361,28 +506,19 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createExpressionStringValueDataEntry(itr, parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+            sj.add(StringUtils.getStringValue(itr.next(), new CycleUtils.Node(this, parent)));
         }
         return "[" + sj + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -392,16 +528,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getExpressionStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getExpressionStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+            sj.add(StringUtils.getExpressionStringValue(itr.next(), new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -445,38 +572,61 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return iteratorNextReturnType;
     }
 
+    @Override
+    public Long getStructuralHash() {
+        return structuralHash;
+    }
+
+    @Override
+    public void setStructuralHash(Long hash) {
+        this.structuralHash = hash;
+    }
+
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private int cursor;
+        private Compaction compaction;
 
         TableIterator() {
             this.cursor = 0;
+            if (pendingCompaction == null) {
+                pendingCompaction = new Compaction();
+            }
+            this.compaction = pendingCompaction;
         }
 
         @Override
         public Object next() {
-            K key = (K) indexToKeyMap.get(cursor);
-            if (key != null) {
-                V value = (V) keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
-            }
+            skipRemovedRows();
+            K key = (K) keyAt(cursor);
+            V value = (V) rowValues[cursor];
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor++;
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            skipRemovedRows();
+            return cursor < noOfAddedEntries;
+        }
+
+        private void skipRemovedRows() {
+            // Move the cursor to the position of the same row after each compaction since the last call.
+            while (compaction.positions != null) {
+                cursor = compaction.positions[Math.min(cursor, compaction.positions.length - 1)];
+                compaction = compaction.next;
+            }
+            while (cursor < noOfAddedEntries && rowValues[cursor] == null) {
+                cursor++;
+            }
         }
     }
 
@@ -498,18 +648,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entryList);
-            updateIndexKeyMappings((K) data);
-            values.put((long) uuid.hashCode(), newData);
-            keyValues.put((K) data, data);
+            appendRow(null, data);
             return data;
         }
 
@@ -526,14 +665,26 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                                            StringUtils.fromString("keys are not defined"));
         }
+
+        public void clear() {
+        }
+
+        public void moveRows(int[] positions) {
+        }
     }
 
     private class KeyHashValueHolder extends ValueHolder {
         private DefaultKeyWrapper keyWrapper;
         private Type keyType;
+        private final BString[] keyFieldNames;
+        private TableHashIndex keyIndex = new TableHashIndex();
 
         public KeyHashValueHolder() {
             super();
+            keyFieldNames = new BString[fieldNames.length];
+            for (int i = 0; i < fieldNames.length; i++) {
+                keyFieldNames[i] = StringUtils.fromString(fieldNames[i]);
+            }
             if (fieldNames.length > 1) {
                 keyWrapper = new MultiKeyWrapper();
             } else {
@@ -545,141 +696,97 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
+            long hash = this.keyWrapper.hashWrappedKey(key);
 
-            if (containsKey((K) key)) {
+            if (findSlot(key, hash) != -1) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (size == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Long hash = TableUtils.hash(key, null);
-
-            if (keys.containsKey(hash)) {
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
-                Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-                extEntries.add(entry);
-                List<V> extValues = values.get(hash);
-                extValues.add(data);
-                keyValues.put(key, data);
-                updateIndexKeyMappings(key);
-                return;
-            }
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            putData(key, data, newData, entry, hash);
+            keyIndex.insert(hash, appendRow(key, data));
         }
 
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-            if (entryList == null) {
+            int slot = findSlot(key, hashKey(key));
+            if (slot == -1) {
                 return null;
             }
-            if (entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(key, entry.getKey())) {
-                        return entry.getValue();
-                    }
-                }
-            }
-            return entryList.get(0).getValue();
+            return (V) rowValues[keyIndex.rowAt(slot)];
         }
 
         public V putData(K key, V data) {
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            if (!isEqualKey(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
 
-            return putData(key, data, newData, entry, hash);
+            return putData(key, data, hashKey(key));
         }
 
-        private V putData(K key, V value, List<V> data, Map.Entry<K, V> entry, Long hash) {
-
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            entries.put(hash, entryList);
-            keys.put(hash, key);
-            updateIndexKeyMappings(key);
-            values.put(hash, data);
-            keyValues.put(key, value);
-            return data.get(0);
+        private V putData(K key, V value, long hash) {
+            int slot = findSlot(key, hash);
+            if (slot == -1) {
+                keyIndex.insert(hash, appendRow(key, value));
+            } else {
+                // An existing row is replaced in place and keeps its position.
+                int row = keyIndex.rowAt(slot);
+                unindexRow(row);
+                rowKeys[row] = key;
+                rowValues[row] = value;
+                indexRow(row);
+            }
+            return value;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, newData, entry, hash);
+            return putData(key, data, this.keyWrapper.hashWrappedKey(key));
         }
 
         public V remove(K key) {
-            keyValues.remove(key);
-            Long hash = TableUtils.hash(key, null);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            if (entryList != null && entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(key, entry.getKey())) {
-                        List<V> valueList = values.get(hash);
-                        valueList.remove(entry.getValue());
-                        entryList.remove(entry);
-                        Long index = keyToIndexMap.remove(key);
-                        indexToKeyMap.remove(index);
-                        if (index != null && index == noOfAddedEntries - 1) {
-                            noOfAddedEntries--;
-                        }
-                        return entry.getValue();
-                    }
-                }
-            }
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(key);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            List<V> removedValue = values.remove(hash);
-            if (removedValue == null) {
+            int slot = findSlot(key, hashKey(key));
+            if (slot == -1) {
                 return null;
             }
-            return removedValue.get(0);
+            int row = keyIndex.rowAt(slot);
+            keyIndex.removeSlot(slot);
+            return removeRow(row);
         }
 
         public boolean containsKey(K key) {
-            if (keys.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(entry.getKey(), key)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return findSlot(key, hashKey(key)) != -1;
         }
 
         public Type getKeyType() {
             return keyType;
         }
 
+        public void clear() {
+            keyIndex.clear();
+        }
+
+        public void moveRows(int[] positions) {
+            keyIndex.moveRows(positions);
+        }
+
+        /**
+         * Returns the index slot of the row with the given key, or -1 if the table does not have such a row.
+         */
+        private int findSlot(Object key, long hash) {
+            int slot = keyIndex.findSlot(hash, keyIndex.homeSlot(hash));
+            while (slot != -1 && !isEqualKey(key, rowKeys[keyIndex.rowAt(slot)])) {
+                slot = keyIndex.findSlot(hash, keyIndex.nextSlot(slot));
+            }
+            return slot;
+        }
+
         private class DefaultKeyWrapper {
 
             public DefaultKeyWrapper() {
@@ -692,7 +799,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
 
             public K wrapKey(MapValue data) {
-                return (K) data.get(StringUtils.fromString(fieldNames[0]));
+                return (K) data.get(keyFieldNames[0]);
+            }
+
+            public long hashWrappedKey(K key) {
+                return hashKey(key);
             }
         }
 
@@ -716,21 +827,195 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             public K wrapKey(MapValue data) {
                 TupleValueImpl arr = (TupleValueImpl) ValueCreator
                         .createTupleValue((BTupleType) keyType);
-                for (int i = 0; i < fieldNames.length; i++) {
-                    arr.add(i, data.get(StringUtils.fromString(fieldNames[i])));
+                for (int i = 0; i < keyFieldNames.length; i++) {
+                    arr.add(i, data.get(keyFieldNames[i]));
                 }
                 return (K) arr;
             }
+
+            // Same as the structural hash of the key tuple, computed from the key field values of a tuple created by
+            // wrapKey, which can neither be cyclic nor frozen.
+            public long hashWrappedKey(K key) {
+                TupleValueImpl arr = (TupleValueImpl) key;
+                long result = 0;
+                for (int i = 0; i < keyFieldNames.length; i++) {
+                    result = 31 * result + hashKey(arr.getRefValue(i));
+                }
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Secondary index from the hash of a field of the rows to the positions of the rows. Rows with equal field values
+     * share the probe sequence of the hash.
+     */
+    private class FieldIndex {
+        private final BString fieldName;
+        private final TableHashIndex index = new TableHashIndex();
+
+        private FieldIndex(BString fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        private void insert(int row) {
+            index.insert(hashKey(fieldValue(row)), row);
+        }
+
+        private void remove(int row) {
+            long hash = hashKey(fieldValue(row));
+            int slot = index.findSlot(hash, index.homeSlot(hash));
+            while (slot != -1 && index.rowAt(slot) != row) {
+                slot = index.findSlot(hash, index.nextSlot(slot));
+            }
+            if (slot != -1) {
+                index.removeSlot(slot);
+            }
+        }
+
+        private Object[] lookup(Object value) {
+            long hash = hashKey(value);
+            int[] rows = new int[4];
+            int count = 0;
+            int slot = index.findSlot(hash, index.homeSlot(hash));
+            while (slot != -1) {
+                int row = index.rowAt(slot);
+                if (isEqualKey(value, fieldValue(row))) {
+                    if (count == rows.length) {
+                        rows = Arrays.copyOf(rows, count << 1);
+                    }
+                    rows[count++] = row;
+                }
+                slot = index.findSlot(hash, index.nextSlot(slot));
+            }
+
+            // Probe order is unrelated to the table order the query has to produce the rows in.
+            Arrays.sort(rows, 0, count);
+            Object[] values = new Object[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = rowValues[rows[i]];
+            }
+            return values;
+        }
+
+        private Object fieldValue(int row) {
+            return ((MapValue) rowValues[row]).get(fieldName);
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(K key) {
-        if (!keyToIndexMap.containsKey(key)) {
-            keyToIndexMap.put(key, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, key);
-            noOfAddedEntries++;
+    // Hash of a key, int and string keys which are the common case do not need to go through the generic
+    // structural hash.
+    private static long hashKey(Object key) {
+        if (key instanceof Long || key instanceof BString) {
+            return key.hashCode();
+        }
+        return TableUtils.hash(key, null);
+    }
+
+    private static boolean isEqualKey(Object key, Object rowKey) {
+        if ((key instanceof Long && rowKey instanceof Long) || (key instanceof BString && rowKey instanceof BString)) {
+            return key.equals(rowKey);
+        }
+        return TypeChecker.isEqual(key, rowKey);
+    }
+
+    private Object keyAt(int row) {
+        return rowKeys == null ? rowValues[row] : rowKeys[row];
+    }
+
+    // Appends a row and returns its position
+    private int appendRow(Object key, Object value) {
+        if (noOfAddedEntries == rowValues.length) {
+            int capacity = Math.max(INITIAL_ROW_CAPACITY, rowValues.length + (rowValues.length >> 1));
+            rowValues = Arrays.copyOf(rowValues, capacity);
+            if (rowKeys != null) {
+                rowKeys = Arrays.copyOf(rowKeys, capacity);
+            }
+        }
+        if (rowKeys != null) {
+            rowKeys[noOfAddedEntries] = key;
         }
+        rowValues[noOfAddedEntries] = value;
+        size++;
+        indexRow(noOfAddedEntries);
+        return noOfAddedEntries++;
+    }
+
+    private V removeRow(int row) {
+        unindexRow(row);
+        V value = (V) rowValues[row];
+        rowValues[row] = null;
+        if (rowKeys != null) {
+            rowKeys[row] = null;
+        }
+        size--;
+        // Positions after the last remaining row are not referred to by anything, so they can be reused.
+        while (noOfAddedEntries > 0 && rowValues[noOfAddedEntries - 1] == null) {
+            noOfAddedEntries--;
+        }
+        // Rows removed from the front, as from a queue, are only reclaimed by compacting. Compacting once half of the
+        // positions are unused keeps the amortized cost of a removal constant.
+        if (size < (noOfAddedEntries >> 1)) {
+            compactRows();
+        }
+        return value;
+    }
+
+    // Moves the remaining rows to the front without changing their order, and moves the rows in the indexes and the
+    // iterators along with them.
+    private void compactRows() {
+        // Maps each position to the new position of the first remaining row at or after it.
+        int[] positions = new int[noOfAddedEntries + 1];
+        int newPosition = 0;
+        for (int row = 0; row < noOfAddedEntries; row++) {
+            positions[row] = newPosition;
+            if (rowValues[row] == null) {
+                continue;
+            }
+            rowValues[newPosition] = rowValues[row];
+            if (rowKeys != null) {
+                rowKeys[newPosition] = rowKeys[row];
+            }
+            newPosition++;
+        }
+        positions[noOfAddedEntries] = newPosition;
+
+        int capacity = Math.max(INITIAL_ROW_CAPACITY, size << 1);
+        if (rowValues.length > capacity) {
+            rowValues = Arrays.copyOf(rowValues, capacity);
+            if (rowKeys != null) {
+                rowKeys = Arrays.copyOf(rowKeys, capacity);
+            }
+        }
+        Arrays.fill(rowValues, size, Math.min(noOfAddedEntries, rowValues.length), null);
+        if (rowKeys != null) {
+            Arrays.fill(rowKeys, size, Math.min(noOfAddedEntries, rowKeys.length), null);
+        }
+        noOfAddedEntries = size;
+
+        valueHolder.moveRows(positions);
+        List<FieldIndex> indexes = fieldIndexes;
+        if (indexes != null) {
+            for (FieldIndex fieldIndex : indexes) {
+                fieldIndex.index.moveRows(positions);
+            }
+        }
+        if (pendingCompaction != null) {
+            Compaction next = new Compaction();
+            pendingCompaction.next = next;
+            pendingCompaction.positions = positions;
+            pendingCompaction = next;
+        }
+    }
+
+    /**
+     * A compaction of the rows of the table, which the iterators created before it follow to find the rows they
+     * have not visited yet.
+     */
+    private static class Compaction {
+        // New positions of the rows, null until the compaction happens
+        private int[] positions;
+        private Compaction next;
     }
 
     // This method checks for inherent table type violation
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.XmlNodeType;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.XmlNameTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the elements of a read-only xml value by their names, used to select descendants by name without
+ * walking the whole tree.
+ * <p>
+ * Elements are kept in document order and each name maps to the ascending positions of the elements having it. Since
+ * the indexed value is read-only, the index is never invalidated.
+ *
+ * @since 2.0.0
+ */
+final class XmlElementIndex {
+
+    private final XmlItem[] elements;
+    private final Map<String, int[]> positions;
+
+    private XmlElementIndex(XmlItem[] elements, Map<String, int[]> positions) {
+        this.elements = elements;
+        this.positions = positions;
+    }
+
+    /**
+     * Builds the index of the given elements and all of their descendant elements.
+     *
+     * @param roots elements to index
+     * @return index of the elements
+     */
+    static XmlElementIndex build(List<BXml> roots) {
+        List<XmlItem> elementList = new ArrayList<>();
+        for (BXml root : roots) {
+            if (root.getNodeType() == XmlNodeType.ELEMENT) {
+                addElements(elementList, (XmlItem) root);
+            }
+        }
+        XmlItem[] elements = elementList.toArray(new XmlItem[0]);
+
+        Map<String, int[]> counts = new HashMap<>();
+        for (XmlItem element : elements) {
+            counts.computeIfAbsent(element.getElementName(), name -> new int[1])[0]++;
+        }
+        Map<String, int[]> positions = new HashMap<>(counts.size() * 2);
+        for (int i = 0; i < elements.length; i++) {
+            String name = elements[i].getElementName();
+            int[] remaining = counts.get(name);
+            int[] namePositions = positions.computeIfAbsent(name, key -> new int[remaining[0]]);
+            namePositions[namePositions.length - remaining[0]--] = i;
+        }
+        return new XmlElementIndex(elements, positions);
+    }
+
+    private static void addElements(List<XmlItem> elements, XmlItem element) {
+        elements.add(element);
+        for (BXml child : element.getChildrenSeq().getChildrenList()) {
+            if (child.getNodeType() == XmlNodeType.ELEMENT) {
+                addElements(elements, (XmlItem) child);
+            }
+        }
+    }
+
+    /**
+     * Selects the indexed elements matching the given test, in document order. Only exact names are looked up in the
+     * index, the elements are matched one by one against a test with a {@code *} or {@code ns:*} name.
+     *
+     * @param nameTest name test
+     * @return matching elements
+     */
+    List<BXml> select(XmlNameTest nameTest) {
+        if (!nameTest.isExact()) {
+            List<BXml> matches = new ArrayList<>();
+            for (XmlItem element : elements) {
+                if (nameTest.matches(element)) {
+                    matches.add(element);
+                }
+            }
+            return matches;
+        }
+
+        String[] names = nameTest.getNames();
+        int[] selected;
+        if (names.length == 1) {
+            selected = positions.get(names[0]);
+        } else {
+            selected = mergePositions(names);
+        }
+
+        if (selected == null) {
+            return new ArrayList<>();
+        }
+        List<BXml> matches = new ArrayList<>(selected.length);
+        for (int position : selected) {
+            matches.add(elements[position]);
+        }
+        return matches;
+    }
+
+    private int[] mergePositions(String[] names) {
+        int[][] namePositions = new int[names.length][];
+        int total = 0;
+        for (int i = 0; i < names.length; i++) {
+            namePositions[i] = positions.get(names[i]);
+            if (namePositions[i] != null) {
+                total += namePositions[i].length;
+            }
+        }
+
+        int[] merged = new int[total];
+        int size = 0;
+        for (int[] p : namePositions) {
+            if (p != null) {
+                System.arraycopy(p, 0, merged, size, p.length);
+                size += p.length;
+            }
+        }
+        Arrays.sort(merged);
+
+        // the same name may be given more than once
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || merged[distinct - 1] != merged[i]) {
+                merged[distinct++] = merged[i];
+            }
+        }
+        return distinct == size ? merged : Arrays.copyOf(merged, distinct);
+    }
+}
@@ -27,7 +27,9 @@ import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlItem;
 import io.ballerina.runtime.api.values.BXmlSequence;
 import io.ballerina.runtime.internal.BallerinaXmlSerializer;
+import io.ballerina.runtime.internal.Utf8Buffer;
 import io.ballerina.runtime.internal.XmlFactory;
+import io.ballerina.runtime.internal.XmlNameTest;
 import io.ballerina.runtime.internal.XmlValidator;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
@@ -35,11 +37,8 @@ import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMException;
 import org.apache.axiom.om.OMNode;
 
-import java.io.ByteArrayOutputStream;
 import java.lang.ref.WeakReference;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -67,10 +66,14 @@ import static io.ballerina.runtime.internal.ValueUtils.createSingletonTypedesc;
 public final class XmlItem extends XmlValue implements BXmlItem {
 
     private QName name;
+    // Interned expanded name of the element, computed on first use.
+    private String elementName;
     private XmlSequence children;
     private AttributeMapValueImpl attributes;
     // Keep track of probable parents of xml element to detect probable cycles in xml.
     private List<WeakReference<XmlItem>> probableParents;
+    // Built on the first descendant selection, only once the element is read-only.
+    private volatile XmlElementIndex elementIndex;
 
     public XmlItem(QName name, XmlSequence children, boolean readonly) {
         this.name = name;
@@ -167,7 +170,12 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public String getElementName() {
-        return name.toString();
+        String elementName = this.elementName;
+        if (elementName == null) {
+            elementName = name.toString().intern();
+            this.elementName = elementName;
+        }
+        return elementName;
     }
 
     public QName getQName() {
@@ -175,7 +183,11 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     }
 
     public void setQName(QName name) {
+        if (this.type.isReadOnly()) {
+            ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
+        }
         this.name = name;
+        this.elementName = null;
     }
 
     /**
@@ -411,12 +423,30 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public XmlValue descendants(List<String> qnames) {
-        if (qnames.contains(getQName().toString())) {
-            List<BXml> descendants = Arrays.asList(this);
-            addDescendants(descendants, this, qnames);
+        return descendants(XmlNameTest.forNames(qnames));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public XmlValue descendants(XmlNameTest nameTest) {
+        if (this.type.isReadOnly()) {
+            XmlElementIndex index = this.elementIndex;
+            if (index == null) {
+                index = XmlElementIndex.build(Collections.singletonList(this));
+                this.elementIndex = index;
+            }
+            return new XmlSequence(index.select(nameTest));
+        }
+
+        if (nameTest.matches(this)) {
+            List<BXml> descendants = new ArrayList<>();
+            descendants.add(this);
+            addDescendants(descendants, this, nameTest);
             return new XmlSequence(descendants);
         }
-        return children.descendants(qnames);
+        return children.descendants(nameTest);
     }
 
     @Override
@@ -460,16 +490,18 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     @Override
     @Deprecated
     public String stringValue(BLink parent) {
+        Utf8Buffer outputStream = Utf8Buffer.acquire();
         try {
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             BallerinaXmlSerializer ballerinaXMLSerializer = new BallerinaXmlSerializer(outputStream);
             ballerinaXMLSerializer.write(this);
             ballerinaXMLSerializer.flush();
-            String xml = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+            String xml = outputStream.toString();
             ballerinaXMLSerializer.close();
             return xml;
         } catch (Throwable t) {
             handleXmlException("failed to get xml as string: ", t);
+        } finally {
+            outputStream.release();
         }
         return STRING_NULL_VALUE;
     }
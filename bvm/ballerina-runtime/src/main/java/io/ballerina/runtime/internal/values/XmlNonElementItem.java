@@ -25,10 +25,9 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlNonElementItem;
 import io.ballerina.runtime.internal.BallerinaXmlSerializer;
+import io.ballerina.runtime.internal.Utf8Buffer;
 import org.apache.axiom.om.OMNode;
 
-import java.io.ByteArrayOutputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -183,16 +182,18 @@ public abstract class XmlNonElementItem extends XmlValue implements BXmlNonEleme
 
     @Override
     public String stringValue(BLink parent) {
+        Utf8Buffer outputStream = Utf8Buffer.acquire();
         try {
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             BallerinaXmlSerializer ballerinaXMLSerializer = new BallerinaXmlSerializer(outputStream);
             ballerinaXMLSerializer.write(this);
             ballerinaXMLSerializer.flush();
-            String str = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+            String str = outputStream.toString();
             ballerinaXMLSerializer.close();
             return str;
         } catch (Throwable t) {
             handleXmlException("failed to get xml as string: ", t);
+        } finally {
+            outputStream.release();
         }
         return STRING_NULL_VALUE;
     }
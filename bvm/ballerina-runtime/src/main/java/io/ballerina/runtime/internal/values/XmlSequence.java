@@ -30,6 +30,7 @@ import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlSequence;
 import io.ballerina.runtime.internal.CycleUtils;
 import io.ballerina.runtime.internal.IteratorUtils;
+import io.ballerina.runtime.internal.XmlNameTest;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.types.BXmlType;
@@ -60,6 +61,8 @@ import static io.ballerina.runtime.internal.ValueUtils.createSingletonTypedesc;
 public final class XmlSequence extends XmlValue implements BXmlSequence {
 
     List<BXml> children;
+    // Built on the first descendant selection, only once the sequence is read-only.
+    private volatile XmlElementIndex elementIndex;
 
     /**
      * Create an empty xml sequence.
@@ -405,15 +408,31 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
      */
     @Override
     public XmlValue descendants(List<String> qnames) {
+        return descendants(XmlNameTest.forNames(qnames));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public XmlValue descendants(XmlNameTest nameTest) {
+        if (this.type.isReadOnly()) {
+            XmlElementIndex index = this.elementIndex;
+            if (index == null) {
+                index = XmlElementIndex.build(children);
+                this.elementIndex = index;
+            }
+            return new XmlSequence(index.select(nameTest));
+        }
+
         List<BXml> descendants = new ArrayList<>();
         for (BXml child : children) {
             if (child.getNodeType() == XmlNodeType.ELEMENT) {
                 XmlItem element = (XmlItem) child;
-                String name = element.getQName().toString();
-                if (qnames.contains(name)) {
+                if (nameTest.matches(element)) {
                     descendants.add(element);
                 }
-                addDescendants(descendants, element, qnames);
+                addDescendants(descendants, element, nameTest);
             }
         }
 
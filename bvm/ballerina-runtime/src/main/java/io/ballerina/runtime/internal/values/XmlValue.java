@@ -27,9 +27,11 @@ import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlQName;
 import io.ballerina.runtime.internal.BallerinaXmlSerializer;
 import io.ballerina.runtime.internal.IteratorUtils;
+import io.ballerina.runtime.internal.XmlNameTest;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -52,12 +54,13 @@ import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
  *
  * @since 0.995.0
  */
-public abstract class XmlValue implements RefValue, BXml, CollectionValue {
+public abstract class XmlValue implements RefValue, BXml, CollectionValue, StructuralHashHolder {
 
     Type type = PredefinedTypes.TYPE_XML;
     protected BTypedesc typedesc = new TypedescValueImpl(type);
 
     protected Type iteratorNextReturnType;
+    private Long structuralHash;
 
     public abstract int size();
 
@@ -176,19 +179,28 @@ public abstract class XmlValue implements RefValue, BXml, CollectionValue {
     }
 
     /**
-     * Recursively traverse and add the descendant with the given name to the descendants list.
+     * Searches in children recursively for elements matching the given name test.
+     *
+     * @param nameTest compiled name test of the descendants to select
+     * @return All the descendants that matches the given name test, as a sequence, in order of match
+     */
+    public XmlValue descendants(XmlNameTest nameTest) {
+        return (XmlValue) descendants(Arrays.asList(nameTest.getNames()));
+    }
+
+    /**
+     * Recursively traverse and add the descendants matching the given name test to the descendants list.
      * @param descendants List to add descendants
      * @param currentElement Current node
-     * @param qnames Qualified names of the descendants to search
+     * @param nameTest Compiled name test of the descendants to search
      */
-    protected void addDescendants(List<BXml> descendants, XmlItem currentElement, List<String> qnames) {
+    protected void addDescendants(List<BXml> descendants, XmlItem currentElement, XmlNameTest nameTest) {
         for (BXml child : currentElement.getChildrenSeq().getChildrenList()) {
             if (child.getNodeType() == XmlNodeType.ELEMENT) {
-                String elemName = ((XmlItem) child).getQName().toString();
-                if (qnames.contains(elemName)) {
+                if (nameTest.matches(child)) {
                     descendants.add(child);
                 }
-                addDescendants(descendants, (XmlItem) child, qnames);
+                addDescendants(descendants, (XmlItem) child, nameTest);
             }
         }
     }
@@ -263,4 +275,14 @@ public abstract class XmlValue implements RefValue, BXml, CollectionValue {
         return iteratorNextReturnType;
     }
 
+    @Override
+    public Long getStructuralHash() {
+        return structuralHash;
+    }
+
+    @Override
+    public void setStructuralHash(Long hash) {
+        this.structuralHash = hash;
+    }
+
 }
@@ -70,6 +70,11 @@ public class ObserveUtils {
     private static final BString metricsReporter;
     private static final boolean tracingEnabled;
     private static final BString tracingProvider;
+    private static final BString tracingSampler;
+    private static final double tracingSamplerRatio;
+    private static final long tracingSamplerRateLimit;
+    private static final boolean tracingSamplerParentBased;
+    private static final long tracingSpanBufferSize;
 
     static {
         // TODO: Move config initialization to ballerina level once checking config key is possible at ballerina level
@@ -86,12 +91,27 @@ public class ObserveUtils {
                 , false);
         VariableKey tracingProviderKey = new VariableKey(observeModule, "tracingProvider",
                 PredefinedTypes.TYPE_STRING, false);
+        VariableKey tracingSamplerKey = new VariableKey(observeModule, "tracingSampler",
+                PredefinedTypes.TYPE_STRING, false);
+        VariableKey tracingSamplerRatioKey = new VariableKey(observeModule, "tracingSamplerRatio",
+                PredefinedTypes.TYPE_FLOAT, false);
+        VariableKey tracingSamplerRateLimitKey = new VariableKey(observeModule, "tracingSamplerRateLimit",
+                PredefinedTypes.TYPE_INT, false);
+        VariableKey tracingSamplerParentBasedKey = new VariableKey(observeModule, "tracingSamplerParentBased",
+                PredefinedTypes.TYPE_BOOLEAN, false);
+        VariableKey tracingSpanBufferSizeKey = new VariableKey(observeModule, "tracingSpanBufferSize",
+                PredefinedTypes.TYPE_INT, false);
 
         metricsEnabled = readConfig(metricsEnabledKey, enabledKey, false);
         metricsProvider = readConfig(metricsProviderKey, null, StringUtils.fromString("default"));
         metricsReporter = readConfig(metricsReporterKey, providerKey, StringUtils.fromString("choreo"));
         tracingEnabled = readConfig(tracingEnabledKey, enabledKey, false);
         tracingProvider = readConfig(tracingProviderKey, providerKey, StringUtils.fromString("choreo"));
+        tracingSampler = readConfig(tracingSamplerKey, null, StringUtils.fromString("always"));
+        tracingSamplerRatio = readConfig(tracingSamplerRatioKey, null, 1.0);
+        tracingSamplerRateLimit = readConfig(tracingSamplerRateLimitKey, null, 100L);
+        tracingSamplerParentBased = readConfig(tracingSamplerParentBasedKey, null, true);
+        tracingSpanBufferSize = readConfig(tracingSpanBufferSizeKey, null, 0L);
         enabled = metricsEnabled || tracingEnabled;
     }
 
@@ -131,6 +151,26 @@ public class ObserveUtils {
         return tracingProvider;
     }
 
+    public static BString getTracingSampler() {
+        return tracingSampler;
+    }
+
+    public static double getTracingSamplerRatio() {
+        return tracingSamplerRatio;
+    }
+
+    public static long getTracingSamplerRateLimit() {
+        return tracingSamplerRateLimit;
+    }
+
+    public static boolean isTracingSamplerParentBased() {
+        return tracingSamplerParentBased;
+    }
+
+    public static long getTracingSpanBufferSize() {
+        return tracingSpanBufferSize;
+    }
+
     /**
      * Add metrics and tracing observers.
      *
@@ -20,6 +20,8 @@ package io.ballerina.runtime.observability;
 import io.ballerina.runtime.observability.metrics.Tag;
 import io.ballerina.runtime.observability.tracer.BSpan;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -101,6 +103,15 @@ public class ObserverContext {
         return new HashSet<>(tags.values());
     }
 
+    /**
+     * Returns a read-only view of the tags of this context, which unlike {@link #getAllTags()} does not copy them.
+     *
+     * @return the tags of this context
+     */
+    public Collection<Tag> getTagValues() {
+        return Collections.unmodifiableCollection(tags.values());
+    }
+
     public BSpan getSpan() {
         return span;
     }
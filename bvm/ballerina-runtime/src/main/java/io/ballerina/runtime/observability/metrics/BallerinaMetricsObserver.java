@@ -17,12 +17,12 @@
  */
 package io.ballerina.runtime.observability.metrics;
 
+import io.ballerina.runtime.internal.scheduling.SchedulerTelemetry;
 import io.ballerina.runtime.observability.BallerinaObserver;
 import io.ballerina.runtime.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -57,6 +57,29 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    // Maximum number of sets of tags for which the resolved metrics are kept
+    private static final int MAX_CACHED_TAG_SETS = 4096;
+
+    // The tags of the observation in progress on each thread, which are probed against the cached sets of tags
+    private static final ThreadLocal<TagSet> TAG_SETS = ThreadLocal.withInitial(TagSet::new);
+
+    private static final Tag[] STATUS_CODE_GROUP_TAGS = new Tag[10];
+
+    static {
+        for (int i = 0; i < STATUS_CODE_GROUP_TAGS.length; i++) {
+            STATUS_CODE_GROUP_TAGS[i] = Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, i + STATUS_CODE_GROUP_SUFFIX);
+        }
+    }
+
+    private final MetricsCache<Gauge> inProgressGauges =
+            new MetricsCache<>(metricRegistry, MAX_CACHED_TAG_SETS, BallerinaMetricsObserver::createInProgressGauge);
+    private final MetricsCache<ResponseMetrics> responseMetrics =
+            new MetricsCache<>(metricRegistry, MAX_CACHED_TAG_SETS, ResponseMetrics::new);
+
+    public BallerinaMetricsObserver() {
+        SchedulerTelemetry.registerMetrics(metricRegistry);
+    }
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -87,10 +110,11 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private void startObservation(ObserverContext observerContext) {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        Set<Tag> tags = observerContext.getAllTags();
+        TagSet tags = TAG_SETS.get();
+        tags.clear();
+        tags.addAll(observerContext.getTagValues());
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = inProgressGauges.get(tags);
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -104,37 +128,66 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = new HashSet<>();
+        TagSet tags = TAG_SETS.get();
+        tags.clear();
         Map<String, Tag> customTags = observerContext.customMetricTags;
         if (customTags != null) {
             tags.addAll(customTags.values());
         }
-        tags.addAll(observerContext.getAllTags());
+        tags.addAll(observerContext.getTagValues());
 
         // Add status_code_group tag
         Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
         if (statusCode != null && statusCode > 0) {
-            tags.add(Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, (statusCode / 100) + STATUS_CODE_GROUP_SUFFIX));
+            tags.add(getStatusCodeGroupTag(statusCode / 100));
         }
 
         try {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            ResponseMetrics metrics = responseMetrics.get(tags);
+            metrics.responseTime.setValue(duration / 1E9);
+            metrics.responseTimeTotal.increment(duration);
+            metrics.requestsTotal.increment();
         } catch (RuntimeException e) {
             handleError("multiple metrics", tags, e);
         }
     }
 
-    private void handleError(String metricName, Set<Tag> tags, RuntimeException e) {
+    private static Gauge createInProgressGauge(Set<Tag> tags) {
+        return metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests", tags));
+    }
+
+    private static Tag getStatusCodeGroupTag(int statusCodeGroup) {
+        if (statusCodeGroup < STATUS_CODE_GROUP_TAGS.length) {
+            return STATUS_CODE_GROUP_TAGS[statusCodeGroup];
+        }
+        return Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, statusCodeGroup + STATUS_CODE_GROUP_SUFFIX);
+    }
+
+    private void handleError(String metricName, TagSet tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * The metrics updated when an observation stops, resolved for one set of tags.
+     */
+    private static class ResponseMetrics {
+
+        private final Gauge responseTime;
+        private final Counter responseTimeTotal;
+        private final Counter requestsTotal;
+
+        private ResponseMetrics(Set<Tag> tags) {
+            this.responseTime = metricRegistry.gauge(new MetricId("response_time_seconds",
+                    "Response time", tags), responseTimeStatisticConfigs);
+            this.responseTimeTotal = metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                    "Total response response time for all requests", tags));
+            this.requestsTotal = metricRegistry.counter(new MetricId("requests_total",
+                    "Total number of requests", tags));
+        }
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Keeps the metrics resolved from a {@link MetricRegistry} for each set of tags, so that an observation which repeats
+ * a set of tags does not look its metrics up in the registry. The metrics are resolved again once any metric is
+ * removed from the registry, as a removed metric is no longer reported.
+ *
+ * @param <M> the metrics resolved for a set of tags
+ * @since 2.0.0
+ */
+final class MetricsCache<M> {
+
+    private final MetricRegistry metricRegistry;
+    private final int maxSize;
+    private final Function<Set<Tag>, M> resolver;
+    private final ConcurrentMap<TagSet, Entry<M>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache of metrics.
+     *
+     * @param metricRegistry registry from which the metrics are resolved
+     * @param maxSize        maximum number of sets of tags for which the metrics are kept, after which the metrics of
+     *                       new sets are resolved from the registry on every observation
+     * @param resolver       resolves the metrics for a set of tags from the registry
+     */
+    MetricsCache(MetricRegistry metricRegistry, int maxSize, Function<Set<Tag>, M> resolver) {
+        this.metricRegistry = metricRegistry;
+        this.maxSize = maxSize;
+        this.resolver = resolver;
+    }
+
+    M get(TagSet tags) {
+        // Read before resolving, so that metrics resolved while a metric is removed are resolved again
+        int removals = metricRegistry.getRemovals();
+        Entry<M> entry = entries.get(tags);
+        if (entry != null && entry.removals == removals) {
+            return entry.metrics;
+        }
+        TagSet key = tags.copy();
+        M metrics = resolver.apply(key.getTags());
+        if (entry != null || entries.size() < maxSize) {
+            entries.put(key, new Entry<>(metrics, removals));
+        }
+        return metrics;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static class Entry<M> {
+
+        private final M metrics;
+        // Number of metrics removed from the registry before the metrics were resolved
+        private final int removals;
+
+        private Entry(M metrics, int removals) {
+            this.metrics = metrics;
+            this.removals = removals;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.observability.metrics;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A set of {@link Tag}s used to look up the metrics resolved for them. A mutable instance is filled with the tags of
+ * an observation and probed against immutable copies held as keys, so that an observation which repeats a set of
+ * tags does not build a {@link Set} for it. The hash code is the sum of the precomputed tag hashes, which is the same
+ * as that of a {@link Set} holding the tags.
+ *
+ * @since 2.0.0
+ */
+final class TagSet {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Tag[] tags;
+    private int size;
+    private int hashCode;
+    // Only set in the immutable copies, which are compared against the tags of many observations
+    private final Set<Tag> tagSet;
+
+    TagSet() {
+        this.tags = new Tag[INITIAL_CAPACITY];
+        this.tagSet = null;
+    }
+
+    private TagSet(Tag[] tags, int hashCode) {
+        this.tags = tags;
+        this.size = tags.length;
+        this.hashCode = hashCode;
+        this.tagSet = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(tags)));
+    }
+
+    void clear() {
+        Arrays.fill(tags, 0, size, null);
+        size = 0;
+        hashCode = 0;
+    }
+
+    void add(Tag tag) {
+        if (contains(tag)) {
+            return;
+        }
+        if (size == tags.length) {
+            tags = Arrays.copyOf(tags, size * 2);
+        }
+        tags[size++] = tag;
+        hashCode += tag.hashCode();
+    }
+
+    void addAll(Collection<Tag> tags) {
+        for (Tag tag : tags) {
+            add(tag);
+        }
+    }
+
+    /**
+     * Returns an immutable copy of this set, which can be held as a key.
+     *
+     * @return an immutable copy of the tags of this set
+     */
+    TagSet copy() {
+        return new TagSet(Arrays.copyOf(tags, size), hashCode);
+    }
+
+    /**
+     * Returns the tags of an immutable copy of a set, to create the {@link MetricId}s of the metrics resolved for it.
+     *
+     * @return the tags of this set
+     */
+    Set<Tag> getTags() {
+        return tagSet;
+    }
+
+    private boolean contains(Tag tag) {
+        if (tagSet != null) {
+            return tagSet.contains(tag);
+        }
+        int tagHash = tag.hashCode();
+        for (int i = 0; i < size; i++) {
+            if (tags[i].hashCode() == tagHash && tags[i].equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TagSet)) {
+            return false;
+        }
+        TagSet other = (TagSet) o;
+        if (hashCode != other.hashCode || size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!other.contains(tags[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(tags, size));
+    }
+}
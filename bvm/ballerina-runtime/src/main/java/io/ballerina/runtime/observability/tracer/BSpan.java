@@ -30,16 +30,23 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapGetter;
 import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.context.propagation.TextMapSetter;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@code BSpan} holds the trace of the current context.
@@ -49,6 +56,12 @@ import java.util.Map;
 public class BSpan {
     private final Tracer tracer;
     private final Span span;
+    // Epoch and monotonic times taken together when the first span of the trace in this process starts, which the
+    // rest of its spans in this process share, as the SDK does. The start and end times of the spans are measured
+    // from this anchor, so that they come from the same clock whether a span is ended by the program or later by the
+    // span buffer.
+    private final long anchorEpochNanos;
+    private final long anchorNanoTime;
     private BMap<BString, Object> bSpanContext;
     private static final MapType IMMUTABLE_STRING_MAP_TYPE = TypeCreator.createMapType(
             PredefinedTypes.TYPE_STRING, true);
@@ -77,12 +90,26 @@ public class BSpan {
         }
     }
 
-    private BSpan(Tracer tracer, Span span) {
+    private BSpan(Tracer tracer, Span span, long anchorEpochNanos, long anchorNanoTime) {
         this.tracer = tracer;
         this.span = span;
+        this.anchorEpochNanos = anchorEpochNanos;
+        this.anchorNanoTime = anchorNanoTime;
     }
 
-    private static BSpan start(Tracer tracer, Context parentContext, String operationName, boolean isClient) {
+    private static BSpan start(Tracer tracer, Context parentContext, BSpan parentSpan, String operationName,
+                               boolean isClient) {
+        long anchorEpochNanos;
+        long anchorNanoTime;
+        if (parentSpan != null) {
+            anchorEpochNanos = parentSpan.anchorEpochNanos;
+            anchorNanoTime = parentSpan.anchorNanoTime;
+        } else {
+            Instant now = Instant.now();
+            anchorNanoTime = System.nanoTime();
+            anchorEpochNanos = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+        }
+
         SpanBuilder builder = tracer.spanBuilder(operationName);
         if (parentContext != null) {
             builder.setParent(parentContext);
@@ -91,8 +118,9 @@ public class BSpan {
                 ? TraceConstants.TAG_SPAN_KIND_CLIENT
                 : TraceConstants.TAG_SPAN_KIND_SERVER);
         builder.setSpanKind(isClient ? SpanKind.CLIENT : SpanKind.SERVER);
+        builder.setStartTimestamp(anchorEpochNanos + (System.nanoTime() - anchorNanoTime), TimeUnit.NANOSECONDS);
         Span span = builder.startSpan();
-        return new BSpan(tracer, span);
+        return new BSpan(tracer, span, anchorEpochNanos, anchorNanoTime);
     }
 
     /**
@@ -105,7 +133,7 @@ public class BSpan {
      */
     public static BSpan start(String serviceName, String operationName, boolean isClient) {
         Tracer tracer = TracersStore.getInstance().getTracer(serviceName);
-        return start(tracer, null, operationName, isClient);
+        return start(tracer, null, null, operationName, isClient);
     }
 
     /**
@@ -120,7 +148,7 @@ public class BSpan {
     public static BSpan start(BSpan parentSpan, String serviceName, String operationName, boolean isClient) {
         Tracer tracer = TracersStore.getInstance().getTracer(serviceName);
         Context parentContext = Context.current().with(parentSpan.span);
-        return start(tracer, parentContext, operationName, isClient);
+        return start(tracer, parentContext, parentSpan, operationName, isClient);
     }
 
     /**
@@ -136,15 +164,72 @@ public class BSpan {
      */
     public static BSpan start(Map<String, String> parentTraceContext, String serviceName, String operationName,
                               boolean isClient) {
+        return start(extractParentContext(parentTraceContext), serviceName, operationName, isClient);
+    }
 
+    /**
+     * Start a new span with a parent context extracted from a trace context with
+     * {@link #extractParentContext(Map)}.
+     *
+     * @param parentContext The parent context
+     * @param serviceName   The name of the service the span belongs to
+     * @param operationName The name of the operation the span corresponds to
+     * @param isClient      True if this is a client span
+     * @return The new span
+     */
+    static BSpan start(Context parentContext, String serviceName, String operationName, boolean isClient) {
         Tracer tracer = TracersStore.getInstance().getTracer(serviceName);
-        Context parentContext = TracersStore.getInstance().getPropagators()
+        return start(tracer, parentContext, null, operationName, isClient);
+    }
+
+    /**
+     * Extract the context of the parent span from the trace context propagated by the caller of the current service.
+     *
+     * @param parentTraceContext Contains http headers of request received
+     * @return The parent context
+     */
+    static Context extractParentContext(Map<String, String> parentTraceContext) {
+        return TracersStore.getInstance().getPropagators()
                 .getTextMapPropagator().extract(Context.current(), parentTraceContext, getter);
-        return start(tracer, parentContext, operationName, isClient);
+    }
+
+    /**
+     * Injects the context of a new trace which is not sampled into a trace context, so that the services called
+     * while handling a request which is not traced do not sample it either.
+     *
+     * @param carrier trace context to be propagated to the called services
+     */
+    static void injectUnsampledContext(Map<String, String> carrier) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long traceIdLow;
+        do {
+            traceIdLow = random.nextLong();
+        } while (traceIdLow == 0);
+        long spanId;
+        do {
+            spanId = random.nextLong();
+        } while (spanId == 0);
+        SpanContext spanContext = SpanContext.create(TraceId.fromLongs(random.nextLong(), traceIdLow),
+                SpanId.fromLong(spanId), TraceFlags.getDefault(), TraceState.getDefault());
+        TracersStore.getInstance().getPropagators().getTextMapPropagator()
+                .inject(Context.root().with(Span.wrap(spanContext)), carrier, setter);
     }
 
     public void finishSpan() {
-        span.end();
+        span.end(currentEpochNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    void finishSpan(long endEpochNanos) {
+        span.end(endEpochNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the current time by the clock the start and end times of this span are measured with.
+     *
+     * @return nanoseconds since the epoch
+     */
+    long currentEpochNanos() {
+        return anchorEpochNanos + (System.nanoTime() - anchorNanoTime);
     }
 
     public void addEvent(String eventName, Attributes attributes) {
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.observability.tracer;
+
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded buffer of spans which have been finished by the program, which are completed and ended in batches on a
+ * background thread. The request thread only captures the end time of a span and queues it, so that setting the
+ * attributes of spans and exporting them does not add latency to requests. The end time is captured with the clock the
+ * start time of the span was taken with. Spans which do not fit in the buffer are dropped and counted.
+ *
+ * @since 2.0.0
+ */
+public class SpanBuffer {
+
+    private static final int MAX_BATCH_SIZE = 512;
+
+    private static final PrintStream consoleError = System.err;
+
+    private final BlockingQueue<FinishedSpan> queue;
+    private final AtomicLong bufferedSpans = new AtomicLong();
+    private final AtomicLong droppedSpans = new AtomicLong();
+
+    SpanBuffer(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Thread worker = new Thread(this::endSpans, "ballerina-span-buffer");
+        worker.setDaemon(true);
+        worker.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "ballerina-span-buffer-flush"));
+    }
+
+    /**
+     * Queues a finished span to be completed and ended on the background thread.
+     *
+     * @param span the span to be ended
+     * @return true if the span was queued, false if it was dropped as the buffer was full
+     */
+    boolean add(FinishedSpan span) {
+        if (queue.offer(span)) {
+            bufferedSpans.incrementAndGet();
+            return true;
+        }
+        droppedSpans.incrementAndGet();
+        return false;
+    }
+
+    public long getBufferedSpanCount() {
+        return bufferedSpans.get();
+    }
+
+    public long getDroppedSpanCount() {
+        return droppedSpans.get();
+    }
+
+    /**
+     * Registers the span counts of this buffer in a metric registry.
+     *
+     * @param registry the metric registry to publish the counts to
+     */
+    public void registerMetrics(MetricRegistry registry) {
+        registry.polledGauge(new MetricId("tracing_buffered_spans_total", "Number of spans queued to be ended",
+                Collections.emptySet()), this, SpanBuffer::getBufferedSpanCount);
+        registry.polledGauge(new MetricId("tracing_dropped_spans_total",
+                "Number of spans dropped as the span buffer was full", Collections.emptySet()), this,
+                SpanBuffer::getDroppedSpanCount);
+    }
+
+    private void endSpans() {
+        List<FinishedSpan> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            endBatch(batch);
+        }
+    }
+
+    void flush() {
+        List<FinishedSpan> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (queue.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+            endBatch(batch);
+        }
+    }
+
+    private static void endBatch(List<FinishedSpan> batch) {
+        for (FinishedSpan span : batch) {
+            try {
+                span.end();
+            } catch (RuntimeException e) {
+                // Continue with the rest of the batch, as the spans are independent of each other
+                consoleError.println("error: error ending span: " + e.getMessage());
+            }
+        }
+        batch.clear();
+    }
+
+    /**
+     * A span which has been finished by the program, together with what is needed to complete it.
+     */
+    abstract static class FinishedSpan {
+
+        private final long endEpochNanos;
+
+        /**
+         * Creates a span which was finished at the given time.
+         *
+         * @param endEpochNanos the time at which the span was finished, in nanoseconds since the epoch
+         */
+        FinishedSpan(long endEpochNanos) {
+            this.endEpochNanos = endEpochNanos;
+        }
+
+        /**
+         * Completes the span and ends it with the given end time.
+         *
+         * @param endEpochNanos the time at which the span was finished, in nanoseconds since the epoch
+         */
+        abstract void end(long endEpochNanos);
+
+        void end() {
+            end(endEpochNanos);
+        }
+    }
+}
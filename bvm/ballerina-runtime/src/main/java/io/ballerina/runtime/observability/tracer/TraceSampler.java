@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.observability.tracer;
+
+import io.opentelemetry.api.trace.SpanContext;
+
+import java.io.PrintStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides whether a trace which is started without a sampled parent is sampled. The decision is made before any span
+ * is created, so that traces which are not sampled do not allocate spans, span contexts or propagation carriers.
+ *
+ * @since 2.0.0
+ */
+public abstract class TraceSampler {
+
+    public static final String ALWAYS = "always";
+    public static final String NEVER = "never";
+    public static final String RATIO = "ratio";
+    public static final String RATE_LIMITING = "ratelimiting";
+
+    private static final PrintStream consoleError = System.err;
+
+    private static final TraceSampler ALWAYS_SAMPLER = new TraceSampler() {
+        @Override
+        public boolean sample() {
+            return true;
+        }
+    };
+
+    private static final TraceSampler NEVER_SAMPLER = new TraceSampler() {
+        @Override
+        public boolean sample() {
+            return false;
+        }
+    };
+
+    /**
+     * Decides whether a new trace is sampled.
+     *
+     * @return true if the trace is sampled
+     */
+    public abstract boolean sample();
+
+    /**
+     * Decides whether a span whose parent is in the service which called this service is sampled.
+     *
+     * @param parentContext context of the parent span, which is invalid if the caller did not propagate a trace
+     * @param parentBased   true if the decision of the parent is followed
+     * @return true if the span is sampled
+     */
+    public boolean sampleRemoteChild(SpanContext parentContext, boolean parentBased) {
+        if (parentBased && parentContext.isValid()) {
+            return parentContext.isSampled();
+        }
+        return sample();
+    }
+
+    /**
+     * Decides whether a span whose parent in this service is not sampled is sampled.
+     *
+     * @param parentBased true if the decision of the parent is followed
+     * @return true if the span is sampled
+     */
+    public boolean sampleLocalChild(boolean parentBased) {
+        return !parentBased && sample();
+    }
+
+    /**
+     * Creates the sampler of a type.
+     *
+     * @param type      one of {@link #ALWAYS}, {@link #NEVER}, {@link #RATIO} and {@link #RATE_LIMITING}
+     * @param ratio     the ratio of traces sampled by a {@link #RATIO} sampler
+     * @param rateLimit the number of traces sampled per second by a {@link #RATE_LIMITING} sampler
+     * @return the sampler
+     */
+    public static TraceSampler create(String type, double ratio, long rateLimit) {
+        switch (type) {
+            case ALWAYS:
+                return ALWAYS_SAMPLER;
+            case NEVER:
+                return NEVER_SAMPLER;
+            case RATIO:
+                if (!(ratio >= 0 && ratio <= 1)) {
+                    consoleError.println("error: invalid trace sampling ratio " + ratio + ", sampling all traces");
+                    return ALWAYS_SAMPLER;
+                }
+                return ratio == 1 ? ALWAYS_SAMPLER : new RatioSampler(ratio);
+            case RATE_LIMITING:
+                if (rateLimit < 0) {
+                    consoleError.println("error: invalid trace sampling rate limit " + rateLimit +
+                            ", sampling all traces");
+                    return ALWAYS_SAMPLER;
+                }
+                return rateLimit == 0 ? NEVER_SAMPLER : new RateLimitingSampler(rateLimit);
+            default:
+                consoleError.println("error: unknown trace sampler " + type + ", sampling all traces");
+                return ALWAYS_SAMPLER;
+        }
+    }
+
+    /**
+     * Samples each trace with a fixed probability.
+     */
+    private static class RatioSampler extends TraceSampler {
+
+        private final double ratio;
+
+        private RatioSampler(double ratio) {
+            this.ratio = ratio;
+        }
+
+        @Override
+        public boolean sample() {
+            return ThreadLocalRandom.current().nextDouble() < ratio;
+        }
+    }
+
+    /**
+     * Samples up to a number of traces per second, allowing bursts of up to a second worth of traces. The time at
+     * which the next trace can be sampled is advanced with a compare-and-set, so that sampling does not lock.
+     */
+    private static class RateLimitingSampler extends TraceSampler {
+
+        private static final long BURST_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private final long intervalNanos;
+        private final AtomicLong nextSampleTime;
+
+        private RateLimitingSampler(long tracesPerSecond) {
+            this.intervalNanos = Math.max(1, BURST_NANOS / tracesPerSecond);
+            this.nextSampleTime = new AtomicLong(System.nanoTime() - BURST_NANOS);
+        }
+
+        @Override
+        public boolean sample() {
+            long now = System.nanoTime();
+            while (true) {
+                long current = nextSampleTime.get();
+                // Capacity which was not used within the last second is not carried over.
+                long next = Math.max(current, now - BURST_NANOS) + intervalNanos;
+                if (next - now > 0) {
+                    return false;
+                }
+                if (nextSampleTime.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -18,12 +18,17 @@
 package io.ballerina.runtime.observability.tracer;
 
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
 import io.ballerina.runtime.observability.metrics.Tag;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
 
-import java.util.Collections;
+import java.io.PrintStream;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_ERROR_VALUE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
@@ -36,11 +41,20 @@ import static io.ballerina.runtime.observability.tracer.TraceConstants.TAG_KEY_S
  */
 public class TracingUtils {
 
+    private static final PrintStream consoleError = System.err;
+
+    private static final TraceSampler sampler = TraceSampler.create(ObserveUtils.getTracingSampler().getValue(),
+            ObserveUtils.getTracingSamplerRatio(), ObserveUtils.getTracingSamplerRateLimit());
+    private static final boolean parentBasedSampling = ObserveUtils.isTracingSamplerParentBased();
+    private static final SpanBuffer spanBuffer = createSpanBuffer(ObserveUtils.getTracingSpanBufferSize());
+
     private TracingUtils() {
     }
 
     /**
-     * Starts a span of an  {@link ObserverContext}.
+     * Starts a span of an  {@link ObserverContext}, if the span is sampled. The sampling decision follows the parent
+     * span if there is one and sampling is parent based, and is made by the configured {@link TraceSampler}
+     * otherwise. No span is created for a context which is not sampled.
      *
      * @param observerContext context that would hold the started span
      * @param isClient        true if the starting span is a client
@@ -51,15 +65,33 @@ public class TracingUtils {
         String operationName = observerContext.getOperationName();
         if (observerContext.getParent() != null) {
             BSpan parentSpan = observerContext.getParent().getSpan();
-            span = BSpan.start(parentSpan, serviceName, operationName, isClient);
+            if (parentSpan != null) {
+                span = BSpan.start(parentSpan, serviceName, operationName, isClient);
+            } else if (sampler.sampleLocalChild(parentBasedSampling)) {
+                span = BSpan.start(serviceName, operationName, isClient);
+            } else {
+                propagateUnsampledContext(observerContext, isClient);
+                return;
+            }
         } else {
             Map<String, String> httpHeaders =
                     (Map<String, String>) observerContext.getProperty(PROPERTY_TRACE_PROPERTIES);
-            if (httpHeaders != null) {
-                span = BSpan.start(httpHeaders, serviceName, operationName, isClient);
-            } else {
-                span = BSpan.start(serviceName, operationName, isClient);
+            Context parentContext = httpHeaders == null ? null : BSpan.extractParentContext(httpHeaders);
+            SpanContext parentSpanContext = parentContext == null
+                    ? SpanContext.getInvalid()
+                    : Span.fromContext(parentContext).getSpanContext();
+            if (!sampler.sampleRemoteChild(parentSpanContext, parentBasedSampling)) {
+                if (!parentSpanContext.isValid()) {
+                    // Start a trace which is not sampled, which the services called from here follow
+                    Map<String, String> traceContext = httpHeaders == null
+                            ? new HashMap<>()
+                            : new HashMap<>(httpHeaders);
+                    BSpan.injectUnsampledContext(traceContext);
+                    observerContext.addProperty(PROPERTY_TRACE_PROPERTIES, traceContext);
+                }
+                return;
             }
+            span = BSpan.start(parentContext, serviceName, operationName, isClient);
         }
         if (isClient) {
             observerContext.addProperty(PROPERTY_TRACE_PROPERTIES, span.extractContextAsHttpHeaders());
@@ -68,30 +100,95 @@ public class TracingUtils {
     }
 
     /**
-     * Finishes a span in an {@link ObserverContext}.
+     * Passes the trace context of the request, which is the context received by the service or a context started
+     * when the request was not sampled, on to a client call which is not sampled, so that the services it calls
+     * follow the same decision.
+     */
+    private static void propagateUnsampledContext(ObserverContext observerContext, boolean isClient) {
+        if (!isClient) {
+            return;
+        }
+        for (ObserverContext ancestor = observerContext.getParent(); ancestor != null;
+             ancestor = ancestor.getParent()) {
+            Object traceProperties = ancestor.getProperty(PROPERTY_TRACE_PROPERTIES);
+            if (traceProperties != null) {
+                observerContext.addProperty(PROPERTY_TRACE_PROPERTIES, traceProperties);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Finishes a span in an {@link ObserverContext}. If spans are buffered, the span is completed and ended on the
+     * thread of the span buffer.
      *
      * @param observerContext context that holds the span to be finished
      */
     public static void stopObservation(ObserverContext observerContext) {
         BSpan span = observerContext.getSpan();
         if (span != null) {
+            ObservedSpan observedSpan = new ObservedSpan(span, span.currentEpochNanos(),
+                    (ErrorValue) observerContext.getProperty(PROPERTY_ERROR_VALUE),
+                    (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE),
+                    observerContext.getTagValues().toArray(new Tag[0]));
+            if (spanBuffer == null) {
+                observedSpan.end();
+            } else {
+                spanBuffer.add(observedSpan);
+            }
+        }
+    }
+
+    private static SpanBuffer createSpanBuffer(long capacity) {
+        if (capacity <= 0) {
+            if (capacity < 0) {
+                consoleError.println("error: invalid span buffer size " + capacity + ", spans are not buffered");
+            }
+            return null;
+        }
+        SpanBuffer buffer = new SpanBuffer((int) Math.min(capacity, Integer.MAX_VALUE));
+        buffer.registerMetrics(DefaultMetricRegistry.getInstance());
+        return buffer;
+    }
+
+    /**
+     * A finished span with the values of its context which are added to it as tags.
+     */
+    private static class ObservedSpan extends SpanBuffer.FinishedSpan {
+
+        private final BSpan span;
+        private final ErrorValue error;
+        private final Integer statusCode;
+        private final Tag[] tags;
+
+        private ObservedSpan(BSpan span, long endEpochNanos, ErrorValue error, Integer statusCode, Tag[] tags) {
+            super(endEpochNanos);
+            this.span = span;
+            this.error = error;
+            this.statusCode = statusCode;
+            this.tags = tags;
+        }
+
+        private void complete() {
             // Adding error message to Trace Span
-            ErrorValue bError = (ErrorValue) observerContext.getProperty(PROPERTY_ERROR_VALUE);
-            if (bError != null) {
-                span.addTag(TAG_KEY_STR_ERROR_MESSAGE, bError.getPrintableStackTrace());
+            if (error != null) {
+                span.addTag(TAG_KEY_STR_ERROR_MESSAGE, error.getPrintableStackTrace());
             }
 
             // Adding specific error code to Trace Span
-            Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
             if (statusCode != null && statusCode >= 100) {
-                span.addTags(Collections.singletonMap(TAG_KEY_HTTP_STATUS_CODE, Integer.toString(statusCode)));
+                span.addTag(TAG_KEY_HTTP_STATUS_CODE, Integer.toString(statusCode));
+            }
+
+            for (Tag tag : tags) {
+                span.addTag(tag.getKey(), tag.getValue());
             }
+        }
 
-            Map<String, String> traceTags = observerContext.getAllTags()
-                    .stream()
-                    .collect(Collectors.toMap(Tag::getKey, Tag::getValue));
-            span.addTags(traceTags);
-            span.finishSpan();
+        @Override
+        void end(long endEpochNanos) {
+            complete();
+            span.finishSpan(endEpochNanos);
         }
     }
 }
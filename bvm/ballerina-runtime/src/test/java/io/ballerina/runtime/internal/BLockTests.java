@@ -0,0 +1,223 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for the exclusive and shared modes of the lock used by lock statements.
+ *
+ * @since 2.0.0
+ */
+public class BLockTests {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int ITERATIONS = 20_000;
+
+    private final TestScheduler scheduler = new TestScheduler();
+
+    @Test
+    public void testReentrantLock() {
+        BLock lock = new BLock();
+        Strand strand = newStrand("owner");
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lock(strand));
+        // A read-only lock body nested in a lock body of the owner
+        Assert.assertTrue(lock.lockRead(strand));
+        lock.unlockRead();
+        lock.unlock();
+        Assert.assertFalse(lock.isLockFree());
+        Assert.assertTrue(lock.lockedBySameContext(strand));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertFalse(lock.lockedBySameContext(strand));
+    }
+
+    @Test
+    public void testReadersShareLock() {
+        BLock lock = new BLock();
+        Strand firstReader = newStrand("reader-1");
+        Strand secondReader = newStrand("reader-2");
+        Strand writer = newStrand("writer");
+
+        Assert.assertTrue(lock.lockRead(firstReader));
+        Assert.assertTrue(lock.lockRead(secondReader));
+        Assert.assertFalse(lock.lock(writer));
+
+        lock.unlockRead();
+        Assert.assertEquals(scheduler.permits(writer).availablePermits(), 0);
+        lock.unlockRead();
+        // The last reader hands the lock over to the waiting writer
+        Assert.assertEquals(scheduler.permits(writer).availablePermits(), 1);
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertTrue(lock.lockedBySameContext(writer));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testWaitingWriterIsNotStarvedByReaders() {
+        BLock lock = new BLock();
+        Strand firstReader = newStrand("reader-1");
+        Strand secondReader = newStrand("reader-2");
+        Strand writer = newStrand("writer");
+
+        Assert.assertTrue(lock.lockRead(firstReader));
+        Assert.assertFalse(lock.lock(writer));
+        // A reader arriving after the writer queues behind it instead of sharing the lock with the first reader
+        Assert.assertFalse(lock.lockRead(secondReader));
+
+        lock.unlockRead();
+        Assert.assertEquals(scheduler.permits(writer).availablePermits(), 1);
+        Assert.assertEquals(scheduler.permits(secondReader).availablePermits(), 0);
+        Assert.assertTrue(lock.lock(writer));
+
+        lock.unlock();
+        Assert.assertEquals(scheduler.permits(secondReader).availablePermits(), 1);
+        Assert.assertTrue(lock.lockRead(secondReader));
+        Assert.assertFalse(lock.isLockFree());
+        lock.unlockRead();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testWritersExcludeEachOther() throws InterruptedException, ExecutionException, TimeoutException {
+        BLock lock = new BLock();
+        AtomicInteger writers = new AtomicInteger();
+        int[] counter = new int[1];
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Strand strand = newStrand("writer-" + i);
+            tasks.add(() -> {
+                for (int j = 0; j < ITERATIONS; j++) {
+                    acquire(lock, strand, false);
+                    Assert.assertEquals(writers.incrementAndGet(), 1);
+                    counter[0]++;
+                    writers.decrementAndGet();
+                    lock.unlock();
+                }
+            });
+        }
+        runConcurrently(tasks);
+        Assert.assertEquals(counter[0], THREAD_COUNT * ITERATIONS);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testReadersAndWritersExcludeEachOther() throws InterruptedException, ExecutionException,
+            TimeoutException {
+        BLock lock = new BLock();
+        AtomicInteger readers = new AtomicInteger();
+        AtomicInteger writers = new AtomicInteger();
+        int[] counter = new int[1];
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Strand strand = newStrand("strand-" + i);
+            boolean reader = i % 2 == 0;
+            tasks.add(() -> {
+                for (int j = 0; j < ITERATIONS; j++) {
+                    acquire(lock, strand, reader);
+                    if (reader) {
+                        readers.incrementAndGet();
+                        Assert.assertEquals(writers.get(), 0);
+                        readers.decrementAndGet();
+                        lock.unlockRead();
+                    } else {
+                        Assert.assertEquals(writers.incrementAndGet(), 1);
+                        Assert.assertEquals(readers.get(), 0);
+                        counter[0]++;
+                        writers.decrementAndGet();
+                        lock.unlock();
+                    }
+                }
+            });
+        }
+        runConcurrently(tasks);
+        Assert.assertEquals(counter[0], THREAD_COUNT / 2 * ITERATIONS);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    private Strand newStrand(String name) {
+        return new Strand(name, null, scheduler, null, null);
+    }
+
+    /**
+     * Acquires the lock the way a strand does: a strand that could not get the lock yields until it is unblocked
+     * and then retries the lock, which completes the acquisition handed over to it.
+     */
+    private void acquire(BLock lock, Strand strand, boolean read) {
+        while (!(read ? lock.lockRead(strand) : lock.lock(strand))) {
+            scheduler.permits(strand).acquireUninterruptibly();
+        }
+    }
+
+    private static void runConcurrently(List<Runnable> tasks) throws InterruptedException, ExecutionException,
+            TimeoutException {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Scheduler that records unblocked strands instead of rescheduling them.
+     */
+    private static class TestScheduler extends Scheduler {
+
+        private final Map<Strand, Semaphore> permits = new ConcurrentHashMap<>();
+
+        private TestScheduler() {
+            super(1, false);
+        }
+
+        @Override
+        public void unblockStrand(Strand strand) {
+            permits(strand).release();
+        }
+
+        private Semaphore permits(Strand strand) {
+            return permits.computeIfAbsent(strand, key -> new Semaphore(0));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Test cases for the cached results of type-only `is` checks.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCacheTests {
+
+    @Test
+    public void testRepeatedChecks() {
+        Type intArray = new BArrayType(PredefinedTypes.TYPE_INT);
+        Type intOrStringArray = new BArrayType(new BUnionType(List.of(PredefinedTypes.TYPE_INT,
+                                                                      PredefinedTypes.TYPE_STRING)));
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(TypeChecker.checkIsType(intArray, intOrStringArray));
+            Assert.assertFalse(TypeChecker.checkIsType(intOrStringArray, intArray));
+        }
+    }
+
+    @Test
+    public void testChecksAfterTypeChanges() {
+        Type intArray = new BArrayType(PredefinedTypes.TYPE_INT);
+        BArrayType targetType = new BArrayType(PredefinedTypes.TYPE_STRING);
+        Assert.assertFalse(TypeChecker.checkIsType(intArray, targetType));
+
+        targetType.setElementType(PredefinedTypes.TYPE_INT);
+        Assert.assertTrue(TypeChecker.checkIsType(intArray, targetType));
+
+        BUnionType unionType = new BUnionType(List.of(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_BOOLEAN));
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_INT, unionType));
+
+        unionType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT});
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_INT, unionType));
+    }
+
+    @Test
+    public void testRepeatedChecksHitTheCache() {
+        Type intArray = new BArrayType(PredefinedTypes.TYPE_INT);
+        Type anydataArray = new BArrayType(PredefinedTypes.TYPE_ANYDATA);
+        Assert.assertNull(TypeCheckCache.get(intArray, anydataArray));
+
+        Assert.assertTrue(TypeChecker.checkIsType(intArray, anydataArray));
+        Assert.assertEquals(TypeCheckCache.get(intArray, anydataArray), Boolean.TRUE);
+        Assert.assertFalse(TypeChecker.checkIsType(anydataArray, intArray));
+        Assert.assertEquals(TypeCheckCache.get(anydataArray, intArray), Boolean.FALSE);
+    }
+
+    @Test
+    public void testCreatingTypesKeepsTheCache() {
+        Type intArray = new BArrayType(PredefinedTypes.TYPE_INT);
+        Type anydataArray = new BArrayType(PredefinedTypes.TYPE_ANYDATA);
+        Assert.assertTrue(TypeChecker.checkIsType(intArray, anydataArray));
+        int generation = TypeCheckCache.getGeneration();
+
+        BArrayType newArray = new BArrayType(intArray);
+        newArray.setElementType(PredefinedTypes.TYPE_STRING);
+        BUnionType newUnion = new BUnionType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+        newUnion.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_BOOLEAN});
+        BRecordType newRecord = new BRecordType("Rec", new Module("testorg", "test", "1"), 0, new HashMap<>(),
+                                                null, false, 0);
+        newRecord.setRestFieldType(PredefinedTypes.TYPE_INT);
+
+        Assert.assertEquals(TypeCheckCache.getGeneration(), generation);
+        Assert.assertEquals(TypeCheckCache.get(intArray, anydataArray), Boolean.TRUE);
+    }
+
+    @Test
+    public void testMutatingCheckedTypeRecomputes() {
+        BArrayType elementArray = new BArrayType(PredefinedTypes.TYPE_STRING);
+        BUnionType targetType = new BUnionType(List.of(PredefinedTypes.TYPE_BOOLEAN, elementArray));
+        Type sourceType = new BArrayType(PredefinedTypes.TYPE_INT);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.get(sourceType, targetType), Boolean.FALSE);
+
+        // A member of the target type was visited by the check, so changing it has to drop the cached result.
+        elementArray.setElementType(PredefinedTypes.TYPE_INT);
+        Assert.assertNull(TypeCheckCache.get(sourceType, targetType));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.get(sourceType, targetType), Boolean.TRUE);
+    }
+
+    @Test
+    public void testSettingRestFieldTypeRecomputes() {
+        Module module = new Module("testorg", "test", "1");
+        BRecordType sourceType = new BRecordType("Source", module, 0, new HashMap<String, Field>(),
+                                                 PredefinedTypes.TYPE_STRING, false, 0);
+        BRecordType targetType = new BRecordType("Target", module, 0, new HashMap<String, Field>(),
+                                                 PredefinedTypes.TYPE_INT, false, 0);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.get(sourceType, targetType), Boolean.FALSE);
+
+        targetType.setRestFieldType(PredefinedTypes.TYPE_ANYDATA);
+        Assert.assertNull(TypeCheckCache.get(sourceType, targetType));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.runtime.api.values.BXmlItem.XMLNS_NS_URI_PREFIX;
+
+/**
+ * Test cases for reading the elements at a path of an XML document as a stream.
+ *
+ * @since 2.0.0
+ */
+public class XmlStreamingParserTests {
+
+    private static final String CATALOG = "<CATALOG><CD><TITLE>Empire Burlesque</TITLE></CD>" +
+            "<CD><TITLE>Hide your heart</TITLE></CD><DVD><TITLE>Casablanca</TITLE></DVD></CATALOG>";
+
+    @Test
+    public void testDocument() {
+        try (Stream<BXml> titles = XmlUtils.parseAsStream(new StringReader(CATALOG), "CATALOG", "CD", "TITLE")) {
+            Assert.assertEquals(titles.map(BXml::getTextValue).collect(Collectors.toList()),
+                                List.of("Empire Burlesque", "Hide your heart"));
+        }
+    }
+
+    @Test
+    public void testAnyName() {
+        try (Stream<BXml> titles = XmlUtils.parseAsStream(new StringReader(CATALOG), "CATALOG", "*", "TITLE")) {
+            Assert.assertEquals(titles.count(), 3);
+        }
+    }
+
+    @Test
+    public void testExpandedNames() {
+        String document = "<a xmlns:p=\"urn:p\"><p:b>1</p:b><b>2</b><q:b xmlns:q=\"urn:p\">3</q:b></a>";
+        try (Stream<BXml> elements = XmlUtils.parseAsStream(new StringReader(document), "a", "{urn:p}b")) {
+            Assert.assertEquals(elements.map(BXml::getTextValue).collect(Collectors.toList()), List.of("1", "3"));
+        }
+        try (Stream<BXml> elements = XmlUtils.parseAsStream(new StringReader(document), "a", "b")) {
+            Assert.assertEquals(elements.map(BXml::getTextValue).collect(Collectors.toList()), List.of("2"));
+        }
+    }
+
+    @Test
+    public void testNamespacesOfAncestors() {
+        String document = "<a xmlns=\"urn:a\" xmlns:p=\"urn:p\"><b xmlns:p=\"urn:q\"><p:c/></b>" +
+                "<b xmlns=\"\"><c/></b></a>";
+        Iterator<BXml> elements = XmlUtils.parseAsStream(new StringReader(document), "{urn:a}a", "*").iterator();
+
+        BXml first = elements.next();
+        Assert.assertEquals(first.getElementName(), "{urn:a}b");
+        Assert.assertEquals(first.children().getItem(0).getElementName(), "{urn:q}c");
+        Assert.assertEquals(getNamespaceDeclaration(first, "xmlns"), "urn:a");
+        // The declarations of the element override the ones of its ancestors.
+        Assert.assertEquals(getNamespaceDeclaration(first, "p"), "urn:q");
+
+        BXml second = elements.next();
+        Assert.assertEquals(second.getElementName(), "b");
+        Assert.assertEquals(second.children().getItem(0).getElementName(), "c");
+        Assert.assertEquals(getNamespaceDeclaration(second, "p"), "urn:p");
+        Assert.assertFalse(elements.hasNext());
+    }
+
+    @Test
+    public void testContent() {
+        String content = "<CD id=\"1\"/>text<DVD/><CD id=\"2\"><CD/></CD>";
+        try (Stream<BXml> cds = XmlUtils.parseContentAsStream(new StringReader(content), "CD")) {
+            Assert.assertEquals(cds.map(BXml::toString).collect(Collectors.toList()),
+                                List.of("<CD id=\"1\"/>", "<CD id=\"2\"><CD/></CD>"));
+        }
+    }
+
+    @Test
+    public void testContentReadInSmallChunks() {
+        // The wrapping root element is read through the same reader as the content, whatever the chunk sizes are.
+        Reader content = new StringReader("<CD id=\"1\"/><CD id=\"2\"/>") {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, 1));
+            }
+        };
+        try (Stream<BXml> cds = XmlUtils.parseContentAsStream(content, "CD")) {
+            Assert.assertEquals(cds.count(), 2);
+        }
+    }
+
+    @Test
+    public void testMalformedContent() {
+        Iterator<BXml> elements = XmlUtils.parseContentAsStream(new StringReader("<a><b/><b>"), "a", "*").iterator();
+        Assert.assertEquals(elements.next().toString(), "<b/>");
+        Assert.assertThrows(BError.class, elements::hasNext);
+    }
+
+    @Test
+    public void testEmptyPath() {
+        Assert.assertThrows(BError.class, () -> XmlUtils.parseContentAsStream(new StringReader("<a/>")));
+    }
+
+    @Test
+    public void testClose() {
+        boolean[] closed = new boolean[1];
+        Reader content = new StringReader("<a/>") {
+            @Override
+            public void close() {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        XmlUtils.parseContentAsStream(content, "a").close();
+        Assert.assertTrue(closed[0]);
+    }
+
+    private static String getNamespaceDeclaration(BXml element, String prefix) {
+        return element.getAttributesMap().get(StringUtils.fromString(XMLNS_NS_URI_PREFIX + prefix)).getValue();
+    }
+}
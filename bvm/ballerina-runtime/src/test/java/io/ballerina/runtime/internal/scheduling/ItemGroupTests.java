@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Test cases for the lock-free stack of items in a strand group.
+ *
+ * @since 2.0.0
+ */
+public class ItemGroupTests {
+
+    private static final Function<Object[], Object> NO_OP = params -> null;
+    private static final int PRODUCER_COUNT = 4;
+    private static final int ITEM_COUNT = 250_000;
+
+    @Test
+    public void testItemsAreTakenInLifoOrder() {
+        SchedulerItem first = newItem();
+        SchedulerItem second = newItem();
+        SchedulerItem third = newItem();
+        ItemGroup group = new ItemGroup(first);
+        group.add(second);
+        group.add(third);
+        Assert.assertFalse(group.isEmpty());
+
+        Assert.assertSame(group.get(), third);
+        Assert.assertSame(group.get(), second);
+        Assert.assertSame(group.get(), first);
+        Assert.assertNull(group.get());
+        Assert.assertTrue(group.isEmpty());
+        // Taken items do not keep the rest of the stack reachable
+        Assert.assertNull(third.nextInGroup);
+        Assert.assertNull(second.nextInGroup);
+
+        group.add(second);
+        Assert.assertSame(group.get(), second);
+        Assert.assertTrue(group.isEmpty());
+    }
+
+    @Test
+    public void testReEnqueueCount() {
+        ItemGroup group = new ItemGroup(newItem());
+        Assert.assertEquals(group.getReEnqueueCount(), 0);
+        group.enqueueCount = 1;
+        Assert.assertEquals(group.getReEnqueueCount(), 0);
+        group.enqueueCount = 3;
+        Assert.assertEquals(group.getReEnqueueCount(), 2);
+    }
+
+    @Test
+    public void testConcurrentAddAndGet() throws InterruptedException, ExecutionException, TimeoutException {
+        SchedulerItem first = newItem();
+        ItemGroup group = new ItemGroup(first);
+        List<SchedulerItem> items = new ArrayList<>();
+        items.add(first);
+        List<List<SchedulerItem>> producerItems = new ArrayList<>();
+        for (int i = 0; i < PRODUCER_COUNT; i++) {
+            List<SchedulerItem> itemsToAdd = new ArrayList<>();
+            for (int j = 0; j < ITEM_COUNT; j++) {
+                itemsToAdd.add(newItem());
+            }
+            producerItems.add(itemsToAdd);
+            items.addAll(itemsToAdd);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCER_COUNT + 1);
+        try {
+            List<Future<?>> producers = new ArrayList<>();
+            for (List<SchedulerItem> itemsToAdd : producerItems) {
+                producers.add(executor.submit(() -> itemsToAdd.forEach(group::add)));
+            }
+            // A single owner takes items while the producers are adding them
+            Future<Set<SchedulerItem>> owner = executor.submit(() -> {
+                Set<SchedulerItem> taken = Collections.newSetFromMap(new IdentityHashMap<>());
+                while (taken.size() < items.size()) {
+                    SchedulerItem item = group.get();
+                    if (item == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    if (!taken.add(item)) {
+                        Assert.fail("item taken twice");
+                    }
+                }
+                return taken;
+            });
+            for (Future<?> producer : producers) {
+                producer.get(60, TimeUnit.SECONDS);
+            }
+            Set<SchedulerItem> taken = owner.get(60, TimeUnit.SECONDS);
+            for (SchedulerItem item : items) {
+                Assert.assertTrue(taken.contains(item));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(group.isEmpty());
+        Assert.assertNull(group.get());
+    }
+
+    private static SchedulerItem newItem() {
+        return new SchedulerItem(NO_OP, new Object[0], null);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test cases for the attribution of sampled thread stacks to Ballerina functions.
+ *
+ * @since 2.0.0
+ */
+public class SamplingProfilerTests {
+
+    private static final String MODULE_CLASS = "myorg.mymodule.0.main";
+    private static final String FILE_NAME = "main.bal";
+
+    @Test
+    public void testFramesAreFilteredAndAttributed() {
+        SamplingProfiler profiler = new SamplingProfiler(10);
+        Assert.assertEquals(profiler.getIntervalMillis(), 10);
+        StackTraceElement[] stackTrace = {
+                new StackTraceElement("java.lang.Thread", "sleep", "Thread.java", -2),
+                ballerinaFrame("process", 12),
+                // Frames of compiler generated methods and Java code called from Ballerina code are dropped
+                ballerinaFrame("$gen$process$", 10),
+                new StackTraceElement("java.util.ArrayList", "forEach", "ArrayList.java", 1541),
+                ballerinaFrame("main", 4),
+                new StackTraceElement("io.ballerina.runtime.internal.scheduling.SchedulerItem", "execute",
+                        "Scheduler.java", 831)
+        };
+        profiler.recordSample(stackTrace);
+        profiler.recordSample(stackTrace);
+        profiler.recordSample(new StackTraceElement[]{ballerinaFrame("main", 5)});
+
+        Assert.assertEquals(profiler.getSampleCount(), 3);
+        Assert.assertEquals(profiler.getUnattributedSampleCount(), 0);
+        Assert.assertEquals(profiler.getStackCount(), 2);
+        List<String> stacks = profiler.getCollapsedStacks();
+        Assert.assertEquals(stacks.size(), 2);
+        Assert.assertTrue(stacks.contains("myorg.mymodule.0:main(main.bal:4);myorg.mymodule.0:process(main.bal:12) 2"),
+                stacks.toString());
+        Assert.assertTrue(stacks.contains("myorg.mymodule.0:main(main.bal:5) 1"), stacks.toString());
+
+        // Samples of threads that are not running Ballerina code are only counted
+        profiler.recordSample(new StackTraceElement[]{
+                new StackTraceElement("java.lang.Thread", "run", "Thread.java", 829)
+        });
+        profiler.recordSample(new StackTraceElement[0]);
+        Assert.assertEquals(profiler.getSampleCount(), 5);
+        Assert.assertEquals(profiler.getUnattributedSampleCount(), 2);
+        Assert.assertEquals(profiler.getStackCount(), 2);
+    }
+
+    @Test
+    public void testCollapsedFormat() throws IOException {
+        StackTraceElement[] frames = {ballerinaFrame("inner", 3), ballerinaFrame("middle", 2),
+                ballerinaFrame("outer", 1)};
+        Assert.assertEquals(SamplingProfiler.collapse(frames),
+                "myorg.mymodule.0:outer(main.bal:1);myorg.mymodule.0:middle(main.bal:2);" +
+                        "myorg.mymodule.0:inner(main.bal:3)");
+        // The frame and count separators of the format are replaced within frames, e.g. in quoted identifiers
+        Assert.assertEquals(SamplingProfiler.collapse(new StackTraceElement[]{ballerinaFrame("a$0059b$0032c", 1)}),
+                "myorg.mymodule.0:a_b_c(main.bal:1)");
+
+        SamplingProfiler profiler = new SamplingProfiler(10);
+        profiler.recordSample(frames);
+        Path output = Files.createTempFile("profile", ".txt");
+        try {
+            profiler.dumpCollapsedStacks(output.toString());
+            Assert.assertEquals(Files.readAllLines(output, StandardCharsets.UTF_8),
+                    profiler.getCollapsedStacks());
+        } finally {
+            Files.delete(output);
+        }
+    }
+
+    @Test
+    public void testReset() {
+        SamplingProfiler profiler = new SamplingProfiler(10);
+        profiler.recordSample(new StackTraceElement[]{ballerinaFrame("main", 1)});
+        profiler.recordSample(new StackTraceElement[0]);
+        profiler.reset();
+        Assert.assertEquals(profiler.getSampleCount(), 0);
+        Assert.assertEquals(profiler.getUnattributedSampleCount(), 0);
+        Assert.assertEquals(profiler.getStackCount(), 0);
+        Assert.assertTrue(profiler.getCollapsedStacks().isEmpty());
+
+        profiler.recordSample(new StackTraceElement[]{ballerinaFrame("main", 1)});
+        Assert.assertEquals(profiler.getCollapsedStacks(), List.of("myorg.mymodule.0:main(main.bal:1) 1"));
+    }
+
+    @Test
+    public void testStacksAreTruncated() {
+        SamplingProfiler profiler = new SamplingProfiler(10);
+        for (int line = 1; line <= SamplingProfiler.MAX_STACKS + 10; line++) {
+            profiler.recordSample(new StackTraceElement[]{ballerinaFrame("main", line)});
+        }
+        // Stacks that are already known are still counted after the limit is reached
+        profiler.recordSample(new StackTraceElement[]{ballerinaFrame("main", 1)});
+
+        Assert.assertEquals(profiler.getSampleCount(), SamplingProfiler.MAX_STACKS + 11);
+        Assert.assertEquals(profiler.getStackCount(), SamplingProfiler.MAX_STACKS + 1);
+        List<String> stacks = profiler.getCollapsedStacks();
+        Assert.assertTrue(stacks.contains(SamplingProfiler.TRUNCATED_STACKS + " 10"));
+        Assert.assertTrue(stacks.contains("myorg.mymodule.0:main(main.bal:1) 2"));
+        Assert.assertFalse(stacks.contains("myorg.mymodule.0:main(main.bal:" + (SamplingProfiler.MAX_STACKS + 1) +
+                ") 1"));
+    }
+
+    @Test
+    public void testThreadsAreSampled() throws InterruptedException {
+        SamplingProfiler profiler = new SamplingProfiler(10);
+        Thread terminated = new Thread(() -> { });
+        terminated.start();
+        terminated.join();
+        profiler.threadStarted(Thread.currentThread());
+        profiler.threadStarted(terminated);
+
+        // Terminated threads are skipped, and the test thread does not run Ballerina functions.
+        profiler.sampleThreads();
+        Assert.assertEquals(profiler.getSampleCount(), 1);
+        Assert.assertEquals(profiler.getUnattributedSampleCount(), 1);
+
+        profiler.threadStopped(Thread.currentThread());
+        profiler.threadStopped(terminated);
+        profiler.sampleThreads();
+        Assert.assertEquals(profiler.getSampleCount(), 1);
+    }
+
+    private static StackTraceElement ballerinaFrame(String functionName, int line) {
+        return new StackTraceElement(MODULE_CLASS, functionName, FILE_NAME, line);
+    }
+}
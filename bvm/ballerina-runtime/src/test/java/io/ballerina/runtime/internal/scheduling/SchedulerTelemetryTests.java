@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.observability.metrics.AbstractMetric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Test cases for the scheduler measurements published as metrics and through JMX.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerTelemetryTests {
+
+    @Test
+    public void testPolledGauges() {
+        Scheduler scheduler = new Scheduler(2, false);
+        SchedulerTelemetry telemetry = new SchedulerTelemetry(scheduler, false);
+        SchedulerTelemetry.activate(telemetry);
+        MetricRegistry registry = new MetricRegistry(new PollingMetricProvider());
+        SchedulerTelemetry.registerMetrics(registry);
+
+        Assert.assertEquals(getValue(registry, "scheduler_strands"), 0.0);
+        Assert.assertEquals(getValue(registry, "scheduler_run_queue_depth"), 0.0);
+
+        Strand strand = scheduler.schedule(new Object[1], params -> null, null, null, "telemetry-test", null).strand;
+        Assert.assertEquals(getValue(registry, "scheduler_strands"), 1.0);
+        Assert.assertEquals(getValue(registry, "scheduler_run_queue_depth"), 1.0);
+        Assert.assertEquals(getValue(registry, "scheduler_reenqueued_groups_total"), 0.0);
+
+        telemetry.strandCreated(strand);
+        List<String> dump = telemetry.dumpStrands(10);
+        Assert.assertEquals(dump.size(), 1);
+        Assert.assertTrue(dump.get(0).startsWith("strand " + strand.getId() + " [telemetry-test]"), dump.get(0));
+        Assert.assertTrue(telemetry.dumpStrands(0).isEmpty());
+
+        strand.blockedOnExtern = true;
+        telemetry.strandParked(strand.schedulerItem);
+        Assert.assertEquals(getValue(registry, "scheduler_parked_strands"), 1.0);
+        Assert.assertEquals(getValue(registry, "scheduler_blocked_externs"), 1.0);
+        telemetry.strandUnparked(strand.schedulerItem);
+        Assert.assertEquals(getValue(registry, "scheduler_parked_strands"), 0.0);
+        Assert.assertEquals(getValue(registry, "scheduler_blocked_externs"), 0.0);
+        Assert.assertEquals(telemetry.getParkCount(), 1);
+        Assert.assertEquals(telemetry.getTotalParkTimeNanos(), telemetry.getMaxParkTimeNanos());
+        Assert.assertNotNull(registry.lookup(metricId("scheduler_strand_park_time_seconds")));
+
+        telemetry.recordBusyTime(1500);
+        telemetry.recordBusyTime(500);
+        Assert.assertEquals(getValue(registry, "scheduler_busy_time_nanoseconds_total"), 2000.0);
+        Assert.assertEquals(telemetry.getBusyTimeNanosPerThread().get(Thread.currentThread().getName()).longValue(),
+                2000);
+
+        telemetry.strandCompleted(strand);
+        Assert.assertTrue(telemetry.dumpStrands(10).isEmpty());
+    }
+
+    private static double getValue(MetricRegistry registry, String name) {
+        return ((PolledGauge) registry.lookup(metricId(name))).getValue();
+    }
+
+    private static MetricId metricId(String name) {
+        return new MetricId(name, null, Collections.emptySet());
+    }
+
+    /**
+     * Metric provider that creates polled gauges returning the current value of the measurement.
+     */
+    private static class PollingMetricProvider extends NoOpMetricProvider {
+
+        @Override
+        public <T> PolledGauge newPolledGauge(MetricId metricId, T obj, ToDoubleFunction<T> toDoubleFunction) {
+            return new FunctionPolledGauge<>(metricId, obj, toDoubleFunction);
+        }
+    }
+
+    private static class FunctionPolledGauge<T> extends AbstractMetric implements PolledGauge {
+
+        private final T obj;
+        private final ToDoubleFunction<T> valueFunction;
+
+        FunctionPolledGauge(MetricId id, T obj, ToDoubleFunction<T> valueFunction) {
+            super(id);
+            this.obj = obj;
+            this.valueFunction = valueFunction;
+        }
+
+        @Override
+        public double getValue() {
+            return valueFunction.applyAsDouble(obj);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.internal.values.ChannelDetails;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for the frames and bookkeeping structures of strands, which are created only when they are used.
+ *
+ * @since 2.0.0
+ */
+public class StrandBookkeepingTests {
+
+    @Test
+    public void testFramesAreCreatedOnFirstYield() {
+        Strand strand = new Strand("frames", null, null, null, null);
+        Assert.assertNull(strand.frames);
+
+        strand.addFrame("frame-0");
+        Assert.assertEquals(strand.frames.length, 8);
+        Assert.assertEquals(strand.resumeIndex, 1);
+
+        // The array doubles whenever it is full, keeping the frames saved so far.
+        for (int i = 1; i < 20; i++) {
+            strand.addFrame("frame-" + i);
+        }
+        Assert.assertEquals(strand.frames.length, 32);
+        Assert.assertEquals(strand.resumeIndex, 20);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(strand.frames[i], "frame-" + i);
+        }
+    }
+
+    @Test
+    public void testBookkeepingIsCreatedOnFirstUse() {
+        Strand strand = new Strand("bookkeeping", null, null, null, null);
+        Assert.assertNull(strand.channelDetails);
+        Assert.assertNull(strand.waitingContexts);
+        Assert.assertNull(strand.trxContexts);
+        Assert.assertNull(strand.dependants);
+        Assert.assertFalse(strand.isInTransaction());
+        // Nothing to pop from the transaction context stack, which is not created either.
+        strand.removeCurrentTrxContext();
+        Assert.assertNull(strand.trxContexts);
+
+        ChannelDetails channel = new ChannelDetails("a", false, true);
+        strand.updateChannelDetails(new ChannelDetails[]{channel});
+        Assert.assertTrue(strand.channelDetails.contains(channel));
+
+        WaitContext waitContext = new WaitAnyContext(null);
+        strand.addWaitingContext(waitContext);
+        Assert.assertEquals(strand.waitingContexts.size(), 1);
+        Assert.assertSame(strand.waitingContexts.get(0), waitContext);
+    }
+
+    @Test
+    public void testGlobalPropertiesAreCopiedOnWrite() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("inherited", 1L);
+        Strand parent = new Strand("parent", null, null, null, properties);
+        Strand child = new Strand("child", null, null, parent, null);
+        Strand sibling = new Strand("sibling", null, null, parent, null);
+        Assert.assertEquals(child.getProperty("inherited"), 1L);
+
+        child.setProperty("child", 2L);
+        Assert.assertEquals(child.getProperty("child"), 2L);
+        Assert.assertNull(parent.getProperty("child"));
+        Assert.assertNull(sibling.getProperty("child"));
+
+        parent.setProperty("parent", 3L);
+        Assert.assertEquals(parent.getProperty("parent"), 3L);
+        Assert.assertNull(child.getProperty("parent"));
+        Assert.assertNull(sibling.getProperty("parent"));
+        // The map given to the parent is shared with its children, hence copied before the parent writes to it.
+        Assert.assertNull(properties.get("parent"));
+        Assert.assertEquals(sibling.getProperty("inherited"), 1L);
+    }
+
+    @Test
+    public void testRootStrandProperties() {
+        Strand strand = new Strand("root", null, null, null, null);
+        Assert.assertNull(strand.getProperty("key"));
+        strand.setProperty("key", "value");
+        Assert.assertEquals(strand.getProperty("key"), "value");
+
+        // The map given to a strand without children is modified in place.
+        Map<String, Object> properties = new HashMap<>();
+        Strand owner = new Strand("owner", null, null, null, properties);
+        owner.setProperty("key", "value");
+        Assert.assertEquals(properties.get("key"), "value");
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for running strand groups on a new carrier thread per run, as done with virtual threads.
+ *
+ * @since 2.0.0
+ */
+public class StrandCarrierTests {
+
+    private static final String CARRIER_NAME_PREFIX = "test-carrier-";
+    private static final int STRAND_COUNT = 10;
+
+    @Test
+    public void testStrandsRunOnCarrierThreads() throws Exception {
+        CountingThreadFactory carrierFactory = new CountingThreadFactory();
+        Scheduler scheduler = new Scheduler(4, false, carrierFactory);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            scheduler.schedule(new Object[1], params -> {
+                threadNames.add(Thread.currentThread().getName());
+                return null;
+            }, null, null, "carrier-test-" + i, null);
+        }
+
+        // The calling thread only dispatches the groups, and returns once the last strand has completed.
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(scheduler::start).get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(scheduler.getTotalStrands(), 0);
+        // Each run of a group gets a carrier of its own.
+        Assert.assertEquals(carrierFactory.created.get(), STRAND_COUNT);
+        Assert.assertEquals(threadNames.size(), STRAND_COUNT);
+        for (String threadName : threadNames) {
+            Assert.assertTrue(threadName.startsWith(CARRIER_NAME_PREFIX), threadName);
+        }
+    }
+
+    @Test
+    public void testDispatcherStopsWhenPoisoned() throws Exception {
+        CountingThreadFactory carrierFactory = new CountingThreadFactory();
+        Scheduler scheduler = new Scheduler(4, true, carrierFactory);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // A single poison pill stops the dispatcher, whatever the number of threads of the scheduler is.
+            scheduler.poison();
+            executor.submit(scheduler::start).get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(carrierFactory.created.get(), 0);
+        Assert.assertEquals(scheduler.getRunQueueDepth(), 0);
+    }
+
+    private static class CountingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger created = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, CARRIER_NAME_PREFIX + created.getAndIncrement());
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * Test cases for the run queue that keeps a deque of strand groups per scheduler thread.
+ *
+ * @since 2.0.0
+ */
+public class WorkStealingRunQueueTests {
+
+    private static final Function<Object[], Object> NO_OP = params -> null;
+    private static final int THREAD_COUNT = 4;
+    private static final int GROUP_COUNT = 100_000;
+
+    @Test
+    public void testLocalGroupsAreTakenInLifoOrder() throws InterruptedException {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(2);
+        ItemGroup first = newGroup();
+        // The thread is registered with the queue on its first take, hence the first group is injected
+        queue.add(first);
+        Assert.assertEquals(queue.take(), first);
+        Assert.assertTrue(queue.isEmpty());
+
+        ItemGroup second = newGroup();
+        ItemGroup third = newGroup();
+        queue.add(second);
+        queue.add(third);
+        Assert.assertFalse(queue.isEmpty());
+        Assert.assertEquals(queue.size(), 2);
+        Assert.assertEquals(queue.take(), third);
+        Assert.assertEquals(queue.take(), second);
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(queue.size(), 0);
+    }
+
+    @Test
+    public void testPoisonPillIsInjected() throws InterruptedException {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(1);
+        queue.add(newGroup());
+        queue.take();
+
+        ItemGroup group = newGroup();
+        queue.add(POISON_PILL);
+        queue.add(group);
+        // Local groups are taken before the shared queue is checked
+        Assert.assertEquals(queue.take(), group);
+        Assert.assertEquals(queue.take(), POISON_PILL);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testExternalGroupsAreTakenInFifoOrder() throws InterruptedException, ExecutionException,
+            TimeoutException {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(2);
+        queue.add(newGroup());
+        queue.take();
+
+        List<ItemGroup> groups = List.of(newGroup(), newGroup(), newGroup());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> groups.forEach(queue::add)).get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        for (ItemGroup group : groups) {
+            Assert.assertEquals(queue.take(), group);
+        }
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testIdleThreadStealsOldestGroup() throws InterruptedException, ExecutionException,
+            TimeoutException {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(2);
+        queue.add(newGroup());
+        queue.take();
+
+        ItemGroup oldest = newGroup();
+        ItemGroup middle = newGroup();
+        ItemGroup newest = newGroup();
+        queue.add(oldest);
+        queue.add(middle);
+        queue.add(newest);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assert.assertEquals(executor.submit(queue::take).get(60, TimeUnit.SECONDS), oldest);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(queue.take(), newest);
+        Assert.assertEquals(queue.take(), middle);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testThreadsBeyondPoolSizeInjectGroups() throws InterruptedException, ExecutionException,
+            TimeoutException {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(1);
+        queue.add(newGroup());
+        queue.take();
+
+        ItemGroup group = newGroup();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The second thread is not part of the pool, so nobody could steal from a deque of its own
+            executor.submit(() -> {
+                queue.add(newGroup());
+                queue.take();
+                queue.add(group);
+                return null;
+            }).get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(queue.take(), group);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentAddAndTake() throws InterruptedException, ExecutionException, TimeoutException {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(THREAD_COUNT);
+        Set<ItemGroup> taken = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            // An external thread injecting groups while the pool threads add and take groups of their own
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < GROUP_COUNT; i++) {
+                    queue.add(newGroup());
+                }
+            }));
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                boolean takesInjected = i == 0;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < GROUP_COUNT; j++) {
+                        queue.add(newGroup());
+                        if (j % 2 == 1) {
+                            takeUnique(queue, taken);
+                            takeUnique(queue, taken);
+                        }
+                    }
+                    if (takesInjected) {
+                        for (int j = 0; j < GROUP_COUNT; j++) {
+                            takeUnique(queue, taken);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(taken.size(), (THREAD_COUNT + 1) * GROUP_COUNT);
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(queue.size(), 0);
+    }
+
+    private static void takeUnique(WorkStealingRunQueue queue, Set<ItemGroup> taken) throws InterruptedException {
+        ItemGroup group = queue.take();
+        if (!taken.add(group)) {
+            Assert.fail("group taken twice: " + group);
+        }
+    }
+
+    private static ItemGroup newGroup() {
+        return new ItemGroup(new SchedulerItem(NO_OP, new Object[0], null));
+    }
+}
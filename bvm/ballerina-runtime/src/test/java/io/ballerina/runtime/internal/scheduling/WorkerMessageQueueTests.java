@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Test cases for the single producer, single consumer queue of worker messages.
+ *
+ * @since 2.0.0
+ */
+public class WorkerMessageQueueTests {
+
+    private static final int MESSAGE_COUNT = 1_000_000;
+    private static final int HANDSHAKE_ROUNDS = 20_000;
+
+    @Test
+    public void testOrderAcrossChunks() {
+        WorkerMessageQueue<Integer> queue = new WorkerMessageQueue<>();
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.peek());
+        Assert.assertNull(queue.poll());
+
+        for (int i = 0; i < 1000; i++) {
+            queue.offer(i);
+        }
+        Assert.assertEquals(queue.size(), 1000);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(queue.peek(), Integer.valueOf(i));
+            Assert.assertEquals(queue.poll(), Integer.valueOf(i));
+        }
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.poll());
+
+        // Interleave offers and polls so that the consumer follows the producer across chunk boundaries.
+        for (int i = 0; i < 1000; i++) {
+            queue.offer(i);
+            queue.offer(-i);
+            Assert.assertEquals(queue.poll(), Integer.valueOf(i));
+            Assert.assertEquals(queue.poll(), Integer.valueOf(-i));
+        }
+        Assert.assertEquals(queue.size(), 0);
+    }
+
+    @Test
+    public void testConcurrentOfferAndPoll() throws InterruptedException, ExecutionException, TimeoutException {
+        WorkerMessageQueue<Integer> queue = new WorkerMessageQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> producer = executor.submit(() -> {
+                for (int i = 0; i < MESSAGE_COUNT; i++) {
+                    queue.offer(i);
+                }
+            });
+            Future<Integer> consumer = executor.submit(() -> {
+                int expected = 0;
+                while (expected < MESSAGE_COUNT) {
+                    Integer message = queue.poll();
+                    if (message == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    Assert.assertEquals(message.intValue(), expected);
+                    expected++;
+                }
+                return expected;
+            });
+            producer.get(60, TimeUnit.SECONDS);
+            Assert.assertEquals(consumer.get(60, TimeUnit.SECONDS).intValue(), MESSAGE_COUNT);
+            Assert.assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs the handshake of a worker channel between an async sender and a receiver. The sender offers a message and
+     * then checks for a waiting receiver, while the receiver marks itself as waiting and then checks the queue. In
+     * every round at least one of them must see the other, otherwise the receiver would never be resumed.
+     */
+    @Test
+    public void testSenderOrReceiverSeesTheOther() throws InterruptedException, ExecutionException,
+            TimeoutException {
+        Round[] rounds = new Round[HANDSHAKE_ROUNDS];
+        for (int i = 0; i < HANDSHAKE_ROUNDS; i++) {
+            rounds[i] = new Round();
+        }
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> sender = executor.submit(() -> {
+                for (Round round : rounds) {
+                    await(barrier);
+                    round.queue.offer(1);
+                    round.senderSawReceiver = round.receiverWaiting;
+                }
+            });
+            Future<?> receiver = executor.submit(() -> {
+                for (Round round : rounds) {
+                    await(barrier);
+                    round.receiverWaiting = true;
+                    round.receiverSawMessage = !round.queue.isEmpty();
+                }
+            });
+            sender.get(60, TimeUnit.SECONDS);
+            receiver.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        for (int i = 0; i < HANDSHAKE_ROUNDS; i++) {
+            Assert.assertTrue(rounds[i].senderSawReceiver || rounds[i].receiverSawMessage,
+                              "sender and receiver missed each other in round " + i);
+        }
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (InterruptedException | BrokenBarrierException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Round {
+
+        private final WorkerMessageQueue<Integer> queue = new WorkerMessageQueue<>();
+        private volatile boolean receiverWaiting;
+        private boolean senderSawReceiver;
+        private boolean receiverSawMessage;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Test cases for the open addressing index of the rows of a table.
+ *
+ * @since 2.0.0
+ */
+public class TableHashIndexTests {
+
+    @Test
+    public void testFindMissingHash() {
+        TableHashIndex index = new TableHashIndex();
+        Assert.assertEquals(index.findSlot(42, index.homeSlot(42)), -1);
+        index.insert(1, 0);
+        Assert.assertEquals(index.findSlot(42, index.homeSlot(42)), -1);
+    }
+
+    @Test
+    public void testInsertBeyondInitialCapacity() {
+        TableHashIndex index = new TableHashIndex();
+        for (int row = 0; row < 1000; row++) {
+            index.insert(row, row);
+        }
+        Assert.assertEquals(index.size(), 1000);
+        for (int row = 0; row < 1000; row++) {
+            Assert.assertEquals(rowsWithHash(index, row), new int[]{row});
+        }
+    }
+
+    @Test
+    public void testCollidingHashes() {
+        TableHashIndex index = new TableHashIndex();
+        for (int row = 0; row < 10; row++) {
+            index.insert(7, row);
+            index.insert(row + 100, row + 100);
+        }
+        Assert.assertEquals(rowsWithHash(index, 7), new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+        Assert.assertEquals(rowsWithHash(index, 105), new int[]{105});
+    }
+
+    @Test
+    public void testRemoveKeepsProbeSequences() {
+        TableHashIndex index = new TableHashIndex();
+        // Hashes which share a probe sequence, so that removing an entry has to shift the following ones back.
+        for (int row = 0; row < 6; row++) {
+            index.insert(3, row);
+        }
+        index.insert(4, 6);
+        index.removeSlot(index.findSlot(3, index.homeSlot(3)));
+        index.removeSlot(slotOf(index, 3, 4));
+
+        Assert.assertEquals(index.size(), 5);
+        Assert.assertEquals(rowsWithHash(index, 3), new int[]{1, 2, 3, 5});
+        Assert.assertEquals(rowsWithHash(index, 4), new int[]{6});
+    }
+
+    @Test
+    public void testRemoveAll() {
+        TableHashIndex index = new TableHashIndex();
+        for (int row = 0; row < 100; row++) {
+            index.insert(row % 10, row);
+        }
+        for (int row = 0; row < 100; row++) {
+            index.removeSlot(slotOf(index, row % 10, row));
+        }
+        Assert.assertEquals(index.size(), 0);
+        for (int hash = 0; hash < 10; hash++) {
+            Assert.assertEquals(index.findSlot(hash, index.homeSlot(hash)), -1);
+        }
+    }
+
+    @Test
+    public void testMoveRows() {
+        TableHashIndex index = new TableHashIndex();
+        for (int row = 0; row < 100; row++) {
+            index.insert(row % 3, row);
+        }
+        for (int row = 0; row < 90; row++) {
+            index.removeSlot(slotOf(index, row % 3, row));
+        }
+        // Positions of the remaining rows 90 to 99 after moving them to the front.
+        int[] positions = new int[101];
+        for (int row = 90; row <= 100; row++) {
+            positions[row] = row - 90;
+        }
+        index.moveRows(positions);
+
+        Assert.assertEquals(index.size(), 10);
+        Assert.assertEquals(rowsWithHash(index, 0), new int[]{0, 3, 6, 9});
+        Assert.assertEquals(rowsWithHash(index, 1), new int[]{1, 4, 7});
+        Assert.assertEquals(rowsWithHash(index, 2), new int[]{2, 5, 8});
+
+        index.insert(0, 10);
+        Assert.assertEquals(rowsWithHash(index, 0), new int[]{0, 3, 6, 9, 10});
+    }
+
+    @Test
+    public void testClear() {
+        TableHashIndex index = new TableHashIndex();
+        for (int row = 0; row < 100; row++) {
+            index.insert(row, row);
+        }
+        index.clear();
+        Assert.assertEquals(index.size(), 0);
+        Assert.assertEquals(index.findSlot(5, index.homeSlot(5)), -1);
+        index.insert(5, 0);
+        Assert.assertEquals(rowsWithHash(index, 5), new int[]{0});
+    }
+
+    private static int[] rowsWithHash(TableHashIndex index, long hash) {
+        int[] rows = new int[0];
+        int slot = index.findSlot(hash, index.homeSlot(hash));
+        while (slot != -1) {
+            rows = Arrays.copyOf(rows, rows.length + 1);
+            rows[rows.length - 1] = index.rowAt(slot);
+            slot = index.findSlot(hash, index.nextSlot(slot));
+        }
+        Arrays.sort(rows);
+        return rows;
+    }
+
+    private static int slotOf(TableHashIndex index, long hash, int row) {
+        int slot = index.findSlot(hash, index.homeSlot(hash));
+        while (index.rowAt(slot) != row) {
+            slot = index.findSlot(hash, index.nextSlot(slot));
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.XmlNameTest;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Test cases for selecting the descendants of read-only xml values through their element index.
+ *
+ * @since 2.0.0
+ */
+public class XmlElementIndexTests {
+
+    @DataProvider
+    public Object[][] nameTests() {
+        return new Object[][]{
+                {new String[]{"item"}, List.of("item")},
+                {new String[]{"{urn:a}item", "item"}, List.of("{urn:a}item", "item")},
+                {new String[]{"{urn:a}*"}, List.of("{urn:a}item", "{urn:a}price")},
+                {new String[]{"{urn:b}*", "item"}, List.of("{urn:b}item", "item")},
+                {new String[]{"*"}, List.of("root", "{urn:a}item", "{urn:b}item", "item", "{urn:a}price")},
+                {new String[]{"missing"}, List.of()}
+        };
+    }
+
+    @Test(dataProvider = "nameTests")
+    public void testSelectElements(String[] names, List<String> expectedNames) {
+        BString[] elemNames = new BString[names.length];
+        for (int i = 0; i < names.length; i++) {
+            elemNames[i] = StringUtils.fromString(names[i]);
+        }
+        XmlNameTest nameTest = XmlNameTest.forElements(elemNames);
+
+        Assert.assertEquals(elementNames(createDocument(false).descendants(nameTest)), expectedNames);
+        XmlItem readOnlyDocument = createDocument(true);
+        Assert.assertEquals(elementNames(readOnlyDocument.descendants(nameTest)), expectedNames);
+        // Selected again from the index built by the first selection.
+        Assert.assertEquals(elementNames(readOnlyDocument.descendants(nameTest)), expectedNames);
+    }
+
+    private static XmlItem createDocument(boolean readonly) {
+        return element(new QName("root"), readonly,
+                       element(new QName("urn:a", "item", "a"), readonly),
+                       element(new QName("urn:b", "item", "b"), readonly),
+                       element(new QName("item"), readonly,
+                               element(new QName("urn:a", "price", "a"), readonly)));
+    }
+
+    private static XmlItem element(QName name, boolean readonly, XmlItem... children) {
+        return new XmlItem(name, new XmlSequence(new ArrayList<>(List.of(children))), readonly);
+    }
+
+    private static List<String> elementNames(XmlValue elements) {
+        List<String> names = new ArrayList<>();
+        for (BXml element : ((XmlSequence) elements).getChildrenList()) {
+            names.add(element.getElementName());
+        }
+        return names;
+    }
+}
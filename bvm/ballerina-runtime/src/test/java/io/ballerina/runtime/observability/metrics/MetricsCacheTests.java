@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for the metrics kept for each set of tags by the metrics observer.
+ *
+ * @since 2.0.0
+ */
+public class MetricsCacheTests {
+
+    private static final Tag SERVICE = Tag.of("service", "hello");
+    private static final Tag RESOURCE = Tag.of("resource", "sayHello");
+
+    @Test
+    public void testMetricsAreResolvedOnce() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        AtomicInteger resolutions = new AtomicInteger();
+        MetricsCache<Gauge> cache = new MetricsCache<>(registry, 10, tags -> {
+            resolutions.incrementAndGet();
+            return registry.gauge(new MetricId("inprogress_requests", "In-progress requests", tags));
+        });
+
+        Gauge gauge = cache.get(tagSet(SERVICE, RESOURCE));
+        Assert.assertSame(cache.get(tagSet(RESOURCE, SERVICE)), gauge);
+        Assert.assertSame(cache.get(tagSet(SERVICE, RESOURCE, SERVICE)), gauge);
+        Assert.assertEquals(resolutions.get(), 1);
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(gauge.getId().getTags(), Set.of(SERVICE, RESOURCE));
+
+        Assert.assertNotSame(cache.get(tagSet(SERVICE)), gauge);
+        Assert.assertEquals(resolutions.get(), 2);
+    }
+
+    @Test
+    public void testMaxSize() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        AtomicInteger resolutions = new AtomicInteger();
+        MetricsCache<Counter> cache = new MetricsCache<>(registry, 4096, tags -> {
+            resolutions.incrementAndGet();
+            return registry.counter(new MetricId("requests_total", "Total number of requests", tags));
+        });
+
+        for (int i = 0; i < 5000; i++) {
+            cache.get(tagSet(SERVICE, Tag.of("resource", "resource" + i)));
+        }
+        Assert.assertEquals(cache.size(), 4096);
+        Assert.assertEquals(resolutions.get(), 5000);
+
+        // The metrics of the cached sets of tags are not resolved again, those of the others are.
+        Counter counter = cache.get(tagSet(SERVICE, Tag.of("resource", "resource0")));
+        Assert.assertEquals(resolutions.get(), 5000);
+        Counter uncached = cache.get(tagSet(SERVICE, Tag.of("resource", "resource4999")));
+        Assert.assertEquals(resolutions.get(), 5001);
+        Assert.assertEquals(cache.size(), 4096);
+        Assert.assertSame(registry.lookup(counter.getId()), counter);
+        Assert.assertSame(registry.lookup(uncached.getId()), uncached);
+    }
+
+    @Test
+    public void testUnregisteredMetricsAreResolvedAgain() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        MetricsCache<Gauge> cache = new MetricsCache<>(registry, 10, tags ->
+                registry.gauge(new MetricId("inprogress_requests", "In-progress requests", tags)));
+
+        Gauge gauge = cache.get(tagSet(SERVICE));
+        registry.unregister(gauge);
+        Gauge registeredGauge = cache.get(tagSet(SERVICE));
+        Assert.assertNotSame(registeredGauge, gauge);
+        Assert.assertSame(registry.lookup(registeredGauge.getId()), registeredGauge);
+        Assert.assertSame(cache.get(tagSet(SERVICE)), registeredGauge);
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testRemovedMetricsAreResolvedAgain() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        MetricsCache<Counter> cache = new MetricsCache<>(registry, 10, tags ->
+                registry.counter(new MetricId("requests_total", "Total number of requests", tags)));
+
+        Counter counter = cache.get(tagSet(SERVICE));
+        registry.remove("requests_total");
+        Counter registeredCounter = cache.get(tagSet(SERVICE));
+        Assert.assertNotSame(registeredCounter, counter);
+        Assert.assertSame(registry.lookup(registeredCounter.getId()), registeredCounter);
+
+        // Removing other metrics resolves the metrics again, which finds the registered ones.
+        registry.gauge(new MetricId("response_time_seconds", "Response time", Set.of(SERVICE)));
+        registry.remove("response_time_seconds");
+        Assert.assertSame(cache.get(tagSet(SERVICE)), registeredCounter);
+    }
+
+    private static TagSet tagSet(Tag... tags) {
+        TagSet tagSet = new TagSet();
+        tagSet.addAll(List.of(tags));
+        return tagSet;
+    }
+}
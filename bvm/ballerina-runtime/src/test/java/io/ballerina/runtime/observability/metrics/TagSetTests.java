@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Test cases for the sets of tags used to look up the metrics of an observation.
+ *
+ * @since 2.0.0
+ */
+public class TagSetTests {
+
+    private static final Tag SERVICE = Tag.of("service", "hello");
+    private static final Tag RESOURCE = Tag.of("resource", "sayHello");
+    private static final Tag METHOD = Tag.of("method", "GET");
+
+    @Test
+    public void testEqualityRegardlessOfOrder() {
+        TagSet tags = new TagSet();
+        tags.addAll(List.of(SERVICE, RESOURCE, METHOD));
+        TagSet reordered = new TagSet();
+        reordered.addAll(List.of(METHOD, SERVICE, RESOURCE));
+
+        Assert.assertEquals(tags, reordered);
+        Assert.assertEquals(tags.hashCode(), reordered.hashCode());
+        Assert.assertEquals(tags.copy(), reordered);
+        Assert.assertEquals(reordered, tags.copy());
+        // The hash code is the same as that of a set holding the tags.
+        Assert.assertEquals(tags.hashCode(), Set.of(SERVICE, RESOURCE, METHOD).hashCode());
+    }
+
+    @Test
+    public void testInequality() {
+        TagSet tags = new TagSet();
+        tags.addAll(List.of(SERVICE, RESOURCE));
+        TagSet other = new TagSet();
+        other.addAll(List.of(SERVICE, Tag.of("resource", "sayBye")));
+        TagSet larger = new TagSet();
+        larger.addAll(List.of(SERVICE, RESOURCE, METHOD));
+
+        Assert.assertNotEquals(tags, other);
+        Assert.assertNotEquals(tags, larger);
+        Assert.assertNotEquals(tags.copy(), larger.copy());
+    }
+
+    @Test
+    public void testDuplicateTags() {
+        TagSet tags = new TagSet();
+        tags.addAll(List.of(SERVICE, RESOURCE, SERVICE));
+        tags.add(Tag.of("resource", "sayHello"));
+        TagSet expected = new TagSet();
+        expected.addAll(List.of(SERVICE, RESOURCE));
+
+        Assert.assertEquals(tags, expected);
+        Assert.assertEquals(tags.hashCode(), expected.hashCode());
+        Assert.assertEquals(tags.copy().getTags(), Set.of(SERVICE, RESOURCE));
+    }
+
+    @Test
+    public void testClear() {
+        TagSet tags = new TagSet();
+        for (int i = 0; i < 20; i++) {
+            tags.add(Tag.of("key" + i, "value"));
+        }
+        TagSet copy = tags.copy();
+        Assert.assertEquals(copy.getTags().size(), 20);
+
+        tags.clear();
+        tags.add(SERVICE);
+        TagSet expected = new TagSet();
+        expected.add(SERVICE);
+        Assert.assertEquals(tags, expected);
+        // Copies do not change with the set they were copied from.
+        Assert.assertEquals(copy.getTags().size(), 20);
+    }
+}
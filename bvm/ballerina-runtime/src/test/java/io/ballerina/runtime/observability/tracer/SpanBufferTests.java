@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.observability.tracer;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the buffer of spans which are ended on a background thread.
+ *
+ * @since 2.0.0
+ */
+public class SpanBufferTests {
+
+    @Test
+    public void testSpansEndedWithTheirEndTimes() throws InterruptedException {
+        SpanBuffer buffer = new SpanBuffer(16);
+        List<Long> endTimes = new CopyOnWriteArrayList<>();
+        CountDownLatch ended = new CountDownLatch(3);
+        for (long endTime = 1; endTime <= 3; endTime++) {
+            Assert.assertTrue(buffer.add(new RecordedSpan(endTime, endTimes, ended)));
+        }
+        Assert.assertTrue(ended.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(endTimes, List.of(1L, 2L, 3L));
+        Assert.assertEquals(buffer.getBufferedSpanCount(), 3);
+        Assert.assertEquals(buffer.getDroppedSpanCount(), 0);
+    }
+
+    @Test
+    public void testSpansDroppedWhenFull() throws InterruptedException {
+        SpanBuffer buffer = new SpanBuffer(2);
+        List<Long> endTimes = new CopyOnWriteArrayList<>();
+        CountDownLatch release = blockBackgroundThread(buffer);
+        CountDownLatch ended = new CountDownLatch(2);
+        Assert.assertTrue(buffer.add(new RecordedSpan(1, endTimes, ended)));
+        Assert.assertTrue(buffer.add(new RecordedSpan(2, endTimes, ended)));
+        Assert.assertFalse(buffer.add(new RecordedSpan(3, endTimes, ended)));
+        Assert.assertEquals(buffer.getBufferedSpanCount(), 3);
+        Assert.assertEquals(buffer.getDroppedSpanCount(), 1);
+
+        release.countDown();
+        Assert.assertTrue(ended.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(endTimes, List.of(1L, 2L));
+    }
+
+    @Test
+    public void testFailingSpanDoesNotStopTheBatch() throws InterruptedException {
+        SpanBuffer buffer = new SpanBuffer(16);
+        List<Long> endTimes = new CopyOnWriteArrayList<>();
+        CountDownLatch ended = new CountDownLatch(1);
+        buffer.add(new FinishedSpanStub(1) {
+            @Override
+            void end(long endEpochNanos) {
+                throw new IllegalStateException("span already ended");
+            }
+        });
+        buffer.add(new RecordedSpan(2, endTimes, ended));
+        Assert.assertTrue(ended.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(endTimes, List.of(2L));
+    }
+
+    @Test
+    public void testFlush() throws InterruptedException {
+        SpanBuffer buffer = new SpanBuffer(16);
+        List<Long> endTimes = new CopyOnWriteArrayList<>();
+        CountDownLatch release = blockBackgroundThread(buffer);
+        CountDownLatch ended = new CountDownLatch(2);
+        buffer.add(new RecordedSpan(1, endTimes, ended));
+        buffer.add(new RecordedSpan(2, endTimes, ended));
+
+        buffer.flush();
+        Assert.assertEquals(endTimes, List.of(1L, 2L));
+        release.countDown();
+    }
+
+    // Keeps the background thread busy with a span until the returned latch is released, so that the spans added in
+    // the meantime stay in the buffer.
+    private static CountDownLatch blockBackgroundThread(SpanBuffer buffer) throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocking = new CountDownLatch(1);
+        Assert.assertTrue(buffer.add(new FinishedSpanStub(0) {
+            @Override
+            void end(long endEpochNanos) {
+                blocking.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }));
+        Assert.assertTrue(blocking.await(10, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private abstract static class FinishedSpanStub extends SpanBuffer.FinishedSpan {
+
+        FinishedSpanStub(long endEpochNanos) {
+            super(endEpochNanos);
+        }
+    }
+
+    private static class RecordedSpan extends FinishedSpanStub {
+
+        private final List<Long> endTimes;
+        private final CountDownLatch ended;
+
+        RecordedSpan(long endEpochNanos, List<Long> endTimes, CountDownLatch ended) {
+            super(endEpochNanos);
+            this.endTimes = endTimes;
+            this.ended = ended;
+        }
+
+        @Override
+        void end(long endEpochNanos) {
+            endTimes.add(endEpochNanos);
+            ended.countDown();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the filtered stack trace of Ballerina errors.
+ *
+ * @since 2.0.0
+ */
+public class ErrorStackTraceTests {
+
+    @Test
+    public void testJavaFramesAreFiltered() {
+        BError error = ErrorCreator.createError(StringUtils.fromString("error"));
+        error.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("io.ballerina.runtime.api.creators.ErrorCreator", "createError",
+                                      "ErrorCreator.java", 10),
+                new StackTraceElement("foo.bar.0_1_0.main", "validate", "main.bal", 20),
+                new StackTraceElement("foo.bar.0_1_0.main", "$lambda$0$", "main.bal", 30),
+                new StackTraceElement("foo.bar.0_1_0.$value$Person", "init", "person.bal", 40)
+        });
+
+        StackTraceElement[] stackTrace = error.getStackTrace();
+        Assert.assertEquals(stackTrace.length, 2);
+        Assert.assertEquals(stackTrace[0].getMethodName(), "validate");
+        Assert.assertEquals(stackTrace[0].getLineNumber(), 20);
+        Assert.assertEquals(stackTrace[1].getClassName(), "foo.bar.0_1_0.Person");
+    }
+
+    @Test
+    public void testStackTraceIsUpdated() {
+        BError error = ErrorCreator.createError(StringUtils.fromString("error"));
+        error.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("foo.bar.0_1_0.main", "validate", "main.bal", 20)
+        });
+        StackTraceElement[] stackTrace = error.getStackTrace();
+        Assert.assertEquals(stackTrace.length, 1);
+
+        // Callers get their own copy of the filtered frames.
+        stackTrace[0] = null;
+        Assert.assertNotNull(error.getStackTrace()[0]);
+
+        error.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("foo.bar.0_1_0.main", "check", "main.bal", 25),
+                new StackTraceElement("foo.bar.0_1_0.main", "main", "main.bal", 5)
+        });
+        stackTrace = error.getStackTrace();
+        Assert.assertEquals(stackTrace.length, 2);
+        Assert.assertEquals(stackTrace[0].getMethodName(), "check");
+    }
+}
@@ -1,9 +1,14 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
+
 
 /**
  * Test cases for {@link io.ballerina.runtime.internal.values.StringValue class} implementations.
@@ -40,4 +45,107 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testRepeatedConcatMixedPlanes() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            String part = i % 3 == 0 ? "a\uD83D\uDC7D" : "bc";
+            str = str.concat(StringUtils.fromString(part));
+            expected.append(part);
+        }
+        BString flat = StringUtils.fromString(expected.toString());
+        Assert.assertEquals(str.length(), flat.length());
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.getCodePoint(1), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(str.length() - 1), flat.getCodePoint(flat.length() - 1));
+        Assert.assertEquals(str.indexOf(StringUtils.fromString("bcbca"), 0), flat.indexOf(
+                StringUtils.fromString("bcbca"), 0));
+        Assert.assertEquals(str.substring(10, 20).getValue(), flat.substring(10, 20).getValue());
+        Assert.assertEquals(str, flat);
+        Assert.assertEquals(str.hashCode(), flat.hashCode());
+    }
+
+    @Test
+    void testConcatNonBmpOntoRope() {
+        BString str = StringUtils.fromString("x".repeat(200));
+        str = str.concat(StringUtils.fromString("\uD83D\uDEF8y"));
+        Assert.assertEquals(str.length(), 202);
+        Assert.assertEquals(str.getCodePoint(200), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(201), 'y');
+        str = StringUtils.fromString("\uD83D\uDEF8").concat(str);
+        Assert.assertEquals(str.length(), 203);
+        Assert.assertEquals(str.getCodePoint(0), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(201), 0x1F6F8);
+        Assert.assertEquals(str.indexOf(StringUtils.fromString("y"), 0), Long.valueOf(202));
+    }
+
+    @Test
+    void testDeepRopeFlatten() {
+        BString part = StringUtils.fromString("ab");
+        BString str = StringUtils.fromString("");
+        for (int i = 0; i < 100000; i++) {
+            str = str.concat(part);
+        }
+        Assert.assertEquals(str.length(), 200000);
+        Assert.assertEquals(str.getValue().length(), 200000);
+        Assert.assertEquals(str.getCodePoint(199999), 'b');
+    }
+
+    @Test
+    void testRopeIterator() {
+        BString str = StringUtils.fromString("z".repeat(150)).concat(StringUtils.fromString("\uD83D\uDC7D"));
+        IteratorValue iterator = str.getIterator();
+        int count = 0;
+        Object last = null;
+        while (iterator.hasNext()) {
+            last = iterator.next();
+            count++;
+        }
+        Assert.assertEquals(count, 151);
+        Assert.assertEquals(last, "\uD83D\uDC7D");
+    }
+
+    @Test
+    void testFromStringSurrogatePositions() {
+        BString str = StringUtils.fromString(UNICODE_STR);
+        Assert.assertTrue(str instanceof NonBmpStringValue);
+        Assert.assertEquals(((NonBmpStringValue) str).getSurrogates(), new int[]{1, 14});
+        Assert.assertEquals(str.length(), 16);
+    }
+
+    @Test
+    void testFromUtf8Bytes() {
+        byte[] ascii = "ascii only".getBytes(StandardCharsets.UTF_8);
+        BString str = StringUtils.fromUtf8Bytes(ascii, 0, ascii.length);
+        Assert.assertEquals(str.getValue(), "ascii only");
+        Assert.assertEquals(str.length(), 10);
+
+        byte[] latin = "caf\u00e9 \u20ac".getBytes(StandardCharsets.UTF_8);
+        str = StringUtils.fromUtf8Bytes(latin, 0, latin.length);
+        Assert.assertEquals(str.getValue(), "caf\u00e9 \u20ac");
+        Assert.assertEquals(str.length(), 6);
+
+        byte[] nonBmp = UNICODE_STR.getBytes(StandardCharsets.UTF_8);
+        str = StringUtils.fromUtf8Bytes(nonBmp, 0, nonBmp.length);
+        Assert.assertEquals(str.getValue(), UNICODE_STR);
+        Assert.assertEquals(((NonBmpStringValue) str).getSurrogates(), new int[]{1, 14});
+
+        byte[] malformed = new byte[]{'a', (byte) 0x80, 'b'};
+        str = StringUtils.fromUtf8Bytes(malformed, 1, 2);
+        Assert.assertEquals(str.getValue(), "\uFFFDb");
+    }
+
+    @Test
+    void testNonBmpIterator() {
+        IteratorValue iterator = SUBJECT.getIterator();
+        StringBuilder sb = new StringBuilder();
+        int count = 0;
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+            count++;
+        }
+        Assert.assertEquals(count, 16);
+        Assert.assertEquals(sb.toString(), UNICODE_STR);
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.observability.tracer.TraceSampler;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the samplers which decide whether traces are sampled.
+ *
+ * @since 2.0.0
+ */
+public class TraceSamplerTests {
+
+    @Test
+    public void testConstantSamplers() {
+        TraceSampler always = TraceSampler.create(TraceSampler.ALWAYS, 0, 0);
+        TraceSampler never = TraceSampler.create(TraceSampler.NEVER, 1, 100);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(always.sample());
+            Assert.assertFalse(never.sample());
+        }
+    }
+
+    @Test
+    public void testRatioSampler() {
+        TraceSampler sampler = TraceSampler.create(TraceSampler.RATIO, 0.25, 0);
+        int sampled = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (sampler.sample()) {
+                sampled++;
+            }
+        }
+        Assert.assertEquals(sampled, 25000, 1500);
+        Assert.assertFalse(TraceSampler.create(TraceSampler.RATIO, 0, 0).sample());
+    }
+
+    @Test
+    public void testRateLimitingSampler() {
+        TraceSampler sampler = TraceSampler.create(TraceSampler.RATE_LIMITING, 0, 10);
+        int sampled = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (sampler.sample()) {
+                sampled++;
+            }
+        }
+        // Up to a second worth of traces are sampled in a burst, and one more may become due while sampling.
+        Assert.assertTrue(sampled >= 10 && sampled <= 11, "sampled " + sampled + " traces");
+    }
+
+    @Test
+    public void testParentBasedSampling() {
+        TraceSampler always = TraceSampler.create(TraceSampler.ALWAYS, 0, 0);
+        TraceSampler never = TraceSampler.create(TraceSampler.NEVER, 0, 0);
+        SpanContext sampledParent = createSpanContext(TraceFlags.getSampled());
+        SpanContext unsampledParent = createSpanContext(TraceFlags.getDefault());
+
+        // The decision of a remote parent is followed regardless of the sampler.
+        Assert.assertTrue(never.sampleRemoteChild(sampledParent, true));
+        Assert.assertFalse(always.sampleRemoteChild(unsampledParent, true));
+        // Without a trace context from the caller, the sampler decides.
+        Assert.assertTrue(always.sampleRemoteChild(SpanContext.getInvalid(), true));
+        Assert.assertFalse(never.sampleRemoteChild(SpanContext.getInvalid(), true));
+        // A parent in this service which is not sampled is followed as well.
+        Assert.assertFalse(always.sampleLocalChild(true));
+    }
+
+    @Test
+    public void testSamplingWithoutParentBasedDecisions() {
+        TraceSampler always = TraceSampler.create(TraceSampler.ALWAYS, 0, 0);
+        TraceSampler never = TraceSampler.create(TraceSampler.NEVER, 0, 0);
+        Assert.assertFalse(never.sampleRemoteChild(createSpanContext(TraceFlags.getSampled()), false));
+        Assert.assertTrue(always.sampleRemoteChild(createSpanContext(TraceFlags.getDefault()), false));
+        Assert.assertTrue(always.sampleLocalChild(false));
+        Assert.assertFalse(never.sampleLocalChild(false));
+    }
+
+    @Test
+    public void testInvalidSamplerSamplesAllTraces() {
+        Assert.assertTrue(TraceSampler.create("unknown", 0, 0).sample());
+        Assert.assertTrue(TraceSampler.create(TraceSampler.RATIO, 1.5, 0).sample());
+    }
+
+    private static SpanContext createSpanContext(TraceFlags traceFlags) {
+        return SpanContext.createFromRemoteParent("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", traceFlags,
+                TraceState.getDefault());
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test.api;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.JsonPullParser;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BStreamingJson;
+import io.ballerina.runtime.internal.JsonArrayDataSource;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BArrayType;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
+
+/**
+ * Test cases for the runtime APIs which parse UTF-8 encoded JSON.
+ *
+ * @since 2.0.0
+ */
+public class JsonPullParserTests {
+
+    private static final String DOCUMENT = "{\"id\": 1, \"name\": \"caf\u00E9 \\\"\\u0041\\\" \uD83D\uDE00\", " +
+            "\"price\": 12.50, \"zero\": -0, \"tags\": [true, false, null, []], \"nested\": {\"a\": {}}}";
+
+    @Test
+    public void testParseBytesAsCharacterParser() {
+        for (JsonUtils.NonStringValueProcessingMode mode : JsonUtils.NonStringValueProcessingMode.values()) {
+            Object expected = JsonUtils.parse(DOCUMENT, mode);
+            byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+            Assert.assertTrue(TypeChecker.isEqual(JsonUtils.parse(bytes, mode), expected));
+            Assert.assertTrue(TypeChecker.isEqual(JsonUtils.parse(ByteBuffer.wrap(bytes), mode), expected));
+        }
+    }
+
+    @Test
+    public void testPullEvents() {
+        JsonPullParser parser = JsonUtils.createPullParser("{\"a\": [1, \"x\"], \"b\": {\"c\": null}}"
+                .getBytes(StandardCharsets.UTF_8), FROM_JSON_STRING);
+        Assert.assertEquals(parser.next(), JsonPullParser.Event.START_OBJECT);
+        Assert.assertEquals(parser.next(), JsonPullParser.Event.FIELD_NAME);
+        Assert.assertEquals(parser.getFieldName().getValue(), "a");
+        Assert.assertEquals(parser.next(), JsonPullParser.Event.START_ARRAY);
+        Assert.assertEquals(parser.next(), JsonPullParser.Event.NUMBER);
+        Assert.assertEquals(parser.getValue(), 1L);
+        Assert.assertEquals(parser.next(), JsonPullParser.Event.STRING);
+        Assert.assertEquals(parser.getValue(), StringUtils.fromString("x"));
+        Assert.assertEquals(parser.next(), JsonPullParser.Event.END_ARRAY);
+        Assert.assertEquals(parser.next(), JsonPullParser.Event.FIELD_NAME);
+        Assert.assertEquals(parser.next(), JsonPullParser.Event.START_OBJECT);
+        parser.skipValue();
+        Assert.assertEquals(parser.currentEvent(), JsonPullParser.Event.END_OBJECT);
+        Assert.assertEquals(parser.next(), JsonPullParser.Event.END_OBJECT);
+        Assert.assertEquals(parser.next(), JsonPullParser.Event.END_DOCUMENT);
+    }
+
+    @Test
+    public void testStreamingArray() {
+        String array = "[{\"id\": 1}, 2.5, \"three\"]";
+        BArray expected = (BArray) JsonUtils.parse(array, FROM_JSON_DECIMAL_STRING);
+        BStreamingJson json = parseStreaming(array);
+        BIterator<?> iterator = json.getIterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            Assert.assertTrue(TypeChecker.isEqual(iterator.next(), expected.get(count)));
+            count++;
+        }
+        Assert.assertEquals(count, 3);
+    }
+
+    @Test
+    public void testStreamingArrayAccessedBeforeIteration() {
+        String array = "[1, 2, 3, 4]";
+        BStreamingJson json = parseStreaming(array);
+        // Members which were accessed before the iteration are kept, the iteration reads the rest from the stream.
+        Assert.assertEquals(json.getRefValue(1), 2L);
+        BIterator<?> iterator = json.getIterator();
+        for (long member = 1; member <= 4; member++) {
+            Assert.assertTrue(iterator.hasNext());
+            Assert.assertEquals(iterator.next(), member);
+        }
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testStreamingArrayAccessedAfterIteration() {
+        BStreamingJson json = parseStreaming("[1, 2, 3]");
+        BIterator<?> iterator = json.getIterator();
+        iterator.next();
+        try {
+            json.size();
+            Assert.fail("members read by the iteration are not kept");
+        } catch (BError e) {
+            Assert.assertTrue(e.toString().contains("streaming JSON array has already been iterated"), e.toString());
+        }
+    }
+
+    @Test
+    public void testStreamingArrayAccessedAfterDrainingIteration() {
+        BStreamingJson json = parseStreaming("[1, 2, 3]");
+        BIterator<?> iterator = json.getIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        // The data source has no more members, but the members read by the iteration were not kept either.
+        assertIterated(json::size);
+        assertIterated(json::getValues);
+        assertIterated(json::toString);
+        assertIterated(() -> json.stringValue(null));
+        assertIterated(() -> json.getRefValue(0));
+    }
+
+    @Test
+    public void testStreamingArrayFromCreator() {
+        String array = "[1, 2, 3]";
+        BStreamingJson json = ValueCreator.createStreamingJsonValue(new JsonArrayDataSource(
+                JsonUtils.createPullParser(array.getBytes(StandardCharsets.UTF_8), FROM_JSON_DECIMAL_STRING),
+                new BArrayType(PredefinedTypes.TYPE_JSON_DECIMAL)));
+        BIterator<?> iterator = json.getIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        // Data sources given to the value creator keep the iterated members, as they always have.
+        Assert.assertEquals(json.size(), 3);
+    }
+
+    @DataProvider
+    public Object[][] invalidDocuments() {
+        return new Object[][]{
+                {"[1, 2 3]"},
+                {"{\"na\u00EFve\": 1 x}"},
+                {"[\"\u65E5\u672C\u8A9E\", \"x\" y]"},
+                {"{\"a\": \"\uD83D\uDE00\uD83D\uDE00\", \"b\" 1}"},
+                {"{\n  \"\u043A\u043B\u044E\u0447\": 1,\n  \"\u0437\u043D\u0430\u0447\u0435\u043D\u0438\u0435\" 2\n}"},
+                // A line longer than the buffer of the parser, which counts the characters across buffers
+                {"[\"" + "\u00E9\uD83D\uDE00".repeat(4000) + "\" x]"}
+        };
+    }
+
+    @Test(dataProvider = "invalidDocuments")
+    public void testErrorsAsCharacterParser(String document) {
+        String expected = parseError(() -> JsonUtils.parse(document, FROM_JSON_STRING));
+        byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(parseError(() -> JsonUtils.parse(bytes, FROM_JSON_STRING)), expected);
+        Assert.assertEquals(parseError(() -> {
+            JsonPullParser parser = JsonUtils.createPullParser(new ByteArrayInputStream(bytes), FROM_JSON_STRING);
+            while (parser.next() != JsonPullParser.Event.END_DOCUMENT) {
+                parser.getValue();
+            }
+        }), expected);
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = "expected ',' or '}' at line: 2 column: 9")
+    public void testInvalidDocument() {
+        JsonUtils.parse("{\"a\": 1,\n \"b\": 2 \"c\": 3}".getBytes(StandardCharsets.UTF_8), FROM_JSON_STRING);
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = "unexpected end of JSON document at line: 1 column: 8")
+    public void testTruncatedDocument() {
+        JsonUtils.parse("[1, 2, 3".getBytes(StandardCharsets.UTF_8), FROM_JSON_STRING);
+    }
+
+    private static BStreamingJson parseStreaming(String array) {
+        return JsonUtils.parseStreaming(new ByteArrayInputStream(array.getBytes(StandardCharsets.UTF_8)),
+                                        FROM_JSON_DECIMAL_STRING);
+    }
+
+    private static void assertIterated(Runnable access) {
+        try {
+            access.run();
+            Assert.fail("members read by the iteration are not kept");
+        } catch (BError e) {
+            Assert.assertTrue(e.toString().contains("streaming JSON array has already been iterated"), e.toString());
+        }
+    }
+
+    private static String parseError(Runnable parse) {
+        try {
+            parse.run();
+        } catch (BError e) {
+            return e.getMessage();
+        }
+        throw new AssertionError("expected a parsing error");
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test.api;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.Utf8Buffer;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
+
+/**
+ * Test cases for the runtime APIs which serialize values as UTF-8 into byte buffers.
+ *
+ * @since 2.0.0
+ */
+public class JsonSerializationTests {
+
+    private static final String DOCUMENT = "{\"id\": 1, \"name\": \"caf\u00E9 \\\"a/b\\\" \uD83D\uDE00\", " +
+            "\"path\": \"a/b\", \"price\": 12.50, \"tags\": [true, false, null, []], " +
+            "\"nested\": {\"line\\nbreak\": {}}}";
+
+    @Test
+    public void testSerializeToUtf8AsOutputStream() {
+        Object json = JsonUtils.parse(DOCUMENT, FROM_JSON_STRING);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(json, out, StandardCharsets.UTF_8);
+
+        ByteBuffer buffer = JsonUtils.serializeToUtf8(json);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        Assert.assertEquals(bytes, out.toByteArray());
+        Assert.assertEquals(new String(bytes, StandardCharsets.UTF_8), StringUtils.getJsonString(json));
+    }
+
+    @Test
+    public void testSerializeXmlToUtf8() {
+        BXml xml = XmlUtils.parse("<book lang=\"si\"><title>caf\u00E9 &amp; \uD83D\uDE00</title></book>");
+        ByteBuffer buffer = XmlUtils.serializeToUtf8(xml);
+        Assert.assertEquals(StandardCharsets.UTF_8.decode(buffer).toString(), xml.toString());
+    }
+
+    @Test
+    public void testSerializeManyFieldNamesToUtf8() {
+        // Keys of maps are escaped as they are written, however many distinct keys there are.
+        StringJoiner document = new StringJoiner(", ", "{", "}");
+        for (int i = 0; i < 5000; i++) {
+            document.add("\"field" + i + "\": " + i);
+        }
+        Object json = JsonUtils.parse(document.toString(), FROM_JSON_STRING);
+        for (int i = 0; i < 2; i++) {
+            ByteBuffer buffer = JsonUtils.serializeToUtf8(json);
+            Assert.assertEquals(StandardCharsets.UTF_8.decode(buffer).toString(), StringUtils.getJsonString(json));
+        }
+    }
+
+    @Test
+    public void testSerializeRecordToUtf8() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(PredefinedTypes.TYPE_INT, "id", 0));
+        fields.put("caf\u00E9 \"name\"", new BField(PredefinedTypes.TYPE_STRING, "caf\u00E9 \"name\"", 0));
+        BRecordType recordType = new BRecordType("Person", new Module("testorg", "test", "1"), 0, fields,
+                                                  PredefinedTypes.TYPE_JSON, false, 0);
+        MapValueImpl<BString, Object> person = new MapValueImpl<>(recordType);
+        person.put(StringUtils.fromString("id"), 1L);
+        person.put(StringUtils.fromString("caf\u00E9 \"name\""), StringUtils.fromString("a/b"));
+        // Rest fields are not part of the record type
+        person.put(StringUtils.fromString("line\nbreak"), true);
+
+        String expected = "{\"id\":1, \"caf\u00E9 \\\"name\\\"\":\"a/b\", \"line\\nbreak\":true}";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(person, out, StandardCharsets.UTF_8);
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), expected);
+        for (int i = 0; i < 2; i++) {
+            ByteBuffer buffer = JsonUtils.serializeToUtf8(person);
+            Assert.assertEquals(StandardCharsets.UTF_8.decode(buffer).toString(), expected);
+        }
+        BField field = (BField) fields.get("id");
+        Assert.assertSame(field.getJsonNameBytes(), field.getJsonNameBytes());
+    }
+
+    @Test
+    public void testSurrogatePairsSplitAcrossWrites() throws IOException {
+        Utf8Buffer buffer = new Utf8Buffer();
+        Writer writer = buffer.asWriter();
+        for (char ch : "a\uD83D\uDE00b".toCharArray()) {
+            writer.write(ch);
+        }
+        writer.write("\uD83D");
+        writer.write(new char[]{'\uDE00'}, 0, 1);
+        // Unpaired surrogates are written as '?'
+        writer.write("\uD83Dc\uD83D");
+        writer.close();
+        Assert.assertEquals(buffer.toString(), "a\uD83D\uDE00b\uD83D\uDE00?c?");
+    }
+
+    @Test
+    public void testReusedBufferDropsPendingSurrogate() throws IOException {
+        Utf8Buffer buffer = Utf8Buffer.acquire();
+        buffer.asWriter().write("a\uD83D");
+        buffer.release();
+        Utf8Buffer reused = Utf8Buffer.acquire();
+        reused.asWriter().write("\uDE00b");
+        Assert.assertEquals(reused.toString(), "?b");
+        reused.release();
+
+        Utf8Buffer reset = new Utf8Buffer();
+        reset.asWriter().write("\uD83D");
+        reset.reset();
+        reset.asWriter().write("c");
+        Assert.assertEquals(reset.toString(), "c");
+    }
+}
@@ -186,6 +186,10 @@ public class BuildCommand implements BLauncherCmd {
             "JAR file(s).")
     private Boolean observabilityIncluded;
 
+    @CommandLine.Option(names = "--observability-level", description = "the kinds of calls to instrument when " +
+            "observability is included. Supported values are 'entrypoints', 'remote' and 'all'.")
+    private String observabilityLevel;
+
     @CommandLine.Option(names = "--cloud", description = "Enable cloud artifact generation")
     private String cloud;
 
@@ -211,6 +215,11 @@ public class BuildCommand implements BLauncherCmd {
             return;
         }
 
+        if (!CommandUtil.validateObservabilityLevel(this.errStream, this.observabilityLevel)) {
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
+
         if (this.compile) {
             this.outStream.println("warning: '-c compile' flag is deprecated. Please make use of 'bal pack' command");
         }
@@ -434,6 +443,7 @@ public class BuildCommand implements BLauncherCmd {
                 .skipTests(skipTests)
                 .testReport(testReport)
                 .observabilityIncluded(observabilityIncluded)
+                .observabilityLevel(observabilityLevel)
                 .cloud(cloud)
                 .dumpBir(dumpBIR)
                 .dumpBirFile(dumpBIRFile)
@@ -58,6 +58,7 @@ public class CommandUtil {
     public static final String DEVCONTAINER = "devcontainer";
     public static final String NEW_CMD_DEFAULTS = "new_cmd_defaults";
     public static final String CREATE_CMD_TEMPLATES = "create_cmd_templates";
+    public static final List<String> OBSERVABILITY_LEVELS = List.of("entrypoints", "remote", "all");
     private static FileSystem jarFs;
     private static Map<String, String> env;
 
@@ -100,6 +101,23 @@ public class CommandUtil {
         }
     }
     
+    /**
+     * Validate the value given for the observability level option and print an error if it is not supported.
+     *
+     * @param stream error will be sent to this stream
+     * @param observabilityLevel the option value or null if the option was not provided
+     * @return true if the option was not provided or the value is supported
+     */
+    public static boolean validateObservabilityLevel(PrintStream stream, String observabilityLevel) {
+        if (observabilityLevel == null || OBSERVABILITY_LEVELS.contains(observabilityLevel)) {
+            return true;
+        }
+        printError(stream, "unsupported observability level '" + observabilityLevel + "'. supported values are " +
+                OBSERVABILITY_LEVELS.stream().map(level -> "'" + level + "'").collect(Collectors.joining(", ")),
+                null, true);
+        return false;
+    }
+
     /**
      * Exit with error code 1.
      *
@@ -85,6 +85,10 @@ public class RunCommand implements BLauncherCmd {
             "when run is used with a source file or a module.")
     private Boolean observabilityIncluded;
 
+    @CommandLine.Option(names = "--observability-level", description = "the kinds of calls to instrument when " +
+            "observability is included. Supported values are 'entrypoints', 'remote' and 'all'.")
+    private String observabilityLevel;
+
     @CommandLine.Option(names = "--sticky", description = "stick to exact versions locked (if exists)")
     private Boolean sticky;
 
@@ -119,6 +123,11 @@ public class RunCommand implements BLauncherCmd {
             return;
         }
 
+        if (!CommandUtil.validateObservabilityLevel(this.errStream, this.observabilityLevel)) {
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
+
         // Sets the debug port as a system property, which will be used when setting up debug args before running the
         // executable jar in a separate JVM process.
         if (this.debugPort != null) {
@@ -225,6 +234,7 @@ public class RunCommand implements BLauncherCmd {
                 .skipTests(true)
                 .testReport(false)
                 .observabilityIncluded(observabilityIncluded)
+                .observabilityLevel(observabilityLevel)
                 .sticky(sticky)
                 .dumpGraph(dumpGraph)
                 .dumpRawGraphs(dumpRawGraphs)
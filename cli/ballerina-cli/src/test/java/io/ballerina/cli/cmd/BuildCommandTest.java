@@ -168,6 +168,19 @@ public class BuildCommandTest extends BaseCommandTest {
                 .contains("Invalid Ballerina source file(.bal): " + nonBalFilePath.toString()));
     }
 
+    @Test(description = "Build a valid ballerina file with an unsupported observability level")
+    public void testBuildWithInvalidObservabilityLevel() throws IOException {
+        Path validBalFilePath = this.testResources.resolve("valid-bal-file").resolve("hello_world.bal");
+        BuildCommand buildCommand = new BuildCommand(validBalFilePath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse("--observability-level", "everything", validBalFilePath.toString());
+        buildCommand.execute();
+
+        String buildLog = readOutput(true);
+        Assert.assertTrue(buildLog.replaceAll("\r", "").contains("ballerina: unsupported observability level " +
+                "'everything'. supported values are 'entrypoints', 'remote', 'all'"));
+        Assert.assertFalse(Files.exists(this.testResources.resolve("valid-bal-file").resolve("hello_world.jar")));
+    }
+
     @Test(description = "Build non existing bal file")
     public void testNonExistingBalFile() throws IOException {
         // valid source root path
@@ -69,6 +69,10 @@ public class BuildOptions {
         return this.compilationOptions.observabilityIncluded();
     }
 
+    public String observabilityLevel() {
+        return this.compilationOptions.observabilityLevel();
+    }
+
     public boolean listConflictedClasses() {
         return this.compilationOptions.listConflictedClasses();
     }
@@ -114,6 +118,7 @@ public class BuildOptions {
         buildOptionsBuilder.offline(compilationOptions.offlineBuild);
         buildOptionsBuilder.experimental(compilationOptions.experimental);
         buildOptionsBuilder.observabilityIncluded(compilationOptions.observabilityIncluded);
+        buildOptionsBuilder.observabilityLevel(compilationOptions.observabilityLevel);
         buildOptionsBuilder.dumpBir(compilationOptions.dumpBir);
         buildOptionsBuilder.dumpBirFile(compilationOptions.dumpBirFile);
         buildOptionsBuilder.dumpGraph(compilationOptions.dumpGraph);
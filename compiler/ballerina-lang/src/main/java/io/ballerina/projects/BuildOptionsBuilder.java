@@ -80,6 +80,11 @@ public class BuildOptionsBuilder {
         return this;
     }
 
+    public BuildOptionsBuilder observabilityLevel(String value) {
+        compilationOptionsBuilder.observabilityLevel(value);
+        return this;
+    }
+
     public BuildOptionsBuilder cloud(String value) {
         compilationOptionsBuilder.cloud(value);
         return this;
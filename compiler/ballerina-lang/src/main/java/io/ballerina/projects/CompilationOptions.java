@@ -26,6 +26,7 @@ public class CompilationOptions {
     Boolean offlineBuild;
     Boolean experimental;
     Boolean observabilityIncluded;
+    String observabilityLevel;
     Boolean dumpBir;
     Boolean dumpBirFile;
     String cloud;
@@ -35,12 +36,13 @@ public class CompilationOptions {
     Boolean dumpRawGraphs;
 
     CompilationOptions(Boolean offlineBuild, Boolean experimental,
-                       Boolean observabilityIncluded, Boolean dumpBir, Boolean dumpBirFile,
-                       String cloud, Boolean listConflictedClasses, Boolean sticky,
+                       Boolean observabilityIncluded, String observabilityLevel, Boolean dumpBir,
+                       Boolean dumpBirFile, String cloud, Boolean listConflictedClasses, Boolean sticky,
                        Boolean dumpGraph, Boolean dumpRawGraphs) {
         this.offlineBuild = offlineBuild;
         this.experimental = experimental;
         this.observabilityIncluded = observabilityIncluded;
+        this.observabilityLevel = observabilityLevel;
         this.dumpBir = dumpBir;
         this.dumpBirFile = dumpBirFile;
         this.cloud = cloud;
@@ -66,6 +68,10 @@ public class CompilationOptions {
         return toBooleanDefaultIfNull(this.observabilityIncluded);
     }
 
+    public String observabilityLevel() {
+        return toStringDefaultIfNull(this.observabilityLevel);
+    }
+
     public Boolean dumpBir() {
         return toBooleanDefaultIfNull(this.dumpBir);
     }
@@ -113,6 +119,11 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.observabilityIncluded(this.observabilityIncluded);
         }
+        if (theirOptions.observabilityLevel != null) {
+            compilationOptionsBuilder.observabilityLevel(theirOptions.observabilityLevel);
+        } else {
+            compilationOptionsBuilder.observabilityLevel(this.observabilityLevel);
+        }
         if (theirOptions.dumpBir != null) {
             compilationOptionsBuilder.dumpBir(theirOptions.dumpBir);
         } else {
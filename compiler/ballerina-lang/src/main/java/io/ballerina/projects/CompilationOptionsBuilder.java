@@ -28,6 +28,7 @@ public class CompilationOptionsBuilder {
     private Boolean offline;
     private Boolean experimental;
     private Boolean observabilityIncluded;
+    private String observabilityLevel;
     private Boolean dumpBir;
     private Boolean dumpBirFile;
     private String cloud;
@@ -54,6 +55,11 @@ public class CompilationOptionsBuilder {
         return this;
     }
 
+    CompilationOptionsBuilder observabilityLevel(String value) {
+        observabilityLevel = value;
+        return this;
+    }
+
     CompilationOptionsBuilder dumpBir(Boolean value) {
         dumpBir = value;
         return this;
@@ -85,7 +91,7 @@ public class CompilationOptionsBuilder {
     }
 
     public CompilationOptions build() {
-        return new CompilationOptions(offline, experimental, observabilityIncluded, dumpBir,
+        return new CompilationOptions(offline, experimental, observabilityIncluded, observabilityLevel, dumpBir,
                 dumpBirFile, cloud, listConflictedClasses, sticky,
                 dumpGraph, dumpRawGraph);
     }
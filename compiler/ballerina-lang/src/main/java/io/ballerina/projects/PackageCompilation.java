@@ -42,6 +42,7 @@ import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL;
 import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
+import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_LEVEL;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
 
 /**
@@ -90,6 +91,7 @@ public class PackageCompilation {
         options.put(OFFLINE, Boolean.toString(compilationOptions.offlineBuild()));
         options.put(EXPERIMENTAL, Boolean.toString(compilationOptions.experimental()));
         options.put(OBSERVABILITY_INCLUDED, Boolean.toString(compilationOptions.observabilityIncluded()));
+        options.put(OBSERVABILITY_LEVEL, compilationOptions.observabilityLevel());
         options.put(DUMP_BIR, Boolean.toString(compilationOptions.dumpBir()));
         options.put(DUMP_BIR_FILE, Boolean.toString(compilationOptions.dumpBirFile()));
         options.put(CLOUD, compilationOptions.getCloud());
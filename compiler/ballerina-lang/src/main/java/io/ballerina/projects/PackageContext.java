@@ -221,6 +221,7 @@ class PackageContext {
                 .offline(this.compilationOptions.offlineBuild())
                 .experimental(this.compilationOptions.experimental())
                 .observabilityIncluded(this.compilationOptions.observabilityIncluded())
+                .observabilityLevel(this.compilationOptions.observabilityLevel())
                 .dumpBir(this.compilationOptions.dumpBir())
                 .cloud(this.compilationOptions.getCloud())
                 .dumpBirFile(this.compilationOptions.dumpBirFile())
@@ -401,6 +401,12 @@ public class ManifestBuilder {
         if (topLevelNode != null) {
             cloud = getStringFromTomlTableNode(topLevelNode);
         }
+        final TopLevelNode observabilityLevelNode =
+                tableNode.entries().get(CompilerOptionName.OBSERVABILITY_LEVEL.toString());
+        String observabilityLevel = null;
+        if (observabilityLevelNode != null) {
+            observabilityLevel = getStringFromTomlTableNode(observabilityLevelNode);
+        }
         Boolean listConflictedClasses =
                 getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.LIST_CONFLICTED_CLASSES.toString());
 
@@ -409,6 +415,7 @@ public class ManifestBuilder {
                 .offline(offline)
                 .experimental(experimental)
                 .observabilityIncluded(observabilityIncluded)
+                .observabilityLevel(observabilityLevel)
                 .testReport(testReport)
                 .codeCoverage(codeCoverage)
                 .cloud(cloud)
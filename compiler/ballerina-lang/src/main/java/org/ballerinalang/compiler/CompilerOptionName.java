@@ -34,6 +34,8 @@ public enum CompilerOptionName {
 
     OBSERVABILITY_INCLUDED("observabilityIncluded"),
 
+    OBSERVABILITY_LEVEL("observabilityLevel"),
+
     COMPILER_PHASE("compilerPhase"),
 
     TRANSACTION_EXISTS("transactionBlockExists"),
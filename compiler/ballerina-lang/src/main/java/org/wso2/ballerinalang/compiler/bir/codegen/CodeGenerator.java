@@ -17,6 +17,7 @@
  */
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
@@ -24,6 +25,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -75,7 +77,11 @@ public class CodeGenerator {
     private CompiledJarFile generate(BPackageSymbol packageSymbol) {
 
         // Desugar BIR to include the observations
-        JvmObservabilityGen jvmObservabilityGen = new JvmObservabilityGen(packageCache, symbolTable);
+        JvmObservabilityGen.InstrumentationLevel instrumentationLevel =
+                JvmObservabilityGen.InstrumentationLevel.fromOptionValue(
+                        CompilerOptions.getInstance(compilerContext).get(CompilerOptionName.OBSERVABILITY_LEVEL));
+        JvmObservabilityGen jvmObservabilityGen = new JvmObservabilityGen(packageCache, symbolTable,
+                instrumentationLevel);
         jvmObservabilityGen.instrumentPackage(packageSymbol.bir);
         dlog.setCurrentPackageId(packageSymbol.pkgID);
         final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog, compilerContext);
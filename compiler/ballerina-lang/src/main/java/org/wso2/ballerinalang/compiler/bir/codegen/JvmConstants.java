@@ -237,6 +237,7 @@ public class JvmConstants {
 
     // types related constants
     public static final String TYPES_ERROR = "TYPE_ERROR";
+    public static final String SET_REST_FIELD_TYPE_METHOD = "setRestFieldType";
 
     // error related constants
     public static final String PANIC_FIELD = "panic";
@@ -365,7 +366,9 @@ public class JvmConstants {
     public static final String STOP_OBSERVATION_WITH_ERROR_METHOD = "stopObservationWithError";
     public static final String REPORT_ERROR_METHOD = "reportError";
     public static final String STOP_OBSERVATION_METHOD = "stopObservation";
+    public static final String IS_OBSERVABILITY_ENABLED_METHOD = "isObservabilityEnabled";
     public static final String OBSERVABLE_ANNOTATION = "ballerina/observe/Observable";
+    public static final String UNOBSERVABLE_ANNOTATION = "ballerina/observe/Unobservable";
     public static final String DISPLAY_ANNOTATION = "display";
     public static final String RECORD_CHECKPOINT_METHOD = "recordCheckpoint";
 
@@ -25,6 +25,7 @@ import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JIMethodCall;
+import org.wso2.ballerinalang.compiler.bir.codegen.interop.JType;
 import org.wso2.ballerinalang.compiler.bir.model.ArgumentState;
 import org.wso2.ballerinalang.compiler.bir.model.BIRArgument;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
@@ -77,14 +78,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DISPLAY_ANNOTATION;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.IS_OBSERVABILITY_ENABLED_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBSERVABLE_ANNOTATION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBSERVE_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.RECORD_CHECKPOINT_METHOD;
@@ -93,8 +97,10 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.START_CAL
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.START_RESOURCE_OBSERVATION_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STOP_OBSERVATION_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STOP_OBSERVATION_WITH_ERROR_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.UNOBSERVABLE_ANNOTATION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.CHECKPOINT_CALL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ERROR_CALL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.IS_OBSERVABILITY_ENABLED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.START_CALLABLE_OBSERVATION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.START_RESOURCE_OBSERVATION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.STOP_OBSERVATION;
@@ -114,6 +120,7 @@ class JvmObservabilityGen {
 
     private final PackageCache packageCache;
     private final SymbolTable symbolTable;
+    private final InstrumentationLevel instrumentationLevel;
     private int lambdaIndex;
     private int desugaredBBIndex;
     private int localVarIndex;
@@ -122,12 +129,16 @@ class JvmObservabilityGen {
 
     private final Map<Object, BIROperand> compileTimeConstants;
     private final Map<Name, String> svcAttachPoints;
+    private final Set<BIRNonTerminator> injectedInstructions;
 
-    JvmObservabilityGen(PackageCache packageCache, SymbolTable symbolTable) {
+    JvmObservabilityGen(PackageCache packageCache, SymbolTable symbolTable,
+                        InstrumentationLevel instrumentationLevel) {
         this.compileTimeConstants = new HashMap<>();
         this.svcAttachPoints = new HashMap<>();
+        this.injectedInstructions = Collections.newSetFromMap(new IdentityHashMap<>());
         this.packageCache = packageCache;
         this.symbolTable = symbolTable;
+        this.instrumentationLevel = instrumentationLevel;
         this.lambdaIndex = 0;
         this.desugaredBBIndex = 0;
         this.constantIndex = 0;
@@ -144,17 +155,19 @@ class JvmObservabilityGen {
         for (int i = 0; i < pkg.functions.size(); i++) {
             localVarIndex = 0;
             BIRFunction func = pkg.functions.get(i);
+            boolean isBodyObservable = !isUnobservable(func.annotAttachments);
 
-            if (ENTRY_POINT_MAIN_METHOD_NAME.equals(func.name.value)) {
+            if (isBodyObservable && ENTRY_POINT_MAIN_METHOD_NAME.equals(func.name.value)) {
                 rewriteControlFlowInvocation(func, pkg);
             }
             rewriteAsyncInvocations(func, null, pkg);
             rewriteObservableFunctionInvocations(func, pkg);
-            if (ENTRY_POINT_MAIN_METHOD_NAME.equals(func.name.value)) {
+            if (isBodyObservable && ENTRY_POINT_MAIN_METHOD_NAME.equals(func.name.value)) {
                 rewriteObservableFunctionBody(func, pkg, null, func.name.value, null, false, false, true, false);
             } else if ((func.flags & Flags.WORKER) == Flags.WORKER) {   // Identifying lambdas generated for workers
                 rewriteObservableFunctionBody(func, pkg, null, func.workerName.value, null, false, false, false, true);
             }
+            guardObservationCalls(func);
         }
         for (BIRNode.BIRServiceDeclaration serviceDecl : pkg.serviceDecls) {
             List<String> attachPoint = serviceDecl.attachPoint;
@@ -192,13 +205,14 @@ class JvmObservabilityGen {
             for (int i = 0; i < typeDef.attachedFuncs.size(); i++) {
                 BIRFunction func = typeDef.attachedFuncs.get(i);
                 localVarIndex = 0;
-                if (isService && ((func.flags & Flags.RESOURCE) == Flags.RESOURCE ||
+                boolean isBodyObservable = isService && !isUnobservable(func.annotAttachments);
+                if (isBodyObservable && ((func.flags & Flags.RESOURCE) == Flags.RESOURCE ||
                         (func.flags & Flags.REMOTE) == Flags.REMOTE)) {
                     rewriteControlFlowInvocation(func, pkg);
                 }
                 rewriteAsyncInvocations(func, typeDef, pkg);
                 rewriteObservableFunctionInvocations(func, pkg);
-                if (isService) {
+                if (isBodyObservable) {
                     if ((func.flags & Flags.RESOURCE) == Flags.RESOURCE) {
                         rewriteObservableFunctionBody(func, pkg, typeDef, func.name.value, serviceName,
                                                       true, false, false, false);
@@ -207,6 +221,7 @@ class JvmObservabilityGen {
                                                       false, true, false, false);
                     }
                 }
+                guardObservationCalls(func);
             }
         }
         // Adding initializing instructions for all compile time known constants
@@ -305,7 +320,7 @@ class JvmObservabilityGen {
         }
         for (BIRBasicBlock currentBB : func.basicBlocks) {
             if (currentBB.terminator.kind != InstructionKind.ASYNC_CALL
-                    || !isObservable((AsyncCall) currentBB.terminator)) {
+                    || !isObservable((AsyncCall) currentBB.terminator, pkg)) {
                 continue;
             }
 
@@ -536,7 +551,8 @@ class JvmObservabilityGen {
         int i = 0;
         while (i < func.basicBlocks.size()) {
             BIRBasicBlock currentBB = func.basicBlocks.get(i);
-            if (currentBB.terminator.kind == InstructionKind.CALL && isObservable((Call) currentBB.terminator)) {
+            if (currentBB.terminator.kind == InstructionKind.CALL
+                    && isObservable((Call) currentBB.terminator, pkg)) {
                 Call callIns = (Call) currentBB.terminator;
                 Location desugaredInsPosition = callIns.pos;
                 BIRBasicBlock observeStartBB = insertBasicBlock(func, i + 1);
@@ -666,6 +682,68 @@ class JvmObservabilityGen {
         }
     }
 
+    /**
+     * Guard the observation calls injected into a function with a check on whether observability is enabled.
+     *
+     * The injected calls allocate the environment passed to the observe utils on every invocation. Therefore the
+     * observability enabled flag (a static final field in the runtime) is loaded once at the start of the function
+     * and each observation call is skipped when it is not set. This leaves a single predictable branch in place of
+     * the observation calls when observability is disabled at runtime.
+     *
+     * Only the observation call and the instructions injected to compute its arguments are moved behind the branch.
+     * A basic block which ends with an observation call may also contain the original instructions of the function
+     * (for example the instructions computing the error of a panic or the return value) and these are left in place
+     * so that they are always executed.
+     *
+     * @param func The function of which the observation calls should be guarded
+     */
+    private void guardObservationCalls(BIRFunction func) {
+        BIROperand isEnabledOperand = null;
+        int i = 0;
+        while (i < func.basicBlocks.size()) {
+            BIRBasicBlock currentBB = func.basicBlocks.get(i);
+            if (isObservationCall(currentBB.terminator)) {
+                if (isEnabledOperand == null) {
+                    isEnabledOperand = generateTempLocalVariable(func, "isObservabilityEnabled",
+                            JType.getPrimitiveJTypeForBType(symbolTable.booleanType));
+                }
+                BIRBasicBlock observationBB = insertBasicBlock(func, i + 1);
+                List<BIRNonTerminator> originalInstructions = new ArrayList<>();
+                for (BIRNonTerminator instruction : currentBB.instructions) {
+                    if (injectedInstructions.contains(instruction)) {
+                        observationBB.instructions.add(instruction);
+                    } else {
+                        originalInstructions.add(instruction);
+                    }
+                }
+                currentBB.instructions = originalInstructions;
+                observationBB.terminator = currentBB.terminator;
+                currentBB.terminator = new Branch(observationBB.terminator.pos, isEnabledOperand, observationBB,
+                        observationBB.terminator.thenBB);
+                fixErrorTable(func, currentBB, observationBB);
+                i += 1; // Number of inserted BBs
+            }
+            i += 1;
+        }
+        if (isEnabledOperand != null) {
+            BIRBasicBlock startBB = func.basicBlocks.get(0);
+            BIRBasicBlock newStartBB = insertBasicBlock(func, 1);
+            swapBasicBlockContent(startBB, newStartBB);
+
+            JIMethodCall isEnabledCallTerminator = new JIMethodCall(null);
+            isEnabledCallTerminator.invocationType = INVOKESTATIC;
+            isEnabledCallTerminator.jClassName = OBSERVE_UTILS;
+            isEnabledCallTerminator.jMethodVMSig = IS_OBSERVABILITY_ENABLED;
+            isEnabledCallTerminator.name = IS_OBSERVABILITY_ENABLED_METHOD;
+            isEnabledCallTerminator.args = Collections.emptyList();
+            isEnabledCallTerminator.lhsOp = isEnabledOperand;
+            isEnabledCallTerminator.thenBB = newStartBB;
+            startBB.terminator = isEnabledCallTerminator;
+            fixErrorTable(func, startBB, newStartBB);
+        }
+        injectedInstructions.clear();
+    }
+
     /**
      * Inject start observation call to a basic block.
      * @param func Bir Function
@@ -777,6 +855,7 @@ class JvmObservabilityGen {
         TypeCast errorCastInstruction = new TypeCast(pos, castedErrorOperand, errorOperand, symbolTable.errorType,
                 false);
         errorReportBB.instructions.add(errorCastInstruction);
+        injectedInstructions.add(errorCastInstruction);
 
         JIMethodCall reportErrorCallTerminator = new JIMethodCall(pos);
         reportErrorCallTerminator.invocationType = INVOKESTATIC;
@@ -819,6 +898,7 @@ class JvmObservabilityGen {
         TypeCast errorCastInstruction = new TypeCast(pos, castedErrorOperand, errorOperand, symbolTable.errorType,
                 false);
         observeEndBB.instructions.add(errorCastInstruction);
+        injectedInstructions.add(errorCastInstruction);
 
         JIMethodCall observeEndBBCallTerminator = new JIMethodCall(pos);
         observeEndBBCallTerminator.invocationType = INVOKESTATIC;
@@ -910,22 +990,83 @@ class JvmObservabilityGen {
     /**
      * Check if a call instruction is observable.
      *
+     * Calls to functions annotated with the Unobservable annotation are never observed and calls to functions
+     * annotated with the Observable annotation are always observed. Other calls are observed based on the
+     * instrumentation level.
+     *
      * @param callIns The call instruction to check
+     * @param pkg The package containing the call instruction
      * @return True if the call instruction is observable
      */
-    private boolean isObservable(Call callIns) {
-        boolean isRemote = callIns.calleeFlags.contains(Flag.REMOTE);
-        boolean isObservableAnnotationPresent = false;
+    private boolean isObservable(Call callIns, BIRPackage pkg) {
         for (BIRAnnotationAttachment annot : callIns.calleeAnnotAttachments) {
-            if (OBSERVABLE_ANNOTATION.equals(
-                    JvmCodeGenUtil.getPackageName(
-                            new PackageID(annot.packageID.orgName, annot.packageID.name, Names.EMPTY)) +
-                            annot.annotTagRef.value)) {
-                isObservableAnnotationPresent = true;
-                break;
+            String annotation = getAnnotationName(annot);
+            if (UNOBSERVABLE_ANNOTATION.equals(annotation)) {
+                return false;
+            } else if (OBSERVABLE_ANNOTATION.equals(annotation)) {
+                return true;
             }
         }
-        return isRemote || isObservableAnnotationPresent;
+        switch (instrumentationLevel) {
+            case REMOTE:
+                return callIns.calleeFlags.contains(Flag.REMOTE);
+            case ALL:
+                return callIns.calleeFlags.contains(Flag.REMOTE) || isPackageFunctionCall(callIns, pkg);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Check if a call instruction invokes a user defined function of the package being instrumented.
+     *
+     * @param callIns The call instruction to check
+     * @param pkg The package containing the call instruction
+     * @return True if the callee is a user defined function of the package
+     */
+    private boolean isPackageFunctionCall(Call callIns, BIRPackage pkg) {
+        return callIns.calleePkg != null && callIns.calleePkg.orgName.equals(pkg.packageID.orgName)
+                && callIns.calleePkg.name.equals(pkg.packageID.name)
+                && !callIns.name.value.startsWith("$") && !callIns.name.value.contains("<");
+    }
+
+    /**
+     * Check if a function is annotated with the Unobservable annotation.
+     *
+     * @param annotAttachments The annotations attached to the function
+     * @return True if the function should not be observed
+     */
+    private boolean isUnobservable(List<BIRAnnotationAttachment> annotAttachments) {
+        if (annotAttachments == null) {
+            return false;
+        }
+        for (BIRAnnotationAttachment annot : annotAttachments) {
+            if (UNOBSERVABLE_ANNOTATION.equals(getAnnotationName(annot))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if a terminator is an observation call injected by this desugar.
+     *
+     * @param terminator The terminator to check
+     * @return True if the terminator calls the observe utils
+     */
+    private boolean isObservationCall(BIRTerminator terminator) {
+        return terminator instanceof JIMethodCall && OBSERVE_UTILS.equals(((JIMethodCall) terminator).jClassName);
+    }
+
+    /**
+     * Get the fully qualified name of an annotation attachment.
+     *
+     * @param annot The annotation attachment
+     * @return The annotation name prefixed with the package name of the annotation
+     */
+    private String getAnnotationName(BIRAnnotationAttachment annot) {
+        return JvmCodeGenUtil.getPackageName(new PackageID(annot.packageID.orgName, annot.packageID.name,
+                Names.EMPTY)) + annot.annotTagRef.value;
     }
 
     /**
@@ -1038,6 +1179,7 @@ class JvmObservabilityGen {
         BIROperand variableOperand = generateTempLocalVariable(func, name, variableType);
         ConstantLoad constantLoadIns = new ConstantLoad(initInsLocation, initValue, variableType, variableOperand);
         initInsBB.instructions.add(constantLoadIns);
+        injectedInstructions.add(constantLoadIns);
         return variableOperand;
     }
 
@@ -1055,4 +1197,48 @@ class JvmObservabilityGen {
         func.localVars.add(variableDcl);
         return new BIROperand(variableDcl);
     }
+
+    /**
+     * The kinds of calls instrumented by the observability desugar, selected with the observability level option.
+     */
+    enum InstrumentationLevel {
+        /**
+         * Only the bodies of resources, remote methods, workers and the main function are observed.
+         */
+        ENTRY_POINTS("entrypoints"),
+        /**
+         * Remote calls and calls to functions annotated as observable are observed in addition to the entry points.
+         */
+        REMOTE("remote"),
+        /**
+         * Calls to the functions of the package being compiled are observed in addition to the remote calls.
+         */
+        ALL("all");
+
+        private final String optionValue;
+
+        InstrumentationLevel(String optionValue) {
+            this.optionValue = optionValue;
+        }
+
+        /**
+         * Get the instrumentation level for a value of the observability level compiler option.
+         *
+         * The option value is validated by the CLI and the Ballerina.toml schema before compilation. Therefore an
+         * unset or unknown value falls back to the default level instead of failing code generation.
+         *
+         * @param optionValue The option value or null if the option was not set
+         * @return The matching instrumentation level
+         */
+        static InstrumentationLevel fromOptionValue(String optionValue) {
+            if (optionValue != null) {
+                for (InstrumentationLevel level : values()) {
+                    if (level.optionValue.equalsIgnoreCase(optionValue)) {
+                        return level;
+                    }
+                }
+            }
+            return REMOTE;
+        }
+    }
 }
@@ -124,6 +124,7 @@ public class JvmSignatures {
     public static final String INIT_XML_QNAME =
             "(L" + B_STRING_VALUE + ";L" + B_STRING_VALUE + ";L" + B_STRING_VALUE + ";)V";
     public static final String ADD_COLLECTION = "(L" + COLLECTION + ";)Z";
+    public static final String ADD_FRAME = "(L" + OBJECT + ";)V";
     public static final String ADD_SHUTDOWN_HOOK = "(L" + JAVA_THREAD + ";)V";
     public static final String ADD_TYPE_ID = "(L" + MODULE + ";L" + STRING_VALUE + ";Z)V";
     public static final String ADD_VALUE_CREATOR = "(L" + STRING_VALUE + ";L" + STRING_VALUE + ";L" + STRING_VALUE +
@@ -302,6 +303,7 @@ public class JvmSignatures {
     public static final String INTI_VARIABLE_KEY =
             "(L" + MODULE + ";L" + STRING_VALUE + ";L" + TYPE + ";L" + STRING_VALUE + ";Z)V";
     public static final String IS_CONCURRENT = "(L" + FUNCTION_POINTER + ";)Z";
+    public static final String IS_OBSERVABILITY_ENABLED = "()Z";
     public static final String JSON_GET_ELEMENT = "(L" + OBJECT + ";L" + B_STRING_VALUE + ";)L" + OBJECT + ";";
     public static final String JSON_SET_ELEMENT = "(L" + OBJECT + ";L" + STRING_VALUE + ";L" + OBJECT + ";)V";
     public static final String LAMBDA_MAIN = "([L" + OBJECT + ";)L" + OBJECT + ";";
@@ -353,7 +355,6 @@ public class JvmSignatures {
             "(L" + FUNCTION_POINTER + ";L" + MAP_VALUE + ";L" + STRING_VALUE + ";)V";
     public static final String PROCESS_OBJ_CTR_ANNOTATIONS =
             "(L" + OBJECT_TYPE_IMPL + ";L" + MAP_VALUE + ";L" + STRAND_CLASS + ";)V";
-    public static final String PUT_FRAMES = "[L" + OBJECT + ";";
     public static final String RECORD_GET = "(L" + STRING_VALUE + ";L" + OBJECT + ";)L" + OBJECT + ";";
     public static final String RECORD_GET_KEYS = "()[L" + OBJECT + ";";
     public static final String RECORD_INIT = "(L" + TYPE + ";)V";
@@ -397,6 +398,7 @@ public class JvmSignatures {
     public static final String SET_METHODS = "([L" + METHOD_TYPE + ";)V";
     public static final String SET_ON_INIT = "(L" + B_STRING_VALUE + ";L" + OBJECT + ";)V";
     public static final String SET_RESOURCE_METHOD_TYPE_ARRAY = "([L" + RESOURCE_METHOD_TYPE + ";)V";
+    public static final String SET_REST_FIELD_TYPE = "(L" + TYPE + ";)V";
     public static final String SET_STRAND = "(L" + STRAND_CLASS + ";)V";
     public static final String SET_TYPE_ARRAY = "([L" + TYPE + ";)V";
     public static final String SET_TYPE_ID_SET = "(L" + TYPE_ID_SET + ";)V";
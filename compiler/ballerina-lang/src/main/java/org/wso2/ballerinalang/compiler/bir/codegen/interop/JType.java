@@ -156,7 +156,7 @@ public class JType extends BType {
         return arrayType;
     }
 
-    static JType getPrimitiveJTypeForBType(BType type) {
+    public static JType getPrimitiveJTypeForBType(BType type) {
         switch (type.tag) {
             case TypeTags.INT_TAG:
                 return jLong;
@@ -19,11 +19,17 @@
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +37,9 @@ import java.util.Set;
 
 /**
  * Optimize Locks.
+ * <p>
+ * Locks sharing global variables are merged into a single lock, and lock bodies that do not mutate any state are
+ * marked read-only so that they can hold the lock in shared mode at runtime.
  *
  * @since 1.2.1
  */
@@ -157,6 +166,71 @@ public class BIRLockOptimizer extends BIRVisitor {
         return false;
     }
 
+    /**
+     * Checks whether the basic blocks reachable from the lock up to its unlocks only read state. This is
+     * conservative: any call, store, nested lock or exit from the body makes the lock exclusive, so a read-only body
+     * can never try to upgrade or re-acquire the lock it holds.
+     */
+    private boolean isReadOnlyLockBody(BIRTerminator.Lock lock) {
+        Set<BIRNode.BIRBasicBlock> visited = new HashSet<>();
+        Deque<BIRNode.BIRBasicBlock> pending = new ArrayDeque<>();
+        pending.push(lock.lockedBB);
+        while (!pending.isEmpty()) {
+            BIRNode.BIRBasicBlock basicBlock = pending.pop();
+            if (!visited.add(basicBlock)) {
+                continue;
+            }
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isReadOnlyInstruction(instruction)) {
+                    return false;
+                }
+            }
+
+            BIRTerminator terminator = basicBlock.terminator;
+            switch (terminator.kind) {
+                case GOTO:
+                case BRANCH:
+                    for (BIRNode.BIRBasicBlock nextBB : terminator.getNextBasicBlocks()) {
+                        pending.push(nextBB);
+                    }
+                    break;
+                case UNLOCK:
+                    if (((BIRTerminator.Unlock) terminator).relatedLock != lock) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isReadOnlyInstruction(BIRNonTerminator instruction) {
+        if (instruction.lhsOp != null && instruction.lhsOp.variableDcl.kind == VarKind.GLOBAL) {
+            return false;
+        }
+        InstructionKind kind = instruction.kind;
+        switch (kind) {
+            case MAP_STORE:
+            case ARRAY_STORE:
+            case OBJECT_STORE:
+            case XML_SEQ_STORE:
+            case XML_ATTRIBUTE_STORE:
+            case TABLE_STORE:
+            case PLATFORM:
+                return false;
+            case MAP_LOAD:
+            case ARRAY_LOAD:
+            case OBJECT_LOAD:
+            case TABLE_LOAD:
+                // A filling read inserts the filler value into the container.
+                return !((BIRNonTerminator.FieldAccess) instruction).fillingRead;
+            default:
+                return true;
+        }
+    }
+
     @Override
     public void visit(BIRNode.BIRPackage birPackage) {
         birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
@@ -205,6 +279,7 @@ public class BIRLockOptimizer extends BIRVisitor {
 
     @Override
     public void visit(BIRTerminator.Lock lock) {
+        lock.readOnly = isReadOnlyLockBody(lock);
         lockList.add(lock);
     }
 
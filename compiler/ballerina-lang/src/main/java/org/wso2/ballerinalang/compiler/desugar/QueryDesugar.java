@@ -22,6 +22,7 @@ import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
 import org.ballerinalang.model.types.TypeKind;
@@ -34,11 +35,13 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTypedescType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
@@ -176,6 +179,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -194,6 +198,7 @@ import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
  */
 public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_PIPELINE_FUNCTION = new Name("createPipeline");
+    private static final Name QUERY_LOOKUP_INDEXED_ROWS_FUNCTION = new Name("lookupIndexedRows");
     private static final Name QUERY_CREATE_INPUT_FUNCTION = new Name("createInputFunction");
     private static final Name QUERY_CREATE_NESTED_FROM_FUNCTION = new Name("createNestedFromFunction");
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
@@ -341,8 +346,12 @@ public class QueryDesugar extends BLangNodeVisitor {
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        BLangExpression initCollection = initFromClause.collection;
+        if (clauses.size() > 1 && clauses.get(1).getKind() == NodeKind.WHERE) {
+            initCollection = addIndexedTableLookup(block, initFromClause, (BLangWhereClause) clauses.get(1));
+        }
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                initCollection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -438,6 +447,102 @@ public class QueryDesugar extends BLangNodeVisitor {
                 Lists.of(valueVarRef, constraintTdExpr, completionTdExpr), pos);
     }
 
+    /**
+     * Narrow down the rows of a table iterated by a query, when the query starts with a where clause comparing a field
+     * of the row with a value which does not change during the query. The table answers such lookups from a secondary
+     * index on the field, the where clause is still applied to the returned rows.
+     * from var o in orders where o.customer == name select o
+     * is desugared to
+     * Order[]|table<Order> $streamElement$_0 = lookupIndexedRows(orders, "customer", name);
+     * _StreamPipeline pipeline = createPipeline($streamElement$_0, Order);
+     * ...
+     *
+     * @param blockStmt   parent block to write to.
+     * @param fromClause  the first from clause of the query.
+     * @param whereClause the where clause following the from clause.
+     * @return collection to create the pipeline from.
+     */
+    BLangExpression addIndexedTableLookup(BLangBlockStmt blockStmt, BLangFromClause fromClause,
+                                          BLangWhereClause whereClause) {
+        BLangExpression collection = fromClause.collection;
+        BType collectionType = collection.getBType();
+        if (collectionType.tag != TypeTags.TABLE || whereClause.expression.getKind() != NodeKind.BINARY_EXPR
+                || fromClause.variableDefinitionNode.getVariable().getKind() != NodeKind.VARIABLE) {
+            return collection;
+        }
+        BVarSymbol rowSymbol = ((BLangSimpleVariable) fromClause.variableDefinitionNode.getVariable()).symbol;
+        BLangBinaryExpr condition = (BLangBinaryExpr) whereClause.expression;
+        if (condition.opKind != OperatorKind.EQUAL) {
+            return collection;
+        }
+
+        BLangFieldBasedAccess fieldAccess;
+        BLangExpression valueExpr;
+        if (isIndexableFieldAccess(condition.lhsExpr, rowSymbol)) {
+            fieldAccess = (BLangFieldBasedAccess) condition.lhsExpr;
+            valueExpr = condition.rhsExpr;
+        } else if (isIndexableFieldAccess(condition.rhsExpr, rowSymbol)) {
+            fieldAccess = (BLangFieldBasedAccess) condition.rhsExpr;
+            valueExpr = condition.lhsExpr;
+        } else {
+            return collection;
+        }
+        if (valueExpr.getBType().tag != fieldAccess.getBType().tag) {
+            return collection;
+        }
+
+        // The value is evaluated once before the query starts, so it is copied instead of moving the where clause's
+        // expression, and is restricted to expressions which give the same value throughout the query.
+        Location pos = whereClause.pos;
+        BLangExpression lookupValue;
+        if (valueExpr.getKind() == NodeKind.LITERAL || valueExpr.getKind() == NodeKind.NUMERIC_LITERAL) {
+            lookupValue = ASTBuilderUtil.createLiteral(pos, valueExpr.getBType(), ((BLangLiteral) valueExpr).value);
+        } else if (valueExpr.getKind() == NodeKind.SIMPLE_VARIABLE_REF
+                && isUnmodifiableValueRef((BLangSimpleVarRef) valueExpr, rowSymbol)) {
+            lookupValue = ASTBuilderUtil.createVariableRef(pos, (BVarSymbol) ((BLangSimpleVarRef) valueExpr).symbol);
+        } else {
+            return collection;
+        }
+
+        BType lookupType = BUnionType.create(null, new BArrayType(((BTableType) collectionType).constraint),
+                collectionType);
+        BLangLiteral fieldName = ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldAccess.field.value);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_LOOKUP_INDEXED_ROWS_FUNCTION, lookupType,
+                Lists.of(collection, fieldName, desugar.addConversionExprIfRequired(lookupValue,
+                        symTable.anydataType)), pos);
+    }
+
+    private boolean isIndexableFieldAccess(BLangExpression expr, BVarSymbol rowSymbol) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR || expr.getClass() != BLangFieldBasedAccess.class) {
+            return false;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        if (fieldAccess.optionalFieldAccess || fieldAccess.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF
+                || ((BLangSimpleVarRef) fieldAccess.expr).symbol != rowSymbol) {
+            return false;
+        }
+        switch (fieldAccess.getBType().tag) {
+            case TypeTags.INT:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isUnmodifiableValueRef(BLangSimpleVarRef varRef, BVarSymbol rowSymbol) {
+        BSymbol symbol = varRef.symbol;
+        if (symbol == null || symbol == rowSymbol) {
+            return false;
+        }
+        if ((symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+            return true;
+        }
+        return (symbol.tag & SymTag.VARIABLE) == SymTag.VARIABLE && (Symbols.isFlagOn(symbol.flags, Flags.FINAL)
+                || Symbols.isFlagOn(symbol.flags, Flags.FUNCTION_FINAL));
+    }
+
     /**
      * Desugar inputClause to below and return a reference to created from _StreamFunction.
      * _StreamFunction xsFrom = createFromFunction(function(_Frame frame) returns _Frame|error? {
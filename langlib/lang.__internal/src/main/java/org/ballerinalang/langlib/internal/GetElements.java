@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.types.XmlNodeType;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlSequence;
+import io.ballerina.runtime.internal.XmlNameTest;
 
 import java.util.ArrayList;
 
@@ -32,10 +33,6 @@ import java.util.ArrayList;
  */
 public class GetElements {
 
-
-    public static final String EMPTY = "";
-    public static final String STAR = "*";
-
     /**
      * Expected element name format.
      * elemNames: {nsUrl}elemName | elemName | {nsUrl}* | *
@@ -45,14 +42,13 @@ public class GetElements {
      * @return sequence of elements matching given element names
      */
     public static BXml getElements(BXml xmlVal, BString[] elemNames) {
+        return getElements(xmlVal, XmlNameTest.forElements(elemNames));
+    }
 
-        ArrayList<String> nsList = new ArrayList<>();
-        ArrayList<String> localNameList = new ArrayList<>();
-        destructureFilters(elemNames, nsList, localNameList);
-
+    static BXml getElements(BXml xmlVal, XmlNameTest nameTest) {
         // If this is a element; return this as soon as some filter match this elem. Else return empty sequence.
         if (IsElement.isElement(xmlVal)) {
-            if (matchFilters(elemNames, nsList, localNameList, xmlVal.getElementName())) {
+            if (nameTest.matches(xmlVal)) {
                 return xmlVal;
             }
             return ValueCreator.createXmlSequence();
@@ -65,7 +61,7 @@ public class GetElements {
                 if (child.getNodeType() != XmlNodeType.ELEMENT) {
                     continue;
                 }
-                if (matchFilters(elemNames, nsList, localNameList, child.getElementName())) {
+                if (nameTest.matches(child)) {
                     selectedElements.add(child);
                 }
             }
@@ -73,45 +69,4 @@ public class GetElements {
 
         return ValueCreator.createXmlSequence(selectedElements);
     }
-
-    public static void destructureFilters(BString[] elemNames,
-                                          ArrayList<String> nsList, ArrayList<String> localNameList) {
-        int filterCount = elemNames.length;
-        for (int i = 0; i < filterCount; i++) {
-            String fullName = elemNames[i].getValue();
-            int lastIndexOf = fullName.lastIndexOf('}');
-            if (lastIndexOf < 0) {
-                nsList.add(EMPTY);
-                localNameList.add(fullName);
-            } else {
-                nsList.add(fullName.substring(1, lastIndexOf));
-                localNameList.add(fullName.substring(lastIndexOf + 1));
-            }
-        }
-    }
-
-    public static boolean matchFilters(BString[] elemNames,
-                                        ArrayList<String> nsList, ArrayList<String> elemList, String elementName) {
-        int filterCount = elemNames.length;
-        for (int i = 0; i < filterCount; i++) {
-            String ns = nsList.get(i);
-            String eName = elemList.get(i);
-            // .<*>
-            if (ns.equals(EMPTY) && eName.equals(STAR)) {
-                return true;
-            }
-            // .<ns:*>
-            if (eName.equals(STAR)) {
-                int index = elementName.lastIndexOf('}');
-                if (index > 0 && elementName.substring(1, index).equals(ns)) {
-                    return true;
-                }
-            }
-            // .<ns:foo> or .<foo>
-            if (elementName.equals(elemNames[i].getValue())) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
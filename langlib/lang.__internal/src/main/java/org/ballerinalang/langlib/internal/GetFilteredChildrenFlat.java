@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlItem;
 import io.ballerina.runtime.api.values.BXmlSequence;
+import io.ballerina.runtime.internal.XmlNameTest;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -37,15 +38,16 @@ import java.util.List;
 public class GetFilteredChildrenFlat {
 
     public static BXml getFilteredChildrenFlat(BXml xmlVal, long index, BString[] elemNames) {
+        XmlNameTest nameTest = XmlNameTest.forElements(elemNames);
         if (xmlVal.getNodeType() == XmlNodeType.ELEMENT) {
             BXmlItem element = (BXmlItem) xmlVal;
-            return ValueCreator.createXmlSequence(filterElementChildren(index, elemNames, element));
+            return ValueCreator.createXmlSequence(filterElementChildren(index, nameTest, element));
         } else if (xmlVal.getNodeType() == XmlNodeType.SEQUENCE) {
             BXmlSequence sequence = (BXmlSequence) xmlVal;
             ArrayList<BXml> liftedFilteredChildren = new ArrayList<>();
             for (BXml child : sequence.getChildrenList()) {
                 if (child.getNodeType() == XmlNodeType.ELEMENT) {
-                    liftedFilteredChildren.addAll(filterElementChildren(index, elemNames, (BXmlItem) child));
+                    liftedFilteredChildren.addAll(filterElementChildren(index, nameTest, (BXmlItem) child));
                 }
             }
             return ValueCreator.createXmlSequence(liftedFilteredChildren);
@@ -54,8 +56,8 @@ public class GetFilteredChildrenFlat {
         return ValueCreator.createXmlSequence();
     }
 
-    private static List<BXml> filterElementChildren(long index, BString[] elemNames, BXmlItem element) {
-        BXmlSequence elements = (BXmlSequence) GetElements.getElements(element.getChildrenSeq(), elemNames);
+    private static List<BXml> filterElementChildren(long index, XmlNameTest nameTest, BXmlItem element) {
+        BXmlSequence elements = (BXmlSequence) GetElements.getElements(element.getChildrenSeq(), nameTest);
         if (index < 0) {
             // Return all elements
             return elements.getChildrenList();
@@ -20,11 +20,9 @@ package org.ballerinalang.langlib.internal;
 
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.XmlNameTest;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Searches in children recursively for elements matching the name and returns a sequence containing them all.
  * Does not search within a matched result.
@@ -37,17 +35,7 @@ public class SelectDescendants {
 
     public static BXml selectDescendants(BXml xml, BString[] qnames) {
         try {
-            List<String> qnameList = new ArrayList<>();
-            int size = qnames.length;
-            for (int i = 0; i < size; i++) {
-                String strQname = qnames[i].getValue();
-                // remove empty namespace in expanded form i.e `{}local => local`
-                if (strQname.lastIndexOf('}') == 1) {
-                    strQname = strQname.substring(2);
-                }
-                qnameList.add(strQname);
-            }
-            return (BXml) xml.descendants(qnameList);
+            return XmlNameTest.forDescendants(qnames).selectDescendants(xml);
         } catch (Throwable e) {
             BLangExceptionHelper.handleXMLException(OPERATION, e);
         }
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.internal.ArraySortUtils;
 import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 
@@ -38,73 +39,58 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public class Sort {
 
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
+        boolean ascending = direction.toString().equals(ASCENDING);
+
+        // Members compared by themselves are sorted in their primitive storage, if possible.
+        if (function == null && ArraySortUtils.sortPrimitiveValues(arr, ascending)) {
+            return arr;
+        }
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        int size = arr.size();
+        Object[][] sortArr = new Object[size][];
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                sortArr[i][1] = arr.get(i);
+            // The key function is called once per member, in order, before any comparison.
+            for (int i = 0; i < size; i++) {
+                Object member = arr.get(i);
+                sortArr[i] = new Object[]{function.call(new Object[]{Scheduler.getStrand(), member, true}), member};
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            for (int i = 0; i < size; i++) {
+                Object member = arr.get(i);
+                sortArr[i] = new Object[]{member, member};
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
+        ArraySortUtils.sort(sortArr, size, ascending ? Sort::compareAscending : Sort::compareDescending);
 
-        for (int k = 0; k < sortArr.length; k++) {
+        for (int k = 0; k < size; k++) {
             arr.add(k, sortArr[k][1]);
         }
 
         return arr;
     }
 
-    // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
-        if (hi <= lo) {
-            return;
-        }
-
-        int mid = lo + (hi - lo) / 2;
-
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
-
-        merge(input, aux, lo, mid, hi, direction);
+    private static int compareAscending(Object[] lhs, Object[] rhs) {
+        return compareKeys(lhs[0], rhs[0], ASCENDING);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
-        }
-
-        for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
-            try {
-                if (i > mid) {
-                    index = j++;
-                } else if (j > hi) {
-                    index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
-                    index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
-                    index = j++;
-                } else {
-                    index = i++;
-                }
-                input[k] = aux[index];
+    // () and NaN are less than every other value in the descending order, so that they are placed last.
+    private static int compareDescending(Object[] lhs, Object[] rhs) {
+        return compareKeys(rhs[0], lhs[0], DESCENDING);
+    }
 
-            } catch (BError error) {
-                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                        (BMap) error.getDetails());
-            }
+    private static int compareKeys(Object lhs, Object rhs, String direction) {
+        try {
+            return ValueComparisonUtils.compareValues(lhs, rhs, direction);
+        } catch (BError error) {
+            throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                    (BMap) error.getDetails());
         }
     }
 }
@@ -24,6 +24,12 @@ function createPipeline(
     return new _StreamPipeline(collection, constraintTd, completionTd);
 }
 
+function lookupIndexedRows(table<map<Type>> collection, string fieldName, anydata value)
+        returns Type[]|table<map<Type>> = @java:Method {
+    'class: "org.ballerinalang.langlib.query.LookupIndexedRows",
+    name: "lookupIndexedRows"
+} external;
+
 function createInputFunction(function(_Frame _frame) returns _Frame|error? inputFunc)
         returns _StreamFunction {
     return new _InputFunction(inputFunc);
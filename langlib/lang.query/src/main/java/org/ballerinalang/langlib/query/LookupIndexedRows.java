@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+/**
+ * Implementation of lang.query:lookupIndexedRows(table, string, anydata). The compiler uses it as the collection of
+ * a query whose first clause is a where clause comparing a field of the table rows with a value.
+ *
+ * @since 2.0.0
+ */
+public class LookupIndexedRows {
+
+    public static Object lookupIndexedRows(BTable<?, ?> collection, BString fieldName, Object value) {
+        if (!(collection instanceof TableValueImpl)) {
+            return collection;
+        }
+        Object[] rows = ((TableValueImpl<?, ?>) collection).lookup(fieldName, value);
+        if (rows == null) {
+            // The field is not indexable, the query iterates the table and filters the rows itself.
+            return collection;
+        }
+        TableType tableType = (TableType) collection.getType();
+        return ValueCreator.createArrayValue(rows, TypeCreator.createArrayType(tableType.getConstrainedType()));
+    }
+}
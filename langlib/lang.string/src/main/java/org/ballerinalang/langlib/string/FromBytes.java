@@ -22,8 +22,6 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 
-import java.nio.charset.StandardCharsets;
-
 /**
  * Extern function lang.string:fromBytes(byte[]).
  *
@@ -39,7 +37,8 @@ public class FromBytes {
 
     public static Object fromBytes(BArray bytes) {
         try {
-            return StringUtils.fromString(new String(bytes.getBytes(), StandardCharsets.UTF_8));
+            byte[] byteValues = bytes.getBytes();
+            return StringUtils.fromUtf8Bytes(byteValues, 0, byteValues.length);
         } catch (Exception e) {
             return ErrorCreator.createError(StringUtils.fromString("FailedToDecodeBytes"),
                                             StringUtils.fromString(e.getMessage()));
@@ -83,6 +83,10 @@ public class CloneWithType {
     }
 
     public static Object convert(Type convertType, Object inputValue, BTypedesc t) {
+        Object converted = JsonBinder.convert(inputValue, convertType, t);
+        if (converted != JsonBinder.UNBOUND) {
+            return converted;
+        }
         try {
             return convert(inputValue, convertType, new ArrayList<>(), t);
         } catch (BError e) {
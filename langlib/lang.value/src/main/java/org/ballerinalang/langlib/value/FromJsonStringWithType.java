@@ -37,6 +37,10 @@ public class FromJsonStringWithType {
     public static Object fromJsonStringWithType(BString value, BTypedesc t) {
 
         String str = value.getValue();
+        Object bound = JsonBinder.bind(str, t.getDescribingType(), t);
+        if (bound != JsonBinder.UNBOUND) {
+            return bound;
+        }
         try {
             if (str.equals("null")) {
                 return FromJsonWithType.fromJsonWithType(null, t);
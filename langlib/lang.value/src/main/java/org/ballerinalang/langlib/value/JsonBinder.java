@@ -0,0 +1,567 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.value;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.JsonPullParser;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BListInitialValueEntry;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.TypeConverter;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds JSON straight into values of a target type, without first building a generic JSON tree and then checking
+ * and converting it. Binding is driven by a plan compiled once per target type and cached.
+ * <p>
+ * Only shapes whose result is unambiguous are bound here: records, maps and open arrays of such shapes, `json`
+ * members and `int`, `float`, `decimal`, `string` and `boolean` values, optionally nilable. Anything else, including
+ * every value which does not conform to the target type, results in {@link #UNBOUND} so that the caller falls back
+ * to the general conversion, which then produces the same value or error as before.
+ *
+ * @since 2.0.0
+ */
+class JsonBinder {
+
+    static final Object UNBOUND = new Object();
+
+    private static final int MAX_DEPTH = 64;
+    private static final int MAX_CACHED_PLANS = 1024;
+    private static final Map<TypeKey, Plan> PLANS = new ConcurrentHashMap<>();
+    private static final Plan UNSUPPORTED = new UnsupportedPlan();
+
+    private JsonBinder() {
+    }
+
+    /**
+     * Parses the given JSON document directly into a value of the target type. The document is encoded for the
+     * parser only if the target type has a plan and the document is an object or an array, so that other documents
+     * are parsed once, by the general conversion.
+     *
+     * @param json       JSON document
+     * @param targetType type of the value to create
+     * @param t          typedesc the conversion was requested with
+     * @return the value, or {@link #UNBOUND} if the document could not be bound directly
+     */
+    static Object bind(String json, Type targetType, BTypedesc t) {
+        Plan plan = getPlan(targetType);
+        if (plan == UNSUPPORTED || !isStructure(json)) {
+            return UNBOUND;
+        }
+        try {
+            JsonPullParser parser = JsonUtils.createPullParser(json.getBytes(StandardCharsets.UTF_8),
+                    JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+            JsonPullParser.Event event = parser.next();
+            if (event != JsonPullParser.Event.START_OBJECT && event != JsonPullParser.Event.START_ARRAY) {
+                return UNBOUND;
+            }
+            Object result = plan.read(parser, t, 0);
+            if (result == UNBOUND || parser.next() != JsonPullParser.Event.END_DOCUMENT) {
+                return UNBOUND;
+            }
+            return result;
+        } catch (RuntimeException e) {
+            // Invalid documents and failed conversions are reported by the general conversion.
+            return UNBOUND;
+        }
+    }
+
+    private static boolean isStructure(String json) {
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return c == '{' || c == '[';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts an existing JSON or anydata structure to a value of the target type.
+     *
+     * @param value      value to convert
+     * @param targetType type of the value to create
+     * @param t          typedesc the conversion was requested with
+     * @return the value, or {@link #UNBOUND} if the value could not be converted directly
+     */
+    static Object convert(Object value, Type targetType, BTypedesc t) {
+        if (!(value instanceof BMap) && !(value instanceof BArray)) {
+            return UNBOUND;
+        }
+        Plan plan = getPlan(targetType);
+        if (plan == UNSUPPORTED) {
+            return UNBOUND;
+        }
+        try {
+            return plan.convert(value, t, 0);
+        } catch (RuntimeException e) {
+            return UNBOUND;
+        }
+    }
+
+    private static Plan getPlan(Type type) {
+        TypeKey key = new TypeKey(type);
+        Plan plan = PLANS.get(key);
+        if (plan != null) {
+            return plan;
+        }
+        plan = createPlan(type);
+        if (PLANS.size() < MAX_CACHED_PLANS) {
+            PLANS.putIfAbsent(key, plan);
+        }
+        return plan;
+    }
+
+    private static Plan createPlan(Type type) {
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return new SimplePlan(type);
+            case TypeTags.JSON_TAG:
+                return new JsonPlan();
+            case TypeTags.RECORD_TYPE_TAG:
+                return new RecordPlan((RecordType) type);
+            case TypeTags.MAP_TAG:
+                return new MapPlan((MapType) type);
+            case TypeTags.ARRAY_TAG:
+                ArrayType arrayType = (ArrayType) type;
+                if (arrayType.getState() != ArrayType.ArrayState.OPEN) {
+                    return UNSUPPORTED;
+                }
+                return new ArrayPlan(arrayType);
+            case TypeTags.UNION_TAG:
+                return createNilablePlan((UnionType) type);
+            default:
+                return UNSUPPORTED;
+        }
+    }
+
+    private static Plan createNilablePlan(UnionType unionType) {
+        List<Type> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return UNSUPPORTED;
+        }
+        Type first = memberTypes.get(0);
+        Type second = memberTypes.get(1);
+        Type nonNilType;
+        if (first.getTag() == TypeTags.NULL_TAG) {
+            nonNilType = second;
+        } else if (second.getTag() == TypeTags.NULL_TAG) {
+            nonNilType = first;
+        } else {
+            return UNSUPPORTED;
+        }
+        switch (nonNilType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.ARRAY_TAG:
+                return new NilablePlan(nonNilType);
+            default:
+                return UNSUPPORTED;
+        }
+    }
+
+    /**
+     * Binding plan of a single type. Both operations return {@link #UNBOUND} as soon as the input does not have the
+     * expected shape.
+     */
+    private abstract static class Plan {
+
+        /**
+         * Reads the value which starts at the current event of the parser. Container values leave the parser at
+         * their end event.
+         */
+        abstract Object read(JsonPullParser parser, BTypedesc t, int depth);
+
+        abstract Object convert(Object value, BTypedesc t, int depth);
+    }
+
+    private static class UnsupportedPlan extends Plan {
+
+        @Override
+        Object read(JsonPullParser parser, BTypedesc t, int depth) {
+            return UNBOUND;
+        }
+
+        @Override
+        Object convert(Object value, BTypedesc t, int depth) {
+            return UNBOUND;
+        }
+    }
+
+    private static class SimplePlan extends Plan {
+
+        private final Type type;
+        private final int tag;
+
+        SimplePlan(Type type) {
+            this.type = type;
+            this.tag = type.getTag();
+        }
+
+        @Override
+        Object read(JsonPullParser parser, BTypedesc t, int depth) {
+            switch (parser.currentEvent()) {
+                case STRING:
+                case NUMBER:
+                case BOOLEAN:
+                    return convert(parser.getValue(), t, depth);
+                default:
+                    return UNBOUND;
+            }
+        }
+
+        @Override
+        Object convert(Object value, BTypedesc t, int depth) {
+            switch (tag) {
+                case TypeTags.INT_TAG:
+                    return value instanceof Long ? value : UNBOUND;
+                case TypeTags.STRING_TAG:
+                    return value instanceof BString ? value : UNBOUND;
+                case TypeTags.BOOLEAN_TAG:
+                    return value instanceof Boolean ? value : UNBOUND;
+                case TypeTags.FLOAT_TAG:
+                    if (value instanceof Double) {
+                        return value;
+                    }
+                    return isNumber(value) ? TypeConverter.convertValues(type, value) : UNBOUND;
+                default:
+                    if (value instanceof BDecimal) {
+                        return value;
+                    }
+                    return isNumber(value) ? TypeConverter.convertValues(type, value) : UNBOUND;
+            }
+        }
+
+        private static boolean isNumber(Object value) {
+            return value instanceof Long || value instanceof Double || value instanceof BDecimal;
+        }
+    }
+
+    private static class JsonPlan extends Plan {
+
+        @Override
+        Object read(JsonPullParser parser, BTypedesc t, int depth) {
+            return parser.readValue();
+        }
+
+        @Override
+        Object convert(Object value, BTypedesc t, int depth) {
+            // Converting to `json` copies the value, which is left to the general conversion.
+            return UNBOUND;
+        }
+    }
+
+    private static class NilablePlan extends Plan {
+
+        private final Type nonNilType;
+        private Plan nonNilPlan;
+
+        NilablePlan(Type nonNilType) {
+            this.nonNilType = nonNilType;
+        }
+
+        @Override
+        Object read(JsonPullParser parser, BTypedesc t, int depth) {
+            if (parser.currentEvent() == JsonPullParser.Event.NULL) {
+                return null;
+            }
+            return getNonNilPlan().read(parser, t, depth);
+        }
+
+        @Override
+        Object convert(Object value, BTypedesc t, int depth) {
+            if (value == null) {
+                return null;
+            }
+            return getNonNilPlan().convert(value, t, depth);
+        }
+
+        private Plan getNonNilPlan() {
+            // Resolved lazily, so that plans of recursive types can be created.
+            Plan plan = nonNilPlan;
+            if (plan == null) {
+                plan = getPlan(nonNilType);
+                nonNilPlan = plan;
+            }
+            return plan;
+        }
+    }
+
+    private static class RecordPlan extends Plan {
+
+        private final RecordType recordType;
+        private final Map<String, Type> fieldTypes = new HashMap<>();
+        private final Map<String, Plan> fieldPlans = new ConcurrentHashMap<>();
+        private final List<String> requiredFields = new ArrayList<>();
+        private final Type restFieldType;
+
+        RecordPlan(RecordType recordType) {
+            this.recordType = recordType;
+            for (Field field : recordType.getFields().values()) {
+                fieldTypes.put(field.getFieldName(), field.getFieldType());
+                if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED)) {
+                    requiredFields.add(field.getFieldName());
+                }
+            }
+            this.restFieldType = recordType.isSealed() ? null : recordType.getRestFieldType();
+        }
+
+        @Override
+        Object read(JsonPullParser parser, BTypedesc t, int depth) {
+            if (parser.currentEvent() != JsonPullParser.Event.START_OBJECT || depth == MAX_DEPTH) {
+                return UNBOUND;
+            }
+            Map<String, Object> values = new LinkedHashMap<>();
+            while (parser.next() == JsonPullParser.Event.FIELD_NAME) {
+                String fieldName = parser.getFieldName().getValue();
+                Plan plan = getFieldPlan(fieldName);
+                parser.next();
+                Object value = plan.read(parser, t, depth + 1);
+                if (value == UNBOUND) {
+                    return UNBOUND;
+                }
+                values.put(fieldName, value);
+            }
+            return createRecord(values, t);
+        }
+
+        @Override
+        Object convert(Object value, BTypedesc t, int depth) {
+            if (!(value instanceof BMap) || depth == MAX_DEPTH) {
+                return UNBOUND;
+            }
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((BMap<?, ?>) value).entrySet()) {
+                String fieldName = entry.getKey().toString();
+                Object fieldValue = getFieldPlan(fieldName).convert(entry.getValue(), t, depth + 1);
+                if (fieldValue == UNBOUND) {
+                    return UNBOUND;
+                }
+                values.put(fieldName, fieldValue);
+            }
+            return createRecord(values, t);
+        }
+
+        private Plan getFieldPlan(String fieldName) {
+            Plan plan = fieldPlans.get(fieldName);
+            if (plan != null) {
+                return plan;
+            }
+            Type fieldType = fieldTypes.get(fieldName);
+            if (fieldType == null) {
+                fieldType = restFieldType;
+            }
+            plan = fieldType == null ? UNSUPPORTED : getPlan(fieldType);
+            if (fieldTypes.containsKey(fieldName)) {
+                // Rest fields are not remembered, since their names are unbounded.
+                fieldPlans.put(fieldName, plan);
+            }
+            return plan;
+        }
+
+        private Object createRecord(Map<String, Object> values, BTypedesc t) {
+            for (String requiredField : requiredFields) {
+                if (!values.containsKey(requiredField)) {
+                    return UNBOUND;
+                }
+            }
+            if (t != null && t.getDescribingType() == recordType) {
+                BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[values.size()];
+                int count = 0;
+                for (Map.Entry<String, Object> entry : values.entrySet()) {
+                    initialValues[count++] = ValueCreator.createKeyFieldEntry(StringUtils.fromString(entry.getKey()),
+                                                                              entry.getValue());
+                }
+                return t.instantiate(Scheduler.getStrand(), initialValues);
+            }
+            // Filled the same way as the general conversion does, so that the fields end up in the same order.
+            Map<String, Object> valueMap = new HashMap<>();
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                valueMap.put(entry.getKey(), entry.getValue());
+            }
+            return ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName(), valueMap);
+        }
+    }
+
+    private static class MapPlan extends Plan {
+
+        private final MapType mapType;
+        private Plan constraintPlan;
+
+        MapPlan(MapType mapType) {
+            this.mapType = mapType;
+        }
+
+        @Override
+        Object read(JsonPullParser parser, BTypedesc t, int depth) {
+            if (parser.currentEvent() != JsonPullParser.Event.START_OBJECT || depth == MAX_DEPTH) {
+                return UNBOUND;
+            }
+            Plan plan = getConstraintPlan();
+            List<BMapInitialValueEntry> entries = new ArrayList<>();
+            while (parser.next() == JsonPullParser.Event.FIELD_NAME) {
+                BString key = parser.getFieldName();
+                parser.next();
+                Object value = plan.read(parser, t, depth + 1);
+                if (value == UNBOUND) {
+                    return UNBOUND;
+                }
+                entries.add(ValueCreator.createKeyFieldEntry(key, value));
+            }
+            return ValueCreator.createMapValue(mapType, entries.toArray(new BMapInitialValueEntry[0]));
+        }
+
+        @Override
+        Object convert(Object value, BTypedesc t, int depth) {
+            if (!(value instanceof BMap) || depth == MAX_DEPTH) {
+                return UNBOUND;
+            }
+            Plan plan = getConstraintPlan();
+            BMap<?, ?> map = (BMap<?, ?>) value;
+            BMapInitialValueEntry[] entries = new BMapInitialValueEntry[map.size()];
+            int count = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object entryValue = plan.convert(entry.getValue(), t, depth + 1);
+                if (entryValue == UNBOUND) {
+                    return UNBOUND;
+                }
+                entries[count++] = ValueCreator.createKeyFieldEntry(StringUtils.fromString(entry.getKey().toString()),
+                                                                    entryValue);
+            }
+            return ValueCreator.createMapValue(mapType, entries);
+        }
+
+        private Plan getConstraintPlan() {
+            Plan plan = constraintPlan;
+            if (plan == null) {
+                plan = getPlan(mapType.getConstrainedType());
+                constraintPlan = plan;
+            }
+            return plan;
+        }
+    }
+
+    private static class ArrayPlan extends Plan {
+
+        private final ArrayType arrayType;
+        private Plan elementPlan;
+
+        ArrayPlan(ArrayType arrayType) {
+            this.arrayType = arrayType;
+        }
+
+        @Override
+        Object read(JsonPullParser parser, BTypedesc t, int depth) {
+            if (parser.currentEvent() != JsonPullParser.Event.START_ARRAY || depth == MAX_DEPTH) {
+                return UNBOUND;
+            }
+            Plan plan = getElementPlan();
+            List<BListInitialValueEntry> entries = new ArrayList<>();
+            while (parser.next() != JsonPullParser.Event.END_ARRAY) {
+                Object value = plan.read(parser, t, depth + 1);
+                if (value == UNBOUND) {
+                    return UNBOUND;
+                }
+                entries.add(ValueCreator.createListInitialValueEntry(value));
+            }
+            return ValueCreator.createArrayValue(arrayType, arrayType.getSize(),
+                                                 entries.toArray(new BListInitialValueEntry[0]));
+        }
+
+        @Override
+        Object convert(Object value, BTypedesc t, int depth) {
+            if (!(value instanceof BArray) || depth == MAX_DEPTH) {
+                return UNBOUND;
+            }
+            Plan plan = getElementPlan();
+            BArray array = (BArray) value;
+            BListInitialValueEntry[] entries = new BListInitialValueEntry[array.size()];
+            for (int i = 0; i < entries.length; i++) {
+                Object element = plan.convert(array.get(i), t, depth + 1);
+                if (element == UNBOUND) {
+                    return UNBOUND;
+                }
+                entries[i] = ValueCreator.createListInitialValueEntry(element);
+            }
+            return ValueCreator.createArrayValue(arrayType, arrayType.getSize(), entries);
+        }
+
+        private Plan getElementPlan() {
+            Plan plan = elementPlan;
+            if (plan == null) {
+                plan = getPlan(arrayType.getElementType());
+                elementPlan = plan;
+            }
+            return plan;
+        }
+    }
+
+    /**
+     * Plans are cached per type instance; type equality is structural and comparatively expensive.
+     */
+    private static final class TypeKey {
+
+        private final Type type;
+
+        TypeKey(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof TypeKey && ((TypeKey) obj).type == type;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(type);
+        }
+    }
+}
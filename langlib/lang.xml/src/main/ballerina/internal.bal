@@ -36,3 +36,33 @@ isolated function externNext(XMLIterator iterator) returns record {| ItemType va
     'class: "org.ballerinalang.langlib.xml.Next",
     name: "next"
 } external;
+
+# Represent the iterator of the stream returned by `fromBytesAsStream`.
+class XMLElementStreamIterator {
+
+    private stream<byte[], error?> bytes;
+    private string[] path;
+
+    public isolated function init(stream<byte[], error?> bytes, string[] path) {
+        self.bytes = bytes;
+        self.path = path;
+    }
+
+    # Return next element at the path, nil if the end of the content is reached or an error if it is not well-formed.
+    # + return - iterator result
+    public isolated function next() returns record {| Element value; |}|error? {
+        return externNextElement(self);
+    }
+
+    # Close the stream of bytes.
+    # + return - an error if closing the stream of bytes fails
+    public isolated function close() returns error? {
+        return self.bytes.close();
+    }
+}
+
+isolated function externNextElement(XMLElementStreamIterator iterator) returns record {| Element value; |}|error? =
+    @java:Method {
+        'class: "org.ballerinalang.langlib.xml.NextElement",
+        name: "next"
+    } external;
@@ -373,6 +373,27 @@ public isolated function fromString(string s) returns xml|error = @java:Method {
     name: "fromString"
 } external;
 
+# Constructs a stream of the elements at a path of XML content read from a stream of bytes.
+#
+# Like `fromString`, this parses the content using the `content` production of the
+# XML 1.0 Recommendation. The bytes are decoded as UTF-8. Blocks are read from parameter `bytes`
+# only as the returned stream is iterated, and only the element being returned is constructed,
+# so the memory used does not depend on the size of the content. An element that is returned
+# has the namespace declarations of its ancestors. Closing the returned stream closes
+# parameter `bytes`.
+#
+# + bytes - stream of blocks of the content, such as the stream returned by `io:fileReadBlocksAsStream`
+# + path - expanded names of the elements from a top-level element down to the elements to return,
+#   in the form `{namespace-uri}local-name`, or `local-name` for an element without a namespace,
+#   where `*` matches an element with any name
+# + return - stream of the elements at parameter `path`, which completes with an error if
+#   the content is not well-formed or parameter `bytes` completes with an error
+public isolated function fromBytesAsStream(stream<byte[], error?> bytes, string... path)
+        returns stream<Element, error?> {
+    stream<Element, error?> elements = new (new XMLElementStreamIterator(bytes, path));
+    return elements;
+}
+
 # Selects all the items in a sequence that are of type `xml:Text`.
 #
 # + x - the xml value
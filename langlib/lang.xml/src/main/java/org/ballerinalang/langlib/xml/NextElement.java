@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.xml;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.IteratorUtils;
+import io.ballerina.runtime.internal.XmlStreamingParser;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Native implementation of lang.xml.XMLElementStreamIterator:next().
+ *
+ * @since 2.0.0
+ */
+public class NextElement {
+
+    private static final String PARSER = "&parser&";
+    private static final Type NEXT_RETURN_TYPE =
+            IteratorUtils.createIteratorNextReturnType(PredefinedTypes.TYPE_ELEMENT);
+
+    public static Object next(BObject iterator) {
+        XmlStreamingParser parser = (XmlStreamingParser) iterator.getNativeData(PARSER);
+        if (parser == null) {
+            BStream bytes = (BStream) iterator.get(StringUtils.fromString("bytes"));
+            String[] path = ((BArray) iterator.get(StringUtils.fromString("path"))).getStringArray();
+            InputStream content = new ByteStreamInputStream(bytes.getIteratorObj());
+            try {
+                parser = XmlStreamingParser.forContent(new InputStreamReader(content, StandardCharsets.UTF_8), path);
+            } catch (BError e) {
+                return e;
+            }
+            iterator.addNativeData(PARSER, parser);
+        }
+
+        try {
+            BXml element = parser.next();
+            if (element == null) {
+                return null;
+            }
+            return ValueCreator.createRecordValue(ValueCreator.createMapValue(NEXT_RETURN_TYPE), element);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    /**
+     * Reads the blocks of a Ballerina byte stream, calling its {@code next} method on the current strand when the
+     * parser needs more input. An error that completes the byte stream is thrown as is.
+     */
+    private static class ByteStreamInputStream extends InputStream {
+
+        private static final BString VALUE = StringUtils.fromString("value");
+
+        private final BObject blocks;
+        private byte[] block = new byte[0];
+        private int position = 0;
+        private boolean ended = false;
+
+        ByteStreamInputStream(BObject blocks) {
+            this.blocks = blocks;
+        }
+
+        @Override
+        public int read() {
+            if (!nextBlock()) {
+                return -1;
+            }
+            return block[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextBlock()) {
+                return -1;
+            }
+            int read = Math.min(len, block.length - position);
+            System.arraycopy(block, position, b, off, read);
+            position += read;
+            return read;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean nextBlock() {
+            while (position == block.length) {
+                if (ended) {
+                    return false;
+                }
+                Object next = blocks.call(Scheduler.getStrand(), "next");
+                if (next == null) {
+                    ended = true;
+                    return false;
+                }
+                if (next instanceof BError) {
+                    throw (BError) next;
+                }
+                block = ((BArray) ((BMap<BString, Object>) next).get(VALUE)).getBytes();
+                position = 0;
+            }
+            return true;
+        }
+    }
+}
@@ -458,4 +458,14 @@ public class LangLibTableTest {
     public void testReadOnlyTableFilter() {
         BRunUtil.invoke(compileResult, "testReadOnlyTableFilter");
     }
+
+    @Test
+    public void testRemoveRowsInInsertionOrder() {
+        BRunUtil.invoke(compileResult, "testRemoveRowsInInsertionOrder");
+    }
+
+    @Test
+    public void testRemoveRowsWhileIterating() {
+        BRunUtil.invoke(compileResult, "testRemoveRowsWhileIterating");
+    }
 }
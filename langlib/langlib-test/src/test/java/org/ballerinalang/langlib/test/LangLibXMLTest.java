@@ -80,6 +80,16 @@ public class LangLibXMLTest {
                 "<TITLE>Empire Burlesque</TITLE><TITLE>Hide your heart</TITLE><TITLE>Greatest Hits</TITLE>");
     }
 
+    @Test
+    public void testFromBytesAsStream() {
+        BRunUtil.invoke(compileResult, "testFromBytesAsStream");
+    }
+
+    @Test
+    public void testSelectDescendantsOfReadOnlyXml() {
+        BRunUtil.invoke(compileResult, "testSelectDescendantsOfReadOnlyXml");
+    }
+
     @Test
     public void testEmptyConcatCall() {
         BValue[] returns = BRunUtil.invoke(compileResult, "emptyConcatCall");
@@ -1182,6 +1182,64 @@ function testSort10() {
     assertValueEquality(sortedArr6, arr3);
 }
 
+function testSort11() {
+    // large enough to be sorted in parallel
+    int size = 10000;
+    float[] floats = [];
+    int?[] optionalInts = [];
+    string[] strings = [];
+    int i = 0;
+    while (i < size) {
+        int member = (i * 7919) % size;
+        floats.push(member % 10 == 0 ? float:NaN : (member % 10 == 1 ? -0.0 : (member % 10 == 2 ? 0.0 : <float> member)));
+        optionalInts.push(member % 10 == 0 ? () : member);
+        strings.push(member % 2 == 0 ? "\u{1F600}" + member.toString() : "\u{FFFD}" + member.toString());
+        i += 1;
+    }
+
+    float[] sortedFloats = floats.clone().sort();
+    assertTrue(sortedFloats[size - 1].isNaN());
+    float[] originalZeros = floats.filter(f => f == 0.0);
+    int zeros = 0;
+    i = 0;
+    while (i < size) {
+        if (sortedFloats[i] == 0.0) {
+            // -0.0 and 0.0 are equal, so their original order is kept
+            assertValueEquality(1.0 / originalZeros[zeros], 1.0 / sortedFloats[i]);
+            zeros += 1;
+        } else if (i > 0 && !sortedFloats[i].isNaN() && !sortedFloats[i - 1].isNaN()) {
+            assertTrue(sortedFloats[i - 1] <= sortedFloats[i]);
+        }
+        i += 1;
+    }
+    assertValueEquality(zeros, 2000);
+
+    float[] descendingFloats = floats.clone().sort(array:DESCENDING);
+    assertValueEquality(descendingFloats[0], 9999.0);
+    assertTrue(descendingFloats[size - 1].isNaN());
+    assertTrue(descendingFloats[size - 1001] == 0.0);
+
+    int?[] sortedInts = optionalInts.clone().sort(array:DESCENDING, (x) => x);
+    assertValueEquality(sortedInts[0], 9999);
+    assertValueEquality(sortedInts[size - 1001], 1);
+    assertValueEquality(sortedInts[size - 1], ());
+
+    string[] sortedStrings = strings.clone().sort();
+    // U+FFFD is before the supplementary U+1F600 in code point order, though not in UTF-16 order
+    assertTrue(sortedStrings[0].startsWith("\u{FFFD}"));
+    assertTrue(sortedStrings[size - 1].startsWith("\u{1F600}"));
+
+    int[] keys = [];
+    i = 0;
+    while (i < size) {
+        keys.push(i % 3);
+        i += 1;
+    }
+    int[] sortedIndexes = keys.clone().sort(array:ASCENDING);
+    assertValueEquality(sortedIndexes[3333], 0);
+    assertValueEquality(sortedIndexes[3334], 1);
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2,  "abc", 2.4];
     anydata[] y = tupleArr.reverse();
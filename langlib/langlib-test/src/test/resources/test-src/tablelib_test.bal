@@ -770,6 +770,80 @@ function testGetKeysFromUnionConstrained() returns any[] {
     return tab.keys();
 }
 
+function testRemoveRowsInInsertionOrder() {
+    CustomerTable customers = table [];
+    int i = 0;
+    while (i < 100) {
+        customers.put({id: i, firstName: "first" + i.toString(), lastName: "last"});
+        i += 1;
+    }
+    assertEquals(getFirstNames(customers, 50), ["first50"]);
+    assertEquals(getFirstNames(customers, 50), ["first50"]);
+
+    // Use the table as a queue, so that the removed rows are always at the front.
+    while (i < 1000) {
+        _ = customers.remove(i - 100);
+        customers.put({id: i, firstName: "first" + i.toString(), lastName: "last"});
+        i += 1;
+    }
+
+    assertEquals(customers.length(), 100);
+    int expectedId = 900;
+    foreach Customer customer in customers {
+        assertEquals(customer.id, expectedId);
+        assertEquals(customers.get(expectedId).firstName, "first" + expectedId.toString());
+        expectedId += 1;
+    }
+    assertEquals(expectedId, 1000);
+    assertFalse(customers.hasKey(899));
+    assertEquals(getFirstNames(customers, 950), ["first950"]);
+    assertEquals(getFirstNames(customers, 50), []);
+}
+
+function getFirstNames(CustomerTable customers, int id) returns string[] {
+    return from var customer in customers
+        where customer.id == id
+        select customer.firstName;
+}
+
+function testRemoveRowsWhileIterating() {
+    CustomerTable customers = table [];
+    int i = 0;
+    while (i < 100) {
+        customers.put({id: i, firstName: "first", lastName: "last"});
+        i += 1;
+    }
+
+    var iterator = customers.iterator();
+    int[] visited = [];
+    i = 0;
+    while (i < 60) {
+        var row = iterator.next();
+        if (row is record {| Customer value; |}) {
+            visited.push(row.value.id);
+        }
+        i += 1;
+    }
+
+    // Removing most of the rows moves the remaining rows, the iterator has to continue after the row it visited last.
+    i = 0;
+    while (i < 90) {
+        if (i != 70 && i != 80) {
+            _ = customers.remove(i);
+        }
+        i += 1;
+    }
+    customers.put({id: 100, firstName: "first", lastName: "last"});
+
+    var next = iterator.next();
+    while (next is record {| Customer value; |}) {
+        visited.push(next.value.id);
+        next = iterator.next();
+    }
+    assertEquals(visited.length(), 73);
+    assertEquals(visited.slice(60), [70, 80, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99, 100]);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(boolean actual) {
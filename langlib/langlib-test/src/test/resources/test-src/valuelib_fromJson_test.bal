@@ -416,6 +416,58 @@ function testFromJsonStringWithTypeWithInferredArgument() {
     assertEquality(a is error, true);
 }
 
+type Item record {|
+    string name;
+    float price;
+    decimal discount;
+    int? count;
+    string[] tags;
+|};
+
+type Order record {|
+    int id;
+    boolean paid;
+    Item[] items;
+    map<json> meta;
+|};
+
+function testFromJsonStringWithTypeNestedRecords() {
+    string s = "{\"id\":7,\"paid\":true,\"items\":[{\"name\":\"pen\",\"price\":2,\"discount\":0.5," +
+        "\"count\":null,\"tags\":[\"blue\"]},{\"name\":\"ink\",\"price\":1.25,\"discount\":1," +
+        "\"count\":3,\"tags\":[]}],\"meta\":{\"source\":\"web\",\"rank\":[1,2]}}";
+    Order ord = checkpanic s.fromJsonStringWithType();
+
+    assertEquality(ord.id, 7);
+    assertEquality(ord.paid, true);
+    assertEquality(ord.items.length(), 2);
+    assertEquality(ord.items[0].price, 2.0);
+    assertEquality(ord.items[0].discount, 0.5d);
+    assertEquality(ord.items[0].count, ());
+    assertEquality(ord.items[0].tags, ["blue"]);
+    assertEquality(ord.items[1].price, 1.25);
+    assertEquality(ord.items[1].discount, 1d);
+    assertEquality(ord.items[1].count, 3);
+    assertEquality(ord.meta.toJsonString(), "{\"source\":\"web\", \"rank\":[1, 2]}");
+
+    json j = checkpanic s.fromJsonString();
+    Order ord2 = checkpanic j.cloneWithType();
+    assertEquality(ord2, ord);
+}
+
+function testFromJsonStringWithTypeNestedRecordsNegative() {
+    string s = "{\"id\":7,\"paid\":true,\"items\":[{\"name\":\"pen\",\"price\":\"2\",\"discount\":0.5," +
+        "\"count\":null,\"tags\":[]}],\"meta\":{}}";
+    Order|error ord = s.fromJsonStringWithType();
+
+    error err = <error> ord;
+    string errorMsg = "'map<json>' value cannot be converted to 'Order': " +
+        "\n\t\tfield 'items[0].price' in record 'Item' should be of type 'float', found '\"2\"'";
+    assertEquality(<string> checkpanic err.detail()["message"], errorMsg);
+
+    Order|error ord2 = "{\"id\":7,\"paid\":true,\"items\":[],\"meta\":{}".fromJsonStringWithType();
+    assertEquality(ord2 is error, true);
+}
+
 type OpenRecordWithUnionTarget record {|
     string|decimal...;
 |};
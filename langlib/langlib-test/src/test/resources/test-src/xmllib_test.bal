@@ -54,6 +54,54 @@ function testFromString() returns xml|error {
     return x/<CD>/<TITLE>;
 }
 
+function testFromBytesAsStream() {
+    byte[] bytes = catalog.toString().toBytes();
+    stream<'xml:Element, error?> titles = 'xml:fromBytesAsStream([bytes.slice(0, 10), bytes.slice(10)].toStream(),
+                                                                "CATALOG", "CD", "TITLE");
+    string[] names = [];
+    error? result = titles.forEach(function ('xml:Element title) {
+        names.push(title.data());
+    });
+    assertEquals(result is (), true);
+    assertEquals(names, ["Empire Burlesque", "Hide your heart", "Greatest Hits"]);
+
+    stream<'xml:Element, error?> cds = 'xml:fromBytesAsStream(["<CD id=\"1\"/><DVD/><CD id=\"2\"><CD/></CD>".toBytes()]
+                                                              .toStream(), "CD");
+    record {| 'xml:Element value; |}|error? cd = cds.next();
+    assertEquals(cd is record {| 'xml:Element value; |} ? cd.value.toString() : (), "<CD id=\"1\"/>");
+    cd = cds.next();
+    assertEquals(cd is record {| 'xml:Element value; |} ? cd.value.toString() : (), "<CD id=\"2\"><CD/></CD>");
+    assertEquals(cds.next() is (), true);
+
+    stream<'xml:Element, error?> ns = 'xml:fromBytesAsStream(["<a xmlns=\"urn:a\"><b/></a>".toBytes()].toStream(),
+                                                             "{urn:a}a", "{urn:a}b");
+    record {| 'xml:Element value; |}|error? b = ns.next();
+    assertEquals(b is record {| 'xml:Element value; |} ? b.value.getName() : (), "{urn:a}b");
+
+    stream<'xml:Element, error?> malformed = 'xml:fromBytesAsStream(["<a><b/><b>".toBytes()].toStream(), "a", "*");
+    assertEquals(malformed.next() is record {| 'xml:Element value; |}, true);
+    assertEquals(malformed.next() is error, true);
+}
+
+function testSelectDescendantsOfReadOnlyXml() {
+    xml orders = xml `<orders>
+        <order id="1"><item><price>10</price></item><item><price>20</price></item></order>
+        <order id="2"><item><price>30</price><item><price>40</price></item></item></order>
+    </orders>`;
+    xml & readonly frozenOrders = orders.cloneReadOnly();
+
+    string expected = "<price>10</price><price>20</price><price>30</price><price>40</price>";
+    assertEquals((orders/**/<price>).toString(), expected);
+    assertEquals((frozenOrders/**/<price>).toString(), expected);
+    // the second selection on a read-only value is answered from its element index
+    assertEquals((frozenOrders/**/<price>).toString(), expected);
+    assertEquals((frozenOrders/**/<item>/<price>).toString(), expected);
+    assertEquals((frozenOrders/**/<order|price>).length(), 6);
+    assertEquals((frozenOrders/**/<orders>).length(), 1);
+    assertEquals((frozenOrders/**/<missing>).length(), 0);
+    assertEquals((orders/<order>/<*>).length(), 3);
+}
+
 function emptyConcatCall() returns xml {
     return 'xml:concat();
 }
@@ -28,9 +28,21 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 /**
  * Using {@link DoubleHistogram} to maintain samples in a ring buffer to decay older samples and give greater weight
  * to recent samples. This implementation allows to get summary statistics for a rolling window over the last X minutes.
+ * <p>
+ * Each sample is recorded once, into one of a few striped {@link DoubleRecorder}s which are written without locking.
+ * The recorders are drained into the histogram of the current bucket when the buckets are rotated and when a
+ * snapshot is taken, and a snapshot merges the histograms of all buckets.
  */
 public class RollingHistogram {
 
+    private static final int MAX_STRIPES = 8;
+
+    /**
+     * Number of recorders the samples are striped across, which is the number of available processors rounded up to
+     * a power of two, up to {@link #MAX_STRIPES}.
+     */
+    private static final int STRIPES = stripeCount(Runtime.getRuntime().availableProcessors());
+
     /**
      * Clock for measuring time.
      */
@@ -42,9 +54,14 @@ public class RollingHistogram {
     private final StatisticConfig statisticConfig;
 
     /**
-     * Recorder in a ring buffer.
+     * Recorders the samples are recorded into, which are drained into the histogram of the current bucket.
+     */
+    private final DoubleRecorder[] recorders;
+
+    /**
+     * Histograms of the samples of each bucket in a ring buffer.
      */
-    private final DoubleRecorder[] ringBuffer;
+    private final DoubleHistogram[] ringBuffer;
 
     /**
      * Current bucket index.
@@ -62,15 +79,10 @@ public class RollingHistogram {
     private final long durationBetweenRotatesMillis;
 
     /**
-     * This interval histogram is reused when taking the next interval histogram.
+     * This interval histogram is reused when draining the recorders.
      */
     private final DoubleHistogram intervalHistogram;
 
-    /**
-     * A histogram to keep accumulated stats.
-     */
-    private DoubleHistogram accumulatedHistogram;
-
     /**
      * Global atomic field updater to update volatile {@code rotating} integer.
      */
@@ -82,35 +94,27 @@ public class RollingHistogram {
      */
     private volatile int rotating; // 0 - not rotating, 1 - rotating
 
-    /**
-     * A flag to check whether accumulatedHistogram is stale or not.
-     */
-    private volatile boolean accumulatedHistogramStale;
-
     public RollingHistogram(Clock clock, StatisticConfig statisticConfig) {
         this.clock = clock;
         this.statisticConfig = statisticConfig;
         int ageBuckets = (int) statisticConfig.getBuckets();
-        ringBuffer = new DoubleRecorder[ageBuckets];
+        recorders = new DoubleRecorder[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            recorders[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+        }
+        ringBuffer = new DoubleHistogram[ageBuckets];
         for (int i = 0; i < ageBuckets; i++) {
-            ringBuffer[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+            ringBuffer[i] = newHistogram();
         }
         this.currentBucket = 0;
         this.lastRotateTimestampMillis = clock.getCurrentTime();
         this.durationBetweenRotatesMillis = statisticConfig.getTimeWindow().toMillis() / ageBuckets;
-        intervalHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
-        accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
+        intervalHistogram = newHistogram();
     }
 
     public void record(double value) {
         rotate();
-        try {
-            for (DoubleRecorder recorder : ringBuffer) {
-                recorder.recordValue(value);
-            }
-        } finally {
-            accumulatedHistogramStale = true;
-        }
+        recorders[(int) Thread.currentThread().getId() & (STRIPES - 1)].recordValue(value);
     }
 
     private void rotate() {
@@ -127,11 +131,16 @@ public class RollingHistogram {
         try {
             int iterations = 0;
             synchronized (this) {
+                // The samples recorded so far belong to the bucket which is ending.
+                drainRecorders();
                 do {
-                    currentHistogram().reset();
                     if (++currentBucket >= ringBuffer.length) {
                         currentBucket = 0;
                     }
+                    // The oldest bucket becomes the current bucket, dropping its samples from the window.
+                    ringBuffer[currentBucket] = newHistogram();
+                    //TODO: Use reset() on the histogram of the bucket instead of creating a new one
+                    //Refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
                     timeSinceLastRotateMillis -= durationBetweenRotatesMillis;
                     lastRotateTimestampMillis += durationBetweenRotatesMillis;
                 } while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && ++iterations < ringBuffer.length);
@@ -142,11 +151,6 @@ public class RollingHistogram {
                     lastRotateTimestampMillis += durationBetweenRotatesMillis *
                             (timeSinceLastRotateMillis / durationBetweenRotatesMillis);
                 }
-
-                accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
-                //TODO: Use accumulatedHistogram.reset(); and make accumulatedHistogram as final
-                //Refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
-                accumulatedHistogramStale = true;
             }
         } finally {
             rotating = 0;
@@ -159,39 +163,50 @@ public class RollingHistogram {
 
     public Snapshot getSnapshot() {
         rotate();
+        DoubleHistogram windowHistogram = newHistogram();
         synchronized (this) {
-            accumulateIfStale();
-            PercentileValue[] percentileValues = null;
-            final double[] monitoredPercentiles = statisticConfig.getPercentiles();
-            if (monitoredPercentiles != null) {
-                percentileValues = new PercentileValue[monitoredPercentiles.length];
-                for (int i = 0; i < monitoredPercentiles.length; i++) {
-                    final double p = monitoredPercentiles[i];
-                    percentileValues[i] = new PercentileValue(p, accumulatedHistogram.getValueAtPercentile(p * 100));
-                }
+            drainRecorders();
+            for (DoubleHistogram bucketHistogram : ringBuffer) {
+                windowHistogram.add(bucketHistogram);
+            }
+        }
+        PercentileValue[] percentileValues = null;
+        final double[] monitoredPercentiles = statisticConfig.getPercentiles();
+        if (monitoredPercentiles != null) {
+            percentileValues = new PercentileValue[monitoredPercentiles.length];
+            for (int i = 0; i < monitoredPercentiles.length; i++) {
+                final double p = monitoredPercentiles[i];
+                percentileValues[i] = new PercentileValue(p, windowHistogram.getValueAtPercentile(p * 100));
             }
-            return new Snapshot(statisticConfig.getTimeWindow(),
-                    accumulatedHistogram.getMinValue(),
-                    accumulatedHistogram.getMean(),
-                    accumulatedHistogram.getStdDeviation(),
-                    accumulatedHistogram.getMaxValue(),
-                    percentileValues);
         }
+        return new Snapshot(statisticConfig.getTimeWindow(),
+                windowHistogram.getMinValue(),
+                windowHistogram.getMean(),
+                windowHistogram.getStdDeviation(),
+                windowHistogram.getMaxValue(),
+                percentileValues);
     }
 
-    private void accumulateIfStale() {
-        if (accumulatedHistogramStale) {
-            accumulate();
-            accumulatedHistogramStale = false;
+    /**
+     * Moves the samples recorded since the last drain into the histogram of the current bucket. Samples which are
+     * recorded while draining are moved by the next drain.
+     */
+    private void drainRecorders() {
+        DoubleHistogram bucketHistogram = ringBuffer[currentBucket];
+        for (DoubleRecorder recorder : recorders) {
+            recorder.getIntervalHistogramInto(intervalHistogram);
+            bucketHistogram.add(intervalHistogram);
         }
     }
 
-    private void accumulate() {
-        currentHistogram().getIntervalHistogramInto(intervalHistogram);
-        accumulatedHistogram.add(intervalHistogram);
+    private DoubleHistogram newHistogram() {
+        return new DoubleHistogram(statisticConfig.getPercentilePrecision());
     }
 
-    private DoubleRecorder currentHistogram() {
-        return ringBuffer[currentBucket];
+    private static int stripeCount(int processors) {
+        if (processors <= 1) {
+            return 1;
+        }
+        return Math.min(MAX_STRIPES, Integer.highestOneBit(processors - 1) << 1);
     }
 }
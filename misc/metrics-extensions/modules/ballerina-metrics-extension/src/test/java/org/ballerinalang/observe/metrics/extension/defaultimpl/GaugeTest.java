@@ -72,4 +72,25 @@ public class GaugeTest {
         Assert.assertEquals(4.0, gauge.getSum());
     }
 
+    @Test
+    public void testConcurrentGaugeUpdates() throws InterruptedException {
+        Gauge gauge = Gauge.builder("test_gauge_concurrent_updates").description("Test Gauge")
+                .register(metricRegistry);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    gauge.increment();
+                    gauge.increment();
+                    gauge.decrement();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(gauge.getValue(), 8000D);
+        Assert.assertEquals(gauge.getCount(), 24000);
+    }
 }
@@ -204,4 +204,30 @@ public class RollingHistogramTest {
         }
     }
 
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        RollingHistogram histogram = new RollingHistogram(Clock.DEFAULT, StatisticConfig.builder()
+                .percentiles(new double[]{0.5})
+                .percentilePrecision(3)
+                .expiry(Duration.ofDays(1)).buckets(3).build());
+
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 1; j <= 1000; j++) {
+                    histogram.record(j);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Snapshot snapshot = histogram.getSnapshot();
+        Assert.assertEquals(snapshot.getMin(), 1.0, 0.01);
+        Assert.assertEquals(snapshot.getMax(), 1000.0, 1.0);
+        Assert.assertEquals(snapshot.getMean(), 500.5, 1.0);
+        Assert.assertEquals(percentileValue(snapshot, 0.5), 500.0, 1.0);
+    }
 }
@@ -18,3 +18,9 @@
 # Can be applied to functions which are not observable by default to make them observable.
 #
 public const annotation Observable on source function;
+
+# This is used for excluding a function from observability.
+# Can be applied to functions which are observable by default, or by the selected observability level, to stop
+# both the invocations of the function and the function body from being observed.
+#
+public const annotation Unobservable on source function;
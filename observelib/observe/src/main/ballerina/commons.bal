@@ -23,6 +23,15 @@ configurable boolean metricsEnabled = false;
 configurable string metricsReporter = "choreo";
 configurable boolean tracingEnabled = false;
 configurable string tracingProvider = "choreo";
+// One of "always", "never", "ratio" (sample `tracingSamplerRatio` of the traces) and "ratelimiting" (sample up to
+// `tracingSamplerRateLimit` traces per second)
+configurable string tracingSampler = "always";
+configurable float tracingSamplerRatio = 1.0;
+configurable int tracingSamplerRateLimit = 100;
+// Follow the sampling decision of the parent span, if there is one
+configurable boolean tracingSamplerParentBased = true;
+// Finish spans on a background thread, buffering up to this many spans, or on the request thread if zero
+configurable int tracingSpanBufferSize = 0;
 
 function init() {
     externInitializeModule();
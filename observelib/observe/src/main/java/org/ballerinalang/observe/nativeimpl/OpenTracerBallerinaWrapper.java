@@ -195,7 +195,10 @@ public class OpenTracerBallerinaWrapper {
             span = observerContext.getSpan();
         }
 
-        span.addTag(tagKey, tagValue);
+        if (span != null) {
+            // There is no span to add the tag to if the trace is not sampled
+            span.addTag(tagKey, tagValue);
+        }
         return null;
     }
 }
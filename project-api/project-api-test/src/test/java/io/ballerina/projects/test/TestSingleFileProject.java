@@ -126,6 +126,7 @@ public class TestSingleFileProject {
         // Verify expected default buildOptions
         Assert.assertTrue(project.buildOptions().skipTests());
         Assert.assertFalse(project.buildOptions().observabilityIncluded());
+        Assert.assertEquals(project.buildOptions().observabilityLevel(), "");
         Assert.assertFalse(project.buildOptions().codeCoverage());
         Assert.assertFalse(project.buildOptions().offlineBuild());
         Assert.assertFalse(project.buildOptions().experimental());
@@ -139,6 +140,7 @@ public class TestSingleFileProject {
         BuildOptions buildOptions = new BuildOptionsBuilder()
                 .skipTests(true)
                 .observabilityIncluded(true)
+                .observabilityLevel("entrypoints")
                 .build();
         try {
             project = TestUtils.loadSingleFileProject(projectPath, buildOptions);
@@ -149,6 +151,7 @@ public class TestSingleFileProject {
         // Verify expected overridden buildOptions
         Assert.assertTrue(project.buildOptions().skipTests());
         Assert.assertTrue(project.buildOptions().observabilityIncluded());
+        Assert.assertEquals(project.buildOptions().observabilityLevel(), "entrypoints");
         Assert.assertFalse(project.buildOptions().codeCoverage());
         Assert.assertFalse(project.buildOptions().experimental());
         Assert.assertFalse(project.buildOptions().testReport());
@@ -0,0 +1,214 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.array;
+
+// The sort benchmarks sort arrays of 1K, 1M and 10M members, which covers arrays sorted sequentially and in parallel.
+// Each warm-up and benchmark iteration stands for one member sorted: the array is sorted again until as many members
+// as iterations have been sorted, and at least once. Members are generated from a fixed seed, so that every run sorts
+// the same arrays.
+
+const int SMALL_ARRAY_SIZE = 1000;
+const int MEDIUM_ARRAY_SIZE = 1000000;
+const int LARGE_ARRAY_SIZE = 10000000;
+const int RANDOM_MODULUS = 2147483648;
+
+function nextRandom(int seed) returns int {
+    return (seed * 1103515245 + 12345) % RANDOM_MODULUS;
+}
+
+function createInts(int count) returns int[] {
+    int[] members = [];
+    int seed = 42;
+    int i = 0;
+    while (i < count) {
+        seed = nextRandom(seed);
+        members.push(seed);
+        i += 1;
+    }
+    return members;
+}
+
+function createFloats(int count) returns float[] {
+    float[] members = [];
+    int seed = 42;
+    int i = 0;
+    while (i < count) {
+        seed = nextRandom(seed);
+        members.push(seed % 1000 == 0 ? float:NaN : <float> seed / 1000.0);
+        i += 1;
+    }
+    return members;
+}
+
+function createStrings(int count) returns string[] {
+    string[] members = [];
+    int seed = 42;
+    int i = 0;
+    while (i < count) {
+        seed = nextRandom(seed);
+        members.push("member-" + seed.toString());
+        i += 1;
+    }
+    return members;
+}
+
+type Employee record {|
+    string name;
+    int age;
+|};
+
+function createEmployees(int count) returns Employee[] {
+    Employee[] members = [];
+    int seed = 42;
+    int i = 0;
+    while (i < count) {
+        seed = nextRandom(seed);
+        members.push({name: "employee-" + i.toString(), age: seed % 50});
+        i += 1;
+    }
+    return members;
+}
+
+function getSortCount(int size, int iterationCount) returns int {
+    int sortCount = iterationCount / size;
+    return sortCount > 0 ? sortCount : 1;
+}
+
+function sortInts(int[] members, int sortCount) returns int[] {
+    int[] sorted = members;
+    int i = 0;
+    while (i < sortCount) {
+        sorted = members.sort();
+        i += 1;
+    }
+    return sorted;
+}
+
+function sortFloats(float[] members, int sortCount) returns float[] {
+    float[] sorted = members;
+    int i = 0;
+    while (i < sortCount) {
+        sorted = members.sort(array:DESCENDING);
+        i += 1;
+    }
+    return sorted;
+}
+
+function sortStrings(string[] members, int sortCount) returns string[] {
+    string[] sorted = members;
+    int i = 0;
+    while (i < sortCount) {
+        sorted = members.sort();
+        i += 1;
+    }
+    return sorted;
+}
+
+function sortEmployeesByAge(Employee[] members, int sortCount) returns Employee[] {
+    Employee[] sorted = members;
+    int i = 0;
+    while (i < sortCount) {
+        sorted = members.sort(array:ASCENDING, employee => employee.age);
+        i += 1;
+    }
+    return sorted;
+}
+
+function measureArraySortInts(int size, int warmupCount, int benchmarkCount) returns int {
+    int[] members = createInts(size);
+    int[] sorted = sortInts(members, getSortCount(size, warmupCount));
+    int sortCount = getSortCount(size, benchmarkCount);
+    int startTime = nanoTime();
+    sorted = sortInts(members, sortCount);
+    return nanoTime() - startTime;
+}
+
+function measureArraySortFloats(int size, int warmupCount, int benchmarkCount) returns int {
+    float[] members = createFloats(size);
+    float[] sorted = sortFloats(members, getSortCount(size, warmupCount));
+    int sortCount = getSortCount(size, benchmarkCount);
+    int startTime = nanoTime();
+    sorted = sortFloats(members, sortCount);
+    return nanoTime() - startTime;
+}
+
+function measureArraySortStrings(int size, int warmupCount, int benchmarkCount) returns int {
+    string[] members = createStrings(size);
+    string[] sorted = sortStrings(members, getSortCount(size, warmupCount));
+    int sortCount = getSortCount(size, benchmarkCount);
+    int startTime = nanoTime();
+    sorted = sortStrings(members, sortCount);
+    return nanoTime() - startTime;
+}
+
+function measureArraySortByKey(int size, int warmupCount, int benchmarkCount) returns int {
+    Employee[] members = createEmployees(size);
+    Employee[] sorted = sortEmployeesByAge(members, getSortCount(size, warmupCount));
+    int sortCount = getSortCount(size, benchmarkCount);
+    int startTime = nanoTime();
+    sorted = sortEmployeesByAge(members, sortCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkArraySortInts1K(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortInts(SMALL_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortInts1M(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortInts(MEDIUM_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortInts10M(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortInts(LARGE_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortFloats1K(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortFloats(SMALL_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortFloats1M(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortFloats(MEDIUM_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortFloats10M(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortFloats(LARGE_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortStrings1K(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortStrings(SMALL_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortStrings1M(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortStrings(MEDIUM_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortStrings10M(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortStrings(LARGE_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
+
+// Sorting by a key function is stable, employees of the same age stay in the order of their names.
+public function benchmarkArraySortByKey1K(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortByKey(SMALL_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortByKey1M(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortByKey(MEDIUM_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortByKey10M(int warmupCount, int benchmarkCount) returns int {
+    return measureArraySortByKey(LARGE_ARRAY_SIZE, warmupCount, benchmarkCount);
+}
@@ -0,0 +1,65 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// The error benchmarks use errors for normal control flow, as request validation does, on shallow and deep
+// call stacks, which is where recording the stack trace of each error adds up.
+
+const CALL_DEPTH = 40;
+
+type ValidationError distinct error<record {| string 'field; |}>;
+
+function validateAmount(int amount) returns int|ValidationError {
+    if (amount % 4 == 0) {
+        return error ValidationError("invalid amount", 'field = "amount");
+    }
+    return amount;
+}
+
+function validateAtDepth(int amount, int depth) returns int|ValidationError {
+    if (depth == 0) {
+        return check validateAmount(amount);
+    }
+    return check validateAtDepth(amount, depth - 1);
+}
+
+function countValidAmounts(int count, int depth) returns int {
+    int valid = 0;
+    int i = 0;
+    while (i < count) {
+        int|ValidationError result = validateAtDepth(i, depth);
+        if (result is int) {
+            valid += 1;
+        }
+        i += 1;
+    }
+    return valid;
+}
+
+// Creates and checks errors right below the calling function.
+public function benchmarkErrorControlFlow(int warmupCount, int benchmarkCount) returns int {
+    int valid = countValidAmounts(warmupCount, 0);
+    int startTime = nanoTime();
+    valid = countValidAmounts(benchmarkCount, 0);
+    return nanoTime() - startTime;
+}
+
+// Creates errors at the bottom of a deep call chain and propagates them up with `check`.
+public function benchmarkErrorControlFlowOnDeepStack(int warmupCount, int benchmarkCount) returns int {
+    int valid = countValidAmounts(warmupCount, CALL_DEPTH);
+    int startTime = nanoTime();
+    valid = countValidAmounts(benchmarkCount, CALL_DEPTH);
+    return nanoTime() - startTime;
+}
@@ -0,0 +1,107 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+// The JSON benchmarks use the warm-up and benchmark counts as the number of members of the parsed array. Run them
+// with large benchmark counts and compare the GC logs (`-Pgc.logs.location`) to see the peak heap of each approach.
+
+function createJsonPayload(int count) returns string {
+    string[] members = [];
+    int i = 0;
+    while (i < count) {
+        members.push(string `{"id": ${i}, "name": "item-${i}", "price": 12.5, "inStock": true, "tags": ["a", "b"]}`);
+        i += 1;
+    }
+    return "[" + string:'join(", ", ...members) + "]";
+}
+
+function parseUtf8Bytes(byte[] bytes) returns json = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.JsonParsing"
+} external;
+
+function countArrayMembers(byte[] bytes) returns int = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.JsonParsing"
+} external;
+
+// Parses with the character based parser behind `fromJsonString`.
+public function benchmarkJsonParseString(int warmupCount, int benchmarkCount) returns int {
+    json|error result = createJsonPayload(warmupCount).fromJsonString();
+    string payload = createJsonPayload(benchmarkCount);
+    int startTime = nanoTime();
+    result = payload.fromJsonString();
+    return nanoTime() - startTime;
+}
+
+// Parses the UTF-8 bytes of the same payload without decoding them to characters.
+public function benchmarkJsonParseUtf8Bytes(int warmupCount, int benchmarkCount) returns int {
+    json result = parseUtf8Bytes(createJsonPayload(warmupCount).toBytes());
+    byte[] payload = createJsonPayload(benchmarkCount).toBytes();
+    int startTime = nanoTime();
+    result = parseUtf8Bytes(payload);
+    return nanoTime() - startTime;
+}
+
+// Reads the members of the same payload one at a time with the pull parser, without building the whole array.
+public function benchmarkJsonPullParseArray(int warmupCount, int benchmarkCount) returns int {
+    int count = countArrayMembers(createJsonPayload(warmupCount).toBytes());
+    byte[] payload = createJsonPayload(benchmarkCount).toBytes();
+    int startTime = nanoTime();
+    count = countArrayMembers(payload);
+    return nanoTime() - startTime;
+}
+
+type Product record {|
+    int id;
+    string name;
+    float price;
+    boolean inStock;
+    string[] tags;
+|};
+
+// The typed binding benchmarks compare small, medium and large payloads when run with benchmark counts such as 10,
+// 1000 and 100000 members.
+
+// Binds the payload directly to the target type.
+public function benchmarkJsonBindWithType(int warmupCount, int benchmarkCount) returns int {
+    Product[]|error result = createJsonPayload(warmupCount).fromJsonStringWithType();
+    string payload = createJsonPayload(benchmarkCount);
+    int startTime = nanoTime();
+    result = payload.fromJsonStringWithType();
+    return nanoTime() - startTime;
+}
+
+// Builds the generic `json` tree first and then converts it to the target type, which is what the direct binding
+// replaces.
+public function benchmarkJsonParseThenConvertWithType(int warmupCount, int benchmarkCount) returns int {
+    json parsed = checkpanic createJsonPayload(warmupCount).fromJsonString();
+    Product[]|error result = parsed.fromJsonWithType();
+    string payload = createJsonPayload(benchmarkCount);
+    int startTime = nanoTime();
+    parsed = checkpanic payload.fromJsonString();
+    result = parsed.fromJsonWithType();
+    return nanoTime() - startTime;
+}
+
+// Converts an existing `json` tree to the target type with the cached binding plan.
+public function benchmarkJsonCloneWithType(int warmupCount, int benchmarkCount) returns int {
+    json parsed = checkpanic createJsonPayload(warmupCount).fromJsonString();
+    Product[]|error result = parsed.cloneWithType();
+    parsed = checkpanic createJsonPayload(benchmarkCount).fromJsonString();
+    int startTime = nanoTime();
+    result = parsed.cloneWithType();
+    return nanoTime() - startTime;
+}
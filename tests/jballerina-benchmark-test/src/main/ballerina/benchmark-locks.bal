@@ -0,0 +1,79 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int LOCK_STRANDS = 8;
+const int READ_HEAVY_WRITE_INTERVAL = 20;
+const int WRITE_HEAVY_WRITE_INTERVAL = 1;
+
+int sharedCounter = 0;
+
+// Does not mutate any state, hence holds the lock in shared mode.
+function readSharedCounter() returns int {
+    int value = 0;
+    lock {
+        value = sharedCounter;
+    }
+    return value;
+}
+
+function incrementSharedCounter() {
+    lock {
+        sharedCounter += 1;
+    }
+}
+
+function lockWorker(int operations, int writeInterval) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < operations) {
+        if (i % writeInterval == 0) {
+            incrementSharedCounter();
+        } else {
+            sum += readSharedCounter();
+        }
+        i += 1;
+    }
+    return sum;
+}
+
+// Splits `operations` lock acquisitions across `LOCK_STRANDS` concurrent strands, one in every `writeInterval`
+// acquisitions being a write.
+function runLockWorkload(int operations, int writeInterval) {
+    future<int>[] futures = [];
+    int operationsPerStrand = operations / LOCK_STRANDS + 1;
+    int i = 0;
+    while (i < LOCK_STRANDS) {
+        futures.push(start lockWorker(operationsPerStrand, writeInterval));
+        i += 1;
+    }
+    foreach future<int> f in futures {
+        int result = wait f;
+    }
+}
+
+public function benchmarkLockReadHeavy(int warmupCount, int benchmarkCount) returns int {
+    runLockWorkload(warmupCount, READ_HEAVY_WRITE_INTERVAL);
+    int startTime = nanoTime();
+    runLockWorkload(benchmarkCount, READ_HEAVY_WRITE_INTERVAL);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkLockWriteHeavy(int warmupCount, int benchmarkCount) returns int {
+    runLockWorkload(warmupCount, WRITE_HEAVY_WRITE_INTERVAL);
+    int startTime = nanoTime();
+    runLockWorkload(benchmarkCount, WRITE_HEAVY_WRITE_INTERVAL);
+    return nanoTime() - startTime;
+}
@@ -0,0 +1,79 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/jballerina.java;
+
+// The observation benchmarks use the warm-up and benchmark counts as the number of observed requests. Unless
+// observability is enabled in the configuration, the observation calls return without observing anything, so
+// comparing the two benchmarks gives the overhead of the metrics observer per request.
+
+function observeRequests(int count) = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.MetricsObservation"
+} external;
+
+function observeRequestsWithMetrics(int count) = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.MetricsObservation"
+} external;
+
+public function benchmarkObservationDisabled(int warmupCount, int benchmarkCount) returns int {
+    observeRequests(warmupCount);
+    int startTime = nanoTime();
+    observeRequests(benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkObservationWithMetrics(int warmupCount, int benchmarkCount) returns int {
+    observeRequestsWithMetrics(warmupCount);
+    int startTime = nanoTime();
+    observeRequestsWithMetrics(benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+// The observed requests benchmark serves each request through a remote method of a client, which calls functions of
+// this package. Depending on the observability level the package was built with, none of these calls, only the
+// remote call, or all of them are instrumented, so running it against builds with different levels compares the
+// request latency across the instrumentation levels.
+
+client class BackendClient {
+    remote function fetch(int id) returns int {
+        return normalizeId(id) + checksum(id);
+    }
+}
+
+function normalizeId(int id) returns int {
+    return id % 1024;
+}
+
+function checksum(int id) returns int {
+    return (id * 31) ^ (id >> 3);
+}
+
+function serveRequests(BackendClient backend, int count) returns int {
+    int total = 0;
+    foreach int i in 0 ..< count {
+        total += backend->fetch(i);
+    }
+    return total;
+}
+
+public function benchmarkObservedRequests(int warmupCount, int benchmarkCount) returns int {
+    BackendClient backend = new;
+    _ = serveRequests(backend, warmupCount);
+    int startTime = nanoTime();
+    _ = serveRequests(backend, benchmarkCount);
+    return nanoTime() - startTime;
+}
@@ -0,0 +1,102 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+// The serialization benchmarks use the benchmark count as the number of members of the serialized value. Compare the
+// GC logs (`-Pgc.logs.location`) of the runs to see the allocation of each approach.
+
+function createJsonValue(int count) returns json {
+    return checkpanic createJsonPayload(count).fromJsonString();
+}
+
+function createXmlValue(int count) returns xml {
+    xml items = xml ``;
+    int i = 0;
+    while (i < count) {
+        string id = i.toString();
+        string name = "item-" + id;
+        items += xml `<item id="${id}"><name>${name}</name><price>12.5</price><note>a &amp; b</note></item>`;
+        i += 1;
+    }
+    return xml `<items>${items}</items>`;
+}
+
+function serializeJsonThroughStream(json value) returns int = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.JsonSerialization"
+} external;
+
+function serializeJsonToUtf8(json value) returns int = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.JsonSerialization"
+} external;
+
+function serializeXmlThroughStream(xml value) returns int = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.JsonSerialization"
+} external;
+
+function serializeXmlToUtf8(xml value) returns int = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.JsonSerialization"
+} external;
+
+// Serializes through a `Writer` over a `ByteArrayOutputStream`, and copies the bytes out as writers do today.
+public function benchmarkJsonSerializeThroughStream(int warmupCount, int benchmarkCount) returns int {
+    int size = serializeJsonThroughStream(createJsonValue(warmupCount));
+    json value = createJsonValue(benchmarkCount);
+    int startTime = nanoTime();
+    size = serializeJsonThroughStream(value);
+    return nanoTime() - startTime;
+}
+
+// Serializes the same value as UTF-8 straight into a byte buffer.
+public function benchmarkJsonSerializeToUtf8(int warmupCount, int benchmarkCount) returns int {
+    int size = serializeJsonToUtf8(createJsonValue(warmupCount));
+    json value = createJsonValue(benchmarkCount);
+    int startTime = nanoTime();
+    size = serializeJsonToUtf8(value);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkJsonToJsonString(int warmupCount, int benchmarkCount) returns int {
+    string result = createJsonValue(warmupCount).toJsonString();
+    json value = createJsonValue(benchmarkCount);
+    int startTime = nanoTime();
+    result = value.toJsonString();
+    return nanoTime() - startTime;
+}
+
+public function benchmarkXmlSerializeThroughStream(int warmupCount, int benchmarkCount) returns int {
+    int size = serializeXmlThroughStream(createXmlValue(warmupCount));
+    xml value = createXmlValue(benchmarkCount);
+    int startTime = nanoTime();
+    size = serializeXmlThroughStream(value);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkXmlSerializeToUtf8(int warmupCount, int benchmarkCount) returns int {
+    int size = serializeXmlToUtf8(createXmlValue(warmupCount));
+    xml value = createXmlValue(benchmarkCount);
+    int startTime = nanoTime();
+    size = serializeXmlToUtf8(value);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkXmlToString(int warmupCount, int benchmarkCount) returns int {
+    string result = createXmlValue(warmupCount).toString();
+    xml value = createXmlValue(benchmarkCount);
+    int startTime = nanoTime();
+    result = value.toString();
+    return nanoTime() - startTime;
+}
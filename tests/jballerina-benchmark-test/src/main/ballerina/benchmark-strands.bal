@@ -0,0 +1,86 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+const int STRAND_BATCH_SIZE = 1000;
+const int BLOCKING_EXTERN_MILLIS = 1;
+const int FAN_OUT_SIZE = 100;
+
+isolated function shortStrand(int i) returns int {
+    return i + 1;
+}
+
+function spawnStrands(int count) {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < count) {
+        futures.push(start shortStrand(i));
+        i += 1;
+        if (futures.length() == STRAND_BATCH_SIZE || i == count) {
+            foreach future<int> f in futures {
+                int result = wait f;
+            }
+            futures.removeAll();
+        }
+    }
+}
+
+// Spawns `FAN_OUT_SIZE` strands per iteration, the freed memory reported for this benchmark divided by
+// (`FAN_OUT_SIZE` * iterations) gives the bytes allocated per spawned strand.
+public function benchmarkStrandFanOut() {
+    spawnStrands(FAN_OUT_SIZE);
+}
+
+public function benchmarkStrandSpawn(int warmupCount, int benchmarkCount) returns int {
+    spawnStrands(warmupCount);
+    int startTime = nanoTime();
+    spawnStrands(benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+isolated function blockingSleep(int millis) returns error? = @java:Method {
+    name: "sleep",
+    'class: "java.lang.Thread"
+} external;
+
+isolated function blockingExternStrand(int i) returns int {
+    error? result = blockingSleep(BLOCKING_EXTERN_MILLIS);
+    return i;
+}
+
+function spawnBlockingStrands(int count) {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < count) {
+        futures.push(start blockingExternStrand(i));
+        i += 1;
+        if (futures.length() == STRAND_BATCH_SIZE || i == count) {
+            foreach future<int> f in futures {
+                int result = wait f;
+            }
+            futures.removeAll();
+        }
+    }
+}
+
+// Run with BALLERINA_STRAND_CARRIER=platform and BALLERINA_STRAND_CARRIER=virtual to compare the strand carriers.
+public function benchmarkBlockingExternStrands(int warmupCount, int benchmarkCount) returns int {
+    spawnBlockingStrands(warmupCount);
+    int startTime = nanoTime();
+    spawnBlockingStrands(benchmarkCount);
+    return nanoTime() - startTime;
+}
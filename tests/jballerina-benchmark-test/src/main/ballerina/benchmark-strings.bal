@@ -0,0 +1,145 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// The string building benchmarks append `benchmarkCount` parts to a string and read it once at the end, as log
+// message and payload building code does.
+
+function appendParts(string part, int count) returns int {
+    string result = "";
+    int i = 0;
+    while (i < count) {
+        result = result + part;
+        i += 1;
+    }
+    return result.length();
+}
+
+function appendTemplates(int count) returns int {
+    string result = "";
+    int i = 0;
+    while (i < count) {
+        result = string `${result}item-${i};`;
+        i += 1;
+    }
+    return result.length();
+}
+
+public function benchmarkStringConcatInLoop(int warmupCount, int benchmarkCount) returns int {
+    int length = appendParts("part-", warmupCount);
+    int startTime = nanoTime();
+    length = appendParts("part-", benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+// Non-BMP parts exercise the surrogate bookkeeping of each concatenation as well.
+public function benchmarkStringConcatNonBmpInLoop(int warmupCount, int benchmarkCount) returns int {
+    int length = appendParts("p\u{1F47D}-", warmupCount);
+    int startTime = nanoTime();
+    length = appendParts("p\u{1F47D}-", benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkStringTemplateInLoop(int warmupCount, int benchmarkCount) returns int {
+    int length = appendTemplates(warmupCount);
+    int startTime = nanoTime();
+    length = appendTemplates(benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+// The string langlib benchmarks run each function `benchmarkCount` times over an ASCII and a non-BMP input.
+
+const ASCII_TEXT = "The quick brown fox jumps over the lazy dog, again and again.";
+const NON_BMP_TEXT = "The quick \u{1F98A} jumps over the lazy \u{1F436}, again and \u{1F501}.";
+
+function convertBytes(string text, int count) returns int {
+    int length = 0;
+    int i = 0;
+    while (i < count) {
+        byte[] bytes = text.toBytes();
+        string decoded = checkpanic string:fromBytes(bytes);
+        length += decoded.length();
+        i += 1;
+    }
+    return length;
+}
+
+function iterateChars(string text, int count) returns int {
+    int chars = 0;
+    int i = 0;
+    while (i < count) {
+        foreach string:Char c in text {
+            chars += 1;
+        }
+        i += 1;
+    }
+    return chars;
+}
+
+function searchAndSlice(string text, int count) returns int {
+    int length = 0;
+    int i = 0;
+    while (i < count) {
+        int? index = text.indexOf("lazy");
+        if (index is int) {
+            length += text.substring(index, text.length()).length();
+        }
+        length += text.toCodePointInts().length();
+        i += 1;
+    }
+    return length;
+}
+
+public function benchmarkStringBytesRoundTrip(int warmupCount, int benchmarkCount) returns int {
+    int length = convertBytes(ASCII_TEXT, warmupCount);
+    int startTime = nanoTime();
+    length = convertBytes(ASCII_TEXT, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkStringBytesRoundTripNonBmp(int warmupCount, int benchmarkCount) returns int {
+    int length = convertBytes(NON_BMP_TEXT, warmupCount);
+    int startTime = nanoTime();
+    length = convertBytes(NON_BMP_TEXT, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkStringIterateChars(int warmupCount, int benchmarkCount) returns int {
+    int chars = iterateChars(ASCII_TEXT, warmupCount);
+    int startTime = nanoTime();
+    chars = iterateChars(ASCII_TEXT, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkStringIterateCharsNonBmp(int warmupCount, int benchmarkCount) returns int {
+    int chars = iterateChars(NON_BMP_TEXT, warmupCount);
+    int startTime = nanoTime();
+    chars = iterateChars(NON_BMP_TEXT, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkStringSearchAndSlice(int warmupCount, int benchmarkCount) returns int {
+    int length = searchAndSlice(ASCII_TEXT, warmupCount);
+    int startTime = nanoTime();
+    length = searchAndSlice(ASCII_TEXT, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkStringSearchAndSliceNonBmp(int warmupCount, int benchmarkCount) returns int {
+    int length = searchAndSlice(NON_BMP_TEXT, warmupCount);
+    int startTime = nanoTime();
+    length = searchAndSlice(NON_BMP_TEXT, benchmarkCount);
+    return nanoTime() - startTime;
+}
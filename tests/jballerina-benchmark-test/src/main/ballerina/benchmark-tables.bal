@@ -0,0 +1,437 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// The table benchmarks run on tables of 10K, 1M and 10M rows, and perform one operation on the table per warm-up and
+// benchmark iteration. The table is populated before the warm-up and stays alive until the benchmark returns, so the
+// heap usage per row can be read from the GC logs (`-Pgc.logs.location`).
+
+const int SMALL_TABLE_SIZE = 10000;
+const int MEDIUM_TABLE_SIZE = 1000000;
+const int LARGE_TABLE_SIZE = 10000000;
+const int REGION_COUNT = 100;
+
+type Order record {|
+    readonly int id;
+    string customer;
+    float amount;
+|};
+
+type Customer record {|
+    readonly string name;
+    int orderCount;
+|};
+
+type Stock record {|
+    readonly string warehouse;
+    readonly int sku;
+    int quantity;
+|};
+
+type Shipment record {|
+    readonly int id;
+    readonly string region;
+    float weight;
+|};
+
+function populateOrders(int size) returns table<Order> key(id) {
+    table<Order> key(id) orders = table [];
+    int i = 0;
+    while (i < size) {
+        orders.put({id: i, customer: "customer", amount: 1.0});
+        i += 1;
+    }
+    return orders;
+}
+
+function createNames(int size) returns string[] {
+    string[] names = [];
+    int i = 0;
+    while (i < size) {
+        names.push(i.toString());
+        i += 1;
+    }
+    return names;
+}
+
+function populateCustomers(string[] names) returns table<Customer> key(name) {
+    table<Customer> key(name) customers = table [];
+    foreach string name in names {
+        customers.put({name: name, orderCount: 1});
+    }
+    return customers;
+}
+
+function populateStocks(int size, string[] warehouses) returns table<Stock> key(warehouse, sku) {
+    table<Stock> key(warehouse, sku) stocks = table [];
+    int i = 0;
+    while (i < size) {
+        stocks.put({warehouse: warehouses[i % REGION_COUNT], sku: i, quantity: 1});
+        i += 1;
+    }
+    return stocks;
+}
+
+// Each region has ten rows, so that the size of the query result does not depend on the size of the table.
+function populateShipments(int size, string[] regions) returns table<Shipment> key(id) {
+    table<Shipment> key(id) shipments = table [];
+    int i = 0;
+    while (i < size) {
+        shipments.put({id: i, region: regions[i % regions.length()], weight: 1.0});
+        i += 1;
+    }
+    return shipments;
+}
+
+function putOrders(table<Order> key(id) orders, int size, int count) {
+    int i = 0;
+    while (i < count) {
+        orders.put({id: i % size, customer: "customer", amount: 1.0});
+        i += 1;
+    }
+}
+
+function measureTableIntKeyPut(int size, int warmupCount, int benchmarkCount) returns int {
+    table<Order> key(id) orders = populateOrders(size);
+    putOrders(orders, size, warmupCount);
+    int startTime = nanoTime();
+    putOrders(orders, size, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+function putCustomers(table<Customer> key(name) customers, string[] names, int count) {
+    int i = 0;
+    while (i < count) {
+        customers.put({name: names[i % names.length()], orderCount: i});
+        i += 1;
+    }
+}
+
+function measureTableStringKeyPut(int size, int warmupCount, int benchmarkCount) returns int {
+    string[] names = createNames(size);
+    table<Customer> key(name) customers = populateCustomers(names);
+    putCustomers(customers, names, warmupCount);
+    int startTime = nanoTime();
+    putCustomers(customers, names, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+function putStocks(table<Stock> key(warehouse, sku) stocks, string[] warehouses, int size, int count) {
+    int i = 0;
+    while (i < count) {
+        int sku = i % size;
+        stocks.put({warehouse: warehouses[sku % REGION_COUNT], sku: sku, quantity: i});
+        i += 1;
+    }
+}
+
+function measureTableCompositeKeyPut(int size, int warmupCount, int benchmarkCount) returns int {
+    string[] warehouses = createNames(REGION_COUNT);
+    table<Stock> key(warehouse, sku) stocks = populateStocks(size, warehouses);
+    putStocks(stocks, warehouses, size, warmupCount);
+    int startTime = nanoTime();
+    putStocks(stocks, warehouses, size, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+function getOrders(table<Order> key(id) orders, int size, int count) returns float {
+    float total = 0.0;
+    int i = 0;
+    while (i < count) {
+        Order? 'order = orders[i % size];
+        if ('order is Order) {
+            total += 'order.amount;
+        }
+        i += 1;
+    }
+    return total;
+}
+
+function measureTableIntKeyGet(int size, int warmupCount, int benchmarkCount) returns int {
+    table<Order> key(id) orders = populateOrders(size);
+    float total = getOrders(orders, size, warmupCount);
+    int startTime = nanoTime();
+    total = getOrders(orders, size, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+function getCustomers(table<Customer> key(name) customers, string[] names, int count) returns int {
+    int total = 0;
+    int i = 0;
+    while (i < count) {
+        Customer? customer = customers[names[i % names.length()]];
+        if (customer is Customer) {
+            total += customer.orderCount;
+        }
+        i += 1;
+    }
+    return total;
+}
+
+function measureTableStringKeyGet(int size, int warmupCount, int benchmarkCount) returns int {
+    string[] names = createNames(size);
+    table<Customer> key(name) customers = populateCustomers(names);
+    int total = getCustomers(customers, names, warmupCount);
+    int startTime = nanoTime();
+    total = getCustomers(customers, names, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+function getStocks(table<Stock> key(warehouse, sku) stocks, string[] warehouses, int size, int count) returns int {
+    int total = 0;
+    int i = 0;
+    while (i < count) {
+        int sku = i % size;
+        Stock? stock = stocks[warehouses[sku % REGION_COUNT], sku];
+        if (stock is Stock) {
+            total += stock.quantity;
+        }
+        i += 1;
+    }
+    return total;
+}
+
+function measureTableCompositeKeyGet(int size, int warmupCount, int benchmarkCount) returns int {
+    string[] warehouses = createNames(REGION_COUNT);
+    table<Stock> key(warehouse, sku) stocks = populateStocks(size, warehouses);
+    int total = getStocks(stocks, warehouses, size, warmupCount);
+    int startTime = nanoTime();
+    total = getStocks(stocks, warehouses, size, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+function iterateOrders(table<Order> key(id) orders, int count) returns float {
+    float total = 0.0;
+    int visited = 0;
+    while (visited < count) {
+        foreach Order 'order in orders {
+            if (visited == count) {
+                break;
+            }
+            total += 'order.amount;
+            visited += 1;
+        }
+    }
+    return total;
+}
+
+function measureTableIterate(int size, int warmupCount, int benchmarkCount) returns int {
+    table<Order> key(id) orders = populateOrders(size);
+    float total = iterateOrders(orders, warmupCount);
+    int startTime = nanoTime();
+    total = iterateOrders(orders, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+function getRegionWeight(table<Shipment> key(id) shipments, string region) returns float {
+    float[] weights = from var shipment in shipments
+        where shipment.region == region
+        select shipment.weight;
+    return weights.length() > 0 ? weights[0] : 0.0;
+}
+
+function getRegionWeights(table<Shipment> key(id) shipments, string[] regions, int count) returns float {
+    float total = 0.0;
+    int i = 0;
+    while (i < count) {
+        total += getRegionWeight(shipments, regions[i % regions.length()]);
+        i += 1;
+    }
+    return total;
+}
+
+function measureTableIndexedQuery(int size, int warmupCount, int benchmarkCount) returns int {
+    string[] regions = createNames(size / 10);
+    table<Shipment> key(id) shipments = populateShipments(size, regions);
+    float total = getRegionWeights(shipments, regions, warmupCount);
+    int startTime = nanoTime();
+    total = getRegionWeights(shipments, regions, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+// Returns the id of the oldest remaining row
+function dequeueOrders(table<Order> key(id) orders, int size, int firstId, int count) returns int {
+    int id = firstId;
+    while (id < firstId + count) {
+        _ = orders.remove(id);
+        orders.put({id: id + size, customer: "customer", amount: 1.0});
+        id += 1;
+    }
+    return id;
+}
+
+function measureTableQueue(int size, int warmupCount, int benchmarkCount) returns int {
+    table<Order> key(id) orders = populateOrders(size);
+    int firstId = dequeueOrders(orders, size, 0, warmupCount);
+    int startTime = nanoTime();
+    firstId = dequeueOrders(orders, size, firstId, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+// Replaces the rows of an int keyed table in turn.
+public function benchmarkTableIntKeyPut10K(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIntKeyPut(SMALL_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableIntKeyPut1M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIntKeyPut(MEDIUM_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableIntKeyPut10M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIntKeyPut(LARGE_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+// Replaces the rows of a string keyed table in turn.
+public function benchmarkTableStringKeyPut10K(int warmupCount, int benchmarkCount) returns int {
+    return measureTableStringKeyPut(SMALL_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableStringKeyPut1M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableStringKeyPut(MEDIUM_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableStringKeyPut10M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableStringKeyPut(LARGE_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+// Replaces the rows of a table with a composite key in turn.
+public function benchmarkTableCompositeKeyPut10K(int warmupCount, int benchmarkCount) returns int {
+    return measureTableCompositeKeyPut(SMALL_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableCompositeKeyPut1M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableCompositeKeyPut(MEDIUM_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableCompositeKeyPut10M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableCompositeKeyPut(LARGE_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+// Gets the rows of an int keyed table in turn.
+public function benchmarkTableIntKeyGet10K(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIntKeyGet(SMALL_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableIntKeyGet1M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIntKeyGet(MEDIUM_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableIntKeyGet10M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIntKeyGet(LARGE_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+// Gets the rows of a string keyed table in turn.
+public function benchmarkTableStringKeyGet10K(int warmupCount, int benchmarkCount) returns int {
+    return measureTableStringKeyGet(SMALL_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableStringKeyGet1M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableStringKeyGet(MEDIUM_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableStringKeyGet10M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableStringKeyGet(LARGE_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+// Gets the rows of a table with a composite key in turn.
+public function benchmarkTableCompositeKeyGet10K(int warmupCount, int benchmarkCount) returns int {
+    return measureTableCompositeKeyGet(SMALL_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableCompositeKeyGet1M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableCompositeKeyGet(MEDIUM_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableCompositeKeyGet10M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableCompositeKeyGet(LARGE_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+// Iterates over the rows of a table, starting over at the end of the table.
+public function benchmarkTableIterate10K(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIterate(SMALL_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableIterate1M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIterate(MEDIUM_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableIterate10M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIterate(LARGE_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+// Queries the rows of a table by a readonly field, which is answered from an index on the field.
+public function benchmarkTableIndexedQuery10K(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIndexedQuery(SMALL_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableIndexedQuery1M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIndexedQuery(MEDIUM_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableIndexedQuery10M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableIndexedQuery(LARGE_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+// Removes the oldest row of a table and adds a new one, as a queue does.
+public function benchmarkTableQueue10K(int warmupCount, int benchmarkCount) returns int {
+    return measureTableQueue(SMALL_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableQueue1M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableQueue(MEDIUM_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkTableQueue10M(int warmupCount, int benchmarkCount) returns int {
+    return measureTableQueue(LARGE_TABLE_SIZE, warmupCount, benchmarkCount);
+}
+
+type Location record {|
+    string city;
+    string street;
+    int number;
+|};
+
+type Parcel record {|
+    readonly Location location;
+    int count;
+|};
+
+// The keys are read-only records, whose structural hashes are computed once and held by the records, so looking up
+// the same key values again does not walk them.
+public function benchmarkTableRecordKeyGet(int warmupCount, int benchmarkCount) returns int {
+    table<Parcel> key(location) parcels = table [];
+    Location & readonly[] locations = [];
+    int i = 0;
+    while (i < REGION_COUNT) {
+        Location & readonly location = {city: "city-" + i.toString(), street: "street", number: i};
+        locations.push(location);
+        parcels.put({location: location, count: i});
+        i += 1;
+    }
+
+    int total = 0;
+    i = 0;
+    while (i < warmupCount) {
+        total += parcels.get(locations[i % REGION_COUNT]).count;
+        i += 1;
+    }
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkCount) {
+        total += parcels.get(locations[i % REGION_COUNT]).count;
+        i += 1;
+    }
+    return nanoTime() - startTime;
+}
@@ -0,0 +1,121 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// The type check benchmarks run `benchmarkCount` checks over a mix of values, so that the same source and target
+// type pairs repeat as they do in `is`, cast and `match` heavy code.
+
+type Circle record {
+    float radius;
+};
+
+type Rectangle record {
+    float width;
+    float height;
+};
+
+type Polygon record {
+    float[] sides;
+};
+
+type Shape Circle|Rectangle|Polygon;
+
+function createShapes() returns anydata[] {
+    return [<Circle> {radius: 1.0}, <Rectangle> {width: 2.0, height: 3.0}, <Polygon> {sides: [1.0, 2.0, 3.0]},
+            <int[]> [1, 2, 3], <map<string>> {name: "shape"}, 10, "shape"];
+}
+
+function countShapes(anydata[] values, int count) returns int {
+    int shapes = 0;
+    int size = values.length();
+    int i = 0;
+    while (i < count) {
+        anydata value = values[i % size];
+        if (value is Shape) {
+            shapes += 1;
+        } else if (value is int[] || value is map<string>) {
+            shapes -= 1;
+        }
+        i += 1;
+    }
+    return shapes;
+}
+
+function sumAreas(anydata[] values, int count) returns float {
+    float area = 0.0;
+    int size = values.length();
+    int i = 0;
+    while (i < count) {
+        anydata value = values[i % 3];
+        Shape shape = <Shape> value;
+        area += getArea(shape);
+        i += 1;
+    }
+    return area + <float> size;
+}
+
+function getArea(Shape shape) returns float {
+    match shape {
+        var {radius} => {
+            return 3.14 * <float> radius * <float> radius;
+        }
+        var {width, height} => {
+            return <float> width * <float> height;
+        }
+    }
+    return 0.0;
+}
+
+public function benchmarkIsChecks(int warmupCount, int benchmarkCount) returns int {
+    anydata[] values = createShapes();
+    int shapes = countShapes(values, warmupCount);
+    int startTime = nanoTime();
+    shapes = countShapes(values, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkCastsAndMatch(int warmupCount, int benchmarkCount) returns int {
+    anydata[] values = createShapes();
+    float area = sumAreas(values, warmupCount);
+    int startTime = nanoTime();
+    area = sumAreas(values, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+function checkReadonlyValues(readonly[] values, int count) returns int {
+    int matches = 0;
+    int size = values.length();
+    int i = 0;
+    while (i < count) {
+        readonly value = values[i % size];
+        if (value is map<json>) {
+            matches += 1;
+        } else if (value is json[]) {
+            matches -= 1;
+        }
+        i += 1;
+    }
+    return matches;
+}
+
+// Checks immutable values, whose shape is checked against the target type when their own type does not decide it.
+public function benchmarkIsChecksOnReadonlyValues(int warmupCount, int benchmarkCount) returns int {
+    readonly[] values = [{name: "circle", radius: 1.0}.cloneReadOnly(), [1, "a", true].cloneReadOnly(),
+                         <Circle & readonly> {radius: 2.0}];
+    int matches = checkReadonlyValues(values, warmupCount);
+    int startTime = nanoTime();
+    matches = checkReadonlyValues(values, benchmarkCount);
+    return nanoTime() - startTime;
+}
@@ -0,0 +1,76 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function asyncWorkerMessages(int count) returns int {
+    worker producer {
+        int i = 0;
+        while (i < count) {
+            i -> consumer;
+            i += 1;
+        }
+    }
+
+    worker consumer returns int {
+        int sum = 0;
+        int i = 0;
+        while (i < count) {
+            int value = <- producer;
+            sum += value;
+            i += 1;
+        }
+        return sum;
+    }
+
+    return wait consumer;
+}
+
+function syncWorkerMessages(int count) returns int {
+    worker producer returns error? {
+        int i = 0;
+        while (i < count) {
+            check i ->> consumer;
+            i += 1;
+        }
+    }
+
+    worker consumer returns int {
+        int sum = 0;
+        int i = 0;
+        while (i < count) {
+            int value = <- producer;
+            sum += value;
+            i += 1;
+        }
+        return sum;
+    }
+
+    return wait consumer;
+}
+
+// Run with BALLERINA_WORKER_CHANNEL_CAPACITY set to compare unbounded and bounded worker channels.
+public function benchmarkWorkerAsyncMessages(int warmupCount, int benchmarkCount) returns int {
+    int result = asyncWorkerMessages(warmupCount);
+    int startTime = nanoTime();
+    result = asyncWorkerMessages(benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkWorkerSyncMessages(int warmupCount, int benchmarkCount) returns int {
+    int result = syncWorkerMessages(warmupCount);
+    int startTime = nanoTime();
+    result = syncWorkerMessages(benchmarkCount);
+    return nanoTime() - startTime;
+}
@@ -0,0 +1,84 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// The xml parsing benchmarks read the `<item>` elements of a document with `benchmarkCount` items, either by parsing
+// the whole document or by streaming the items.
+
+function sumItemIdsOfTree(string document) returns int {
+    xml items = checkpanic xml:fromString(document);
+    int sum = 0;
+    foreach xml item in items/<item> {
+        sum += checkpanic int:fromString(checkpanic item.id);
+    }
+    return sum;
+}
+
+function sumItemIdsOfStream(string document) returns int {
+    stream<byte[], error?> bytes = [document.toBytes()].toStream();
+    stream<xml:Element, error?> items = xml:fromBytesAsStream(bytes, "items", "item");
+    int sum = 0;
+    error? result = items.forEach(function (xml:Element item) {
+        sum += checkpanic int:fromString(checkpanic item.id);
+    });
+    checkpanic result;
+    return sum;
+}
+
+public function benchmarkXmlParseTree(int warmupCount, int benchmarkCount) returns int {
+    int sum = sumItemIdsOfTree(createXmlValue(warmupCount).toString());
+    string document = createXmlValue(benchmarkCount).toString();
+    int startTime = nanoTime();
+    sum = sumItemIdsOfTree(document);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkXmlParseAsStream(int warmupCount, int benchmarkCount) returns int {
+    int sum = sumItemIdsOfStream(createXmlValue(warmupCount).toString());
+    string document = createXmlValue(benchmarkCount).toString();
+    int startTime = nanoTime();
+    sum = sumItemIdsOfStream(document);
+    return nanoTime() - startTime;
+}
+
+// The xml navigation benchmarks evaluate the same `x/**/<item>/<price>` step expression `benchmarkCount` times over a
+// document with a hundred items, as transformation services do for each message.
+
+function selectPrices(xml document, int count) returns int {
+    int selected = 0;
+    int i = 0;
+    while (i < count) {
+        selected += (document/**/<item>/<price>).length();
+        i += 1;
+    }
+    return selected;
+}
+
+public function benchmarkXmlSelectDescendants(int warmupCount, int benchmarkCount) returns int {
+    xml document = createXmlValue(100);
+    int selected = selectPrices(document, warmupCount);
+    int startTime = nanoTime();
+    selected = selectPrices(document, benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+// A read-only document is indexed by element name on the first selection.
+public function benchmarkXmlSelectDescendantsOfReadOnly(int warmupCount, int benchmarkCount) returns int {
+    xml document = createXmlValue(100).cloneReadOnly();
+    int selected = selectPrices(document, warmupCount);
+    int startTime = nanoTime();
+    selected = selectPrices(document, benchmarkCount);
+    return nanoTime() - startTime;
+}
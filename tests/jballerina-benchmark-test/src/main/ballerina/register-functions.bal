@@ -36,6 +36,85 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkStrandSpawn", benchmarkStrandSpawn);
+    addSingleExecFunction("benchmarkBlockingExternStrands", benchmarkBlockingExternStrands);
+    addSingleExecFunction("benchmarkLockReadHeavy", benchmarkLockReadHeavy);
+    addSingleExecFunction("benchmarkLockWriteHeavy", benchmarkLockWriteHeavy);
+    addSingleExecFunction("benchmarkWorkerAsyncMessages", benchmarkWorkerAsyncMessages);
+    addSingleExecFunction("benchmarkWorkerSyncMessages", benchmarkWorkerSyncMessages);
+    addSingleExecFunction("benchmarkTableIntKeyPut10K", benchmarkTableIntKeyPut10K);
+    addSingleExecFunction("benchmarkTableIntKeyPut1M", benchmarkTableIntKeyPut1M);
+    addSingleExecFunction("benchmarkTableIntKeyPut10M", benchmarkTableIntKeyPut10M);
+    addSingleExecFunction("benchmarkTableStringKeyPut10K", benchmarkTableStringKeyPut10K);
+    addSingleExecFunction("benchmarkTableStringKeyPut1M", benchmarkTableStringKeyPut1M);
+    addSingleExecFunction("benchmarkTableStringKeyPut10M", benchmarkTableStringKeyPut10M);
+    addSingleExecFunction("benchmarkTableCompositeKeyPut10K", benchmarkTableCompositeKeyPut10K);
+    addSingleExecFunction("benchmarkTableCompositeKeyPut1M", benchmarkTableCompositeKeyPut1M);
+    addSingleExecFunction("benchmarkTableCompositeKeyPut10M", benchmarkTableCompositeKeyPut10M);
+    addSingleExecFunction("benchmarkTableIntKeyGet10K", benchmarkTableIntKeyGet10K);
+    addSingleExecFunction("benchmarkTableIntKeyGet1M", benchmarkTableIntKeyGet1M);
+    addSingleExecFunction("benchmarkTableIntKeyGet10M", benchmarkTableIntKeyGet10M);
+    addSingleExecFunction("benchmarkTableStringKeyGet10K", benchmarkTableStringKeyGet10K);
+    addSingleExecFunction("benchmarkTableStringKeyGet1M", benchmarkTableStringKeyGet1M);
+    addSingleExecFunction("benchmarkTableStringKeyGet10M", benchmarkTableStringKeyGet10M);
+    addSingleExecFunction("benchmarkTableCompositeKeyGet10K", benchmarkTableCompositeKeyGet10K);
+    addSingleExecFunction("benchmarkTableCompositeKeyGet1M", benchmarkTableCompositeKeyGet1M);
+    addSingleExecFunction("benchmarkTableCompositeKeyGet10M", benchmarkTableCompositeKeyGet10M);
+    addSingleExecFunction("benchmarkTableIterate10K", benchmarkTableIterate10K);
+    addSingleExecFunction("benchmarkTableIterate1M", benchmarkTableIterate1M);
+    addSingleExecFunction("benchmarkTableIterate10M", benchmarkTableIterate10M);
+    addSingleExecFunction("benchmarkTableIndexedQuery10K", benchmarkTableIndexedQuery10K);
+    addSingleExecFunction("benchmarkTableIndexedQuery1M", benchmarkTableIndexedQuery1M);
+    addSingleExecFunction("benchmarkTableIndexedQuery10M", benchmarkTableIndexedQuery10M);
+    addSingleExecFunction("benchmarkTableQueue10K", benchmarkTableQueue10K);
+    addSingleExecFunction("benchmarkTableQueue1M", benchmarkTableQueue1M);
+    addSingleExecFunction("benchmarkTableQueue10M", benchmarkTableQueue10M);
+    addSingleExecFunction("benchmarkTableRecordKeyGet", benchmarkTableRecordKeyGet);
+    addSingleExecFunction("benchmarkJsonParseString", benchmarkJsonParseString);
+    addSingleExecFunction("benchmarkJsonParseUtf8Bytes", benchmarkJsonParseUtf8Bytes);
+    addSingleExecFunction("benchmarkJsonPullParseArray", benchmarkJsonPullParseArray);
+    addSingleExecFunction("benchmarkJsonBindWithType", benchmarkJsonBindWithType);
+    addSingleExecFunction("benchmarkJsonParseThenConvertWithType", benchmarkJsonParseThenConvertWithType);
+    addSingleExecFunction("benchmarkJsonCloneWithType", benchmarkJsonCloneWithType);
+    addSingleExecFunction("benchmarkJsonSerializeThroughStream", benchmarkJsonSerializeThroughStream);
+    addSingleExecFunction("benchmarkJsonSerializeToUtf8", benchmarkJsonSerializeToUtf8);
+    addSingleExecFunction("benchmarkJsonToJsonString", benchmarkJsonToJsonString);
+    addSingleExecFunction("benchmarkXmlSerializeThroughStream", benchmarkXmlSerializeThroughStream);
+    addSingleExecFunction("benchmarkXmlSerializeToUtf8", benchmarkXmlSerializeToUtf8);
+    addSingleExecFunction("benchmarkXmlToString", benchmarkXmlToString);
+    addSingleExecFunction("benchmarkIsChecks", benchmarkIsChecks);
+    addSingleExecFunction("benchmarkCastsAndMatch", benchmarkCastsAndMatch);
+    addSingleExecFunction("benchmarkIsChecksOnReadonlyValues", benchmarkIsChecksOnReadonlyValues);
+    addSingleExecFunction("benchmarkStringConcatInLoop", benchmarkStringConcatInLoop);
+    addSingleExecFunction("benchmarkStringConcatNonBmpInLoop", benchmarkStringConcatNonBmpInLoop);
+    addSingleExecFunction("benchmarkStringTemplateInLoop", benchmarkStringTemplateInLoop);
+    addSingleExecFunction("benchmarkStringBytesRoundTrip", benchmarkStringBytesRoundTrip);
+    addSingleExecFunction("benchmarkStringBytesRoundTripNonBmp", benchmarkStringBytesRoundTripNonBmp);
+    addSingleExecFunction("benchmarkStringIterateChars", benchmarkStringIterateChars);
+    addSingleExecFunction("benchmarkStringIterateCharsNonBmp", benchmarkStringIterateCharsNonBmp);
+    addSingleExecFunction("benchmarkStringSearchAndSlice", benchmarkStringSearchAndSlice);
+    addSingleExecFunction("benchmarkStringSearchAndSliceNonBmp", benchmarkStringSearchAndSliceNonBmp);
+    addSingleExecFunction("benchmarkErrorControlFlow", benchmarkErrorControlFlow);
+    addSingleExecFunction("benchmarkErrorControlFlowOnDeepStack", benchmarkErrorControlFlowOnDeepStack);
+    addSingleExecFunction("benchmarkXmlParseTree", benchmarkXmlParseTree);
+    addSingleExecFunction("benchmarkXmlParseAsStream", benchmarkXmlParseAsStream);
+    addSingleExecFunction("benchmarkXmlSelectDescendants", benchmarkXmlSelectDescendants);
+    addSingleExecFunction("benchmarkXmlSelectDescendantsOfReadOnly", benchmarkXmlSelectDescendantsOfReadOnly);
+    addSingleExecFunction("benchmarkArraySortInts1K", benchmarkArraySortInts1K);
+    addSingleExecFunction("benchmarkArraySortInts1M", benchmarkArraySortInts1M);
+    addSingleExecFunction("benchmarkArraySortInts10M", benchmarkArraySortInts10M);
+    addSingleExecFunction("benchmarkArraySortFloats1K", benchmarkArraySortFloats1K);
+    addSingleExecFunction("benchmarkArraySortFloats1M", benchmarkArraySortFloats1M);
+    addSingleExecFunction("benchmarkArraySortFloats10M", benchmarkArraySortFloats10M);
+    addSingleExecFunction("benchmarkArraySortStrings1K", benchmarkArraySortStrings1K);
+    addSingleExecFunction("benchmarkArraySortStrings1M", benchmarkArraySortStrings1M);
+    addSingleExecFunction("benchmarkArraySortStrings10M", benchmarkArraySortStrings10M);
+    addSingleExecFunction("benchmarkArraySortByKey1K", benchmarkArraySortByKey1K);
+    addSingleExecFunction("benchmarkArraySortByKey1M", benchmarkArraySortByKey1M);
+    addSingleExecFunction("benchmarkArraySortByKey10M", benchmarkArraySortByKey10M);
+    addSingleExecFunction("benchmarkObservationDisabled", benchmarkObservationDisabled);
+    addSingleExecFunction("benchmarkObservationWithMetrics", benchmarkObservationWithMetrics);
+    addSingleExecFunction("benchmarkObservedRequests", benchmarkObservedRequests);
 }
 
 public function registerMultiExecFunctions() {
@@ -63,4 +142,5 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkStrandFanOut", benchmarkStrandFanOut);
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.utils.JsonPullParser;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.values.BArray;
+
+/**
+ * This class holds the JSON parsing entry points used by the JSON benchmarks, which are not reachable from Ballerina
+ * code directly.
+ *
+ * @since 2.0.0
+ */
+public class JsonParsing {
+
+    private JsonParsing() {
+    }
+
+    public static Object parseUtf8Bytes(BArray bytes) {
+        return JsonUtils.parse(bytes.getBytes(), JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    public static long countArrayMembers(BArray bytes) {
+        JsonPullParser parser = JsonUtils.createPullParser(bytes.getBytes(),
+                                                           JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        long count = 0;
+        parser.next();
+        while (parser.next() != JsonPullParser.Event.END_ARRAY) {
+            // Only one member is alive at a time.
+            parser.readValue();
+            count++;
+        }
+        return count;
+    }
+}
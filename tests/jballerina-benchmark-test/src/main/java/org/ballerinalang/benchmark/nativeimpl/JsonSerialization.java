@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class holds the serialization entry points used by the serialization benchmarks. Each of them returns the
+ * number of bytes produced, so that a writer which would receive them can be modelled without doing any I/O.
+ *
+ * @since 2.0.0
+ */
+public class JsonSerialization {
+
+    private JsonSerialization() {
+    }
+
+    public static long serializeJsonThroughStream(Object json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(json, out, StandardCharsets.UTF_8);
+        return out.toByteArray().length;
+    }
+
+    public static long serializeJsonToUtf8(Object json) {
+        return JsonUtils.serializeToUtf8(json).remaining();
+    }
+
+    public static long serializeXmlThroughStream(BXml xml) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        xml.serialize(out);
+        return out.toByteArray().length;
+    }
+
+    public static long serializeXmlToUtf8(BXml xml) {
+        return XmlUtils.serializeToUtf8(xml).remaining();
+    }
+}
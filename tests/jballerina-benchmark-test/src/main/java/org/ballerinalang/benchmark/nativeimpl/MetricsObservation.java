@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_FUNCTION_MODULE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_FUNCTION_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_SERVICE_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_SERVICE_RESOURCE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_MODULE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_OBJECT_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_POSITION;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_ACCESSOR;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_RESOURCE_PATH;
+
+/**
+ * This class observes requests with the same tags as a resource invocation, for the benchmarks of the observer
+ * overhead per request.
+ *
+ * @since 2.0.0
+ */
+public class MetricsObservation {
+
+    private static final BString MODULE = StringUtils.fromString("benchmark/orders:1.0.0");
+    private static final BString SOURCE_FILE = StringUtils.fromString("orders.bal");
+    private static final BString SERVICE = StringUtils.fromString("/orders");
+    private static final BString RESOURCE_PATH = StringUtils.fromString("items");
+    private static final BString RESOURCE_ACCESSOR = StringUtils.fromString("get");
+    private static final int STATUS_CODE = 200;
+
+    private static final BallerinaMetricsObserver METRICS_OBSERVER = new BallerinaMetricsObserver();
+
+    private MetricsObservation() {
+    }
+
+    /**
+     * Observes requests through the same calls as the generated code, which return without observing anything unless
+     * observability is enabled in the configuration.
+     *
+     * @param env   the environment of the calling strand
+     * @param count the number of requests
+     */
+    public static void observeRequests(Environment env, long count) {
+        for (long i = 0; i < count; i++) {
+            ObserveUtils.startResourceObservation(env, MODULE, SOURCE_FILE, 10, 5, SERVICE, RESOURCE_PATH,
+                                                  RESOURCE_ACCESSOR, true, false);
+            ObserveUtils.stopObservation(env);
+        }
+    }
+
+    /**
+     * Observes requests with the metrics observer, as done when metrics are enabled. The metrics are those of the
+     * default registry, so the cost of recording them depends on the metrics provider.
+     *
+     * @param count the number of requests
+     */
+    public static void observeRequestsWithMetrics(long count) {
+        for (long i = 0; i < count; i++) {
+            ObserverContext observerContext = new StartedObserverContext();
+            observerContext.addTag(TAG_KEY_IS_SRC_SERVICE_RESOURCE, "true");
+            observerContext.addTag(TAG_KEY_SRC_RESOURCE_ACCESSOR, RESOURCE_ACCESSOR.getValue());
+            observerContext.addTag(TAG_KEY_SRC_RESOURCE_PATH, RESOURCE_PATH.getValue());
+            observerContext.addTag(TAG_KEY_SRC_OBJECT_NAME, SERVICE.getValue());
+            observerContext.addTag(TAG_KEY_SRC_MODULE, MODULE.getValue());
+            observerContext.addTag(TAG_KEY_SRC_POSITION, "orders.bal:10:5");
+            observerContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, MODULE.getValue());
+            observerContext.addTag(TAG_KEY_ENTRYPOINT_SERVICE_NAME, SERVICE.getValue());
+            observerContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_NAME, RESOURCE_PATH.getValue());
+            observerContext.addTag(TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR, RESOURCE_ACCESSOR.getValue());
+            METRICS_OBSERVER.startServerObservation(observerContext);
+            observerContext.addProperty(PROPERTY_KEY_HTTP_STATUS_CODE, STATUS_CODE);
+            METRICS_OBSERVER.stopServerObservation(observerContext);
+        }
+    }
+
+    /**
+     * A context which is started without going through {@link ObserveUtils}, which only starts contexts when
+     * observability is enabled in the configuration.
+     */
+    private static class StartedObserverContext extends ObserverContext {
+
+        @Override
+        public boolean isStarted() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.jvm;
+
+import io.ballerina.projects.BuildOptionsBuilder;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+/**
+ * Tests for the code generated for the observability instrumentation when observability is disabled at runtime.
+ *
+ * @since 2.0.0
+ */
+public class ObservabilityInstrumentationTest {
+    private static final String MAIN_FUNCTION_SOURCE = "test-src/jvm/observability/main_function.bal";
+    private static final String INSTRUMENTATION_SOURCE = "test-src/jvm/observability/instrumentation.bal";
+    private static final String POSITION_VARIABLE_PREFIX = "$observability$fileName$";
+
+    @Test(description = "Test the statements of an instrumented main function that returns normally")
+    public void testMainFunctionReturn() {
+        CompileResult compileResult = BCompileUtil.compile(MAIN_FUNCTION_SOURCE);
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+        BRunUtil.ExitDetails output = BRunUtil.run(compileResult, "return");
+        Assert.assertEquals(output.exitCode, 0, output.errorOutput);
+        Assert.assertEquals(output.consoleOutput, "main returned with 12");
+    }
+
+    @Test(description = "Test the statements of an instrumented main function that panics")
+    public void testMainFunctionPanic() {
+        CompileResult compileResult = BCompileUtil.compile(MAIN_FUNCTION_SOURCE);
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+        BRunUtil.ExitDetails output = BRunUtil.run(compileResult, "panic");
+        Assert.assertEquals(output.exitCode, 1);
+        Assert.assertTrue(output.errorOutput.contains("error: main panicked with 6"), output.errorOutput);
+    }
+
+    @Test(description = "Test the statements of an instrumented worker that returns normally")
+    public void testWorkerReturn() {
+        CompileResult compileResult = BCompileUtil.compile(INSTRUMENTATION_SOURCE);
+        BValue[] result = BRunUtil.invoke(compileResult, "testWorkerReturn");
+        Assert.assertEquals(result[0].stringValue(), "22");
+    }
+
+    @Test(description = "Test the statements of an instrumented worker that panics")
+    public void testWorkerPanic() {
+        CompileResult compileResult = BCompileUtil.compile(INSTRUMENTATION_SOURCE);
+        BValue[] result = BRunUtil.invoke(compileResult, "testWorkerPanic");
+        Assert.assertEquals(result[0].stringValue(), "worker panicked with 2");
+    }
+
+    @DataProvider
+    public Object[][] observabilityLevels() {
+        return new Object[][]{
+                {"entrypoints", 0},
+                {"remote", 1},
+                {"all", 2}
+        };
+    }
+
+    @Test(description = "Test the invocations instrumented at each observability level",
+            dataProvider = "observabilityLevels")
+    public void testObservabilityLevels(String observabilityLevel, int observedInvocations) {
+        CompileResult compileResult = BCompileUtil.compile(INSTRUMENTATION_SOURCE,
+                new BuildOptionsBuilder().observabilityLevel(observabilityLevel).build());
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+        // The unobservable function is never instrumented, even when all the package functions are
+        Assert.assertEquals(countObservedInvocations(compileResult, "testObservedCalls"), observedInvocations);
+        BValue[] result = BRunUtil.invoke(compileResult, "testObservedCalls");
+        Assert.assertEquals(result[0].stringValue(), "43");
+    }
+
+    @Test(description = "Test the default observability level")
+    public void testDefaultObservabilityLevel() {
+        CompileResult compileResult = BCompileUtil.compile(INSTRUMENTATION_SOURCE);
+        Assert.assertEquals(countObservedInvocations(compileResult, "testObservedCalls"), 1);
+    }
+
+    private static long countObservedInvocations(CompileResult compileResult, String functionName) {
+        BIRNode.BIRPackage birPackage = ((BLangPackage) compileResult.getAST()).symbol.bir;
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            if (function.name.value.equals(functionName)) {
+                // Each instrumented invocation loads the position of the invocation into a temporary variable
+                return function.localVars.stream()
+                        .filter(variable -> variable.name.value.startsWith(POSITION_VARIABLE_PREFIX))
+                        .count();
+            }
+        }
+        throw new AssertionError("function not found: " + functionName);
+    }
+}
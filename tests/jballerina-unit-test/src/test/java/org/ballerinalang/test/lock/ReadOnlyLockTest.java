@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.lock;
+
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.core.model.values.BValueArray;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the lock bodies that the lock optimizer marks as read-only, which share the lock at runtime.
+ *
+ * @since 2.0.0
+ */
+public class ReadOnlyLockTest {
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/lock/read-only-locks.bal");
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+    }
+
+    @DataProvider
+    public Object[][] lockBodies() {
+        return new Object[][]{
+                {"readGlobal", List.of(true)},
+                {"readMembers", List.of(true)},
+                {"writeGlobal", List.of(false)},
+                {"writeMembers", List.of(false)},
+                {"callInLock", List.of(false)},
+                // Only the inner lock body is read-only, the outer one acquires another lock
+                {"nestedLock", List.of(false, true)}
+        };
+    }
+
+    @Test(description = "Test the lock bodies marked as read-only", dataProvider = "lockBodies")
+    public void testReadOnlyLockBodies(String functionName, List<Boolean> readOnlyLocks) {
+        Assert.assertEquals(getReadOnlyLocks(functionName), readOnlyLocks);
+    }
+
+    @Test(description = "Test read-only and exclusive lock bodies accessing the same globals")
+    public void testLocks() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testLocks");
+        BValueArray result = (BValueArray) returns[0];
+        long[] expected = {0, 1, 1, 3, 1, 1, 2, 4};
+        Assert.assertEquals(result.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(result.getInt(i), expected[i]);
+        }
+    }
+
+    private List<Boolean> getReadOnlyLocks(String functionName) {
+        BIRNode.BIRPackage birPackage = ((BLangPackage) compileResult.getAST()).symbol.bir;
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            if (function.name.value.equals(functionName)) {
+                List<Boolean> readOnlyLocks = new ArrayList<>();
+                for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+                    if (basicBlock.terminator instanceof BIRTerminator.Lock) {
+                        readOnlyLocks.add(((BIRTerminator.Lock) basicBlock.terminator).readOnly);
+                    }
+                }
+                return readOnlyLocks;
+            }
+        }
+        throw new AssertionError("function not found: " + functionName);
+    }
+}
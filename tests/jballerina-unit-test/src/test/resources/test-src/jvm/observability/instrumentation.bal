@@ -0,0 +1,68 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/observe;
+
+int calls = 0;
+
+client class Backend {
+    remote function call(int value) returns int {
+        calls += 1;
+        return value + 1;
+    }
+}
+
+final Backend backend = new;
+
+function increment(int value) returns int {
+    calls += 1;
+    return value + 1;
+}
+
+@observe:Unobservable
+function unobservedIncrement(int value) returns int {
+    calls += 1;
+    return value + 1;
+}
+
+function testObservedCalls() returns int {
+    calls = 0;
+    int a = backend->call(1);
+    int b = increment(a);
+    int c = unobservedIncrement(b);
+    return c * 10 + calls;
+}
+
+function testWorkerReturn() returns int {
+    worker w1 returns int {
+        int a = increment(1);
+        int b = a * 10;
+        return b + a;
+    }
+    return wait w1;
+}
+
+function testWorkerPanic() returns string {
+    worker w1 returns int {
+        int a = increment(1);
+        if (a > 1) {
+            panic error("worker panicked with " + a.toString());
+        }
+        return a;
+    }
+    int|error result = trap wait w1;
+    return result is error ? result.message() : "no panic";
+}
@@ -0,0 +1,40 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+
+int total = 0;
+
+client class Backend {
+    remote function add(int value) returns int {
+        total += value;
+        return total;
+    }
+}
+
+function twice(int value) returns int {
+    return value * 2;
+}
+
+public function main(string mode) {
+    Backend backend = new;
+    int value = backend->add(twice(3));
+    if (mode == "panic") {
+        panic error("main panicked with " + value.toString());
+    }
+    total += value;
+    io:println("main returned with " + total.toString());
+}
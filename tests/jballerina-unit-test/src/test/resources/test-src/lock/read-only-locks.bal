@@ -0,0 +1,67 @@
+int counter = 0;
+
+map<int> counts = {"a": 1};
+
+int[] values = [1, 2, 3];
+
+function readGlobal() returns int {
+    int value = 0;
+    lock {
+        value = counter;
+    }
+    return value;
+}
+
+function readMembers() returns int {
+    int value = 0;
+    lock {
+        value = values[1] + (counts["a"] ?: 0);
+    }
+    return value;
+}
+
+function writeGlobal() returns int {
+    int value = 0;
+    lock {
+        counter += 1;
+        value = counter;
+    }
+    return value;
+}
+
+function writeMembers() {
+    lock {
+        counts["b"] = 2;
+        values[3] = 4;
+    }
+}
+
+function callInLock() returns int {
+    int value = 0;
+    lock {
+        value = getCounter();
+    }
+    return value;
+}
+
+function getCounter() returns int {
+    return counter;
+}
+
+function nestedLock() returns int {
+    int value = 0;
+    lock {
+        lock {
+            value = counter;
+        }
+    }
+    return value;
+}
+
+function testLocks() returns int[] {
+    int initial = readGlobal();
+    int written = writeGlobal();
+    writeMembers();
+    return [initial, written, readGlobal(), readMembers(), callInLock(), nestedLock(), counts.length(),
+            values.length()];
+}
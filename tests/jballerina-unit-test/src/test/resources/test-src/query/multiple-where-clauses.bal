@@ -100,3 +100,45 @@ function testLogicalOperandsWithWhere() returns Student[]{
 
     return  outputStudentList;
 }
+
+type Employee record {|
+    readonly int id;
+    readonly string dept;
+    string name;
+|};
+
+function getEmployeeNames(table<Employee> key(id) employees, string dept) returns string[] {
+    return from var employee in employees
+           where employee.dept == dept
+           select employee.name;
+}
+
+function testWhereClauseOnReadonlyTableField() returns boolean {
+    table<Employee> key(id) employees = table [
+        {id: 1, dept: "HR", name: "Alex"},
+        {id: 2, dept: "Operations", name: "Ranjan"},
+        {id: 3, dept: "HR", name: "John"},
+        {id: 4, dept: "Finance", name: "Anne"}
+    ];
+
+    // Repeat the lookups so that they are answered both by scanning the table and from the index on the field.
+    boolean matches = true;
+    int i = 0;
+    while (i < 3) {
+        string[] hrNames = getEmployeeNames(employees, "HR");
+        matches = matches && hrNames == ["Alex", "John"] && getEmployeeNames(employees, "Marketing").length() == 0;
+        i += 1;
+    }
+
+    _ = employees.remove(1);
+    employees.put({id: 3, dept: "Finance", name: "John"});
+    employees.add({id: 5, dept: "HR", name: "Mary"});
+    string[] hrNames = getEmployeeNames(employees, "HR");
+    string[] financeNames = getEmployeeNames(employees, "Finance");
+
+    string[] otherNames = from var employee in employees
+                          where employee.dept == "Operations"
+                          where employee.name != "Ranjan"
+                          select employee.name;
+    return matches && hrNames == ["Mary"] && financeNames == ["John", "Anne"] && otherNames.length() == 0;
+}
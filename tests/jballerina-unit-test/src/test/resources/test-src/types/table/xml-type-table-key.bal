@@ -53,6 +53,7 @@ function runMemberAccessTestCases() {
     testMemberAccessWithSingleXMLRecordKey();
     testMemberAccessWithXMLMultiKeyAsTuple();
     testMemberAccessWithXMLMultiKey();
+    testMemberAccessWithStructurallyEqualXMLKey();
 }
 
 function testMemberAccessWithSingleXMLRecordKey() {
@@ -79,6 +80,21 @@ function testMemberAccessWithXMLMultiKey() {
     assertEquality("Sri Lanka", customer["address"]);
 }
 
+function testMemberAccessWithStructurallyEqualXMLKey() {
+    table<Customer> key(id) customerTable = table [{id: xml `<id a="1" b="2">123</id>`, name: {fname: "Sanjiva", lname: "Weerawarana"}, address: "Sri Lanka" },
+                                                   {id: xml `<id>234</id><!--clark-->`, name: {fname: "James" , lname: "Clark"}, address: "Thailand" }];
+
+    // attribute order does not affect equality
+    Customer? customer = customerTable[xml `<id b="2" a="1">123</id>`];
+    assertEquality("Sri Lanka", customer["address"]);
+
+    xml id = xml `<id>234</id>`;
+    customer = customerTable[id + xml `<!--clark-->`];
+    assertEquality("Thailand", customer["address"]);
+    customer = customerTable[id];
+    assertEquality((), customer);
+}
+
 function testMemberAccessWithInvalidXMLRecordKey() {
     table<Customer> key(id) customerTable = table [{id: xml `<id>123</id>`, name: {fname: "Sanjiva", lname: "Weerawarana"}, address: "Sri Lanka" },
                                                    {id: xml `<id>234</id>`, name: {fname: "James" , lname: "Clark"}, address: "Thailand" }];